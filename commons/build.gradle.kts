@@ -1,5 +1,9 @@
+// https://youtrack.jetbrains.com/issue/KTIJ-19369/False-positive-can-t-be-called-in-this-context-by-implicit-recei
+@Suppress("DSL_SCOPE_VIOLATION")
 plugins {
     id("phantazm.java-library-conventions")
+
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -8,3 +12,7 @@ dependencies {
     api(libs.adventure.text.minimessage)
     api(libs.vector.core)
 }
+
+jmh {
+    profilers.add("gc")
+}
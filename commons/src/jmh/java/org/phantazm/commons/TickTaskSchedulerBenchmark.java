@@ -0,0 +1,81 @@
+package org.phantazm.commons;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BasicTickTaskScheduler} with {@link TimerWheelTickTaskScheduler} while {@code pending} delayed tasks
+ * are waiting. {@code tick} measures the cost of one scheduler tick while none of the tasks are due yet;
+ * {@code scheduleAndExpire} schedules a task with no delay and ticks until it has run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickTaskSchedulerBenchmark {
+    private static final long TICK_MILLIS = 50L;
+    //ticks advance time by a full tick per invocation, so delays must outlast a few hundred million ticks
+    private static final long MIN_DELAY = TimeUnit.DAYS.toMillis(365);
+
+    @Param({"basic", "wheel"})
+    public String scheduler;
+
+    @Param({"10000"})
+    public int pending;
+
+    private TickTaskScheduler taskScheduler;
+    private long time;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        taskScheduler = scheduler.equals("basic") ? new BasicTickTaskScheduler() : new TimerWheelTickTaskScheduler();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < pending; i++) {
+            taskScheduler.scheduleTaskAfter(new OneShotTask(), MIN_DELAY + random.nextLong(MIN_DELAY));
+        }
+
+        time = System.currentTimeMillis();
+        taskScheduler.tick(time);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        taskScheduler.end();
+    }
+
+    @Benchmark
+    public void tick() {
+        time += TICK_MILLIS;
+        taskScheduler.tick(time);
+    }
+
+    @Benchmark
+    public void scheduleAndExpire() {
+        OneShotTask task = new OneShotTask();
+        taskScheduler.scheduleTaskAfter(task, 0);
+
+        while (!task.finished) {
+            time = Math.max(time + 1, System.currentTimeMillis());
+            taskScheduler.tick(time);
+        }
+    }
+
+    private static final class OneShotTask implements TickableTask {
+        private boolean finished;
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void tick(long time) {
+            finished = true;
+        }
+    }
+}
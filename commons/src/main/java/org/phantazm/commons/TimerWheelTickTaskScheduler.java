@@ -0,0 +1,253 @@
+package org.phantazm.commons;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link TickTaskScheduler} which keeps delayed tasks in a hierarchical timer wheel. Time is divided into slots of
+ * one tick each; a delayed task is filed under the slot of its deadline and is not looked at again until that slot is
+ * reached, apart from being moved to a finer wheel at most once per level. Scheduling and expiring a delayed task are
+ * therefore constant-time, and pending delayed tasks cost nothing while the scheduler ticks.
+ * <p>
+ * Like {@link BasicTickTaskScheduler}, a delayed task starts ticking on the first tick whose time is at least its
+ * deadline, delayed tasks starting on the same tick start in the order they were scheduled, and delayed tasks that
+ * have not started yet are discarded without being ended by {@link #end()}.
+ * Tasks may be scheduled from any thread; ticking and ending must happen on one thread at a time.
+ */
+public class TimerWheelTickTaskScheduler implements TickTaskScheduler {
+    /**
+     * The default length of a slot, which is the length of a server tick.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 50L;
+
+    private static final int LEVELS = 4;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final long MAX_DELTA = (1L << (LEVELS * WHEEL_BITS)) - 1;
+
+    private final long tickMillis;
+    private final LongSupplier clock;
+
+    private final Deque<TickableTask> tickableTasks;
+    private final Queue<Timer> scheduledTimers;
+
+    private final TimerList[][] wheels;
+
+    //timers whose slot has been reached, but whose deadline may still be in the future
+    private final TimerList dueTimers;
+    private final List<Timer> expiringTimers;
+    private long currentSlot;
+    private long nextSequence;
+
+    /**
+     * Creates a new scheduler with slots of {@link TimerWheelTickTaskScheduler#DEFAULT_TICK_MILLIS}.
+     */
+    public TimerWheelTickTaskScheduler() {
+        this(DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param tickMillis the length of a slot in milliseconds, which should match the interval between ticks
+     */
+    public TimerWheelTickTaskScheduler(long tickMillis) {
+        this(tickMillis, System::currentTimeMillis);
+    }
+
+    TimerWheelTickTaskScheduler(long tickMillis, @NotNull LongSupplier clock) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+
+        this.tickMillis = tickMillis;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.tickableTasks = new ConcurrentLinkedDeque<>();
+        this.scheduledTimers = new ConcurrentLinkedQueue<>();
+        this.wheels = new TimerList[LEVELS][WHEEL_SIZE];
+        for (TimerList[] wheel : wheels) {
+            Arrays.setAll(wheel, ignored -> new TimerList());
+        }
+
+        this.dueTimers = new TimerList();
+        this.expiringTimers = new ArrayList<>();
+        this.currentSlot = clock.getAsLong() / tickMillis;
+    }
+
+    @Override
+    public void scheduleTaskNow(@NotNull TickableTask tickableTask) {
+        Objects.requireNonNull(tickableTask, "tickableTask");
+        tickableTasks.add(tickableTask);
+    }
+
+    @Override
+    public void scheduleTaskAfter(@NotNull TickableTask tickableTask, long millis) {
+        Objects.requireNonNull(tickableTask, "tickableTask");
+        scheduledTimers.add(new Timer(tickableTask, clock.getAsLong() + Math.max(0, millis)));
+    }
+
+    @Override
+    public void end() {
+        for (TickableTask tickableTask : tickableTasks) {
+            tickableTask.end();
+        }
+
+        tickableTasks.clear();
+        scheduledTimers.clear();
+        for (TimerList[] wheel : wheels) {
+            for (TimerList timers : wheel) {
+                timers.clear();
+            }
+        }
+
+        dueTimers.clear();
+    }
+
+    @Override
+    public void tick(long time) {
+        Timer scheduled;
+        while ((scheduled = scheduledTimers.poll()) != null) {
+            scheduled.sequence = nextSequence++;
+            insert(scheduled);
+        }
+
+        long targetSlot = time / tickMillis;
+        while (currentSlot < targetSlot) {
+            currentSlot++;
+            cascade();
+
+            Timer timer = wheels[0][(int)(currentSlot & WHEEL_MASK)].clear();
+            while (timer != null) {
+                Timer next = timer.next;
+                dueTimers.add(timer);
+                timer = next;
+            }
+        }
+
+        expireDue(time);
+
+        Iterator<TickableTask> taskIterator = tickableTasks.iterator();
+        while (taskIterator.hasNext()) {
+            TickableTask next = taskIterator.next();
+            if (next.isFinished()) {
+                taskIterator.remove();
+                continue;
+            }
+
+            next.tick(time);
+        }
+    }
+
+    private void insert(Timer timer) {
+        long slot = timer.deadline / tickMillis;
+        long delta = slot - currentSlot;
+        if (delta <= 0) {
+            dueTimers.add(timer);
+            return;
+        }
+
+        if (delta > MAX_DELTA) {
+            //too far ahead for the outermost wheel; it will be filed again once this slot is reached
+            slot = currentSlot + MAX_DELTA;
+            delta = MAX_DELTA;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << ((level + 1) * WHEEL_BITS)) {
+            level++;
+        }
+
+        wheels[level][(int)((slot >>> (level * WHEEL_BITS)) & WHEEL_MASK)].add(timer);
+    }
+
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = level * WHEEL_BITS;
+            if ((currentSlot & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+
+            Timer timer = wheels[level][(int)((currentSlot >>> shift) & WHEEL_MASK)].clear();
+            while (timer != null) {
+                Timer next = timer.next;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void expireDue(long time) {
+        Timer timer = dueTimers.clear();
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.deadline <= time) {
+                expiringTimers.add(timer);
+            }
+            else {
+                dueTimers.add(timer);
+            }
+
+            timer = next;
+        }
+
+        if (expiringTimers.isEmpty()) {
+            return;
+        }
+
+        //timers reach the due list in slot order, but a timer cascaded from an outer wheel may have been scheduled
+        //before one that was filed directly into the innermost wheel
+        if (expiringTimers.size() > 1) {
+            expiringTimers.sort(Comparator.comparingLong(expiring -> expiring.sequence));
+        }
+
+        for (Timer expiring : expiringTimers) {
+            tickableTasks.add(expiring.task);
+        }
+
+        expiringTimers.clear();
+    }
+
+    private static final class Timer {
+        private final TickableTask task;
+        private final long deadline;
+        private long sequence;
+        private Timer next;
+
+        private Timer(TickableTask task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+
+    /**
+     * A singly-linked list of timers, kept in the order they were added.
+     */
+    private static final class TimerList {
+        private Timer head;
+        private Timer tail;
+
+        private void add(Timer timer) {
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            }
+            else {
+                tail.next = timer;
+            }
+
+            tail = timer;
+        }
+
+        private Timer clear() {
+            Timer oldHead = head;
+            head = null;
+            tail = null;
+            return oldHead;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.phantazm.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTickTaskSchedulerTest {
+    private static final long TICK_MILLIS = 50L;
+
+    private long now = 1_000_007L;
+
+    @Test
+    void startsDelayedTaskOnFirstTickAtOrAfterDeadline() {
+        TimerWheelTickTaskScheduler scheduler = new TimerWheelTickTaskScheduler(TICK_MILLIS, () -> now);
+        long[] startTimes = new long[] {-1, -1, -1, -1};
+        long[] delays = new long[] {0, 10, 50, 120};
+        long scheduleTime = now;
+
+        for (int i = 0; i < delays.length; i++) {
+            scheduler.scheduleTaskAfter(startTimeRecorder(startTimes, i), delays[i]);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.tick(now);
+            now += TICK_MILLIS;
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            long deadline = scheduleTime + delays[i];
+            long expected = scheduleTime + ((deadline - scheduleTime + TICK_MILLIS - 1) / TICK_MILLIS) * TICK_MILLIS;
+            assertEquals(expected, startTimes[i], "delay " + delays[i]);
+        }
+    }
+
+    @Test
+    void startsLongDelayedTasksWithinOneTickOfDeadline() {
+        TimerWheelTickTaskScheduler scheduler = new TimerWheelTickTaskScheduler(TICK_MILLIS, () -> now);
+        Random random = new Random(42);
+
+        int count = 500;
+        long[] deadlines = new long[count];
+        long[] startTimes = new long[count];
+        for (int i = 0; i < count; i++) {
+            //up to about 3 days, which crosses every level of the wheel
+            long delay = (long)(Math.pow(random.nextDouble(), 4) * 250_000_000L) + random.nextInt(1000);
+            deadlines[i] = now + delay;
+            startTimes[i] = -1;
+            scheduler.scheduleTaskAfter(startTimeRecorder(startTimes, i), delay);
+        }
+
+        long lastDeadline = 0;
+        for (long deadline : deadlines) {
+            lastDeadline = Math.max(lastDeadline, deadline);
+        }
+
+        //ticks are slightly irregular, as they are on a real server
+        while (now <= lastDeadline + TICK_MILLIS) {
+            scheduler.tick(now);
+            now += TICK_MILLIS + random.nextInt(5) - 2;
+        }
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(startTimes[i] >= deadlines[i], "task " + i + " started early");
+            assertTrue(startTimes[i] - deadlines[i] <= TICK_MILLIS + 2, "task " + i + " started late");
+        }
+    }
+
+    @Test
+    void startsTasksDueInSameTickInScheduleOrder() {
+        TimerWheelTickTaskScheduler scheduler = new TimerWheelTickTaskScheduler(TICK_MILLIS, () -> now);
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int id = i;
+            scheduler.scheduleTaskAfter(new OnceTask(() -> order.add(id)), 5000);
+        }
+
+        for (int i = 0; i <= 101; i++) {
+            scheduler.tick(now);
+            now += TICK_MILLIS;
+        }
+
+        assertEquals(List.of(0, 1, 2, 3, 4), order);
+    }
+
+    @Test
+    void startsTasksDueInSameTickInScheduleOrderAcrossLevels() {
+        TimerWheelTickTaskScheduler scheduler = new TimerWheelTickTaskScheduler(TICK_MILLIS, () -> now);
+        List<Integer> order = new ArrayList<>();
+
+        //far enough ahead to be filed in an outer wheel, and cascaded down later
+        scheduler.scheduleTaskAfter(new OnceTask(() -> order.add(0)), 5000);
+        for (int i = 0; i < 60; i++) {
+            scheduler.tick(now);
+            now += TICK_MILLIS;
+        }
+
+        //same deadline, but filed directly into the innermost wheel
+        scheduler.scheduleTaskAfter(new OnceTask(() -> order.add(1)), 2000);
+        for (int i = 0; i <= 41; i++) {
+            scheduler.tick(now);
+            now += TICK_MILLIS;
+        }
+
+        assertEquals(List.of(0, 1), order);
+    }
+
+    @Test
+    void catchesUpAfterMissedTicks() {
+        TimerWheelTickTaskScheduler scheduler = new TimerWheelTickTaskScheduler(TICK_MILLIS, () -> now);
+        long[] startTimes = new long[] {-1};
+        scheduler.scheduleTaskAfter(startTimeRecorder(startTimes, 0), 10_000);
+
+        now += 60_000;
+        scheduler.tick(now);
+
+        assertEquals(now, startTimes[0]);
+    }
+
+    @Test
+    void endDiscardsPendingTasks() {
+        TimerWheelTickTaskScheduler scheduler = new TimerWheelTickTaskScheduler(TICK_MILLIS, () -> now);
+        long[] startTimes = new long[] {-1};
+        scheduler.scheduleTaskAfter(startTimeRecorder(startTimes, 0), 100);
+        scheduler.tick(now);
+
+        scheduler.end();
+        for (int i = 0; i < 10; i++) {
+            now += TICK_MILLIS;
+            scheduler.tick(now);
+        }
+
+        assertEquals(-1, startTimes[0]);
+    }
+
+    private static TickableTask startTimeRecorder(long[] startTimes, int index) {
+        return new TickableTask() {
+            @Override
+            public boolean isFinished() {
+                return startTimes[index] != -1;
+            }
+
+            @Override
+            public void tick(long time) {
+                startTimes[index] = time;
+            }
+        };
+    }
+
+    private static final class OnceTask implements TickableTask {
+        private final Runnable runnable;
+        private boolean finished;
+
+        private OnceTask(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void tick(long time) {
+            runnable.run();
+            finished = true;
+        }
+    }
+}
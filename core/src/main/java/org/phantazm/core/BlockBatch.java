@@ -0,0 +1,187 @@
+package org.phantazm.core;
+
+import com.github.steanky.vector.Bounds3I;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.instance.BlockChangeEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collects block changes to an {@link Instance} and applies them all at once. Unlike
+ * {@link Instance#setBlock(int, int, int, Block)}, applying a batch does not call a {@link BlockChangeEvent} for every
+ * block, and sends a single packet per chunk section rather than one per block. Instead, a single
+ * {@link BlockBatchEvent} is called after all changes have been made. It lists the bounds of the changed blocks
+ * within each chunk section, so that changes far apart (such as several doors opening at once) do not invalidate
+ * everything in between.
+ * <p>
+ * Block placement rules and block handlers are not invoked. Batches are intended for large, scripted changes such as
+ * opening doors, not for player-driven block updates.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class BlockBatch {
+    private final Instance instance;
+    private final Long2ObjectMap<ChunkChanges> changes;
+
+    /**
+     * Creates a new, empty batch.
+     *
+     * @param instance the instance to change
+     */
+    public BlockBatch(@NotNull Instance instance) {
+        this.instance = Objects.requireNonNull(instance, "instance");
+        this.changes = new Long2ObjectLinkedOpenHashMap<>();
+    }
+
+    /**
+     * Adds a block change to this batch. If several changes are made to the same position, the last one wins.
+     *
+     * @param x     the x-coordinate of the block
+     * @param y     the y-coordinate of the block
+     * @param z     the z-coordinate of the block
+     * @param block the new block
+     * @return this batch
+     */
+    public @NotNull BlockBatch setBlock(int x, int y, int z, @NotNull Block block) {
+        Objects.requireNonNull(block, "block");
+
+        long index = ChunkUtils.getChunkIndex(ChunkUtils.getChunkCoordinate(x), ChunkUtils.getChunkCoordinate(z));
+        ChunkChanges chunkChanges = changes.get(index);
+        if (chunkChanges == null) {
+            chunkChanges = new ChunkChanges();
+            changes.put(index, chunkChanges);
+        }
+
+        chunkChanges.add(x, y, z, block);
+        return this;
+    }
+
+    /**
+     * Adds a block change to this batch.
+     *
+     * @param position the position of the block
+     * @param block    the new block
+     * @return this batch
+     */
+    public @NotNull BlockBatch setBlock(@NotNull Point position, @NotNull Block block) {
+        return setBlock(position.blockX(), position.blockY(), position.blockZ(), block);
+    }
+
+    /**
+     * Adds a change to this batch for every block in the given region.
+     *
+     * @param region the region to fill
+     * @param block  the new block
+     * @return this batch
+     */
+    public @NotNull BlockBatch fill(@NotNull Bounds3I region, @NotNull Block block) {
+        Objects.requireNonNull(region, "region");
+        Objects.requireNonNull(block, "block");
+        region.forEach((x, y, z) -> setBlock(x, y, z, block));
+        return this;
+    }
+
+    /**
+     * Checks if this batch has no pending changes.
+     *
+     * @return true if there are no pending changes, false otherwise
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Applies all pending changes, sends them to the viewers of each affected chunk and calls a
+     * {@link BlockBatchEvent}. Changes in chunks that are not loaded are discarded. The batch is empty afterwards and
+     * may be reused.
+     */
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    public void apply() {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        SectionUpdates updates = new SectionUpdates();
+        List<Chunk> changedChunks = new ArrayList<>(changes.size());
+        List<Bounds3I> changedRegions = new ArrayList<>();
+        Int2ObjectMap<int[]> sectionBounds = new Int2ObjectOpenHashMap<>();
+
+        for (Long2ObjectMap.Entry<ChunkChanges> entry : changes.long2ObjectEntrySet()) {
+            long index = entry.getLongKey();
+            Chunk chunk = instance.getChunk(ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index));
+            if (chunk == null) {
+                continue;
+            }
+
+            ChunkChanges chunkChanges = entry.getValue();
+            IntArrayList positions = chunkChanges.positions;
+            synchronized (chunk) {
+                for (int i = 0, j = 0; i < positions.size(); i += 3, j++) {
+                    int x = positions.getInt(i);
+                    int y = positions.getInt(i + 1);
+                    int z = positions.getInt(i + 2);
+                    Block block = chunkChanges.blocks.get(j);
+
+                    chunk.setBlock(x, y, z, block);
+                    updates.add(chunk, x, y, z, block);
+
+                    //min x, y, z followed by max x, y, z
+                    int[] bounds = sectionBounds.get(ChunkUtils.getChunkCoordinate(y));
+                    if (bounds == null) {
+                        sectionBounds.put(ChunkUtils.getChunkCoordinate(y), new int[] {x, y, z, x, y, z});
+                        continue;
+                    }
+
+                    bounds[0] = Math.min(bounds[0], x);
+                    bounds[1] = Math.min(bounds[1], y);
+                    bounds[2] = Math.min(bounds[2], z);
+                    bounds[3] = Math.max(bounds[3], x);
+                    bounds[4] = Math.max(bounds[4], y);
+                    bounds[5] = Math.max(bounds[5], z);
+                }
+            }
+
+            for (int[] bounds : sectionBounds.values()) {
+                changedRegions.add(Bounds3I.immutable(bounds[0], bounds[1], bounds[2], bounds[3] - bounds[0] + 1,
+                        bounds[4] - bounds[1] + 1, bounds[5] - bounds[2] + 1));
+            }
+
+            sectionBounds.clear();
+            changedChunks.add(chunk);
+        }
+
+        changes.clear();
+        if (changedChunks.isEmpty()) {
+            return;
+        }
+
+        updates.send();
+        EventDispatcher.call(new BlockBatchEvent(instance, changedRegions, changedChunks));
+    }
+
+    private static class ChunkChanges {
+        //x, y, z triples, parallel to blocks
+        private final IntArrayList positions = new IntArrayList();
+        private final List<Block> blocks = new ArrayList<>();
+
+        private void add(int x, int y, int z, Block block) {
+            positions.add(x);
+            positions.add(y);
+            positions.add(z);
+            blocks.add(block);
+        }
+    }
+}
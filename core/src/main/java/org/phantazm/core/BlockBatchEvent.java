@@ -0,0 +1,53 @@
+package org.phantazm.core;
+
+import com.github.steanky.vector.Bounds3I;
+import net.minestom.server.event.instance.BlockChangeEvent;
+import net.minestom.server.event.trait.InstanceEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Called once after a {@link BlockBatch} has been applied. No {@link BlockChangeEvent} is called for the individual
+ * blocks, so listeners that cache state derived from blocks should invalidate everything within
+ * {@link BlockBatchEvent#getRegions()}.
+ */
+public class BlockBatchEvent implements InstanceEvent {
+    private final Instance instance;
+    private final List<Bounds3I> regions;
+    private final List<Chunk> chunks;
+
+    public BlockBatchEvent(@NotNull Instance instance, @NotNull List<Bounds3I> regions, @NotNull List<Chunk> chunks) {
+        this.instance = Objects.requireNonNull(instance, "instance");
+        this.regions = List.copyOf(regions);
+        this.chunks = List.copyOf(chunks);
+    }
+
+    @Override
+    public @NotNull Instance getInstance() {
+        return instance;
+    }
+
+    /**
+     * Gets the changed regions. There is one region per chunk section containing changed blocks: the smallest bounds
+     * enclosing the changed blocks of that section. Blocks outside every region were not changed.
+     *
+     * @return the changed regions, each within a single chunk section
+     */
+    public @NotNull @Unmodifiable List<Bounds3I> getRegions() {
+        return regions;
+    }
+
+    /**
+     * Gets the chunks that contain changed blocks.
+     *
+     * @return the changed chunks
+     */
+    public @NotNull @Unmodifiable List<Chunk> getChunks() {
+        return chunks;
+    }
+}
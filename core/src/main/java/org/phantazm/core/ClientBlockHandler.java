@@ -5,6 +5,8 @@ import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 /**
  * <p>Allows for "client blocks". These are blocks that exist purely on the client, they do not exist server-side. If a
  * client block is destroyed by the client, it is replaced by what is "actually" there according to the server.
@@ -44,6 +46,19 @@ public interface ClientBlockHandler {
         setClientBlock(type, blockLocation.blockX(), blockLocation.blockY(), blockLocation.blockZ());
     }
 
+    /**
+     * Sets or updates client-only blocks of the same kind at each of the given locations. Implementations may send
+     * the changes to clients together rather than one block at a time.
+     *
+     * @param type           the kind of block to set
+     * @param blockLocations the block locations
+     */
+    default void setClientBlocks(@NotNull Block type, @NotNull Collection<? extends Point> blockLocations) {
+        for (Point blockLocation : blockLocations) {
+            setClientBlock(type, blockLocation);
+        }
+    }
+
     /**
      * Removes a client-only block, if it exists at the given location.
      *
@@ -61,4 +76,16 @@ public interface ClientBlockHandler {
     default void removeClientBlock(@NotNull Point blockLocation) {
         removeClientBlock(blockLocation.blockX(), blockLocation.blockY(), blockLocation.blockZ());
     }
+
+    /**
+     * Removes the client-only blocks at each of the given locations, if they exist. Implementations may send the
+     * changes to clients together rather than one block at a time.
+     *
+     * @param blockLocations the block locations
+     */
+    default void removeClientBlocks(@NotNull Collection<? extends Point> blockLocations) {
+        for (Point blockLocation : blockLocations) {
+            removeClientBlock(blockLocation);
+        }
+    }
 }
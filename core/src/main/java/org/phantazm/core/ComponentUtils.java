@@ -12,16 +12,25 @@ public final class ComponentUtils {
     }
 
     public static @NotNull Component tryFormat(@NotNull String formatString, Object... objects) {
+        return MiniMessage.miniMessage().deserialize(tryFormatString(formatString, objects));
+    }
+
+    /**
+     * Formats the given objects using {@link String#format(String, Object...)}. If the format string is not compatible
+     * with the objects, it is returned as-is.
+     *
+     * @param formatString the format string
+     * @param objects      the format arguments
+     * @return the formatted string, or the format string if it could not be formatted
+     */
+    public static @NotNull String tryFormatString(@NotNull String formatString, Object... objects) {
         Objects.requireNonNull(formatString, "formatString");
 
-        String message;
         try {
-            message = String.format(formatString, objects);
+            return String.format(formatString, objects);
         }
         catch (IllegalFormatException ignored) {
-            message = formatString;
+            return formatString;
         }
-
-        return MiniMessage.miniMessage().deserialize(message);
     }
 }
@@ -1,12 +1,14 @@
 package org.phantazm.core;
 
+import com.github.steanky.vector.Bounds3I;
 import com.github.steanky.vector.HashVec3I2ObjectMap;
 import com.github.steanky.vector.Vec3I2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.instance.BlockChangeEvent;
 import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
 import net.minestom.server.event.instance.PreBlockChangeEvent;
 import net.minestom.server.event.player.PlayerBlockBreakEvent;
@@ -18,21 +20,33 @@ import net.minestom.server.instance.DynamicChunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.listener.PlayerDiggingListener;
-import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Supports instance-wide client blocks.
+ * <p>
+ * Chunks containing client blocks are sent to players as a copy of the server chunk, with the client blocks applied.
+ * The copy is kept up to date incrementally: server block changes and client block changes are applied to it
+ * directly, and it is only copied again from the server chunk if the server chunk changed without this handler
+ * observing a {@link BlockChangeEvent}. Changes to several client blocks are sent as one
+ * {@link MultiBlockChangePacket} per chunk section. After a {@link BlockBatch} is applied, affected chunks are copied
+ * again and any client blocks the batch overwrote are sent again. Each chunk's client blocks are guarded by one of a
+ * fixed number of striped locks, so unrelated chunks do not contend.
  *
  * @see ClientBlockHandlerSource
  */
 public class InstanceClientBlockHandler implements ClientBlockHandler {
+    private static final int LOCK_STRIPES = 64;
+
     private final Instance instance;
 
-    private final Long2ObjectMap<Data> clientData;
+    private final Map<Long, Data> clientData;
+    private final Object[] locks;
 
     private final int chunkFloor;
     private final int chunkHeight;
@@ -46,12 +60,19 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
      */
     public InstanceClientBlockHandler(@NotNull Instance instance, int chunkFloor, int chunkHeight) {
         this.instance = Objects.requireNonNull(instance, "instance");
-        this.clientData = new Long2ObjectOpenHashMap<>();
+        this.clientData = new ConcurrentHashMap<>();
+        this.locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+
         this.chunkFloor = chunkFloor;
         this.chunkHeight = chunkHeight;
 
         EventNode<InstanceEvent> node = instance.eventNode();
         node.addListener(PreBlockChangeEvent.class, this::onPreBlockChange);
+        node.addListener(BlockChangeEvent.class, this::onBlockChange);
+        node.addListener(BlockBatchEvent.class, this::onBlockBatch);
         node.addListener(PlayerBlockBreakEvent.class, this::onPlayerBlockBreak);
         node.addListener(PrePlayerStartDiggingEvent.class, this::onPrePlayerStartDigging);
         node.addListener(PreSendChunkEvent.class, this::onPreSendChunk);
@@ -60,166 +81,309 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
 
     @Override
     public void setClientBlock(@NotNull Block type, int x, int y, int z) {
-        Instance instance = this.instance;
-        if (instance == null) {
-            return;
-        }
-
-        Chunk serverChunk = instance.getChunkAt(x, z);
-        if (serverChunk == null) {
-            return;
-        }
+        setClientBlocks(type, List.of(new Vec(x, y, z)));
+    }
 
-        int cx = serverChunk.getChunkX();
-        int cz = serverChunk.getChunkZ();
+    @Override
+    public void setClientBlocks(@NotNull Block type, @NotNull Collection<? extends Point> blockLocations) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(blockLocations, "blockLocations");
+
+        SectionUpdates updates = new SectionUpdates();
+        for (Point blockLocation : blockLocations) {
+            int x = blockLocation.blockX();
+            int y = blockLocation.blockY();
+            int z = blockLocation.blockZ();
+
+            Chunk serverChunk = instance.getChunkAt(x, z);
+            if (serverChunk == null) {
+                continue;
+            }
 
-        long index = ChunkUtils.getChunkIndex(cx, cz);
-        synchronized (clientData) {
-            Data data = clientData.get(index);
+            long index = ChunkUtils.getChunkIndex(serverChunk.getChunkX(), serverChunk.getChunkZ());
+            synchronized (lock(index)) {
+                Data data = clientData.computeIfAbsent(index, ignored -> new Data(
+                        new HashVec3I2ObjectMap<>(0, chunkFloor, 0, Chunk.CHUNK_SIZE_X, chunkHeight,
+                                Chunk.CHUNK_SIZE_Z)));
 
-            if (data == null) {
-                data = new Data(new HashVec3I2ObjectMap<>(0, chunkFloor, 0, Chunk.CHUNK_SIZE_X, chunkHeight,
-                        Chunk.CHUNK_SIZE_Z));
-                clientData.put(index, data);
-            }
+                PositionedBlock block = data.blocks.get(x, y, z);
+                if (block == null) {
+                    data.blocks.put(x, y, z, new PositionedBlock(type, x, y, z));
+                }
+                else {
+                    block.block = type;
+                }
 
-            PositionedBlock block = data.blocks.get(x, y, z);
-            if (block == null) {
-                data.blocks.put(x, y, z, new PositionedBlock(type, x, y, z));
-            }
-            else {
-                block.block = type;
+                data.markChanged(x, y, z);
             }
 
-            data.dirty = true;
-            serverChunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), type));
+            updates.add(serverChunk, x, y, z, type);
         }
+
+        updates.send();
     }
 
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     @Override
     public void clearClientBlocks() {
-        Instance instance = this.instance;
-        if (instance == null) {
-            return;
-        }
-
-        synchronized (clientData) {
-            for (Long2ObjectMap.Entry<Data> entry : clientData.long2ObjectEntrySet()) {
-                long index = entry.getLongKey();
-                int x = ChunkUtils.getChunkCoordX(index);
-                int z = ChunkUtils.getChunkCoordZ(index);
-
-                Chunk serverChunk = instance.getChunk(x, z);
-                if (serverChunk == null) {
-                    continue;
+        SectionUpdates updates = new SectionUpdates();
+        for (long index : clientData.keySet()) {
+            Chunk serverChunk = instance.getChunk(ChunkUtils.getChunkCoordX(index), ChunkUtils.getChunkCoordZ(index));
+            if (serverChunk == null) {
+                synchronized (lock(index)) {
+                    clientData.remove(index);
                 }
 
-                Vec3I2ObjectMap<PositionedBlock> blocks = entry.getValue().blocks;
-                synchronized (serverChunk) {
-                    for (PositionedBlock block : blocks.values()) {
-                        Block serverBlock = serverChunk.getBlock(block.x, block.y, block.z);
-                        serverChunk.sendPacketToViewers(
-                                new BlockChangePacket(new Vec(block.x, block.y, block.z), serverBlock));
+                continue;
+            }
+
+            //we read server blocks, so lock the server chunk first, in the same order as onPreSendChunk
+            synchronized (serverChunk) {
+                synchronized (lock(index)) {
+                    Data data = clientData.remove(index);
+                    if (data != null) {
+                        revealServerBlocks(serverChunk, data.blocks.values(), updates);
                     }
                 }
-
-                blocks.clear();
             }
-
-            clientData.clear();
         }
+
+        updates.send();
     }
 
     @Override
     public void removeClientBlock(int x, int y, int z) {
-        Instance instance = this.instance;
-        if (instance == null) {
-            return;
-        }
+        removeClientBlocks(List.of(new Vec(x, y, z)));
+    }
 
-        int cx = ChunkUtils.getChunkCoordinate(x);
-        int cz = ChunkUtils.getChunkCoordinate(z);
-        long index = ChunkUtils.getChunkIndex(cx, cz);
-        synchronized (clientData) {
-            Data data = clientData.get(index);
-            if (data == null) {
-                return;
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    @Override
+    public void removeClientBlocks(@NotNull Collection<? extends Point> blockLocations) {
+        Objects.requireNonNull(blockLocations, "blockLocations");
+
+        SectionUpdates updates = new SectionUpdates();
+        for (Point blockLocation : blockLocations) {
+            int x = blockLocation.blockX();
+            int y = blockLocation.blockY();
+            int z = blockLocation.blockZ();
+
+            int cx = ChunkUtils.getChunkCoordinate(x);
+            int cz = ChunkUtils.getChunkCoordinate(z);
+            long index = ChunkUtils.getChunkIndex(cx, cz);
+            if (!clientData.containsKey(index)) {
+                continue;
             }
 
-            if (data.blocks.remove(x, y, z) != null) {
-                Chunk serverChunk = instance.getChunk(cx, cz);
-
-                if (serverChunk == null) {
+            Chunk serverChunk = instance.getChunk(cx, cz);
+            if (serverChunk == null) {
+                synchronized (lock(index)) {
                     clientData.remove(index);
-                    return;
                 }
 
-                Block serverBlock = serverChunk.getBlock(x, y, z);
+                continue;
+            }
 
-                //make sure player gets the actual block
-                serverChunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), serverBlock));
+            //we read the server block, so lock the server chunk first, in the same order as onPreSendChunk
+            synchronized (serverChunk) {
+                synchronized (lock(index)) {
+                    Data data = clientData.get(index);
+                    if (data == null || data.blocks.remove(x, y, z) == null) {
+                        continue;
+                    }
 
-                if (data.blocks.isEmpty()) {
-                    clientData.remove(index);
-                }
+                    //make sure player gets the actual block
+                    updates.add(serverChunk, x, y, z, serverChunk.getBlock(x, y, z));
 
-                data.dirty = true;
+                    if (data.blocks.isEmpty()) {
+                        clientData.remove(index);
+                    }
+                    else {
+                        data.markChanged(x, y, z);
+                    }
+                }
             }
         }
+
+        updates.send();
+    }
+
+    //callers must hold the server chunk's lock, then its stripe lock
+    private static void revealServerBlocks(Chunk serverChunk, Collection<PositionedBlock> blocks,
+            SectionUpdates updates) {
+        for (PositionedBlock block : blocks) {
+            updates.add(serverChunk, block.x, block.y, block.z, serverChunk.getBlock(block.x, block.y, block.z));
+        }
+    }
+
+    private Object lock(long index) {
+        return locks[(int)(HashCommon.mix(index) & (LOCK_STRIPES - 1))];
     }
 
     private static class Data {
         private final Vec3I2ObjectMap<PositionedBlock> blocks;
+
+        //positions whose client block changed since the copy was last updated, as x, y, z triples
+        private final IntArrayList changed;
+
         private DynamicChunk chunk;
-        private boolean dirty;
+        private long serverChangeTime;
 
         public Data(Vec3I2ObjectMap<PositionedBlock> blocks) {
             this.blocks = blocks;
+            this.changed = new IntArrayList();
+        }
+
+        private void markChanged(int x, int y, int z) {
+            if (chunk == null) {
+                //the copy will be made from scratch anyway
+                return;
+            }
+
+            changed.add(x);
+            changed.add(y);
+            changed.add(z);
         }
     }
 
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private void onPreSendChunk(PreSendChunkEvent event) {
-        Instance instance = this.instance;
-        if (instance == null) {
-            return;
-        }
-
         DynamicChunk serverChunk = event.chunk();
 
         int cx = serverChunk.getChunkX();
         int cz = serverChunk.getChunkZ();
         long index = ChunkUtils.getChunkIndex(cx, cz);
 
-        synchronized (clientData) {
-            Data data = clientData.get(index);
+        if (!clientData.containsKey(index)) {
+            return;
+        }
+
+        //block changes lock the server chunk before calling our listeners, so take the locks in the same order
+        synchronized (serverChunk) {
+            synchronized (lock(index)) {
+                Data data = clientData.get(index);
+                if (data == null) {
+                    return;
+                }
 
-            if (data != null) {
                 DynamicChunk copy = data.chunk;
+                long serverChangeTime = serverChunk.getLastChangeTime();
 
                 boolean updateCopyBlocks = false;
-                synchronized (serverChunk) {
-                    if (copy == null || copy.getLastChangeTime() != serverChunk.getLastChangeTime() || data.dirty) {
-                        copy = serverChunk.copy(instance, cx, cz);
-                        data.chunk = copy;
-                        updateCopyBlocks = true;
-                    }
+                if (copy == null || serverChangeTime != data.serverChangeTime) {
+                    copy = serverChunk.copy(instance, cx, cz);
+                    data.chunk = copy;
+                    data.serverChangeTime = serverChangeTime;
+                    updateCopyBlocks = true;
                 }
 
-                if (updateCopyBlocks) {
-                    for (PositionedBlock positionedBlock : data.blocks.values()) {
-                        copy.setBlock(positionedBlock.x, positionedBlock.y, positionedBlock.z, positionedBlock.block);
+                synchronized (copy) {
+                    if (updateCopyBlocks) {
+                        for (PositionedBlock positionedBlock : data.blocks.values()) {
+                            copy.setBlock(positionedBlock.x, positionedBlock.y, positionedBlock.z,
+                                    positionedBlock.block);
+                        }
+                    }
+                    else {
+                        IntArrayList changed = data.changed;
+                        for (int i = 0; i < changed.size(); i += 3) {
+                            int x = changed.getInt(i);
+                            int y = changed.getInt(i + 1);
+                            int z = changed.getInt(i + 2);
+
+                            PositionedBlock block = data.blocks.get(x, y, z);
+                            copy.setBlock(x, y, z, block == null ? serverChunk.getBlock(x, y, z) : block.block);
+                        }
                     }
-
-                    data.dirty = false;
                 }
 
+                data.changed.clear();
                 event.setChunk(copy);
             }
         }
     }
 
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    private void onBlockChange(BlockChangeEvent event) {
+        Point blockPosition = event.blockPosition();
+        long index = ChunkUtils.getChunkIndex(blockPosition);
+        if (!clientData.containsKey(index)) {
+            return;
+        }
+
+        synchronized (lock(index)) {
+            Data data = clientData.get(index);
+            if (data == null || data.chunk == null) {
+                return;
+            }
+
+            Chunk serverChunk = instance.getChunkAt(blockPosition);
+            if (serverChunk == null) {
+                return;
+            }
+
+            int x = blockPosition.blockX();
+            int y = blockPosition.blockY();
+            int z = blockPosition.blockZ();
+
+            //keep the copy in sync with the server, so we don't need to copy the whole chunk again
+            if (!data.blocks.containsKey(x, y, z)) {
+                DynamicChunk copy = data.chunk;
+                synchronized (copy) {
+                    copy.setBlock(x, y, z, event.getBlock());
+                }
+            }
+
+            data.serverChangeTime = serverChunk.getLastChangeTime();
+        }
+    }
+
+    private void onBlockBatch(BlockBatchEvent event) {
+        List<Bounds3I> regions = event.getRegions();
+
+        SectionUpdates updates = new SectionUpdates();
+        for (Chunk serverChunk : event.getChunks()) {
+            long index = ChunkUtils.getChunkIndex(serverChunk.getChunkX(), serverChunk.getChunkZ());
+            if (!clientData.containsKey(index)) {
+                continue;
+            }
+
+            synchronized (lock(index)) {
+                Data data = clientData.get(index);
+                if (data == null) {
+                    continue;
+                }
+
+                //batches don't tell us which blocks changed, so copy the whole chunk again when it's next sent
+                data.chunk = null;
+                data.changed.clear();
+
+                //the batch overwrote any client blocks it touched on the client, so send them again
+                for (PositionedBlock block : data.blocks.values()) {
+                    if (inAnyRegion(regions, block)) {
+                        updates.add(serverChunk, block.x, block.y, block.z, block.block);
+                    }
+                }
+            }
+        }
+
+        updates.send();
+    }
+
+    private static boolean inAnyRegion(List<Bounds3I> regions, PositionedBlock block) {
+        for (Bounds3I region : regions) {
+            int minX = region.originX();
+            int minY = region.originY();
+            int minZ = region.originZ();
+
+            if (block.x >= minX && block.x < minX + region.lengthX() && block.y >= minY &&
+                    block.y < minY + region.lengthY() && block.z >= minZ && block.z < minZ + region.lengthZ()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private void onChunkUnload(InstanceChunkUnloadEvent event) {
         Chunk chunk = event.getChunk();
 
@@ -227,7 +391,7 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
         int cz = chunk.getChunkZ();
         long index = ChunkUtils.getChunkIndex(cx, cz);
 
-        synchronized (clientData) {
+        synchronized (lock(index)) {
             clientData.remove(index);
         }
     }
@@ -235,7 +399,7 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
     private void onPrePlayerStartDigging(PrePlayerStartDiggingEvent event) {
         Point blockPosition = event.getBlockPosition();
         long index = ChunkUtils.getChunkIndex(blockPosition);
-        synchronized (clientData) {
+        synchronized (lock(index)) {
             Data data = clientData.get(index);
 
             if (data != null) {
@@ -256,14 +420,22 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
     private void onPlayerBlockBreak(PlayerBlockBreakEvent event) {
         Point blockPosition = event.getBlockPosition();
         long index = ChunkUtils.getChunkIndex(blockPosition);
-        synchronized (clientData) {
+        synchronized (lock(index)) {
             Data data = clientData.get(index);
 
             if (data != null) {
+                int x = blockPosition.blockX();
+                int y = blockPosition.blockY();
+                int z = blockPosition.blockZ();
+
                 //remove the client block; no need to send something else as it will be updated soon
-                if (data.blocks.remove(blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ()) !=
-                        null && data.blocks.isEmpty()) {
-                    clientData.remove(index);
+                if (data.blocks.remove(x, y, z) != null) {
+                    if (data.blocks.isEmpty()) {
+                        clientData.remove(index);
+                    }
+                    else {
+                        data.markChanged(x, y, z);
+                    }
                 }
             }
         }
@@ -272,7 +444,11 @@ public class InstanceClientBlockHandler implements ClientBlockHandler {
     private void onPreBlockChange(PreBlockChangeEvent event) {
         Point blockPosition = event.blockPosition();
         long index = ChunkUtils.getChunkIndex(blockPosition);
-        synchronized (clientData) {
+        if (!clientData.containsKey(index)) {
+            return;
+        }
+
+        synchronized (lock(index)) {
             Data data = clientData.get(index);
 
             if (data != null) {
@@ -0,0 +1,68 @@
+package org.phantazm.core;
+
+import it.unimi.dsi.fastutil.ints.Int2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.chunk.ChunkUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects block changes to send to the viewers of their chunks, grouped by chunk section. If a position is changed
+ * more than once, only the last change is sent. Sections with a single changed position are sent as a
+ * {@link BlockChangePacket}, all others as one {@link MultiBlockChangePacket}.
+ */
+class SectionUpdates {
+    private final Map<SectionKey, SectionUpdate> sections = new LinkedHashMap<>();
+
+    void add(Chunk chunk, int x, int y, int z, Block block) {
+        SectionKey key = new SectionKey(chunk.getChunkX(), ChunkUtils.getChunkCoordinate(y), chunk.getChunkZ());
+        SectionUpdate update = sections.get(key);
+        if (update == null) {
+            update = new SectionUpdate(chunk);
+            sections.put(key, update);
+        }
+
+        int position = ((x & 15) << 8) | ((z & 15) << 4) | (y & 15);
+        update.blocks.put(position, ((long)block.stateId() << 12) | position);
+    }
+
+    void send() {
+        for (Map.Entry<SectionKey, SectionUpdate> entry : sections.entrySet()) {
+            SectionKey key = entry.getKey();
+            SectionUpdate update = entry.getValue();
+
+            if (update.blocks.size() == 1) {
+                long block = update.blocks.values().iterator().nextLong();
+                int x = (key.chunkX << 4) + (int)((block >> 8) & 15);
+                int y = (key.sectionY << 4) + (int)(block & 15);
+                int z = (key.chunkZ << 4) + (int)((block >> 4) & 15);
+                update.chunk.sendPacketToViewers(new BlockChangePacket(new Vec(x, y, z), (int)(block >>> 12)));
+                continue;
+            }
+
+            long[] blocks = update.blocks.values().toLongArray();
+            update.chunk.sendPacketToViewers(new MultiBlockChangePacket(key.chunkX, key.sectionY, key.chunkZ, blocks));
+        }
+    }
+
+    private record SectionKey(int chunkX, int sectionY, int chunkZ) {
+    }
+
+    private static class SectionUpdate {
+        private final Chunk chunk;
+
+        //packed entries of the multi-block change packet, keyed by position within the section
+        private final Int2LongMap blocks;
+
+        private SectionUpdate(Chunk chunk) {
+            this.chunk = chunk;
+            this.blocks = new Int2LongLinkedOpenHashMap();
+        }
+    }
+}
@@ -31,6 +31,15 @@ public abstract class InstanceScene<TRequest extends SceneJoinRequest> implement
         return uuid;
     }
 
+    /**
+     * Gets the {@link Instance} this scene corresponds to.
+     *
+     * @return the instance of this scene
+     */
+    public @NotNull Instance getInstance() {
+        return instance;
+    }
+
     @Override
     public int getIngamePlayerCount() {
         Wrapper<Integer> count = Wrapper.of(0);
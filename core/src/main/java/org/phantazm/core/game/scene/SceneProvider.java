@@ -6,6 +6,7 @@ import org.phantazm.commons.Tickable;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A provider to create new {@link Scene}s.
@@ -22,6 +23,18 @@ public interface SceneProvider<TScene extends Scene<TRequest>, TRequest extends
      */
     @NotNull Optional<TScene> provideScene(@NotNull TRequest request);
 
+    /**
+     * Provides a {@link Scene}, possibly creating it in the background. The returned future is completed on the tick
+     * thread. The default implementation completes immediately with the result of
+     * {@link #provideScene(SceneJoinRequest)}.
+     *
+     * @param request The request used to provide an appropriate scene
+     * @return A {@link CompletableFuture} of an {@link Optional} of a {@link Scene}
+     */
+    default @NotNull CompletableFuture<Optional<TScene>> provideSceneAsync(@NotNull TRequest request) {
+        return CompletableFuture.completedFuture(provideScene(request));
+    }
+
     /**
      * Gets the {@link Scene}s currently stored by the {@link Scene} provider.
      *
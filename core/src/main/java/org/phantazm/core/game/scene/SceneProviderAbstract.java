@@ -3,41 +3,174 @@ package org.phantazm.core.game.scene;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerProcess;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.phantazm.core.game.scene.event.SceneShutdownEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 
 /**
  * An abstract base for {@link SceneProvider}s.
+ * <p>
+ * If constructed with a creation {@link Executor}, {@link Scene}s requested through
+ * {@link #provideSceneAsync(SceneJoinRequest)} are built off of the tick thread. The provider can additionally keep a
+ * pool of idle, pre-built ("warm") scenes which are handed out immediately and replenished in the background. Warm
+ * scenes are not ticked and are not visible through {@link #getScenes()} until they are activated.
+ * <p>
+ * Asynchronous requests which arrive while a scene is being built wait for that build instead of starting their own.
+ * Once it completes they are offered to {@link #chooseScene(SceneJoinRequest)} again, so concurrent joins end up in
+ * the same new scene whenever it can take them.
+ * <p>
+ * Results of background creation are only ever applied during {@link #tick(long)}, so all state of this class
+ * (including futures returned by {@link #provideSceneAsync(SceneJoinRequest)}) is accessed from the tick thread.
  */
 public abstract class SceneProviderAbstract<TScene extends Scene<TRequest>, TRequest extends SceneJoinRequest>
         implements SceneProvider<TScene, TRequest> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SceneProviderAbstract.class);
+
+    private static final long WARM_RETRY_DELAY = 30000L;
+
+    private record WaitingRequest<TRequest, TScene>(TRequest request,
+            CompletableFuture<Optional<TScene>> result) {
+    }
+
     private final Collection<TScene> scenes = new ArrayList<>();
     private final Collection<TScene> unmodifiableScenes = Collections.unmodifiableCollection(scenes);
     private final int maximumScenes;
 
+    private final Executor creationExecutor;
+    private final int warmSceneCount;
+    private final Deque<TScene> warmScenes = new ArrayDeque<>();
+    private final Queue<Runnable> creationResults = new ConcurrentLinkedQueue<>();
+    private final Deque<WaitingRequest<TRequest, TScene>> waitingRequests = new ArrayDeque<>();
+
+    private int pendingScenes;
+    private int pendingWarmScenes;
+    private long warmRetryTime;
+    private boolean shutdown;
+
     /**
-     * Creates an abstract {@link SceneProvider}.
+     * Creates an abstract {@link SceneProvider} which creates all of its {@link Scene}s synchronously.
      *
      * @param maximumScenes The maximum number of {@link Scene}s in the provider.
      */
     public SceneProviderAbstract(int maximumScenes) {
+        this(maximumScenes, null, 0);
+    }
+
+    /**
+     * Creates an abstract {@link SceneProvider} which may create {@link Scene}s in the background.
+     *
+     * @param maximumScenes    The maximum number of {@link Scene}s in the provider, including warm and pending scenes
+     * @param creationExecutor The {@link Executor} used to create scenes, or {@code null} to create scenes synchronously
+     * @param warmSceneCount   The number of idle scenes to keep ready; must be 0 if creationExecutor is null
+     */
+    public SceneProviderAbstract(int maximumScenes, @Nullable Executor creationExecutor, int warmSceneCount) {
+        if (warmSceneCount < 0) {
+            throw new IllegalArgumentException("warmSceneCount must be non-negative");
+        }
+
+        if (warmSceneCount > 0 && creationExecutor == null) {
+            throw new IllegalArgumentException("warm scenes require a creation executor");
+        }
+
         this.maximumScenes = maximumScenes;
+        this.creationExecutor = creationExecutor;
+        this.warmSceneCount = warmSceneCount;
     }
 
     @Override
     public @NotNull Optional<TScene> provideScene(@NotNull TRequest request) {
-        return Optional.ofNullable(chooseScene(request).orElseGet(() -> {
-            if (scenes.size() >= maximumScenes) {
-                return null;
+        Optional<TScene> readyScene = provideReadyScene(request);
+        if (readyScene.isPresent()) {
+            return readyScene;
+        }
+
+        if (isFull()) {
+            return Optional.empty();
+        }
+
+        TScene newScene = createScene(request);
+        addScene(newScene);
+        return Optional.of(newScene);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Optional<TScene>> provideSceneAsync(@NotNull TRequest request) {
+        Optional<TScene> readyScene = provideReadyScene(request);
+        if (readyScene.isPresent() || creationExecutor == null) {
+            return CompletableFuture.completedFuture(readyScene.isPresent() ? readyScene : provideScene(request));
+        }
+
+        CompletableFuture<Optional<TScene>> result = new CompletableFuture<>();
+        if (pendingScenes > 0) {
+            //a scene which may be able to take this request is still being built, so wait for it instead of building
+            //another one; the request is routed once the build completes
+            waitingRequests.addLast(new WaitingRequest<>(request, result));
+            return result;
+        }
+
+        createSceneAsync(request, result);
+        return result;
+    }
+
+    private void createSceneAsync(TRequest request, CompletableFuture<Optional<TScene>> result) {
+        if (isFull()) {
+            result.complete(Optional.empty());
+            return;
+        }
+
+        pendingScenes++;
+        CompletableFuture.supplyAsync(() -> createScene(request), creationExecutor)
+                .whenComplete((scene, error) -> creationResults.add(() -> {
+                    pendingScenes--;
+                    if (error != null) {
+                        LOGGER.warn("Exception when creating scene", error);
+                        result.complete(Optional.empty());
+                        return;
+                    }
+
+                    if (shutdown) {
+                        scene.shutdown();
+                        result.complete(Optional.empty());
+                        return;
+                    }
+
+                    addScene(scene);
+                    result.complete(Optional.of(scene));
+                }));
+    }
+
+    private void routeWaitingRequests() {
+        Iterator<WaitingRequest<TRequest, TScene>> iterator = waitingRequests.iterator();
+        while (iterator.hasNext()) {
+            WaitingRequest<TRequest, TScene> waitingRequest = iterator.next();
+            if (shutdown) {
+                waitingRequest.result().complete(Optional.empty());
+                iterator.remove();
+                continue;
             }
 
-            TScene newScene = createScene(request);
-            scenes.add(newScene);
+            Optional<TScene> readyScene = provideReadyScene(waitingRequest.request());
+            if (readyScene.isPresent()) {
+                waitingRequest.result().complete(readyScene);
+                iterator.remove();
+            }
+        }
 
-            return newScene;
-        }));
+        //every build has finished without making room for the first waiting request, so build a scene for it; later
+        //requests keep waiting, and may be routed to that scene
+        if (pendingScenes == 0) {
+            WaitingRequest<TRequest, TScene> waitingRequest = waitingRequests.pollFirst();
+            if (waitingRequest != null) {
+                createSceneAsync(waitingRequest.request(), waitingRequest.result());
+            }
+        }
     }
 
     @Override
@@ -45,17 +178,69 @@ public abstract class SceneProviderAbstract<TScene extends Scene<TRequest>, TReq
         return unmodifiableScenes;
     }
 
+    /**
+     * Gets the number of idle scenes which are currently ready to be handed out.
+     *
+     * @return the number of warm scenes
+     */
+    public int getWarmSceneCount() {
+        return warmScenes.size();
+    }
+
     @Override
     public void forceShutdown() {
+        shutdown = true;
+
         for (TScene scene : scenes) {
             scene.shutdown();
         }
 
+        for (TScene scene : warmScenes) {
+            scene.shutdown();
+        }
+
+        for (WaitingRequest<TRequest, TScene> waitingRequest : waitingRequests) {
+            waitingRequest.result().complete(Optional.empty());
+        }
+
         scenes.clear();
+        warmScenes.clear();
+        waitingRequests.clear();
     }
 
     @Override
     public void tick(long time) {
+        prepareTick(time);
+
+        for (TScene scene : scenes) {
+            scene.tick(time);
+        }
+    }
+
+    /**
+     * Does this provider's per-tick work without ticking any of its {@link Scene}s. This applies the results of
+     * background scene creation, replenishes the warm pool, and removes scenes that have been shut down.
+     * {@link #tick(long)} calls this before ticking every scene. Callers which tick the scenes themselves (for example
+     * in parallel) should call this on the tick thread instead of {@link #tick(long)}.
+     *
+     * @param time the current time
+     */
+    public void prepareTick(long time) {
+        Runnable creationResult;
+        boolean created = false;
+        while ((creationResult = creationResults.poll()) != null) {
+            creationResult.run();
+            created = true;
+        }
+
+        if (created) {
+            routeWaitingRequests();
+        }
+
+        if (!shutdown && warmSceneCount > 0 && time >= warmRetryTime) {
+            fillWarmPool(time);
+        }
+
         Iterator<TScene> iterator = scenes.iterator();
 
         while (iterator.hasNext()) {
@@ -70,9 +255,54 @@ public abstract class SceneProviderAbstract<TScene extends Scene<TRequest>, TReq
                     process.eventHandler().call(new SceneShutdownEvent(scene));
                 }
             }
-            else {
-                scene.tick(time);
-            }
+        }
+    }
+
+    private Optional<TScene> provideReadyScene(TRequest request) {
+        Optional<TScene> chosenScene = chooseScene(request);
+        if (chosenScene.isPresent()) {
+            return chosenScene;
+        }
+
+        TScene warmScene = warmScenes.pollFirst();
+        if (warmScene == null) {
+            return Optional.empty();
+        }
+
+        addScene(warmScene);
+        return Optional.of(warmScene);
+    }
+
+    private boolean isFull() {
+        return scenes.size() + warmScenes.size() + pendingScenes >= maximumScenes;
+    }
+
+    private void addScene(TScene scene) {
+        activateScene(scene);
+        scenes.add(scene);
+    }
+
+    private void fillWarmPool(long time) {
+        while (warmScenes.size() + pendingWarmScenes < warmSceneCount && !isFull()) {
+            pendingScenes++;
+            pendingWarmScenes++;
+            CompletableFuture.supplyAsync(this::createWarmScene, creationExecutor)
+                    .whenComplete((scene, error) -> creationResults.add(() -> {
+                        pendingScenes--;
+                        pendingWarmScenes--;
+                        if (error != null) {
+                            LOGGER.warn("Exception when creating warm scene", error);
+                            warmRetryTime = time + WARM_RETRY_DELAY;
+                            return;
+                        }
+
+                        if (shutdown) {
+                            scene.shutdown();
+                            return;
+                        }
+
+                        warmScenes.addLast(scene);
+                    }));
         }
     }
 
@@ -85,13 +315,31 @@ public abstract class SceneProviderAbstract<TScene extends Scene<TRequest>, TReq
     protected abstract @NotNull Optional<TScene> chooseScene(@NotNull TRequest request);
 
     /**
-     * Creates a {@link Scene}.
+     * Creates a {@link Scene}. If this provider has a creation executor, this may be called off of the tick thread.
      *
      * @param request The join request which triggered the creation of the {@link Scene}
      * @return The new {@link Scene}
      */
     protected abstract @NotNull TScene createScene(@NotNull TRequest request);
 
+    /**
+     * Creates an idle {@link Scene} for the warm pool. Called off of the tick thread, and only if this provider was
+     * constructed with a positive warm scene count.
+     *
+     * @return The new {@link Scene}
+     */
+    protected abstract @NotNull TScene createWarmScene();
+
+    /**
+     * Called on the tick thread right before a newly created or warm {@link Scene} starts being ticked and becomes
+     * visible through {@link #getScenes()}. Work which is not safe to do off of the tick thread should happen here.
+     *
+     * @param scene The scene being activated
+     */
+    protected void activateScene(@NotNull TScene scene) {
+
+    }
+
     protected abstract void cleanupScene(@NotNull TScene scene);
 
     @Override
@@ -6,11 +6,24 @@ import org.phantazm.commons.Tickable;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface SceneRouter<TScene extends Scene<?>, TRequest extends SceneJoinRequest> extends Tickable {
 
     @NotNull RouteResult<TScene> findScene(@NotNull TRequest joinRequest);
 
+    /**
+     * Finds a scene, possibly waiting for a new one to be created in the background. The returned future is completed
+     * on the tick thread. The default implementation completes immediately with the result of
+     * {@link #findScene(SceneJoinRequest)}.
+     *
+     * @param joinRequest the request used to find a scene
+     * @return a {@link CompletableFuture} of the {@link RouteResult}
+     */
+    default @NotNull CompletableFuture<RouteResult<TScene>> findSceneAsync(@NotNull TRequest joinRequest) {
+        return CompletableFuture.completedFuture(findScene(joinRequest));
+    }
+
     @NotNull Collection<TScene> getScenes();
 
     @NotNull Optional<TScene> getCurrentScene(@NotNull UUID playerUUID);
@@ -76,6 +76,15 @@ public class BasicLobbyProvider extends LobbyProviderAbstract {
 
     @Override
     protected @NotNull Lobby createScene(@NotNull LobbyJoinRequest request) {
+        return createLobby();
+    }
+
+    @Override
+    protected @NotNull Lobby createWarmScene() {
+        return createLobby();
+    }
+
+    private Lobby createLobby() {
         Instance instance = instanceLoader.loadInstance(lobbyPaths);
         instance.setTime(instanceConfig.time());
         instance.setTimeRate(instanceConfig.timeRate());
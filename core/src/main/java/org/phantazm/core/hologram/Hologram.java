@@ -43,6 +43,33 @@ public interface Hologram extends List<Component> {
 
     void setInstance(@NotNull Instance instance, @NotNull Point location);
 
+    /**
+     * Replaces the lines of this hologram with the given lines. Existing lines are updated in place, and lines whose
+     * {@link Component} is unchanged are left alone, so this is cheaper than clearing the hologram and adding every
+     * line again.
+     *
+     * @param lines the new lines
+     */
+    default void setLines(@NotNull List<? extends Component> lines) {
+        int newSize = lines.size();
+        int oldSize = size();
+        for (int i = 0; i < newSize; i++) {
+            Component line = lines.get(i);
+            if (i >= oldSize) {
+                addAll(lines.subList(i, newSize));
+                break;
+            }
+
+            if (!get(i).equals(line)) {
+                set(i, line);
+            }
+        }
+
+        for (int i = oldSize - 1; i >= newSize; i--) {
+            remove(i);
+        }
+    }
+
     /**
      * Trims internal lists to size.
      */
@@ -0,0 +1,475 @@
+package org.phantazm.core.hologram;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Metadata;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.EventListener;
+import net.minestom.server.event.entity.RemoveEntityFromInstanceEvent;
+import net.minestom.server.event.player.PlayerChunkLoadEvent;
+import net.minestom.server.event.player.PlayerChunkUnloadEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.server.network.packet.server.play.SpawnEntityPacket;
+import net.minestom.server.utils.PacketUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * {@link Hologram} implementation which never creates server-side entities. Each line is a marker armor stand that
+ * only exists on the client: it is given an entity ID of its own, and spawn, metadata, teleport and destroy packets are
+ * sent directly to the players who have the hologram's chunk loaded. Lines do not take part in entity ticking or
+ * tracking.
+ * <p>
+ * Changing a line sends a single metadata packet carrying the new custom name, and nothing at all if the new
+ * {@link Component} is equal to the old one. Players become viewers when they load the hologram's chunk, if they
+ * satisfy the render predicate at that time.
+ * <p>
+ * This object retains a strong reference to its instance while it has lines, and therefore should be cleared before
+ * the instance is discarded.
+ */
+public class PacketHologram extends AbstractList<Component> implements Hologram {
+    private static final double MESSAGE_HEIGHT = 0.25;
+
+    //metadata indices used by marker armor stands
+    private static final int FLAGS_INDEX = 0;
+    private static final int CUSTOM_NAME_INDEX = 2;
+    private static final int CUSTOM_NAME_VISIBLE_INDEX = 3;
+    private static final int NO_GRAVITY_INDEX = 5;
+    private static final int ARMOR_STAND_FLAGS_INDEX = 15;
+
+    private static final byte INVISIBLE_FLAG = 0x20;
+    private static final byte MARKER_FLAG = 0x10;
+
+    private final ArrayList<Line> lines;
+    private final Set<Player> viewers;
+    private final double gap;
+    private final Predicate<? super Player> canRender;
+    private final Object sync;
+
+    private final EventListener<PlayerChunkLoadEvent> chunkLoadListener;
+    private final EventListener<PlayerChunkUnloadEvent> chunkUnloadListener;
+    private final EventListener<RemoveEntityFromInstanceEvent> removeListener;
+
+    private Alignment alignment;
+    private Instance instance;
+    private Instance listeningInstance;
+    private Point location;
+
+    /**
+     * Creates a new instance of this class, whose holograms will be rendered at the given location, using the given
+     * alignment, and only to players who satisfy the given predicate.
+     *
+     * @param location  the location of the instance
+     * @param gap       the distance between separate hologram messages
+     * @param alignment the alignment method
+     * @param canRender the predicate used to determine if this hologram should be visible
+     */
+    public PacketHologram(@NotNull Point location, double gap, @NotNull Alignment alignment,
+            @NotNull Predicate<? super Player> canRender) {
+        this.location = Objects.requireNonNull(location, "location");
+        this.alignment = Objects.requireNonNull(alignment, "alignment");
+        this.canRender = Objects.requireNonNull(canRender, "canRender");
+        this.lines = new ArrayList<>();
+        this.viewers = new HashSet<>();
+        this.gap = gap;
+        this.sync = new Object();
+
+        this.chunkLoadListener = EventListener.of(PlayerChunkLoadEvent.class, this::onChunkLoad);
+        this.chunkUnloadListener = EventListener.of(PlayerChunkUnloadEvent.class, this::onChunkUnload);
+        this.removeListener = EventListener.of(RemoveEntityFromInstanceEvent.class, this::onRemoveFromInstance);
+    }
+
+    /**
+     * Creates a new instance of this class, whose holograms will be rendered at the given location, using the default
+     * alignment {@link Alignment#UPPER}, and only to players who satisfy the given predicate.
+     *
+     * @param location  the location to render holograms
+     * @param gap       the distance between separate hologram messages
+     * @param canRender the predicate used to determine if this hologram should be visible
+     */
+    public PacketHologram(@NotNull Point location, double gap, @NotNull Predicate<? super Player> canRender) {
+        this(location, gap, Alignment.UPPER, canRender);
+    }
+
+    /**
+     * Creates a new instance of this class, whose holograms will be rendered at the given location, using the given
+     * alignment.
+     *
+     * @param location  the location of the instance
+     * @param gap       the distance between separate hologram messages
+     * @param alignment the alignment method
+     */
+    public PacketHologram(@NotNull Point location, double gap, @NotNull Alignment alignment) {
+        this(location, gap, alignment, ignored -> true);
+    }
+
+    /**
+     * Creates a new instance of this class, whose holograms will be rendered at the given location, using the default
+     * alignment {@link Alignment#UPPER}.
+     *
+     * @param location the location to render holograms
+     * @param gap      the distance between separate hologram messages
+     */
+    public PacketHologram(@NotNull Point location, double gap) {
+        this(location, gap, Alignment.UPPER);
+    }
+
+    @Override
+    public void setAlignment(@NotNull Alignment alignment) {
+        Objects.requireNonNull(alignment, "alignment");
+        synchronized (sync) {
+            if (alignment != this.alignment) {
+                this.alignment = alignment;
+                layout();
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Point getLocation() {
+        return location;
+    }
+
+    @Override
+    public void setLocation(@NotNull Point location) {
+        Objects.requireNonNull(location, "location");
+        synchronized (sync) {
+            if (!location.equals(this.location)) {
+                move(instance, location);
+            }
+        }
+    }
+
+    @Override
+    public void setInstance(@NotNull Instance instance) {
+        Objects.requireNonNull(instance, "instance");
+        synchronized (sync) {
+            if (this.instance != instance) {
+                move(instance, location);
+            }
+        }
+    }
+
+    @Override
+    public void setInstance(@NotNull Instance instance, @NotNull Point location) {
+        Objects.requireNonNull(instance, "instance");
+        Objects.requireNonNull(location, "location");
+        synchronized (sync) {
+            if (this.instance != instance || !location.equals(this.location)) {
+                move(instance, location);
+            }
+        }
+    }
+
+    @Override
+    public void trimToSize() {
+        synchronized (sync) {
+            lines.trimToSize();
+        }
+    }
+
+    @Override
+    public @NotNull Component get(int index) {
+        synchronized (sync) {
+            return lines.get(index).component;
+        }
+    }
+
+    @Override
+    public @NotNull Component set(int index, @NotNull Component element) {
+        Objects.requireNonNull(element, "element");
+        synchronized (sync) {
+            Line line = lines.get(index);
+            Component oldComponent = line.component;
+            if (!oldComponent.equals(element)) {
+                line.component = element;
+                sendToViewers(new EntityMetaDataPacket(line.entityId,
+                        Map.of(CUSTOM_NAME_INDEX, Metadata.OptChat(element))));
+            }
+
+            return oldComponent;
+        }
+    }
+
+    @Override
+    public void add(int index, @NotNull Component component) {
+        Objects.requireNonNull(component, "component");
+        synchronized (sync) {
+            Line line = new Line(component);
+            lines.add(index, line);
+            layout();
+            spawnToViewers(List.of(line));
+            addViewers();
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, @NotNull Collection<? extends Component> c) {
+        synchronized (sync) {
+            List<Line> newLines = new ArrayList<>(c.size());
+            for (Component component : c) {
+                newLines.add(new Line(Objects.requireNonNull(component, "component")));
+            }
+
+            boolean changed = lines.addAll(index, newLines);
+            layout();
+            spawnToViewers(newLines);
+            addViewers();
+            return changed;
+        }
+    }
+
+    @Override
+    public boolean addAll(@NotNull Collection<? extends Component> c) {
+        synchronized (sync) {
+            return addAll(lines.size(), c);
+        }
+    }
+
+    @Override
+    public @NotNull Component remove(int index) {
+        synchronized (sync) {
+            Line line = lines.remove(index);
+            sendToViewers(new DestroyEntitiesPacket(line.entityId));
+            if (lines.isEmpty()) {
+                //viewers are no longer tracked without lines to show
+                viewers.clear();
+            }
+
+            layout();
+            updateListeners();
+            return line.component;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (sync) {
+            destroyFor(viewers);
+            viewers.clear();
+            lines.clear();
+            updateListeners();
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (sync) {
+            return lines.size();
+        }
+    }
+
+    private void move(Instance newInstance, Point newLocation) {
+        boolean sameChunk = newLocation.chunkX() == location.chunkX() && newLocation.chunkZ() == location.chunkZ();
+        if (newInstance != instance) {
+            //players in another instance will not see the lines anymore
+            destroyFor(viewers);
+            viewers.clear();
+        }
+
+        instance = newInstance;
+        location = newLocation;
+
+        if (!sameChunk && !viewers.isEmpty()) {
+            //viewers which no longer see the new chunk are removed before teleporting, new ones are added afterwards
+            Set<Player> leaving = new HashSet<>(viewers);
+            leaving.removeAll(findViewers());
+            destroyFor(leaving);
+            viewers.removeAll(leaving);
+        }
+
+        layout();
+        addViewers();
+    }
+
+    private void layout() {
+        int lineCount = lines.size();
+        double totalHeight = gap * (lineCount - 1) + lineCount * MESSAGE_HEIGHT;
+        double topEdgeHeight = location.y() + totalHeight / 2;
+
+        List<ServerPacket> teleports = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            Line line = lines.get(i);
+            Pos pos = new Pos(location.x(), topEdgeHeight - (i * (gap + MESSAGE_HEIGHT)), location.z());
+            switch (alignment) {
+                case CENTERED -> pos = pos.add(0, totalHeight / 2, 0);
+                case LOWER -> pos = pos.add(0, totalHeight, 0);
+            }
+
+            Pos oldPos = line.position;
+            line.position = pos;
+            if (oldPos != null && !oldPos.samePoint(pos)) {
+                teleports.add(new EntityTeleportPacket(line.entityId, pos, false));
+            }
+        }
+
+        if (!teleports.isEmpty()) {
+            for (Player viewer : viewers) {
+                viewer.sendPackets(teleports);
+            }
+        }
+    }
+
+    private void addViewers() {
+        List<ServerPacket> spawnPackets = null;
+        for (Player player : findViewers()) {
+            if (viewers.add(player)) {
+                if (spawnPackets == null) {
+                    spawnPackets = spawnPackets(lines);
+                }
+
+                player.sendPackets(spawnPackets);
+            }
+        }
+
+        updateListeners();
+    }
+
+    private Set<Player> findViewers() {
+        Instance instance = this.instance;
+        if (instance == null || lines.isEmpty()) {
+            return Set.of();
+        }
+
+        Chunk chunk = instance.getChunk(location.chunkX(), location.chunkZ());
+        if (chunk == null) {
+            return Set.of();
+        }
+
+        Set<Player> newViewers = new HashSet<>();
+        for (Player player : chunk.getViewers()) {
+            if (canRender.test(player)) {
+                newViewers.add(player);
+            }
+        }
+
+        return newViewers;
+    }
+
+    private void updateListeners() {
+        Instance target = lines.isEmpty() ? null : instance;
+        if (target == listeningInstance) {
+            return;
+        }
+
+        if (listeningInstance != null) {
+            listeningInstance.eventNode().removeListener(chunkLoadListener);
+            listeningInstance.eventNode().removeListener(chunkUnloadListener);
+            listeningInstance.eventNode().removeListener(removeListener);
+        }
+
+        if (target != null) {
+            target.eventNode().addListener(chunkLoadListener);
+            target.eventNode().addListener(chunkUnloadListener);
+            target.eventNode().addListener(removeListener);
+        }
+
+        listeningInstance = target;
+    }
+
+    private void onChunkLoad(PlayerChunkLoadEvent event) {
+        synchronized (sync) {
+            Player player = event.getPlayer();
+            if (event.getInstance() != instance || !isHologramChunk(event.getChunkX(), event.getChunkZ()) ||
+                    lines.isEmpty() || !canRender.test(player)) {
+                return;
+            }
+
+            if (viewers.add(player)) {
+                player.sendPackets(spawnPackets(lines));
+            }
+        }
+    }
+
+    private void onChunkUnload(PlayerChunkUnloadEvent event) {
+        synchronized (sync) {
+            if (isHologramChunk(event.getChunkX(), event.getChunkZ()) && viewers.remove(event.getPlayer())) {
+                destroyFor(List.of(event.getPlayer()));
+            }
+        }
+    }
+
+    private void onRemoveFromInstance(RemoveEntityFromInstanceEvent event) {
+        if (!(event.getEntity() instanceof Player player)) {
+            return;
+        }
+
+        synchronized (sync) {
+            if (viewers.remove(player)) {
+                destroyFor(List.of(player));
+            }
+        }
+    }
+
+    private boolean isHologramChunk(int chunkX, int chunkZ) {
+        return location.chunkX() == chunkX && location.chunkZ() == chunkZ;
+    }
+
+    private void spawnToViewers(List<Line> newLines) {
+        if (viewers.isEmpty() || newLines.isEmpty()) {
+            return;
+        }
+
+        List<ServerPacket> spawnPackets = spawnPackets(newLines);
+        for (Player viewer : viewers) {
+            viewer.sendPackets(spawnPackets);
+        }
+    }
+
+    private void destroyFor(Collection<Player> players) {
+        if (players.isEmpty() || lines.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            ids.add(line.entityId);
+        }
+
+        PacketUtils.sendGroupedPacket(players, new DestroyEntitiesPacket(ids));
+    }
+
+    private void sendToViewers(ServerPacket packet) {
+        if (!viewers.isEmpty()) {
+            PacketUtils.sendGroupedPacket(viewers, packet);
+        }
+    }
+
+    private static List<ServerPacket> spawnPackets(List<Line> lines) {
+        List<ServerPacket> packets = new ArrayList<>(lines.size() * 2);
+        for (Line line : lines) {
+            packets.add(new SpawnEntityPacket(line.entityId, line.uuid, EntityType.ARMOR_STAND.id(), line.position, 0F,
+                    0, (short)0, (short)0, (short)0));
+            packets.add(new EntityMetaDataPacket(line.entityId,
+                    Map.of(FLAGS_INDEX, Metadata.Byte(INVISIBLE_FLAG), CUSTOM_NAME_INDEX,
+                            Metadata.OptChat(line.component), CUSTOM_NAME_VISIBLE_INDEX, Metadata.Boolean(true),
+                            NO_GRAVITY_INDEX, Metadata.Boolean(true), ARMOR_STAND_FLAGS_INDEX,
+                            Metadata.Byte(MARKER_FLAG))));
+        }
+
+        return packets;
+    }
+
+    private static final class Line {
+        private final int entityId;
+        private final UUID uuid;
+        private Component component;
+        private Pos position;
+
+        private Line(Component component) {
+            this.entityId = Entity.generateId();
+            this.uuid = UUID.randomUUID();
+            this.component = component;
+        }
+    }
+}
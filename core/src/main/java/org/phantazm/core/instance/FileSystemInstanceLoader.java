@@ -48,6 +48,13 @@ public abstract class FileSystemInstanceLoader implements InstanceLoader {
     // TODO: what if there are distinct spawnPos invocations?
     @Override
     public @NotNull Instance loadInstance(@UnmodifiableView @NotNull List<String> subPaths) {
+        Instance instance = copyInstance(subPaths);
+        registerInstance(instance);
+        return instance;
+    }
+
+    @Override
+    public @NotNull Instance copyInstance(@UnmodifiableView @NotNull List<String> subPaths) {
         Path path = rootPath;
         for (String subPath : subPaths) {
             path = path.resolve(subPath);
@@ -60,11 +67,14 @@ public abstract class FileSystemInstanceLoader implements InstanceLoader {
 
         InstanceContainer container = source.copy();
         container.setChunkSupplier(chunkSupplier);
-        instanceManager.registerInstance(container);
-
         return container;
     }
 
+    @Override
+    public void registerInstance(@NotNull Instance instance) {
+        instanceManager.registerInstance(instance);
+    }
+
     @Override
     public void preload(@UnmodifiableView @NotNull List<String> subPaths, @NotNull Point spawnPoint,
             int chunkViewDistance) {
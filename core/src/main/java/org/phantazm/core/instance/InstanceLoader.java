@@ -20,6 +20,23 @@ public interface InstanceLoader {
      */
     @NotNull Instance loadInstance(@UnmodifiableView @NotNull List<String> subPaths);
 
+    /**
+     * Copies an {@link Instance} without registering it. Unlike {@link InstanceLoader#loadInstance(List)}, this does
+     * not touch any server-wide state, so it may be called off of the tick thread. The returned {@link Instance} must
+     * be passed to {@link InstanceLoader#registerInstance(Instance)} on the tick thread before it is used.
+     *
+     * @param subPaths Paths used to identify the {@link Instance}
+     * @return A new, unregistered {@link Instance}
+     */
+    @NotNull Instance copyInstance(@UnmodifiableView @NotNull List<String> subPaths);
+
+    /**
+     * Registers an {@link Instance} previously returned by {@link InstanceLoader#copyInstance(List)}.
+     *
+     * @param instance The {@link Instance} to register
+     */
+    void registerInstance(@NotNull Instance instance);
+
     void preload(@UnmodifiableView @NotNull List<String> subPaths, @NotNull Point spawnPos, int chunkViewDistance);
 
 }
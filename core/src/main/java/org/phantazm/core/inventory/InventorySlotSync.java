@@ -0,0 +1,140 @@
+package org.phantazm.core.inventory;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.inventory.PlayerInventory;
+import net.minestom.server.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects slot changes for a single player's inventory over the course of a tick, and applies them all at once in
+ * {@link #flush(Player)}. Slots whose staged {@link ItemStack} is equal to the one the player already holds are
+ * skipped entirely, so no slot packet is sent for them.
+ * <p>
+ * This class is not thread-safe. It is intended to be staged into and flushed from the same tick thread.
+ */
+public class InventorySlotSync {
+    private static final LongAdder TOTAL_SENT = new LongAdder();
+    private static final LongAdder TOTAL_AVOIDED = new LongAdder();
+
+    private ItemStack[] pending;
+    private int pendingCount;
+
+    private long sent;
+    private long avoided;
+
+    /**
+     * Creates a new instance of this class.
+     *
+     * @param initialSlots the number of slots to initially reserve space for
+     */
+    public InventorySlotSync(int initialSlots) {
+        this.pending = new ItemStack[Math.max(1, initialSlots)];
+    }
+
+    /**
+     * Stages an {@link ItemStack} to be written to the given slot on the next call to {@link #flush(Player)}. If the
+     * slot was already staged during this tick, the older stack is replaced.
+     *
+     * @param slot  the slot index
+     * @param stack the new stack
+     */
+    public void stage(int slot, @NotNull ItemStack stack) {
+        Objects.requireNonNull(stack, "stack");
+        if (slot >= pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(slot + 1, pending.length << 1));
+        }
+
+        if (pending[slot] == null) {
+            pendingCount++;
+        }
+
+        pending[slot] = stack;
+    }
+
+    /**
+     * Writes every staged slot to the player's inventory, skipping slots whose contents would not change. Clears all
+     * staged slots afterwards.
+     *
+     * @param player the player whose inventory should be updated
+     */
+    public void flush(@NotNull Player player) {
+        if (pendingCount == 0) {
+            return;
+        }
+
+        PlayerInventory inventory = player.getInventory();
+        int inventorySize = inventory.getSize();
+        for (int slot = 0; slot < pending.length && pendingCount > 0; slot++) {
+            ItemStack stack = pending[slot];
+            if (stack == null) {
+                continue;
+            }
+
+            pending[slot] = null;
+            pendingCount--;
+
+            if (slot >= inventorySize) {
+                continue;
+            }
+
+            ItemStack current = inventory.getItemStack(slot);
+            if (current == stack || current.equals(stack)) {
+                avoided++;
+                TOTAL_AVOIDED.increment();
+                continue;
+            }
+
+            inventory.setItemStack(slot, stack);
+            sent++;
+            TOTAL_SENT.increment();
+        }
+    }
+
+    /**
+     * Discards all staged slots without applying them.
+     */
+    public void clear() {
+        Arrays.fill(pending, null);
+        pendingCount = 0;
+    }
+
+    /**
+     * Gets the number of slot updates this instance actually sent to its player.
+     *
+     * @return the number of slot updates sent
+     */
+    public long sentCount() {
+        return sent;
+    }
+
+    /**
+     * Gets the number of slot updates this instance skipped because the player already held an equal stack.
+     *
+     * @return the number of slot updates avoided
+     */
+    public long avoidedCount() {
+        return avoided;
+    }
+
+    /**
+     * Gets the number of slot updates sent across every instance of this class.
+     *
+     * @return the global number of slot updates sent
+     */
+    public static long totalSentCount() {
+        return TOTAL_SENT.sum();
+    }
+
+    /**
+     * Gets the number of slot updates avoided across every instance of this class.
+     *
+     * @return the global number of slot updates avoided
+     */
+    public static long totalAvoidedCount() {
+        return TOTAL_AVOIDED.sum();
+    }
+}
@@ -10,6 +10,22 @@ import java.util.Optional;
 import java.util.function.Consumer;
 
 public interface BoundedTracker<T extends Bounded> {
+    /**
+     * The spatial index used by a {@link BoundedTracker}.
+     */
+    enum Index {
+        /**
+         * Items are bucketed into full-height 16x16 chunk columns. Cheap to build; suitable for small collections.
+         */
+        CHUNK,
+
+        /**
+         * Items are bucketed into 16x16x16 cells whose bounds are stored as flat primitive arrays. More expensive to
+         * build, but lookups are considerably faster, especially for maps with many vertically stacked regions.
+         */
+        CELL
+    }
+
     @NotNull Optional<T> closestInRangeToBounds(@NotNull Point origin, double width, double height, double depth,
             double distance);
 
@@ -31,6 +47,14 @@ public interface BoundedTracker<T extends Bounded> {
     @NotNull @Unmodifiable List<T> items();
 
     static <T extends Bounded> @NotNull BoundedTracker<T> tracker(@NotNull Collection<T> collection) {
-        return new BoundedTrackerImpl<>(collection);
+        return tracker(collection, Index.CHUNK);
+    }
+
+    static <T extends Bounded> @NotNull BoundedTracker<T> tracker(@NotNull Collection<T> collection,
+            @NotNull Index index) {
+        return switch (index) {
+            case CHUNK -> new BoundedTrackerImpl<>(collection);
+            case CELL -> new CellBoundedTrackerImpl<>(collection);
+        };
     }
 }
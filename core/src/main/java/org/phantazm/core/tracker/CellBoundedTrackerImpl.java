@@ -0,0 +1,340 @@
+package org.phantazm.core.tracker;
+
+import com.github.steanky.vector.Bounds3I;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.phantazm.commons.MathUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link BoundedTracker} implementation that indexes items into 16³ cells (rather than full-height chunk columns).
+ * Each cell stores the bounds of every item that intersects it as a flat {@code int[]}, so lookups do not need to go
+ * through {@link Bounds3I} at all. Range queries skip cells that cannot contain anything closer than the best match
+ * found so far. Item centers are indexed separately, by the cell that contains them, so that center-based queries walk
+ * the same cells and visit every item at most once.
+ */
+@SuppressWarnings("unchecked")
+class CellBoundedTrackerImpl<T extends Bounded> implements BoundedTracker<T> {
+    private static final int BOX_SIZE = 6;
+
+    private final List<T> items;
+    private final Long2ObjectMap<Cell> cells;
+    private final double[] centers;
+    private final Long2ObjectMap<int[]> centerCells;
+
+    private record Cell(Object[] items, int[] boxes, int[] owners) {
+    }
+
+    CellBoundedTrackerImpl(@NotNull Collection<T> items) {
+        this.items = List.copyOf(items);
+        this.cells = buildCells(this.items);
+        this.centers = buildCenters(this.items);
+        this.centerCells = buildCenterCells(this.centers);
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((long)(cx & 0x3FFFFF) << 42) | ((long)(cy & 0xFFFFF) << 22) | (cz & 0x3FFFFF);
+    }
+
+    private static double[] buildCenters(List<? extends Bounded> items) {
+        double[] centers = new double[items.size() * 3];
+        for (int i = 0; i < items.size(); i++) {
+            Point center = items.get(i).center();
+            centers[i * 3] = center.x();
+            centers[i * 3 + 1] = center.y();
+            centers[i * 3 + 2] = center.z();
+        }
+
+        return centers;
+    }
+
+    private static Long2ObjectMap<int[]> buildCenterCells(double[] centers) {
+        Long2ObjectOpenHashMap<IntArrayList> builders = new Long2ObjectOpenHashMap<>();
+        for (int i = 0, j = 0; i < centers.length; i += 3, j++) {
+            long key = cellKey((int)Math.floor(centers[i]) >> 4, (int)Math.floor(centers[i + 1]) >> 4,
+                    (int)Math.floor(centers[i + 2]) >> 4);
+            builders.computeIfAbsent(key, ignored -> new IntArrayList(4)).add(j);
+        }
+
+        Long2ObjectOpenHashMap<int[]> centerCells = new Long2ObjectOpenHashMap<>(builders.size());
+        for (Long2ObjectMap.Entry<IntArrayList> entry : builders.long2ObjectEntrySet()) {
+            centerCells.put(entry.getLongKey(), entry.getValue().toIntArray());
+        }
+
+        centerCells.trim();
+        return centerCells;
+    }
+
+    private static <T extends Bounded> Long2ObjectMap<Cell> buildCells(List<T> items) {
+        Long2ObjectOpenHashMap<CellBuilder> builders = new Long2ObjectOpenHashMap<>();
+
+        for (T item : items) {
+            for (Bounds3I bounds : item.bounds()) {
+                int startX = bounds.originX() >> 4;
+                int startY = bounds.originY() >> 4;
+                int startZ = bounds.originZ() >> 4;
+
+                int endX = Math.max(bounds.originX(), bounds.maxX() - 1) >> 4;
+                int endY = Math.max(bounds.originY(), bounds.maxY() - 1) >> 4;
+                int endZ = Math.max(bounds.originZ(), bounds.maxZ() - 1) >> 4;
+
+                for (int cx = startX; cx <= endX; cx++) {
+                    for (int cy = startY; cy <= endY; cy++) {
+                        for (int cz = startZ; cz <= endZ; cz++) {
+                            builders.computeIfAbsent(cellKey(cx, cy, cz), ignored -> new CellBuilder())
+                                    .add(item, bounds);
+                        }
+                    }
+                }
+            }
+        }
+
+        Long2ObjectOpenHashMap<Cell> cells = new Long2ObjectOpenHashMap<>(builders.size());
+        for (Long2ObjectMap.Entry<CellBuilder> entry : builders.long2ObjectEntrySet()) {
+            cells.put(entry.getLongKey(), entry.getValue().build());
+        }
+
+        cells.trim();
+        return cells;
+    }
+
+    private static final class CellBuilder {
+        private final Reference2IntMap<Object> itemIndices = new Reference2IntOpenHashMap<>(4);
+        private final List<Object> items = new ArrayList<>(4);
+        private final IntArrayList boxes = new IntArrayList(BOX_SIZE * 4);
+        private final IntArrayList owners = new IntArrayList(4);
+
+        private CellBuilder() {
+            itemIndices.defaultReturnValue(-1);
+        }
+
+        private void add(Object item, Bounds3I bounds) {
+            int index = itemIndices.getInt(item);
+            if (index == -1) {
+                index = items.size();
+                items.add(item);
+                itemIndices.put(item, index);
+            }
+
+            boxes.add(bounds.originX());
+            boxes.add(bounds.originY());
+            boxes.add(bounds.originZ());
+            boxes.add(bounds.maxX());
+            boxes.add(bounds.maxY());
+            boxes.add(bounds.maxZ());
+            owners.add(index);
+        }
+
+        private Cell build() {
+            return new Cell(items.toArray(), boxes.toIntArray(), owners.toIntArray());
+        }
+    }
+
+    private static double axisDistance(double value, double min, double max) {
+        if (value < min) {
+            return min - value;
+        }
+
+        if (value > max) {
+            return value - max;
+        }
+
+        return 0;
+    }
+
+    @Override
+    public @NotNull Optional<T> closestInRangeToBounds(@NotNull Point origin, double width, double height, double depth,
+            double distance) {
+        double ox = origin.x();
+        double oy = origin.y();
+        double oz = origin.z();
+
+        double halfWidth = width / 2;
+        double halfDepth = depth / 2;
+
+        double agentMinX = ox - halfWidth;
+        double agentMaxX = ox + halfWidth;
+        double agentMinY = oy;
+        double agentMaxY = oy + height;
+        double agentMinZ = oz - halfDepth;
+        double agentMaxZ = oz + halfDepth;
+
+        int startX = (int)Math.floor(agentMinX - distance) >> 4;
+        int startY = (int)Math.floor(agentMinY - distance) >> 4;
+        int startZ = (int)Math.floor(agentMinZ - distance) >> 4;
+
+        int endX = (int)Math.floor(agentMaxX + distance - Vec.EPSILON) >> 4;
+        int endY = (int)Math.floor(agentMaxY + distance - Vec.EPSILON) >> 4;
+        int endZ = (int)Math.floor(agentMaxZ + distance - Vec.EPSILON) >> 4;
+
+        Object closest = null;
+        double limit = distance * distance;
+
+        for (int cx = startX; cx <= endX; cx++) {
+            double dx = axisDistance(cx << 4, agentMinX - 16, agentMaxX);
+            double dxSquared = dx * dx;
+            if (dxSquared >= limit) {
+                continue;
+            }
+
+            for (int cy = startY; cy <= endY; cy++) {
+                double dy = axisDistance(cy << 4, agentMinY - 16, agentMaxY);
+                double dxySquared = dxSquared + dy * dy;
+                if (dxySquared >= limit) {
+                    continue;
+                }
+
+                for (int cz = startZ; cz <= endZ; cz++) {
+                    double dz = axisDistance(cz << 4, agentMinZ - 16, agentMaxZ);
+                    if (dxySquared + dz * dz >= limit) {
+                        continue;
+                    }
+
+                    Cell cell = cells.get(cellKey(cx, cy, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    int[] boxes = cell.boxes;
+                    for (int i = 0, j = 0; i < boxes.length; i += BOX_SIZE, j++) {
+                        double boundX = MathUtils.clamp(ox, boxes[i], boxes[i + 3]);
+                        double agentX = MathUtils.clamp(boundX, agentMinX, agentMaxX);
+                        double diffX = boundX - agentX;
+                        double thisDistance = diffX * diffX;
+                        if (thisDistance >= limit) {
+                            continue;
+                        }
+
+                        double boundY = MathUtils.clamp(oy, boxes[i + 1], boxes[i + 4]);
+                        double agentY = MathUtils.clamp(boundY, agentMinY, agentMaxY);
+                        double diffY = boundY - agentY;
+                        thisDistance += diffY * diffY;
+                        if (thisDistance >= limit) {
+                            continue;
+                        }
+
+                        double boundZ = MathUtils.clamp(oz, boxes[i + 2], boxes[i + 5]);
+                        double agentZ = MathUtils.clamp(boundZ, agentMinZ, agentMaxZ);
+                        double diffZ = boundZ - agentZ;
+                        thisDistance += diffZ * diffZ;
+                        if (thisDistance < limit) {
+                            closest = cell.items[cell.owners[j]];
+                            limit = thisDistance;
+                        }
+                    }
+                }
+            }
+        }
+
+        return Optional.ofNullable((T)closest);
+    }
+
+    @Override
+    public @NotNull Optional<T> closestInRangeToBounds(@NotNull Point origin, double distance) {
+        return closestInRangeToBounds(origin, 0, 0, 0, distance);
+    }
+
+    @Override
+    public void forEachInRangeToCenter(@NotNull Point origin, double distance, @NotNull Consumer<? super T> consumer) {
+        double ox = origin.x();
+        double oy = origin.y();
+        double oz = origin.z();
+        double limit = distance * distance;
+
+        int startX = (int)Math.floor(ox - distance) >> 4;
+        int startY = (int)Math.floor(oy - distance) >> 4;
+        int startZ = (int)Math.floor(oz - distance) >> 4;
+
+        int endX = (int)Math.floor(ox + distance) >> 4;
+        int endY = (int)Math.floor(oy + distance) >> 4;
+        int endZ = (int)Math.floor(oz + distance) >> 4;
+
+        //for very large ranges, visiting the occupied cells is cheaper than walking every cell in range
+        double cellCount = (double)(endX - startX + 1) * (endY - startY + 1) * (endZ - startZ + 1);
+        if (cellCount > centerCells.size()) {
+            for (int[] indices : centerCells.values()) {
+                acceptInRange(indices, ox, oy, oz, limit, consumer);
+            }
+
+            return;
+        }
+
+        for (int cx = startX; cx <= endX; cx++) {
+            double dx = axisDistance(ox, cx << 4, (cx << 4) + 16);
+            double dxSquared = dx * dx;
+            if (dxSquared > limit) {
+                continue;
+            }
+
+            for (int cy = startY; cy <= endY; cy++) {
+                double dy = axisDistance(oy, cy << 4, (cy << 4) + 16);
+                double dxySquared = dxSquared + dy * dy;
+                if (dxySquared > limit) {
+                    continue;
+                }
+
+                for (int cz = startZ; cz <= endZ; cz++) {
+                    double dz = axisDistance(oz, cz << 4, (cz << 4) + 16);
+                    if (dxySquared + dz * dz > limit) {
+                        continue;
+                    }
+
+                    int[] indices = centerCells.get(cellKey(cx, cy, cz));
+                    if (indices != null) {
+                        acceptInRange(indices, ox, oy, oz, limit, consumer);
+                    }
+                }
+            }
+        }
+    }
+
+    private void acceptInRange(int[] indices, double ox, double oy, double oz, double limit,
+            Consumer<? super T> consumer) {
+        double[] centers = this.centers;
+        for (int index : indices) {
+            int i = index * 3;
+            double dx = centers[i] - ox;
+            double dy = centers[i + 1] - oy;
+            double dz = centers[i + 2] - oz;
+
+            if (dx * dx + dy * dy + dz * dz <= limit) {
+                consumer.accept(items.get(index));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Optional<T> atPoint(int x, int y, int z) {
+        Cell cell = cells.get(cellKey(x >> 4, y >> 4, z >> 4));
+        if (cell == null) {
+            return Optional.empty();
+        }
+
+        int[] boxes = cell.boxes;
+        for (int i = 0, j = 0; i < boxes.length; i += BOX_SIZE, j++) {
+            if (x >= boxes[i] && y >= boxes[i + 1] && z >= boxes[i + 2] && x < boxes[i + 3] && y < boxes[i + 4] &&
+                    z < boxes[i + 5]) {
+                return Optional.of((T)cell.items[cell.owners[j]]);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public @NotNull @Unmodifiable List<T> items() {
+        return items;
+    }
+}
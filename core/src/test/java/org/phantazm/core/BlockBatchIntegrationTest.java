@@ -0,0 +1,155 @@
+package org.phantazm.core;
+
+import com.github.steanky.vector.Bounds3I;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.instance.BlockChangeEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.testing.Collector;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.testing.TestConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class BlockBatchIntegrationTest {
+    private static Instance instance(Env env) {
+        Instance instance = env.createFlatInstance();
+        for (int chunkX = -1; chunkX <= 4; chunkX++) {
+            instance.loadChunk(chunkX, 0).join();
+        }
+
+        return instance;
+    }
+
+    private static boolean hasRegion(List<Bounds3I> regions, int x, int y, int z, int lx, int ly, int lz) {
+        for (Bounds3I region : regions) {
+            if (region.originX() == x && region.originY() == y && region.originZ() == z && region.lengthX() == lx &&
+                    region.lengthY() == ly && region.lengthZ() == lz) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<BlockBatchEvent> trackBatches(Instance instance) {
+        List<BlockBatchEvent> events = new ArrayList<>();
+        instance.eventNode().addListener(BlockBatchEvent.class, events::add);
+        return events;
+    }
+
+    @Test
+    public void testChangesAreApplied(Env env) {
+        Instance instance = instance(env);
+        BlockBatch batch = new BlockBatch(instance);
+
+        batch.fill(Bounds3I.immutable(0, 50, 0, 2, 2, 2), Block.GOLD_BLOCK);
+        assertFalse(batch.isEmpty());
+        batch.apply();
+
+        assertTrue(batch.isEmpty());
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(1, 51, 1));
+    }
+
+    @Test
+    public void testLastChangeToPositionWins(Env env) {
+        Instance instance = instance(env);
+        BlockBatch batch = new BlockBatch(instance);
+
+        batch.setBlock(1, 50, 1, Block.STONE).setBlock(1, 50, 1, Block.GOLD_BLOCK);
+        batch.apply();
+
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(1, 50, 1));
+    }
+
+    @Test
+    public void testNoBlockChangeEvents(Env env) {
+        Instance instance = instance(env);
+        List<BlockChangeEvent> changes = new ArrayList<>();
+        instance.eventNode().addListener(BlockChangeEvent.class, changes::add);
+        List<BlockBatchEvent> batches = trackBatches(instance);
+
+        new BlockBatch(instance).fill(Bounds3I.immutable(0, 50, 0, 4, 1, 1), Block.STONE).apply();
+
+        assertTrue(changes.isEmpty());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testPacketsPerSection(Env env) {
+        Instance instance = instance(env);
+        TestConnection connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        Collector<MultiBlockChangePacket> multiChanges = connection.trackIncoming(MultiBlockChangePacket.class);
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+
+        //two blocks in one section, one block in another
+        new BlockBatch(instance).setBlock(1, 50, 1, Block.STONE).setBlock(2, 50, 1, Block.STONE)
+                .setBlock(1, 70, 1, Block.STONE).apply();
+
+        multiChanges.assertSingle(packet -> assertEquals(2, packet.blocks().length));
+        changes.assertSingle(packet -> assertEquals(Block.STONE.stateId(), packet.blockStateId()));
+    }
+
+    @Test
+    public void testDuplicatePositionSendsSingleBlockChange(Env env) {
+        Instance instance = instance(env);
+        TestConnection connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        Collector<MultiBlockChangePacket> multiChanges = connection.trackIncoming(MultiBlockChangePacket.class);
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+
+        new BlockBatch(instance).setBlock(1, 50, 1, Block.STONE).setBlock(1, 50, 1, Block.GOLD_BLOCK).apply();
+
+        changes.assertSingle(packet -> assertEquals(Block.GOLD_BLOCK.stateId(), packet.blockStateId()));
+        multiChanges.assertEmpty();
+    }
+
+    @Test
+    public void testRegionsAreReportedPerSection(Env env) {
+        Instance instance = instance(env);
+        List<BlockBatchEvent> batches = trackBatches(instance);
+
+        //two distant changes; nothing in between them may be reported as changed
+        new BlockBatch(instance).fill(Bounds3I.immutable(1, 50, 1, 2, 1, 1), Block.STONE)
+                .fill(Bounds3I.immutable(60, 50, 1, 1, 2, 1), Block.STONE).apply();
+
+        assertEquals(1, batches.size());
+        BlockBatchEvent event = batches.get(0);
+        assertEquals(2, event.getChunks().size());
+        assertEquals(2, event.getRegions().size());
+        assertTrue(hasRegion(event.getRegions(), 1, 50, 1, 2, 1, 1));
+        assertTrue(hasRegion(event.getRegions(), 60, 50, 1, 1, 2, 1));
+    }
+
+    @Test
+    public void testRegionsAreSplitAtSectionBoundaries(Env env) {
+        Instance instance = instance(env);
+        List<BlockBatchEvent> batches = trackBatches(instance);
+
+        new BlockBatch(instance).fill(Bounds3I.immutable(1, 46, 1, 1, 4, 1), Block.STONE).apply();
+
+        List<Bounds3I> regions = batches.get(0).getRegions();
+        assertEquals(2, regions.size());
+        assertTrue(hasRegion(regions, 1, 46, 1, 1, 2, 1));
+        assertTrue(hasRegion(regions, 1, 48, 1, 1, 2, 1));
+    }
+
+    @Test
+    public void testUnloadedChunksAreSkipped(Env env) {
+        Instance instance = instance(env);
+        List<BlockBatchEvent> batches = trackBatches(instance);
+
+        new BlockBatch(instance).setBlock(1000, 50, 1000, Block.STONE).apply();
+
+        assertTrue(batches.isEmpty());
+    }
+}
@@ -0,0 +1,167 @@
+package org.phantazm.core;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.testing.Collector;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.testing.TestConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceClientBlockHandlerIntegrationTest {
+    private static final List<Vec> SECTION_BLOCKS = List.of(new Vec(1, 50, 1), new Vec(2, 50, 1), new Vec(3, 50, 1));
+    private static final List<Vec> CHUNK_BLOCKS = List.of(new Vec(1, 50, 1), new Vec(17, 50, 1));
+
+    private static InstanceClientBlockHandler handler(Instance instance) {
+        return new InstanceClientBlockHandler(instance, instance.getDimensionType().getMinY(),
+                instance.getDimensionType().getHeight());
+    }
+
+    private static Instance connectedInstance(Env env, TestConnection connection) {
+        Instance instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(1, 0).join();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        return instance;
+    }
+
+    @Test
+    public void testSetClientBlocksSendsOnePacketPerSection(Env env) {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        InstanceClientBlockHandler handler = handler(instance);
+        Collector<MultiBlockChangePacket> multiChanges = connection.trackIncoming(MultiBlockChangePacket.class);
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+
+        handler.setClientBlocks(Block.BARRIER, SECTION_BLOCKS);
+
+        multiChanges.assertSingle(packet -> assertEquals(SECTION_BLOCKS.size(), packet.blocks().length));
+        changes.assertEmpty();
+    }
+
+    @Test
+    public void testSingleClientBlockSendsBlockChange(Env env) {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        InstanceClientBlockHandler handler = handler(instance);
+        Collector<MultiBlockChangePacket> multiChanges = connection.trackIncoming(MultiBlockChangePacket.class);
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+
+        handler.setClientBlock(Block.BARRIER, 1, 50, 1);
+
+        changes.assertSingle(packet -> assertEquals(Block.BARRIER.stateId(), packet.blockStateId()));
+        multiChanges.assertEmpty();
+    }
+
+    @Test
+    public void testRemoveClientBlocksRevealsServerBlocks(Env env) {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        for (Vec position : SECTION_BLOCKS) {
+            instance.setBlock(position, Block.GOLD_BLOCK);
+        }
+
+        InstanceClientBlockHandler handler = handler(instance);
+        handler.setClientBlocks(Block.BARRIER, SECTION_BLOCKS);
+        Collector<MultiBlockChangePacket> multiChanges = connection.trackIncoming(MultiBlockChangePacket.class);
+
+        handler.removeClientBlocks(SECTION_BLOCKS);
+
+        multiChanges.assertSingle(packet -> {
+            assertEquals(SECTION_BLOCKS.size(), packet.blocks().length);
+            for (long block : packet.blocks()) {
+                assertEquals(Block.GOLD_BLOCK.stateId(), block >>> 12);
+            }
+        });
+    }
+
+    @Test
+    public void testRemoveUnknownClientBlocksSendsNothing(Env env) {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        InstanceClientBlockHandler handler = handler(instance);
+        Collector<MultiBlockChangePacket> multiChanges = connection.trackIncoming(MultiBlockChangePacket.class);
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+
+        handler.removeClientBlocks(SECTION_BLOCKS);
+
+        multiChanges.assertEmpty();
+        changes.assertEmpty();
+    }
+
+    @Test
+    public void testClearClientBlocksRevealsEveryChunk(Env env) {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        InstanceClientBlockHandler handler = handler(instance);
+        handler.setClientBlocks(Block.BARRIER, CHUNK_BLOCKS);
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+
+        handler.clearClientBlocks();
+
+        //one block in each of two chunks
+        changes.assertCount(CHUNK_BLOCKS.size());
+
+        Collector<BlockChangePacket> secondClear = connection.trackIncoming(BlockChangePacket.class);
+        handler.clearClientBlocks();
+        secondClear.assertEmpty();
+    }
+
+    @Test
+    public void testRemoveWaitsForServerChunkLock(Env env) throws Exception {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        InstanceClientBlockHandler handler = handler(instance);
+        handler.setClientBlocks(Block.BARRIER, SECTION_BLOCKS);
+
+        Chunk chunk = instance.getChunk(0, 0);
+        assertNotNull(chunk);
+
+        CompletableFuture<Void> removal;
+        synchronized (chunk) {
+            removal = CompletableFuture.runAsync(() -> handler.removeClientBlocks(SECTION_BLOCKS));
+            Thread.sleep(100);
+            assertFalse(removal.isDone());
+        }
+
+        removal.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testConcurrentChangesToDistinctChunks(Env env) throws Exception {
+        TestConnection connection = env.createConnection();
+        Instance instance = connectedInstance(env, connection);
+        InstanceClientBlockHandler handler = handler(instance);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Vec position : CHUNK_BLOCKS) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 100; i++) {
+                    handler.setClientBlock(Block.BARRIER, position);
+                    handler.removeClientBlock(position);
+                }
+
+                handler.setClientBlock(Block.BARRIER, position);
+            }));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        Collector<BlockChangePacket> changes = connection.trackIncoming(BlockChangePacket.class);
+        handler.clearClientBlocks();
+        changes.assertCount(CHUNK_BLOCKS.size());
+    }
+}
@@ -0,0 +1,110 @@
+package org.phantazm.core;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SectionUpdatesTest {
+    private static Chunk chunk(int chunkX, int chunkZ) {
+        Chunk chunk = mock(Chunk.class);
+        when(chunk.getChunkX()).thenReturn(chunkX);
+        when(chunk.getChunkZ()).thenReturn(chunkZ);
+        return chunk;
+    }
+
+    private static List<SendablePacket> sent(Chunk chunk) {
+        ArgumentCaptor<SendablePacket> captor = ArgumentCaptor.forClass(SendablePacket.class);
+        verify(chunk, atLeast(0)).sendPacketToViewers(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static long packed(int x, int y, int z, Block block) {
+        return ((long)block.stateId() << 12) | ((long)(x & 15) << 8) | ((z & 15) << 4) | (y & 15);
+    }
+
+    @Test
+    public void testSingleChangeSendsBlockChange() {
+        Chunk chunk = chunk(1, -1);
+        SectionUpdates updates = new SectionUpdates();
+
+        updates.add(chunk, 17, 40, -3, Block.STONE);
+        updates.send();
+
+        List<SendablePacket> packets = sent(chunk);
+        assertEquals(1, packets.size());
+        BlockChangePacket packet = assertInstanceOf(BlockChangePacket.class, packets.get(0));
+        assertEquals(new Vec(17, 40, -3), Vec.fromPoint(packet.blockPosition()));
+        assertEquals(Block.STONE.stateId(), packet.blockStateId());
+    }
+
+    @Test
+    public void testSeveralChangesInSectionSendMultiBlockChange() {
+        Chunk chunk = chunk(0, 0);
+        SectionUpdates updates = new SectionUpdates();
+
+        updates.add(chunk, 1, 2, 3, Block.STONE);
+        updates.add(chunk, 4, 5, 6, Block.DIRT);
+        updates.send();
+
+        List<SendablePacket> packets = sent(chunk);
+        assertEquals(1, packets.size());
+        MultiBlockChangePacket packet = assertInstanceOf(MultiBlockChangePacket.class, packets.get(0));
+        assertArrayEquals(new long[] {packed(1, 2, 3, Block.STONE), packed(4, 5, 6, Block.DIRT)}, packet.blocks());
+    }
+
+    @Test
+    public void testDuplicatePositionKeepsLastChange() {
+        Chunk chunk = chunk(0, 0);
+        SectionUpdates updates = new SectionUpdates();
+
+        updates.add(chunk, 1, 2, 3, Block.STONE);
+        updates.add(chunk, 4, 5, 6, Block.DIRT);
+        updates.add(chunk, 1, 2, 3, Block.GOLD_BLOCK);
+        updates.send();
+
+        MultiBlockChangePacket packet = assertInstanceOf(MultiBlockChangePacket.class, sent(chunk).get(0));
+        assertArrayEquals(new long[] {packed(1, 2, 3, Block.GOLD_BLOCK), packed(4, 5, 6, Block.DIRT)},
+                packet.blocks());
+    }
+
+    @Test
+    public void testRepeatedSinglePositionSendsBlockChange() {
+        Chunk chunk = chunk(0, 0);
+        SectionUpdates updates = new SectionUpdates();
+
+        updates.add(chunk, 1, 2, 3, Block.STONE);
+        updates.add(chunk, 1, 2, 3, Block.DIRT);
+        updates.send();
+
+        List<SendablePacket> packets = sent(chunk);
+        assertEquals(1, packets.size());
+        BlockChangePacket packet = assertInstanceOf(BlockChangePacket.class, packets.get(0));
+        assertEquals(Block.DIRT.stateId(), packet.blockStateId());
+    }
+
+    @Test
+    public void testSectionsAreSentSeparately() {
+        Chunk chunk = chunk(0, 0);
+        SectionUpdates updates = new SectionUpdates();
+
+        updates.add(chunk, 1, 2, 3, Block.STONE);
+        updates.add(chunk, 1, 18, 3, Block.STONE);
+        updates.add(chunk, 1, 19, 3, Block.STONE);
+        updates.send();
+
+        List<SendablePacket> packets = sent(chunk);
+        assertEquals(2, packets.size());
+        assertInstanceOf(BlockChangePacket.class, packets.get(0));
+        assertInstanceOf(MultiBlockChangePacket.class, packets.get(1));
+    }
+}
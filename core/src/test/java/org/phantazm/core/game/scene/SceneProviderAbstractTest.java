@@ -4,13 +4,11 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class SceneProviderAbstractTest {
@@ -32,6 +30,11 @@ public class SceneProviderAbstractTest {
                         return (Scene<SceneJoinRequest>)mock(Scene.class);
                     }
 
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
                     @Override
                     protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
 
@@ -68,6 +71,11 @@ public class SceneProviderAbstractTest {
                         return iterator.next();
                     }
 
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
                     @Override
                     protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
 
@@ -104,6 +112,11 @@ public class SceneProviderAbstractTest {
                         return scene;
                     }
 
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
                     @Override
                     protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
 
@@ -118,4 +131,222 @@ public class SceneProviderAbstractTest {
         verify(scene, never()).tick(0);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testAsyncSceneCompletesOnTick() {
+        Scene<SceneJoinRequest> scene = (Scene<SceneJoinRequest>)mock(Scene.class);
+        Executor executor = Runnable::run;
+
+        SceneProvider<Scene<SceneJoinRequest>, SceneJoinRequest> sceneProvider =
+                new SceneProviderAbstract<>(maximumLobbies, executor, 0) {
+                    @Override
+                    protected @NotNull Optional<Scene<SceneJoinRequest>> chooseScene(@NotNull SceneJoinRequest o) {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createScene(@NotNull SceneJoinRequest o) {
+                        return scene;
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
+                    @Override
+                    protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
+
+                    }
+                };
+
+        SceneJoinRequest request = Mockito.mock(SceneJoinRequest.class);
+        CompletableFuture<Optional<Scene<SceneJoinRequest>>> future = sceneProvider.provideSceneAsync(request);
+        assertFalse(future.isDone());
+        assertFalse(sceneProvider.getScenes().iterator().hasNext());
+
+        sceneProvider.tick(0);
+
+        assertEquals(Optional.of(scene), future.join());
+        assertTrue(sceneProvider.getScenes().contains(scene));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWarmScenesAreProvidedAndReplenished() {
+        Executor executor = Runnable::run;
+        Collection<Scene<SceneJoinRequest>> created = new ArrayList<>();
+
+        SceneProviderAbstract<Scene<SceneJoinRequest>, SceneJoinRequest> sceneProvider =
+                new SceneProviderAbstract<>(maximumLobbies, executor, 2) {
+                    @Override
+                    protected @NotNull Optional<Scene<SceneJoinRequest>> chooseScene(@NotNull SceneJoinRequest o) {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createScene(@NotNull SceneJoinRequest o) {
+                        throw new AssertionError("warm scene should have been used");
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        Scene<SceneJoinRequest> scene = (Scene<SceneJoinRequest>)mock(Scene.class);
+                        created.add(scene);
+                        return scene;
+                    }
+
+                    @Override
+                    protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
+
+                    }
+                };
+
+        sceneProvider.tick(0);
+        sceneProvider.tick(1);
+        assertEquals(2, sceneProvider.getWarmSceneCount());
+        for (Scene<SceneJoinRequest> scene : created) {
+            verify(scene, never()).tick(anyLong());
+        }
+
+        SceneJoinRequest request = Mockito.mock(SceneJoinRequest.class);
+        Optional<Scene<SceneJoinRequest>> provided = sceneProvider.provideScene(request);
+        assertTrue(provided.isPresent());
+        assertTrue(sceneProvider.getScenes().contains(provided.get()));
+        assertEquals(1, sceneProvider.getWarmSceneCount());
+
+        sceneProvider.tick(2);
+        sceneProvider.tick(3);
+        assertEquals(2, sceneProvider.getWarmSceneCount());
+        assertEquals(3, created.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testNoWarmScenesWithoutWarmSceneCount() {
+        Executor executor = Runnable::run;
+
+        SceneProviderAbstract<Scene<SceneJoinRequest>, SceneJoinRequest> sceneProvider =
+                new SceneProviderAbstract<>(maximumLobbies, executor, 0) {
+                    @Override
+                    protected @NotNull Optional<Scene<SceneJoinRequest>> chooseScene(@NotNull SceneJoinRequest o) {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createScene(@NotNull SceneJoinRequest o) {
+                        return (Scene<SceneJoinRequest>)mock(Scene.class);
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
+                    @Override
+                    protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
+
+                    }
+                };
+
+        sceneProvider.tick(0);
+        assertEquals(0, sceneProvider.getWarmSceneCount());
+
+        SceneJoinRequest request = Mockito.mock(SceneJoinRequest.class);
+        assertTrue(sceneProvider.provideScene(request).isPresent());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testConcurrentAsyncRequestsShareNewScene() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Executor executor = tasks::add;
+        Collection<Scene<SceneJoinRequest>> created = new ArrayList<>();
+
+        SceneProvider<Scene<SceneJoinRequest>, SceneJoinRequest> sceneProvider =
+                new SceneProviderAbstract<>(maximumLobbies, executor, 0) {
+                    @Override
+                    protected @NotNull Optional<Scene<SceneJoinRequest>> chooseScene(@NotNull SceneJoinRequest o) {
+                        return getScenes().stream().findFirst();
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createScene(@NotNull SceneJoinRequest o) {
+                        Scene<SceneJoinRequest> scene = (Scene<SceneJoinRequest>)mock(Scene.class);
+                        created.add(scene);
+                        return scene;
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
+                    @Override
+                    protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
+
+                    }
+                };
+
+        CompletableFuture<Optional<Scene<SceneJoinRequest>>> first =
+                sceneProvider.provideSceneAsync(Mockito.mock(SceneJoinRequest.class));
+        CompletableFuture<Optional<Scene<SceneJoinRequest>>> second =
+                sceneProvider.provideSceneAsync(Mockito.mock(SceneJoinRequest.class));
+        assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+        sceneProvider.tick(0);
+
+        assertEquals(1, created.size());
+        assertTrue(first.join().isPresent());
+        assertEquals(first.join(), second.join());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWaitingRequestBuildsSceneWhenPendingSceneCannotTakeIt() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Executor executor = tasks::add;
+
+        SceneProvider<Scene<SceneJoinRequest>, SceneJoinRequest> sceneProvider =
+                new SceneProviderAbstract<>(maximumLobbies, executor, 0) {
+                    @Override
+                    protected @NotNull Optional<Scene<SceneJoinRequest>> chooseScene(@NotNull SceneJoinRequest o) {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createScene(@NotNull SceneJoinRequest o) {
+                        return (Scene<SceneJoinRequest>)mock(Scene.class);
+                    }
+
+                    @Override
+                    protected @NotNull Scene<SceneJoinRequest> createWarmScene() {
+                        throw new AssertionError("warm scenes are disabled");
+                    }
+
+                    @Override
+                    protected void cleanupScene(@NotNull Scene<SceneJoinRequest> scene) {
+
+                    }
+                };
+
+        CompletableFuture<Optional<Scene<SceneJoinRequest>>> first =
+                sceneProvider.provideSceneAsync(Mockito.mock(SceneJoinRequest.class));
+        CompletableFuture<Optional<Scene<SceneJoinRequest>>> second =
+                sceneProvider.provideSceneAsync(Mockito.mock(SceneJoinRequest.class));
+        assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+        sceneProvider.tick(0);
+        assertTrue(first.join().isPresent());
+        assertFalse(second.isDone());
+        assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+        sceneProvider.tick(1);
+        assertTrue(second.join().isPresent());
+        assertNotEquals(first.join(), second.join());
+    }
+
 }
@@ -0,0 +1,74 @@
+package org.phantazm.core.hologram;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import net.minestom.server.network.packet.server.play.SpawnEntityPacket;
+import net.minestom.testing.Collector;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import net.minestom.testing.TestConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class PacketHologramIntegrationTest {
+    private static final Vec LOCATION = new Vec(0, 42, 0);
+
+    @Test
+    public void testSpawnsLinesForViewer(Env env) {
+        Instance instance = env.createFlatInstance();
+        TestConnection connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+        Collector<SpawnEntityPacket> spawns = connection.trackIncoming(SpawnEntityPacket.class);
+
+        Hologram hologram = new PacketHologram(LOCATION, 0);
+        hologram.setInstance(instance);
+        hologram.addAll(List.of(Component.text("First"), Component.text("Second")));
+
+        spawns.assertCount(2);
+    }
+
+    @Test
+    public void testUnchangedLineSendsNothing(Env env) {
+        Instance instance = env.createFlatInstance();
+        TestConnection connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Hologram hologram = new PacketHologram(LOCATION, 0);
+        hologram.setInstance(instance);
+        hologram.add(Component.text("Line"));
+        Collector<EntityMetaDataPacket> metadata = connection.trackIncoming(EntityMetaDataPacket.class);
+
+        hologram.set(0, Component.text("Line"));
+
+        metadata.assertEmpty();
+    }
+
+    @Test
+    public void testChangedLineSendsMetadataOnly(Env env) {
+        Instance instance = env.createFlatInstance();
+        TestConnection connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Hologram hologram = new PacketHologram(LOCATION, 0);
+        hologram.setInstance(instance);
+        hologram.addAll(List.of(Component.text("First"), Component.text("Second")));
+        Collector<EntityMetaDataPacket> metadata = connection.trackIncoming(EntityMetaDataPacket.class);
+        Collector<SpawnEntityPacket> spawns = connection.trackIncoming(SpawnEntityPacket.class);
+        Collector<DestroyEntitiesPacket> destroys = connection.trackIncoming(DestroyEntitiesPacket.class);
+
+        hologram.setLines(List.of(Component.text("First"), Component.text("Changed")));
+
+        metadata.assertSingle();
+        spawns.assertEmpty();
+        destroys.assertEmpty();
+        assertEquals(Component.text("Changed"), hologram.get(1));
+    }
+}
@@ -0,0 +1,51 @@
+package org.phantazm.core.inventory;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.inventory.PlayerInventory;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class InventorySlotSyncTest {
+
+    @Test
+    public void testEqualStackIsSkipped() {
+        ItemStack stack = ItemStack.of(Material.STICK);
+        PlayerInventory inventory = mock(PlayerInventory.class);
+        when(inventory.getSize()).thenReturn(PlayerInventory.INVENTORY_SIZE);
+        when(inventory.getItemStack(0)).thenReturn(stack);
+        Player player = mock(Player.class);
+        when(player.getInventory()).thenReturn(inventory);
+
+        InventorySlotSync sync = new InventorySlotSync(PlayerInventory.INVENTORY_SIZE);
+        sync.stage(0, ItemStack.of(Material.STICK));
+        sync.flush(player);
+
+        verify(inventory, never()).setItemStack(anyInt(), any());
+        assertEquals(1, sync.avoidedCount());
+        assertEquals(0, sync.sentCount());
+    }
+
+    @Test
+    public void testChangedStackIsSentOnceWithLatestValue() {
+        ItemStack newStack = ItemStack.of(Material.STONE, 2);
+        PlayerInventory inventory = mock(PlayerInventory.class);
+        when(inventory.getSize()).thenReturn(PlayerInventory.INVENTORY_SIZE);
+        when(inventory.getItemStack(0)).thenReturn(ItemStack.of(Material.STICK));
+        Player player = mock(Player.class);
+        when(player.getInventory()).thenReturn(inventory);
+
+        InventorySlotSync sync = new InventorySlotSync(PlayerInventory.INVENTORY_SIZE);
+        sync.stage(0, ItemStack.of(Material.STONE));
+        sync.stage(0, newStack);
+        sync.flush(player);
+        sync.flush(player);
+
+        verify(inventory, times(1)).setItemStack(0, newStack);
+        assertEquals(1, sync.sentCount());
+    }
+
+}
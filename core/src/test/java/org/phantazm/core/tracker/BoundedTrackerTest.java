@@ -0,0 +1,145 @@
+package org.phantazm.core.tracker;
+
+import com.github.steanky.vector.Bounds3I;
+import com.github.steanky.vector.Vec3D;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedTrackerTest {
+    private static List<BoundedBase> randomItems(Random random, int count) {
+        List<BoundedBase> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Bounds3I bounds = Bounds3I.immutable(random.nextInt(200) - 100, random.nextInt(100),
+                    random.nextInt(200) - 100, 1 + random.nextInt(20), 1 + random.nextInt(20), 1 + random.nextInt(20));
+            items.add(new BoundedBase(Vec.ZERO, bounds));
+        }
+
+        return items;
+    }
+
+    private static double distanceSquared(Point origin, BoundedBase item) {
+        Bounds3I bounds = item.bounds().get(0);
+        double x = Math.min(Math.max(origin.x(), bounds.originX()), bounds.maxX());
+        double y = Math.min(Math.max(origin.y(), bounds.originY()), bounds.maxY());
+        double z = Math.min(Math.max(origin.z(), bounds.originZ()), bounds.maxZ());
+        return origin.distanceSquared(x, y, z);
+    }
+
+    private static double agentDistanceSquared(Point origin, double width, double height, double depth,
+            BoundedBase item) {
+        Bounds3I bounds = item.bounds().get(0);
+        double x = Math.min(Math.max(origin.x(), bounds.originX()), bounds.maxX());
+        double y = Math.min(Math.max(origin.y(), bounds.originY()), bounds.maxY());
+        double z = Math.min(Math.max(origin.z(), bounds.originZ()), bounds.maxZ());
+
+        double agentX = Math.min(Math.max(x, origin.x() - width / 2), origin.x() + width / 2);
+        double agentY = Math.min(Math.max(y, origin.y()), origin.y() + height);
+        double agentZ = Math.min(Math.max(z, origin.z() - depth / 2), origin.z() + depth / 2);
+        return Vec3D.distanceSquared(x, y, z, agentX, agentY, agentZ);
+    }
+
+    @Test
+    public void testCellIndexMatchesChunkIndexAtPoint() {
+        Random random = new Random(0);
+        List<BoundedBase> items = randomItems(random, 50);
+
+        BoundedTracker<BoundedBase> chunk = BoundedTracker.tracker(items, BoundedTracker.Index.CHUNK);
+        BoundedTracker<BoundedBase> cell = BoundedTracker.tracker(items, BoundedTracker.Index.CELL);
+
+        for (int i = 0; i < 10000; i++) {
+            int x = random.nextInt(240) - 120;
+            int y = random.nextInt(140) - 20;
+            int z = random.nextInt(240) - 120;
+
+            Optional<BoundedBase> expected = chunk.atPoint(x, y, z);
+            Optional<BoundedBase> actual = cell.atPoint(x, y, z);
+            assertEquals(expected.isPresent(), actual.isPresent());
+            actual.ifPresent(item -> assertTrue(item.bounds().get(0).contains(x, y, z)));
+        }
+    }
+
+    @Test
+    public void testCellIndexMatchesChunkIndexClosest() {
+        Random random = new Random(1);
+        List<BoundedBase> items = randomItems(random, 50);
+
+        BoundedTracker<BoundedBase> chunk = BoundedTracker.tracker(items, BoundedTracker.Index.CHUNK);
+        BoundedTracker<BoundedBase> cell = BoundedTracker.tracker(items, BoundedTracker.Index.CELL);
+
+        for (int i = 0; i < 10000; i++) {
+            Point origin = new Vec(random.nextDouble() * 240 - 120, random.nextDouble() * 140 - 20,
+                    random.nextDouble() * 240 - 120);
+            double distance = random.nextDouble() * 10;
+
+            Optional<BoundedBase> expected = chunk.closestInRangeToBounds(origin, distance);
+            Optional<BoundedBase> actual = cell.closestInRangeToBounds(origin, distance);
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                assertEquals(distanceSquared(origin, expected.get()), distanceSquared(origin, actual.get()), 1E-9);
+            }
+        }
+    }
+
+    @Test
+    public void testCellIndexClosestWithAgentBoundsMatchesScan() {
+        Random random = new Random(2);
+        List<BoundedBase> items = randomItems(random, 50);
+
+        BoundedTracker<BoundedBase> cell = BoundedTracker.tracker(items, BoundedTracker.Index.CELL);
+
+        for (int i = 0; i < 10000; i++) {
+            Point origin = new Vec(random.nextDouble() * 240 - 120, random.nextDouble() * 140 - 20,
+                    random.nextDouble() * 240 - 120);
+            double width = random.nextDouble() * 2;
+            double height = random.nextDouble() * 3;
+            double distance = random.nextDouble() * 10;
+
+            double expected = Double.POSITIVE_INFINITY;
+            for (BoundedBase item : items) {
+                double itemDistance = agentDistanceSquared(origin, width, height, width, item);
+                if (itemDistance < distance * distance) {
+                    expected = Math.min(expected, itemDistance);
+                }
+            }
+
+            Optional<BoundedBase> actual = cell.closestInRangeToBounds(origin, width, height, width, distance);
+            assertEquals(expected != Double.POSITIVE_INFINITY, actual.isPresent());
+            if (actual.isPresent()) {
+                assertEquals(expected, agentDistanceSquared(origin, width, height, width, actual.get()), 1E-9);
+            }
+        }
+    }
+
+    @Test
+    public void testCellIndexInRangeToCenterMatchesScan() {
+        Random random = new Random(3);
+        List<BoundedBase> items = randomItems(random, 50);
+
+        BoundedTracker<BoundedBase> cell = BoundedTracker.tracker(items, BoundedTracker.Index.CELL);
+
+        for (int i = 0; i < 1000; i++) {
+            Point origin = new Vec(random.nextDouble() * 240 - 120, random.nextDouble() * 140 - 20,
+                    random.nextDouble() * 240 - 120);
+            double distance = random.nextDouble() * 40;
+
+            Set<BoundedBase> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (BoundedBase item : items) {
+                if (origin.distanceSquared(item.center()) <= distance * distance) {
+                    expected.add(item);
+                }
+            }
+
+            List<BoundedBase> actual = new ArrayList<>();
+            cell.forEachInRangeToCenter(origin, distance, actual::add);
+
+            assertEquals(expected.size(), actual.size());
+            assertTrue(expected.containsAll(actual));
+        }
+    }
+}
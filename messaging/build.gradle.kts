@@ -1,3 +1,11 @@
+// https://youtrack.jetbrains.com/issue/KTIJ-19369/False-positive-can-t-be-called-in-this-context-by-implicit-recei
+@Suppress("DSL_SCOPE_VIOLATION")
 plugins {
     id("phantazm.java-library-conventions")
+
+    alias(libs.plugins.jmh)
+}
+
+jmh {
+    profilers.add("gc")
 }
@@ -0,0 +1,89 @@
+package org.phantazm.messaging.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.phantazm.messaging.packet.Packet;
+import org.phantazm.messaging.packet.c2p.MapDataVersionResponsePacket;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serialize and deserialize throughput of {@link PacketSerializer}, for the smallest real packet and for a
+ * packet using every field type. {@code serializeToArray} and {@code deserializeFromArray} go through the byte arrays
+ * used by plugin messages; {@code serializeToBuffer} writes into a reused direct buffer, as a pooled buffer would be.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketSerializerBenchmark {
+    @Param({"small", "mixed"})
+    public String packet;
+
+    private PacketSerializer serializer;
+    private Packet value;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        serializer = new PacketSerializer(
+                Map.of(MapDataVersionResponsePacket.ID, MapDataVersionResponsePacket::read, MixedPacket.ID,
+                        MixedPacket::read));
+
+        value = packet.equals("small") ? new MapDataVersionResponsePacket(12) :
+                new MixedPacket(UUID.randomUUID(), "phantazm:zombies/test_map", 300, new byte[64]);
+        bytes = serializer.serializePacket(value);
+        buffer = ByteBuffer.allocateDirect(1024);
+    }
+
+    @Benchmark
+    public byte[] serializeToArray() {
+        return serializer.serializePacket(value);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeToBuffer() {
+        buffer.clear();
+        serializer.serializePacket(value, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Optional<Packet> deserializeFromArray() {
+        return serializer.deserializePacket(bytes);
+    }
+
+    private record MixedPacket(UUID uuid, String name, int count, byte[] payload) implements Packet {
+        private static final byte ID = 2;
+
+        private static @NotNull MixedPacket read(@NotNull DataReader reader) {
+            UUID uuid = reader.readUUID();
+            String name = reader.readString();
+            int count = reader.readVarInt();
+            ByteBuffer payload = reader.readBytes();
+            byte[] payloadBytes = new byte[payload.remaining()];
+            payload.get(payloadBytes);
+            return new MixedPacket(uuid, name, count, payloadBytes);
+        }
+
+        @Override
+        public byte getId() {
+            return ID;
+        }
+
+        @Override
+        public void write(@NotNull DataWriter dataWriter) {
+            dataWriter.writeUUID(uuid);
+            dataWriter.writeString(name);
+            dataWriter.writeVarInt(count);
+            dataWriter.writeBytes(ByteBuffer.wrap(payload));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.phantazm.messaging.packet;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.messaging.serialization.PacketSerializer;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 /**
@@ -25,6 +26,16 @@ public abstract class PacketHandler<TOutputReceiver> {
      * @param data           The data that was sent
      */
     public void handleData(@NotNull TOutputReceiver outputReceiver, byte @NotNull [] data) {
+        handleData(outputReceiver, ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Handles incoming binary data, reading it in place.
+     *
+     * @param outputReceiver The output receiver for any packets that will be sent as a result of receiving this data
+     * @param data           The data that was sent
+     */
+    public void handleData(@NotNull TOutputReceiver outputReceiver, @NotNull ByteBuffer data) {
         packetSerializer.deserializePacket(data).ifPresent(packet -> handlePacket(outputReceiver, packet));
     }
 
@@ -0,0 +1,98 @@
+package org.phantazm.messaging.serialization;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A {@link DataReader} that reads directly from a {@link ByteBuffer}, starting at its position. Reads advance the
+ * buffer's position. Heap, direct and Netty-backed buffers (through {@code ByteBuf#nioBuffer()}) are all read without
+ * copying.
+ */
+public class ByteBufferDataReader implements DataReader {
+
+    private static final int MAX_VAR_INT_BYTES = 5;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a {@link ByteBufferDataReader}.
+     *
+     * @param buffer The buffer to read from
+     */
+    public ByteBufferDataReader(@NotNull ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer");
+    }
+
+    @Override
+    public byte readByte() {
+        return buffer.get();
+    }
+
+    @Override
+    public int readInt() {
+        return buffer.getInt();
+    }
+
+    @Override
+    public long readLong() {
+        return buffer.getLong();
+    }
+
+    @Override
+    public int readVarInt() {
+        int value = 0;
+        for (int i = 0; i < MAX_VAR_INT_BYTES; i++) {
+            byte current = buffer.get();
+            value |= (current & 0x7F) << (i * 7);
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalStateException("VarInt is too long");
+    }
+
+    @Override
+    public @NotNull String readString() {
+        int length = readLength();
+        String string;
+        if (buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return string;
+    }
+
+    @Override
+    public @NotNull UUID readUUID() {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    @Override
+    public @NotNull ByteBuffer readBytes() {
+        int length = readLength();
+        ByteBuffer slice = buffer.slice(buffer.position(), length).asReadOnlyBuffer();
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    private int readLength() {
+        int length = readVarInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalStateException("Invalid length " + length + ", " + buffer.remaining() + " bytes remain");
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,143 @@
+package org.phantazm.messaging.serialization;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A {@link DataWriter} that writes directly to a {@link ByteBuffer}. A writer either owns a heap buffer, which grows as
+ * needed and can be reused through {@link ByteBufferDataWriter#reset()}, or writes into a buffer supplied by the
+ * caller, such as a pooled direct buffer or a Netty buffer's {@code nioBuffer}, in which case it never reallocates and
+ * throws {@link BufferOverflowException} when the buffer is full.
+ */
+public class ByteBufferDataWriter implements DataWriter {
+
+    private final boolean growable;
+
+    private ByteBuffer buffer;
+
+    /**
+     * Creates a {@link ByteBufferDataWriter} that owns a growable heap buffer.
+     *
+     * @param initialCapacity The initial capacity of the buffer
+     */
+    public ByteBufferDataWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+        this.growable = true;
+    }
+
+    /**
+     * Creates a {@link ByteBufferDataWriter} that writes into the given buffer, starting at its position.
+     *
+     * @param buffer The buffer to write to
+     */
+    public ByteBufferDataWriter(@NotNull ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer");
+        this.growable = false;
+    }
+
+    @Override
+    public void writeByte(byte data) {
+        ensureRemaining(Byte.BYTES);
+        buffer.put(data);
+    }
+
+    @Override
+    public void writeInt(int data) {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(data);
+    }
+
+    @Override
+    public void writeLong(long data) {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(data);
+    }
+
+    @Override
+    public void writeVarInt(int data) {
+        ensureRemaining(varIntSize(data));
+        while ((data & ~0x7F) != 0) {
+            buffer.put((byte)((data & 0x7F) | 0x80));
+            data >>>= 7;
+        }
+
+        buffer.put((byte)data);
+    }
+
+    @Override
+    public void writeString(@NotNull String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+    }
+
+    @Override
+    public void writeUUID(@NotNull UUID data) {
+        ensureRemaining(2 * Long.BYTES);
+        buffer.putLong(data.getMostSignificantBits());
+        buffer.putLong(data.getLeastSignificantBits());
+    }
+
+    @Override
+    public void writeBytes(@NotNull ByteBuffer data) {
+        int length = data.remaining();
+        writeVarInt(length);
+        ensureRemaining(length);
+        buffer.put(buffer.position(), data, data.position(), length);
+        buffer.position(buffer.position() + length);
+    }
+
+    /**
+     * Gets the bytes written so far, without copying them.
+     *
+     * @return A read-only view of the written bytes
+     */
+    public @NotNull ByteBuffer written() {
+        return buffer.asReadOnlyBuffer().flip();
+    }
+
+    /**
+     * Discards everything written so far, so the writer can be reused.
+     */
+    public void reset() {
+        buffer.clear();
+    }
+
+    @Override
+    public byte @NotNull [] toByteArray() {
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset();
+            return Arrays.copyOfRange(buffer.array(), offset, offset + buffer.position());
+        }
+
+        byte[] bytes = new byte[buffer.position()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    private static int varIntSize(int data) {
+        //each byte holds 7 bits, and zero still takes one byte
+        return Math.max(1, (Integer.SIZE - Integer.numberOfLeadingZeros(data) + 6) / 7);
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+
+        if (!growable) {
+            throw new BufferOverflowException();
+        }
+
+        ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        newBuffer.put(buffer.flip());
+        buffer = newBuffer;
+    }
+}
@@ -1,9 +1,13 @@
 package org.phantazm.messaging.serialization;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
 /**
  * Represents a data input.
- * Implementations should typically be wrappers around provided binary reading libraries
- * that already exist on respective platforms.
+ * Multi-byte values are big-endian. Variable-length ints use the same encoding as Minecraft's protocol.
  */
 public interface DataReader {
 
@@ -21,4 +25,40 @@ public interface DataReader {
      */
     int readInt();
 
+    /**
+     * Reads a long from the input.
+     *
+     * @return The long
+     */
+    long readLong();
+
+    /**
+     * Reads a variable-length int from the input.
+     *
+     * @return The int
+     */
+    int readVarInt();
+
+    /**
+     * Reads a UTF-8 string prefixed by its length in bytes as a variable-length int.
+     *
+     * @return The string
+     */
+    @NotNull String readString();
+
+    /**
+     * Reads a {@link UUID} written as its most significant and least significant longs.
+     *
+     * @return The {@link UUID}
+     */
+    @NotNull UUID readUUID();
+
+    /**
+     * Reads a byte slice prefixed by its length as a variable-length int. The returned buffer shares its content with
+     * the input, so it is only valid for as long as the input is.
+     *
+     * @return A read-only view of the slice
+     */
+    @NotNull ByteBuffer readBytes();
+
 }
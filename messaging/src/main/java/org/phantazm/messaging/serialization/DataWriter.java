@@ -2,10 +2,12 @@ package org.phantazm.messaging.serialization;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
 /**
  * Represents a data output that can be converted to a byte array.
- * Implementations should typically be wrappers around provided binary writing libraries
- * that already exist on respective platforms.
+ * Multi-byte values are big-endian. Variable-length ints use the same encoding as Minecraft's protocol.
  */
 public interface DataWriter {
 
@@ -23,6 +25,42 @@ public interface DataWriter {
      */
     void writeInt(int data);
 
+    /**
+     * Writes a long.
+     *
+     * @param data The long to write
+     */
+    void writeLong(long data);
+
+    /**
+     * Writes a variable-length int.
+     *
+     * @param data The int to write
+     */
+    void writeVarInt(int data);
+
+    /**
+     * Writes a UTF-8 string prefixed by its length in bytes as a variable-length int.
+     *
+     * @param data The string to write
+     */
+    void writeString(@NotNull String data);
+
+    /**
+     * Writes a {@link UUID} as its most significant and least significant longs.
+     *
+     * @param data The {@link UUID} to write
+     */
+    void writeUUID(@NotNull UUID data);
+
+    /**
+     * Writes the remaining bytes of a buffer prefixed by their length as a variable-length int. The buffer's position
+     * is not changed.
+     *
+     * @param data The bytes to write
+     */
+    void writeBytes(@NotNull ByteBuffer data);
+
     /**
      * Converts the writer to a byte array.
      *
@@ -3,35 +3,40 @@ package org.phantazm.messaging.serialization;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.messaging.packet.Packet;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 /**
- * Converts packets from byte arrays to {@link Packet}s and vice versa.
+ * Converts packets from binary data to {@link Packet}s and vice versa. Packets are read directly from the
+ * {@link ByteBuffer} they arrive in and written through a per-thread reusable buffer, and deserializers are looked up
+ * by indexing an array with the packet ID.
  */
 public class PacketSerializer {
 
-    private final Map<Byte, Function<DataReader, Packet>> packetDeserializerMap;
+    private static final int INITIAL_BUFFER_SIZE = 256;
 
-    private final Supplier<DataWriter> writerCreator;
+    private final Function<DataReader, Packet>[] packetDeserializers;
 
-    private final Function<byte[], DataReader> readerCreator;
+    private final ThreadLocal<ByteBufferDataWriter> writers;
 
     /**
      * Creates a {@link PacketSerializer}.
      *
      * @param packetDeserializerMap A {@link Map} of byte packet IDs to {@link Packet} creators from a {@link DataReader}
-     * @param writerCreator         A creator for serialization {@link DataWriter}s
-     * @param readerCreator         A creator for deserialization {@link DataReader}s
      */
-    public PacketSerializer(@NotNull Map<Byte, Function<DataReader, Packet>> packetDeserializerMap,
-            @NotNull Supplier<DataWriter> writerCreator, @NotNull Function<byte[], DataReader> readerCreator) {
-        this.packetDeserializerMap = Objects.requireNonNull(packetDeserializerMap, "packetDeserializerMap");
-        this.writerCreator = Objects.requireNonNull(writerCreator, "writerCreator");
-        this.readerCreator = Objects.requireNonNull(readerCreator, "readerCreator");
+    @SuppressWarnings("unchecked")
+    public PacketSerializer(@NotNull Map<Byte, Function<DataReader, Packet>> packetDeserializerMap) {
+        Objects.requireNonNull(packetDeserializerMap, "packetDeserializerMap");
+
+        this.packetDeserializers = new Function[256];
+        for (Map.Entry<Byte, Function<DataReader, Packet>> entry : packetDeserializerMap.entrySet()) {
+            packetDeserializers[entry.getKey() & 0xFF] = Objects.requireNonNull(entry.getValue(), "deserializer");
+        }
+
+        this.writers = ThreadLocal.withInitial(() -> new ByteBufferDataWriter(INITIAL_BUFFER_SIZE));
     }
 
     /**
@@ -40,14 +45,26 @@ public class PacketSerializer {
      * @param packet The packet to serialize
      * @return The byte array representation of the packet
      */
-    public byte[] serializePacket(@NotNull Packet packet) {
-        DataWriter dataWriter = writerCreator.get();
-        dataWriter.writeByte(packet.getId());
-        packet.write(dataWriter);
+    public byte @NotNull [] serializePacket(@NotNull Packet packet) {
+        ByteBufferDataWriter dataWriter = writers.get();
+        dataWriter.reset();
+        writePacket(dataWriter, packet);
 
         return dataWriter.toByteArray();
     }
 
+    /**
+     * Serializes a packet into a buffer, starting at its position. The packet is written in place, without going
+     * through an intermediate array, so this can be used with pooled buffers.
+     *
+     * @param packet The packet to serialize
+     * @param buffer The buffer to write to, whose position is advanced past the packet
+     * @throws java.nio.BufferOverflowException if the packet does not fit in the buffer
+     */
+    public void serializePacket(@NotNull Packet packet, @NotNull ByteBuffer buffer) {
+        writePacket(new ByteBufferDataWriter(buffer), packet);
+    }
+
     /**
      * Deserializes a packet from a byte array.
      *
@@ -55,10 +72,22 @@ public class PacketSerializer {
      * @return An {@link Optional} of the deserialized packet which is empty if deserialization fails
      */
     public @NotNull Optional<Packet> deserializePacket(byte @NotNull [] bytes) {
-        DataReader dataReader = readerCreator.apply(bytes);
-        byte id = dataReader.readByte();
+        return deserializePacket(ByteBuffer.wrap(bytes));
+    }
 
-        Function<DataReader, Packet> deserializer = packetDeserializerMap.get(id);
+    /**
+     * Deserializes a packet from a buffer, starting at its position. The packet is read in place, without copying.
+     *
+     * @param buffer The buffer containing the packet
+     * @return An {@link Optional} of the deserialized packet which is empty if deserialization fails
+     */
+    public @NotNull Optional<Packet> deserializePacket(@NotNull ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return Optional.empty();
+        }
+
+        DataReader dataReader = new ByteBufferDataReader(buffer);
+        Function<DataReader, Packet> deserializer = packetDeserializers[dataReader.readByte() & 0xFF];
         if (deserializer == null) {
             return Optional.empty();
         }
@@ -66,4 +95,9 @@ public class PacketSerializer {
         return Optional.of(deserializer.apply(dataReader));
     }
 
+    private static void writePacket(DataWriter dataWriter, Packet packet) {
+        dataWriter.writeByte(packet.getId());
+        packet.write(dataWriter);
+    }
+
 }
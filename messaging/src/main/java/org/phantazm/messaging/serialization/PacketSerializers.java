@@ -8,7 +8,6 @@ import org.phantazm.messaging.packet.c2p.MapDataVersionResponsePacket;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 /**
  * Creates common {@link PacketSerializer}s.
@@ -27,14 +26,12 @@ public final class PacketSerializers {
         throw new UnsupportedOperationException();
     }
 
-    public static @NotNull PacketSerializer clientToServerSerializer(@NotNull Supplier<DataWriter> writerCreator,
-            @NotNull Function<byte[], DataReader> readerCreator) {
-        return new PacketSerializer(Collections.emptyMap(), writerCreator, readerCreator);
+    public static @NotNull PacketSerializer clientToServerSerializer() {
+        return new PacketSerializer(Collections.emptyMap());
     }
 
-    public static @NotNull PacketSerializer clientToProxySerializer(@NotNull Supplier<DataWriter> writerCreator,
-            @NotNull Function<byte[], DataReader> readerCreator) {
-        return new PacketSerializer(clientToProxyDeserializers, writerCreator, readerCreator);
+    public static @NotNull PacketSerializer clientToProxySerializer() {
+        return new PacketSerializer(clientToProxyDeserializers);
     }
 
 }
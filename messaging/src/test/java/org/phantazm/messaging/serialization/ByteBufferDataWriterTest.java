@@ -0,0 +1,72 @@
+package org.phantazm.messaging.serialization;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteBufferDataWriterTest {
+    @Test
+    void roundTripsEveryType() {
+        UUID uuid = UUID.randomUUID();
+        ByteBufferDataWriter writer = new ByteBufferDataWriter(1);
+        writer.writeByte((byte)7);
+        writer.writeInt(-123456);
+        writer.writeLong(Long.MIN_VALUE);
+        writer.writeVarInt(0);
+        writer.writeVarInt(300);
+        writer.writeVarInt(-1);
+        writer.writeString("zombies é");
+        writer.writeUUID(uuid);
+        writer.writeBytes(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+        DataReader reader = new ByteBufferDataReader(ByteBuffer.wrap(writer.toByteArray()));
+        assertEquals(7, reader.readByte());
+        assertEquals(-123456, reader.readInt());
+        assertEquals(Long.MIN_VALUE, reader.readLong());
+        assertEquals(0, reader.readVarInt());
+        assertEquals(300, reader.readVarInt());
+        assertEquals(-1, reader.readVarInt());
+        assertEquals("zombies é", reader.readString());
+        assertEquals(uuid, reader.readUUID());
+        assertEquals(ByteBuffer.wrap(new byte[] {1, 2, 3}), reader.readBytes());
+    }
+
+    @Test
+    void varIntUsesMinecraftEncoding() {
+        ByteBufferDataWriter writer = new ByteBufferDataWriter(8);
+        writer.writeVarInt(300);
+
+        assertArrayEquals(new byte[] {(byte)0xAC, 0x02}, writer.toByteArray());
+    }
+
+    @Test
+    void resetDiscardsWrittenBytes() {
+        ByteBufferDataWriter writer = new ByteBufferDataWriter(8);
+        writer.writeInt(1);
+        writer.reset();
+        writer.writeByte((byte)2);
+
+        assertArrayEquals(new byte[] {2}, writer.toByteArray());
+    }
+
+    @Test
+    void suppliedBufferDoesNotGrow() {
+        ByteBufferDataWriter writer = new ByteBufferDataWriter(ByteBuffer.allocateDirect(3));
+
+        assertThrows(BufferOverflowException.class, () -> writer.writeInt(1));
+    }
+
+    @Test
+    void readingTruncatedSliceFails() {
+        ByteBufferDataWriter writer = new ByteBufferDataWriter(8);
+        writer.writeVarInt(10);
+        writer.writeByte((byte)1);
+
+        DataReader reader = new ByteBufferDataReader(ByteBuffer.wrap(writer.toByteArray()));
+        assertThrows(IllegalStateException.class, reader::readBytes);
+    }
+}
@@ -91,7 +91,7 @@ public class MeleeAttackGoal implements GoalCreator {
                     livingEntity.takeKnockback(0.4F * knockbackStrength, Math.sin(angle), -Math.cos(angle));
                 }
 
-                lastHitSelector.setLastHit(livingEntity);
+                lastHitSelector.setLastHit(mob, livingEntity);
 
                 for (Skill skill : skills) {
                     skill.use(mob);
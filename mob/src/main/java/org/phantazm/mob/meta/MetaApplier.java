@@ -0,0 +1,54 @@
+package org.phantazm.mob.meta;
+
+import net.minestom.server.entity.metadata.EntityMeta;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Applies a {@link org.phantazm.mob.MobModel}'s meta configuration to an {@link EntityMeta}. Instances are created by
+ * {@link MetaCompiler}; all config values have already been processed, so applying only calls setters.
+ */
+public final class MetaApplier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetaApplier.class);
+
+    record Entry(@NotNull String key, @NotNull MethodHandle setter, Object value) {
+    }
+
+    private final Class<?> metaClass;
+    private final Entry[] entries;
+
+    MetaApplier(@NotNull Class<?> metaClass, @NotNull List<Entry> entries) {
+        this.metaClass = Objects.requireNonNull(metaClass, "metaClass");
+        this.entries = entries.toArray(Entry[]::new);
+    }
+
+    /**
+     * Gets the {@link EntityMeta} class this applier was compiled for.
+     *
+     * @return the meta class this applier was compiled for
+     */
+    public @NotNull Class<?> metaClass() {
+        return metaClass;
+    }
+
+    /**
+     * Sets every configured value on the given meta, which must be an instance of {@link MetaApplier#metaClass()}.
+     *
+     * @param meta the meta to apply values to
+     */
+    public void apply(@NotNull EntityMeta meta) {
+        for (Entry entry : entries) {
+            try {
+                entry.setter.invokeExact(meta, entry.value);
+            }
+            catch (Throwable e) {
+                LOGGER.warn("Failed to set meta value for meta key '{}'", entry.key, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.phantazm.mob.meta;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessException;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
+import it.unimi.dsi.fastutil.booleans.BooleanObjectPair;
+import net.minestom.server.entity.metadata.EntityMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.mob.MobModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles the meta configuration of {@link MobModel}s into {@link MetaApplier}s. Setters are discovered once per
+ * {@link EntityMeta} class, and each model's config values are processed once per model, so spawning a mob does not
+ * need to use reflection or run any {@link ConfigProcessor}s.
+ * <p>
+ * The meta class of a model is only known once an entity of its type exists, so models are compiled the first time
+ * they are spawned. Compiled appliers are shared by every spawner using the same compiler.
+ */
+public class MetaCompiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetaCompiler.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, EntityMeta.class, Object.class);
+
+    private record Setter(@NotNull String key, @NotNull MethodHandle handle, @NotNull Class<?> type,
+                          boolean optional) {
+    }
+
+    private final Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap;
+    private final Map<Class<?>, List<Setter>> settersByClass;
+    private final Map<MobModel, MetaApplier> appliers;
+
+    public MetaCompiler(@NotNull Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap) {
+        this.processorMap = Map.copyOf(processorMap);
+        this.settersByClass = new ConcurrentHashMap<>();
+        this.appliers = Collections.synchronizedMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Gets the {@link MetaApplier} for the given model, compiling it if necessary.
+     *
+     * @param model     the model whose meta configuration should be compiled
+     * @param metaClass the class of the meta which will be used by entities of this model
+     * @return a MetaApplier for the model
+     */
+    public @NotNull MetaApplier applierFor(@NotNull MobModel model, @NotNull Class<? extends EntityMeta> metaClass) {
+        MetaApplier applier = appliers.get(model);
+        if (applier != null && applier.metaClass() == metaClass) {
+            return applier;
+        }
+
+        applier = compile(metaClass, model.getMetaNode());
+        appliers.put(model, applier);
+        return applier;
+    }
+
+    /**
+     * Compiles the given meta configuration for the given meta class. Keys that have no matching setter, or whose
+     * values fail to process, are skipped.
+     *
+     * @param metaClass the class of the meta to compile for
+     * @param metaNode  the meta configuration
+     * @return a new MetaApplier
+     */
+    public @NotNull MetaApplier compile(@NotNull Class<? extends EntityMeta> metaClass, @NotNull ConfigNode metaNode) {
+        List<Setter> setters = settersByClass.computeIfAbsent(metaClass, MetaCompiler::findSetters);
+        List<MetaApplier.Entry> entries = new ArrayList<>(metaNode.size());
+        for (Setter setter : setters) {
+            ConfigElement element = metaNode.getElement(setter.key);
+            if (element == null) {
+                continue;
+            }
+
+            ConfigProcessor<?> processor =
+                    processorMap.get(BooleanObjectPair.of(setter.optional, setter.type.getName()));
+            if (processor == null) {
+                continue;
+            }
+
+            Object data;
+            try {
+                data = processor.dataFromElement(element);
+            }
+            catch (ConfigProcessException e) {
+                LOGGER.warn("Failed to process meta config for meta key '{}'", setter.key, e);
+                continue;
+            }
+            if (data instanceof Optional<?> dataOptional) {
+                data = dataOptional.orElse(null);
+            }
+
+            entries.add(new MetaApplier.Entry(setter.key, setter.handle, data));
+        }
+
+        return new MetaApplier(metaClass, entries);
+    }
+
+    private static List<Setter> findSetters(Class<?> metaClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        List<Setter> setters = new ArrayList<>();
+        for (Method method : metaClass.getMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.getReturnType() != void.class) {
+                continue;
+            }
+
+            Parameter[] parameters = method.getParameters();
+            if (parameters.length != 1) {
+                continue;
+            }
+
+            String methodName = method.getName();
+            if (!methodName.startsWith("set") || methodName.length() < 4) {
+                continue;
+            }
+            String key = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+
+            Parameter parameter = parameters[0];
+            NotNull notNull = parameter.getAnnotation(NotNull.class);
+            Nullable nullable = parameter.getAnnotation(Nullable.class);
+            Class<?> type = parameter.getType();
+            boolean optional = !type.isPrimitive() && (nullable != null || notNull == null);
+
+            MethodHandle handle;
+            try {
+                handle = lookup.unreflect(method).asType(SETTER_TYPE);
+            }
+            catch (IllegalAccessException e) {
+                LOGGER.warn("Cannot access meta setter '{}' of {}", methodName, metaClass.getName(), e);
+                continue;
+            }
+
+            setters.add(new Setter(key, handle, type, optional));
+        }
+
+        return List.copyOf(setters);
+    }
+}
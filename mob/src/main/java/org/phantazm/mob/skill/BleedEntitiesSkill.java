@@ -3,6 +3,7 @@ package org.phantazm.mob.skill;
 import com.github.steanky.element.core.annotation.*;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.damage.DamageType;
+import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.mob.target.TargetSelector;
@@ -11,29 +12,39 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Objects;
+import java.util.UUID;
 
 @Model("mob.skill.bleed")
 @Cache(false)
 public class BleedEntitiesSkill implements Skill {
 
-    private final Collection<BleedContext> bleeding = new LinkedList<>();
     private final Data data;
     private final TargetSelector<? extends LivingEntity> selector;
 
+    private final Tag<Collection<BleedContext>> bleedingTag;
+
     @FactoryMethod
     public BleedEntitiesSkill(@NotNull Data data,
             @NotNull @Child("selector") TargetSelector<? extends LivingEntity> selector) {
         this.data = Objects.requireNonNull(data, "data");
         this.selector = Objects.requireNonNull(selector, "selector");
+
+        this.bleedingTag = Tag.<Collection<BleedContext>>Transient("bleeding_" + UUID.randomUUID())
+                .defaultValue(LinkedList::new);
     }
 
     @Override
     public void use(@NotNull PhantazmMob self) {
-        selector.selectTarget(self).ifPresent(livingEntity -> bleeding.add(new BleedContext(livingEntity, 0L)));
+        selector.selectTarget(self).ifPresent(livingEntity -> {
+            Collection<BleedContext> bleeding = self.entity().getTag(bleedingTag);
+            bleeding.add(new BleedContext(livingEntity, 0L));
+            self.entity().setTag(bleedingTag, bleeding);
+        });
     }
 
     @Override
     public void tick(long time, @NotNull PhantazmMob self) {
+        Collection<BleedContext> bleeding = self.entity().getTag(bleedingTag);
         Iterator<BleedContext> contextIterator = bleeding.iterator();
         if (!contextIterator.hasNext()) {
             return;
@@ -66,6 +77,7 @@ public class BleedEntitiesSkill implements Skill {
 
     @Override
     public void end(@NotNull PhantazmMob self) {
+        Collection<BleedContext> bleeding = self.entity().getTag(bleedingTag);
         Iterator<BleedContext> contextIterator = bleeding.iterator();
         if (!contextIterator.hasNext()) {
             return;
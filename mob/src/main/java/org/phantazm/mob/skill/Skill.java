@@ -11,6 +11,9 @@ import org.phantazm.mob.PhantazmMob;
  * Since ticking skills need to be tracked separately from non-ticking skills, the skill must opt in to being ticked
  * by making {@link Skill#needsTicking()} return {@code true}. When this method returns false, its tick method should
  * generally not be called.
+ * <p>
+ * A single skill instance is shared by every mob spawned from the same model, so any per-mob state must be stored on
+ * the mob's entity (for example, using tags) rather than in the skill itself.
  */
 public interface Skill {
     /**
@@ -1,20 +1,32 @@
 package org.phantazm.mob.target;
 
+import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
 
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Selects the target last hit by a mob. The last hit is stored on each mob's entity, so a single selector may be
+ * shared by any number of mobs.
+ *
+ * @param <TTarget> the type of target
+ */
 public class LastHitSelector<TTarget> implements TargetSelector<TTarget> {
 
-    private TTarget lastHit;
+    private final Tag<TTarget> lastHitTag;
+
+    public LastHitSelector() {
+        this.lastHitTag = Tag.Transient("last_hit_" + UUID.randomUUID());
+    }
 
     @Override
     public @NotNull Optional<TTarget> selectTarget(@NotNull PhantazmMob self) {
-        return Optional.ofNullable(lastHit);
+        return Optional.ofNullable(self.entity().getTag(lastHitTag));
     }
 
-    public void setLastHit(TTarget lastHit) {
-        this.lastHit = lastHit;
+    public void setLastHit(@NotNull PhantazmMob self, TTarget lastHit) {
+        self.entity().setTag(lastHitTag, lastHit);
     }
 }
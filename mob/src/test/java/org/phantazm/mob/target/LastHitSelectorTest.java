@@ -1,14 +1,18 @@
 package org.phantazm.mob.target;
 
+import net.minestom.server.tag.Tag;
+import net.minestom.server.tag.TagHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.phantazm.mob.PhantazmMob;
+import org.phantazm.proxima.bindings.minestom.ProximaEntity;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 public class LastHitSelectorTest {
 
@@ -16,9 +20,23 @@ public class LastHitSelectorTest {
 
     private LastHitSelector<Object> lastHitSelector;
 
+    private static PhantazmMob mockMob() {
+        TagHandler tagHandler = TagHandler.newHandler();
+        ProximaEntity entity = mock(ProximaEntity.class);
+        when(entity.getTag(any())).thenAnswer(invocation -> tagHandler.getTag(invocation.<Tag<?>>getArgument(0)));
+        doAnswer(invocation -> {
+            tagHandler.setTag(invocation.<Tag<Object>>getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(entity).setTag(any(), any());
+
+        PhantazmMob mob = mock(PhantazmMob.class);
+        when(mob.entity()).thenReturn(entity);
+        return mob;
+    }
+
     @BeforeEach
     public void setup() {
-        mob = mock(PhantazmMob.class);
+        mob = mockMob();
         lastHitSelector = new LastHitSelector<>();
     }
 
@@ -31,7 +49,7 @@ public class LastHitSelectorTest {
     public void testUpdatesSingle() {
         Object hit = new Object();
 
-        lastHitSelector.setLastHit(hit);
+        lastHitSelector.setLastHit(mob, hit);
 
         Optional<Object> target = lastHitSelector.selectTarget(mob);
         assertTrue(target.isPresent());
@@ -43,12 +61,23 @@ public class LastHitSelectorTest {
         Object firstHit = new Object();
         Object secondHit = new Object();
 
-        lastHitSelector.setLastHit(firstHit);
-        lastHitSelector.setLastHit(secondHit);
+        lastHitSelector.setLastHit(mob, firstHit);
+        lastHitSelector.setLastHit(mob, secondHit);
 
         Optional<Object> target = lastHitSelector.selectTarget(mob);
         assertTrue(target.isPresent());
         assertEquals(secondHit, target.get());
     }
 
+    @Test
+    public void testSharedBetweenMobs() {
+        PhantazmMob otherMob = mockMob();
+        Object hit = new Object();
+
+        lastHitSelector.setLastHit(mob, hit);
+
+        assertEquals(Optional.of(hit), lastHitSelector.selectTarget(mob));
+        assertTrue(lastHitSelector.selectTarget(otherMob).isEmpty());
+    }
+
 }
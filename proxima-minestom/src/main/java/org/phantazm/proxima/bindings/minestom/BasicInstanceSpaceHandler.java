@@ -1,5 +1,6 @@
 package org.phantazm.proxima.bindings.minestom;
 
+import com.github.steanky.vector.Bounds3I;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.event.EventNode;
@@ -9,6 +10,7 @@ import net.minestom.server.event.trait.InstanceEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.BlockBatchEvent;
 
 import java.util.Objects;
 
@@ -21,10 +23,12 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
         EventNode<InstanceEvent> node = instanceSpace.instance().eventNode();
         node.addListener(InstanceChunkUnloadEvent.class, this::chunkUnload);
         node.addListener(BlockChangeEvent.class, this::blockChange);
+        node.addListener(BlockBatchEvent.class, this::blockBatch);
     }
 
     private void chunkUnload(InstanceChunkUnloadEvent event) {
         space.clearChunk(event.getChunkX(), event.getChunkZ());
+        space.clearSections(event.getChunkX(), event.getChunkZ());
     }
 
     private void blockChange(BlockChangeEvent event) {
@@ -43,6 +47,7 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
         int by = position.blockY();
         int bz = position.blockZ();
 
+        space.updateShape(bx, by, bz, newShape);
         space.updateSolid(bx, by, bz, null);
 
         if (oldShape.relativeEnd().y() > 1 || newShape.relativeEnd().y() > 1) {
@@ -50,6 +55,12 @@ public class BasicInstanceSpaceHandler implements InstanceSpaceHandler {
         }
     }
 
+    private void blockBatch(BlockBatchEvent event) {
+        for (Bounds3I region : event.getRegions()) {
+            space.clearRegion(region);
+        }
+    }
+
     @Override
     public @NotNull InstanceSpace space() {
         return space;
@@ -0,0 +1,320 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.node.Node;
+import com.github.steanky.proxima.solid.Solid;
+import com.github.steanky.proxima.space.Space;
+import com.github.steanky.vector.Bounds3D;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minestom.server.coordinate.Point;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A reverse flow field leading towards a single target. The field is a tree of {@link Node}s whose parents point one
+ * step closer to the target, so any number of entities chasing the same target can follow it the same way they would
+ * follow an A* path, without running their own search.
+ * <p>
+ * The field only extends a bounded number of steps away from the target. It is rebuilt when the target moves to a
+ * different node, or when it has not been rebuilt for longer than the refresh interval, so that changes to the world
+ * are eventually picked up. Rebuilds run on an {@link Executor} (normally the pathfinder's pool), one at a time; until
+ * a rebuild finishes, queries keep being answered from the previous field, which is then swapped out as a whole. Nodes
+ * are sized for a single column of blocks; entity width is left to the controller.
+ * <p>
+ * This class is thread-safe.
+ */
+public class FlowField {
+    private static final int NO_NODE = Integer.MIN_VALUE;
+
+    private static final int[] DIRECTIONS_X = new int[] {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DIRECTIONS_Z = new int[] {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final Space space;
+    private final double height;
+    private final float jumpHeight;
+    private final float fallTolerance;
+    private final int radius;
+    private final long refreshInterval;
+    private final Executor executor;
+
+    //only used by the build in progress, of which there is at most one
+    private final Long2FloatMap floorOffsets;
+    private final LongArrayFIFOQueue queue;
+
+    //never modified once published
+    private volatile Long2ObjectMap<Node> nodes;
+
+    private boolean building;
+    private boolean built;
+    private int targetX;
+    private int targetY;
+    private int targetZ;
+    private long lastBuild;
+
+    /**
+     * Creates a new, initially empty flow field.
+     *
+     * @param space           the {@link Space} used to determine which blocks can be walked on
+     * @param height          the height of the entities that will follow this field
+     * @param jumpHeight      the maximum height entities may jump up between two adjacent nodes
+     * @param fallTolerance   the maximum height entities may fall between two adjacent nodes
+     * @param radius          the maximum number of steps between any node in the field and the target
+     * @param refreshInterval the maximum time, in milliseconds, before the field is rebuilt even if the target did
+     *                        not move
+     * @param executor        the {@link Executor} used to build the field
+     */
+    public FlowField(@NotNull Space space, double height, float jumpHeight, float fallTolerance, int radius,
+            long refreshInterval, @NotNull Executor executor) {
+        this.space = Objects.requireNonNull(space, "space");
+        this.height = height;
+        this.jumpHeight = jumpHeight;
+        this.fallTolerance = fallTolerance;
+        this.radius = radius;
+        this.refreshInterval = refreshInterval;
+        this.executor = Objects.requireNonNull(executor, "executor");
+
+        this.nodes = Long2ObjectMaps.emptyMap();
+        this.floorOffsets = new Long2FloatOpenHashMap();
+        this.floorOffsets.defaultReturnValue(Float.NaN);
+        this.queue = new LongArrayFIFOQueue();
+    }
+
+    /**
+     * Gets the {@link Space} this field is built from. A field only stays valid while its target is in the instance
+     * backing this space, so callers compare it with the space of the target's current instance to find out when the
+     * field must be replaced.
+     *
+     * @return the space of this field
+     */
+    public @NotNull Space space() {
+        return space;
+    }
+
+    /**
+     * Makes sure this field leads to the node the target is currently standing on, starting a rebuild if necessary.
+     * Nothing happens if a rebuild is already in progress, or if the target is not standing on anything that can be
+     * walked on (e.g. it is in the middle of a long fall). The rebuilt field becomes visible through
+     * {@link FlowField#nodeAt(Point)} once the rebuild finishes.
+     *
+     * @param targetPosition the current position of the target
+     * @param time           the current time, in milliseconds
+     */
+    public void update(@NotNull Point targetPosition, long time) {
+        int x = targetPosition.blockX();
+        int z = targetPosition.blockZ();
+
+        int y = snapY(x, targetPosition.y(), z);
+        if (y == NO_NODE) {
+            return;
+        }
+
+        synchronized (this) {
+            if (building) {
+                return;
+            }
+
+            if (built && x == targetX && y == targetY && z == targetZ && time - lastBuild < refreshInterval) {
+                return;
+            }
+
+            this.building = true;
+            this.built = true;
+            this.targetX = x;
+            this.targetY = y;
+            this.targetZ = z;
+            this.lastBuild = time;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    nodes = build(x, y, z);
+                }
+                finally {
+                    synchronized (this) {
+                        building = false;
+                    }
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            synchronized (this) {
+                building = false;
+                built = false;
+            }
+        }
+    }
+
+    /**
+     * Gets the node an entity at the given position is standing on. Following the node's parents leads to the
+     * target; the target node has no parent.
+     *
+     * @param position the position of the entity
+     * @return the node at the given position, or {@code null} if the position lies outside this field, or the field
+     * has not been built yet
+     */
+    public @Nullable Node nodeAt(@NotNull Point position) {
+        int x = position.blockX();
+        int y = (int)Math.floor(position.y() + Pathfinding.PATH_EPSILON);
+        int z = position.blockZ();
+
+        Long2ObjectMap<Node> nodes = this.nodes;
+        Node node = nodes.get(key(x, y, z));
+        if (node != null) {
+            return node;
+        }
+
+        return nodes.get(key(x, y - 1, z));
+    }
+
+    private Long2ObjectMap<Node> build(int x, int y, int z) {
+        Long2ObjectMap<Node> nodes = new Long2ObjectOpenHashMap<>();
+        floorOffsets.clear();
+        queue.clear();
+
+        long targetKey = key(x, y, z);
+        nodes.put(targetKey, new Node(x, y, z, 0, 0, floorOffset(x, y, z)));
+        queue.enqueue(targetKey);
+
+        int maxRise = (int)Math.ceil(jumpHeight);
+        int maxFall = (int)Math.ceil(fallTolerance);
+
+        while (!queue.isEmpty()) {
+            Node node = nodes.get(queue.dequeueLong());
+            if (node.g >= radius) {
+                continue;
+            }
+
+            for (int i = 0; i < DIRECTIONS_X.length; i++) {
+                int dx = DIRECTIONS_X[i];
+                int dz = DIRECTIONS_Z[i];
+                int px = node.x + dx;
+                int pz = node.z + dz;
+
+                //the predecessor may be below us (we're the result of a jump) or above us (we're the result of a fall)
+                for (int py = node.y - maxRise; py <= node.y + maxFall; py++) {
+                    long key = key(px, py, pz);
+                    if (nodes.containsKey(key)) {
+                        continue;
+                    }
+
+                    float offset = floorOffset(px, py, pz);
+                    if (Float.isNaN(offset) || !canMove(px, py, pz, offset, node, dx, dz)) {
+                        continue;
+                    }
+
+                    Node predecessor = new Node(px, py, pz, node.g + 1, 0, offset);
+                    predecessor.parent = node;
+
+                    nodes.put(key, predecessor);
+                    queue.enqueue(key);
+                }
+            }
+        }
+
+        return nodes;
+    }
+
+    private boolean canMove(int x, int y, int z, float offset, Node to, int dx, int dz) {
+        double fromFloor = y + offset;
+        double toFloor = to.y + to.blockOffset;
+        double rise = toFloor - fromFloor;
+
+        if (rise > jumpHeight + Pathfinding.PATH_EPSILON || -rise > fallTolerance + Pathfinding.PATH_EPSILON) {
+            return false;
+        }
+
+        if (dx != 0 && dz != 0) {
+            //no corner cutting, and no diagonal height changes
+            return y == to.y && !Float.isNaN(floorOffset(to.x + dx, y, to.z)) &&
+                    !Float.isNaN(floorOffset(to.x, y, to.z + dz));
+        }
+
+        if (rise > 0) {
+            //we need headroom above the starting node to jump
+            return columnClear(x, y + occupiedBlocks(offset), (int)Math.ceil(toFloor + height), z);
+        }
+
+        //we need room above the destination node to fall into it
+        return columnClear(to.x, to.y + occupiedBlocks(to.blockOffset), (int)Math.ceil(fromFloor + height), to.z);
+    }
+
+    private int snapY(int x, double y, int z) {
+        int start = (int)Math.floor(y + Pathfinding.PATH_EPSILON);
+        int end = start - (int)Math.ceil(fallTolerance);
+
+        for (int by = start; by >= end; by--) {
+            if (!Float.isNaN(computeFloorOffset(x, by, z))) {
+                return by;
+            }
+        }
+
+        return NO_NODE;
+    }
+
+    private float floorOffset(int x, int y, int z) {
+        long key = key(x, y, z);
+        float offset = floorOffsets.get(key);
+        if (!Float.isNaN(offset) || floorOffsets.containsKey(key)) {
+            return offset;
+        }
+
+        offset = computeFloorOffset(x, y, z);
+        floorOffsets.put(key, offset);
+        return offset;
+    }
+
+    private float computeFloorOffset(int x, int y, int z) {
+        Solid feet = space.solidAt(x, y, z);
+
+        float offset;
+        if (feet.isEmpty()) {
+            Solid below = space.solidAt(x, y - 1, z);
+            if (below.isEmpty() || top(below) < 1 - Pathfinding.PATH_EPSILON) {
+                return Float.NaN;
+            }
+
+            offset = 0;
+        }
+        else {
+            if (feet.isFull()) {
+                return Float.NaN;
+            }
+
+            double top = top(feet);
+            if (top >= 1 - Pathfinding.PATH_EPSILON) {
+                return Float.NaN;
+            }
+
+            offset = (float)top;
+        }
+
+        return columnClear(x, y + 1, y + occupiedBlocks(offset), z) ? offset : Float.NaN;
+    }
+
+    private int occupiedBlocks(float offset) {
+        return (int)Math.ceil(offset + height - Pathfinding.PATH_EPSILON);
+    }
+
+    private boolean columnClear(int x, int startY, int endY, int z) {
+        for (int y = startY; y < endY; y++) {
+            if (!space.solidAt(x, y, z).isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static double top(Solid solid) {
+        Bounds3D bounds = solid.bounds();
+        return bounds.originY() + bounds.lengthY();
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long)(x & 0x3FFFFFF) << 38) | ((long)(z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+}
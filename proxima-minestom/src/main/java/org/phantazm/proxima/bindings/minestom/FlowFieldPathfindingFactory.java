@@ -0,0 +1,94 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.element.core.annotation.Cache;
+import com.github.steanky.element.core.annotation.DataObject;
+import com.github.steanky.element.core.annotation.FactoryMethod;
+import com.github.steanky.element.core.annotation.Model;
+import com.github.steanky.proxima.path.Pathfinder;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Ground pathfinding that shares one {@link FlowField} per target entity between every entity created by this
+ * factory, instead of having each of them run its own search. Fields are built on the pathfinder's threads. Entities fall back to regular searches when they are
+ * outside the field's radius.
+ * <p>
+ * Fields are stored on the target entity, one per chasing {@link EntityType}, so they are discarded along with the
+ * target.
+ */
+@Model("proxima.path_settings.flow_field")
+@Cache
+public class FlowFieldPathfindingFactory implements Pathfinding.Factory {
+    private final Data data;
+    private final Tag<Map<EntityType, FlowField>> fieldsTag;
+
+    @FactoryMethod
+    public FlowFieldPathfindingFactory(@NotNull Data data) {
+        this.data = Objects.requireNonNull(data, "data");
+        this.fieldsTag = Tag.Transient("flow_fields_" + UUID.randomUUID());
+    }
+
+    @Override
+    public @NotNull Pathfinding make(@NotNull Pathfinder pathfinder, @NotNull NodeGraphPool graphPool,
+            @NotNull Executor executor, @NotNull InstanceSpaceHandler spaceHandler, @NotNull EntityType entityType) {
+        return new Pathfinding(pathfinder, graphPool, spaceHandler, entityType) {
+            @Override
+            public @Nullable FlowField flowField(@NotNull Entity targetEntity) {
+                Map<EntityType, FlowField> fields = targetEntity.getTag(fieldsTag);
+                if (fields == null) {
+                    fields = new ConcurrentHashMap<>();
+                    targetEntity.setTag(fieldsTag, fields);
+                }
+
+                InstanceSpace space = spaceHandler.space();
+                FlowField field = fields.get(entityType);
+                if (field == null || field.space() != space) {
+                    //the target changed instances, or nobody of our type has chased it yet
+                    field = new FlowField(space, entityType.height(), jumpHeight(), fallTolerance(), data.radius,
+                            data.refreshInterval, executor);
+                    fields.put(entityType, field);
+                }
+
+                return field;
+            }
+
+            @Override
+            protected float jumpHeight() {
+                return data.jumpHeight;
+            }
+
+            @Override
+            protected float fallTolerance() {
+                return data.fallTolerance;
+            }
+
+            @Override
+            protected float stepHeight() {
+                return data.stepHeight;
+            }
+        };
+    }
+
+    /**
+     * The data for this factory.
+     *
+     * @param jumpHeight      the maximum height entities can jump
+     * @param fallTolerance   the maximum height entities can fall
+     * @param stepHeight      the maximum height entities can step up without jumping
+     * @param radius          the maximum number of steps between the target and the edge of its flow field
+     * @param refreshInterval the maximum time, in milliseconds, a flow field is kept before being rebuilt
+     */
+    @DataObject
+    public record Data(float jumpHeight, float fallTolerance, float stepHeight, int radius, long refreshInterval) {
+
+    }
+}
@@ -4,13 +4,12 @@ import com.github.steanky.element.core.annotation.Cache;
 import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
-import com.github.steanky.proxima.node.Node;
 import com.github.steanky.proxima.path.Pathfinder;
-import com.github.steanky.vector.Vec3I2ObjectMap;
 import net.minestom.server.entity.EntityType;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 @Model("proxima.path_settings.ground")
 @Cache
@@ -23,10 +22,9 @@ public class GroundPathfindingFactory implements Pathfinding.Factory {
     }
 
     @Override
-    public @NotNull Pathfinding make(@NotNull Pathfinder pathfinder,
-            @NotNull ThreadLocal<Vec3I2ObjectMap<Node>> nodeMapLocal, @NotNull InstanceSpaceHandler spaceHandler,
-            @NotNull EntityType entityType) {
-        return new Pathfinding(pathfinder, nodeMapLocal, spaceHandler, entityType) {
+    public @NotNull Pathfinding make(@NotNull Pathfinder pathfinder, @NotNull NodeGraphPool graphPool,
+            @NotNull Executor executor, @NotNull InstanceSpaceHandler spaceHandler, @NotNull EntityType entityType) {
+        return new Pathfinding(pathfinder, graphPool, spaceHandler, entityType) {
             @Override
             protected float jumpHeight() {
                 return data.jumpHeight;
@@ -1,15 +1,10 @@
 package org.phantazm.proxima.bindings.minestom;
 
-import com.github.steanky.proxima.node.Node;
-import com.github.steanky.vector.Bounds3I;
-import com.github.steanky.vector.HashVec3I2ObjectMap;
-import com.github.steanky.vector.Vec3I2ObjectMap;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.instance.InstanceTickEvent;
 import net.minestom.server.event.instance.InstanceUnregisterEvent;
 import net.minestom.server.instance.Instance;
-import net.minestom.server.instance.WorldBorder;
-import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
@@ -18,9 +13,12 @@ import java.util.function.Function;
 
 public class InstanceSettingsFunction implements Function<Instance, InstanceSpawner.InstanceSettings> {
     private final Map<UUID, InstanceSpawner.InstanceSettings> settingsMap;
+    private final PathScheduler.Settings schedulerSettings;
 
-    public InstanceSettingsFunction(@NotNull EventNode<Event> rootNode) {
+    public InstanceSettingsFunction(@NotNull EventNode<Event> rootNode,
+            @NotNull PathScheduler.Settings schedulerSettings) {
         this.settingsMap = new ConcurrentHashMap<>();
+        this.schedulerSettings = Objects.requireNonNull(schedulerSettings, "schedulerSettings");
         rootNode.addListener(InstanceUnregisterEvent.class, this::onInstanceUnregister);
     }
 
@@ -31,29 +29,27 @@ public class InstanceSettingsFunction implements Function<Instance, InstanceSpaw
                 throw new IllegalArgumentException("Cannot get settings for unregistered instance");
             }
 
-            DimensionType dimensionType = instance.getDimensionType();
-
-            int height = dimensionType.getHeight(); //range (0, 4064)
-            int minY = dimensionType.getMinY(); //range (-2032, 2031)
-
-            WorldBorder border = instance.getWorldBorder();
-            int centerX = (int)Math.floor(border.getCenterX());
-            int centerZ = (int)Math.floor(border.getCenterZ());
-
-            int diameter = Math.min((int)Math.floor(border.getDiameter() / 2), 60000000);
-            int halfDiameter = diameter / 2;
-
-            Bounds3I bounds = Bounds3I.immutable(centerX - halfDiameter, minY, centerZ - halfDiameter, diameter, height,
-                    diameter);
-
             InstanceSpace instanceSpace = new InstanceSpace(instance);
-            ThreadLocal<Vec3I2ObjectMap<Node>> local = ThreadLocal.withInitial(() -> new HashVec3I2ObjectMap<>(bounds));
             BasicInstanceSpaceHandler instanceSpaceHandler = new BasicInstanceSpaceHandler(instanceSpace);
 
-            return new InstanceSpawner.InstanceSettings(local, instanceSpaceHandler);
+            PathScheduler pathScheduler = new PathScheduler(instance, schedulerSettings);
+            instance.eventNode().addListener(InstanceTickEvent.class, event -> pathScheduler.tick());
+
+            return new InstanceSpawner.InstanceSettings(instanceSpaceHandler, pathScheduler);
         });
     }
 
+    /**
+     * Gets the settings of the given instance, if they have already been created. Unlike
+     * {@link InstanceSettingsFunction#apply(Instance)}, this never creates settings.
+     *
+     * @param instance the instance
+     * @return the settings of the instance, or an empty optional if none exist
+     */
+    public @NotNull Optional<InstanceSpawner.InstanceSettings> getExistingSettings(@NotNull Instance instance) {
+        return Optional.ofNullable(settingsMap.get(instance.getUniqueId()));
+    }
+
     private void onInstanceUnregister(InstanceUnregisterEvent event) {
         InstanceSpawner.InstanceSettings settings = settingsMap.remove(event.getInstance().getUniqueId());
 
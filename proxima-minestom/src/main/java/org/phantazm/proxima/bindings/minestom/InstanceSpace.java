@@ -3,6 +3,7 @@ package org.phantazm.proxima.bindings.minestom;
 import com.github.steanky.proxima.solid.Solid;
 import com.github.steanky.proxima.space.ConcurrentCachingSpace;
 import com.github.steanky.vector.Bounds3D;
+import com.github.steanky.vector.Bounds3I;
 import com.github.steanky.vector.Vec3IFunction;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.Shape;
@@ -10,10 +11,12 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,12 +26,24 @@ public class InstanceSpace extends ConcurrentCachingSpace {
     private static final Map<Shape, Solid> shapeMap;
     private static final Map<Shape, Solid[]> splitMap;
 
+    private static final Map<Shape, Integer> shapeIds;
+    private static volatile Shape[] shapePalette;
+
+    private static final Shape EMPTY_SHAPE = Block.AIR.registry().collisionShape();
+    private static final Shape FULL_SHAPE = Block.STONE.registry().collisionShape();
+
     static {
         shapeMap = new ConcurrentHashMap<>();
         splitMap = new ConcurrentHashMap<>();
+
+        shapeIds = new ConcurrentHashMap<>();
+        shapePalette = new Shape[0];
     }
 
     private final Instance instance;
+    private final int minSection;
+    private final int maxSection;
+    private final Map<Long, Section> sections;
     private volatile Vec3IFunction<? extends Solid> overrideFunction;
 
     public InstanceSpace(@NotNull Instance instance) {
@@ -38,6 +53,12 @@ public class InstanceSpace extends ConcurrentCachingSpace {
     public InstanceSpace(@NotNull Instance instance, @NotNull Vec3IFunction<? extends Solid> overrideFunction) {
         super(instance.getDimensionType().getMinY());
         this.instance = Objects.requireNonNull(instance, "instance");
+
+        DimensionType dimensionType = instance.getDimensionType();
+        this.minSection = dimensionType.getMinY() >> 4;
+        this.maxSection = (dimensionType.getMinY() + dimensionType.getHeight() - 1) >> 4;
+        this.sections = new ConcurrentHashMap<>();
+
         this.overrideFunction = Objects.requireNonNull(overrideFunction, "overrideFunction");
     }
 
@@ -53,12 +74,7 @@ public class InstanceSpace extends ConcurrentCachingSpace {
             return override;
         }
 
-        Block block = getBlock(chunk, x, y, z);
-        if (block == null) {
-            return null;
-        }
-
-        Shape shape = block.registry().collisionShape();
+        Shape shape = shapeAt(chunk, x, y, z);
         if (shape.isFullBlock()) {
             return Solid.FULL;
         }
@@ -75,12 +91,7 @@ public class InstanceSpace extends ConcurrentCachingSpace {
                 return solid;
             }
 
-            Block below = getBlock(chunk, x, y - 1, z);
-            if (below == null) {
-                return solid;
-            }
-
-            Shape belowShape = below.registry().collisionShape();
+            Shape belowShape = shapeAt(chunk, x, y - 1, z);
             if (belowShape.isEmpty() || belowShape.isFullBlock() || belowShape.relativeEnd().y() <= 1) {
                 return solid;
             }
@@ -108,12 +119,7 @@ public class InstanceSpace extends ConcurrentCachingSpace {
             return cachedSolid(shape);
         }
 
-        Block below = getBlock(chunk, x, y - 1, z);
-        if (below == null) {
-            return cachedSolid(shape);
-        }
-
-        Shape belowShape = below.registry().collisionShape();
+        Shape belowShape = shapeAt(chunk, x, y - 1, z);
         double belowEndY = belowShape.relativeEnd().y();
         if (belowEndY > 1) {
             Solid target = getSplit(belowShape)[1];
@@ -149,10 +155,110 @@ public class InstanceSpace extends ConcurrentCachingSpace {
         this.overrideFunction = Objects.requireNonNull(overrideFunction, "overrideFunction");
     }
 
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
-    private static Block getBlock(Chunk chunk, int x, int y, int z) {
-        synchronized (chunk) {
-            return chunk.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+    /**
+     * Updates the collision snapshot of the section containing the given block, if it has been loaded. Must be called
+     * whenever a block changes to one with a different collision shape. The cached {@link Solid}s that depend on the
+     * block still need to be invalidated separately, using {@link InstanceSpace#updateSolid(int, int, int, Solid)}.
+     *
+     * @param x     the x-coordinate of the block
+     * @param y     the y-coordinate of the block
+     * @param z     the z-coordinate of the block
+     * @param shape the new collision shape of the block
+     */
+    public void updateShape(int x, int y, int z, @NotNull Shape shape) {
+        Objects.requireNonNull(shape, "shape");
+        sections.computeIfPresent(sectionKey(x >> 4, y >> 4, z >> 4),
+                (key, section) -> section.with(blockIndex(x, y, z), shape));
+    }
+
+    /**
+     * Discards the collision snapshots of all sections in the given chunk. They will be reloaded when next needed.
+     *
+     * @param chunkX the x-coordinate of the chunk
+     * @param chunkZ the z-coordinate of the chunk
+     */
+    public void clearSections(int chunkX, int chunkZ) {
+        for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+            sections.remove(sectionKey(chunkX, sectionY, chunkZ));
+        }
+    }
+
+    /**
+     * Invalidates everything cached for the given region at once: the collision snapshots of the sections it
+     * overlaps, and the cached {@link Solid}s of the chunks it overlaps. Cheaper than updating each block of a large
+     * change individually.
+     *
+     * @param region the region whose blocks changed
+     */
+    public void clearRegion(@NotNull Bounds3I region) {
+        Objects.requireNonNull(region, "region");
+
+        int minChunkX = region.originX() >> 4;
+        int minChunkZ = region.originZ() >> 4;
+        int maxChunkX = (region.originX() + region.lengthX() - 1) >> 4;
+        int maxChunkZ = (region.originZ() + region.lengthZ() - 1) >> 4;
+
+        int minSectionY = Math.max(minSection, region.originY() >> 4);
+        int maxSectionY = Math.min(maxSection, (region.originY() + region.lengthY() - 1) >> 4);
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    sections.remove(sectionKey(chunkX, sectionY, chunkZ));
+                }
+
+                clearChunk(chunkX, chunkZ);
+            }
+        }
+    }
+
+    private Shape shapeAt(Chunk chunk, int x, int y, int z) {
+        int sectionY = y >> 4;
+        if (sectionY < minSection || sectionY > maxSection) {
+            return EMPTY_SHAPE;
+        }
+
+        long key = sectionKey(x >> 4, sectionY, z >> 4);
+        Section section = sections.get(key);
+        if (section == null) {
+            section = sections.computeIfAbsent(key, ignored -> Section.load(chunk, sectionY));
+        }
+
+        return section.shape(blockIndex(x, y, z));
+    }
+
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long)(sectionX & 0x3FFFFF) << 42) | ((long)(sectionZ & 0x3FFFFF) << 20) | (sectionY & 0xFFFFF);
+    }
+
+    private static int blockIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static int shapeId(Shape shape) {
+        Integer id = shapeIds.get(shape);
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (shapeIds) {
+            id = shapeIds.get(shape);
+            if (id != null) {
+                return id;
+            }
+
+            Shape[] palette = shapePalette;
+            if (palette.length > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct collision shapes");
+            }
+
+            Shape[] newPalette = Arrays.copyOf(palette, palette.length + 1);
+            newPalette[palette.length] = shape;
+
+            //publish the palette before the id, so any reader that has the id can resolve it
+            shapePalette = newPalette;
+            shapeIds.put(shape, palette.length);
+            return palette.length;
         }
     }
 
@@ -198,4 +304,95 @@ public class InstanceSpace extends ConcurrentCachingSpace {
             return Solid.of(bounds);
         });
     }
+
+    /**
+     * An immutable snapshot of the collision shapes of a 16x16x16 chunk section. Full and empty blocks are stored as
+     * bitsets; all other blocks store an index into the shared shape palette. Snapshots are never modified, so they can
+     * be read without locking; block changes replace the whole snapshot.
+     */
+    private static final class Section {
+        private static final int SIZE = 4096;
+        private static final int WORDS = SIZE / Long.SIZE;
+
+        private final long[] empty;
+        private final long[] full;
+        private final short[] shapes;
+
+        private Section(long[] empty, long[] full, short[] shapes) {
+            this.empty = empty;
+            this.full = full;
+            this.shapes = shapes;
+        }
+
+        @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+        private static Section load(Chunk chunk, int sectionY) {
+            long[] empty = new long[WORDS];
+            long[] full = new long[WORDS];
+            short[] shapes = null;
+
+            int baseX = chunk.getChunkX() << 4;
+            int baseY = sectionY << 4;
+            int baseZ = chunk.getChunkZ() << 4;
+
+            synchronized (chunk) {
+                for (int i = 0; i < SIZE; i++) {
+                    Block block = chunk.getBlock(baseX + (i & 15), baseY + (i >> 8), baseZ + ((i >> 4) & 15),
+                            Block.Getter.Condition.TYPE);
+
+                    Shape shape = block == null ? EMPTY_SHAPE : block.registry().collisionShape();
+                    if (shape.isEmpty()) {
+                        empty[i >> 6] |= 1L << i;
+                    }
+                    else if (shape.isFullBlock()) {
+                        full[i >> 6] |= 1L << i;
+                    }
+                    else {
+                        if (shapes == null) {
+                            shapes = new short[SIZE];
+                        }
+
+                        shapes[i] = (short)shapeId(shape);
+                    }
+                }
+            }
+
+            return new Section(empty, full, shapes);
+        }
+
+        private Shape shape(int index) {
+            long mask = 1L << index;
+            if ((empty[index >> 6] & mask) != 0) {
+                return EMPTY_SHAPE;
+            }
+
+            if ((full[index >> 6] & mask) != 0) {
+                return FULL_SHAPE;
+            }
+
+            return shapePalette[shapes[index]];
+        }
+
+        private Section with(int index, Shape shape) {
+            long[] newEmpty = empty.clone();
+            long[] newFull = full.clone();
+            short[] newShapes = shapes;
+
+            long mask = 1L << index;
+            newEmpty[index >> 6] &= ~mask;
+            newFull[index >> 6] &= ~mask;
+
+            if (shape.isEmpty()) {
+                newEmpty[index >> 6] |= mask;
+            }
+            else if (shape.isFullBlock()) {
+                newFull[index >> 6] |= mask;
+            }
+            else {
+                newShapes = shapes == null ? new short[SIZE] : shapes.clone();
+                newShapes[index] = (short)shapeId(shape);
+            }
+
+            return new Section(newEmpty, newFull, newShapes);
+        }
+    }
 }
@@ -1,8 +1,6 @@
 package org.phantazm.proxima.bindings.minestom;
 
-import com.github.steanky.proxima.node.Node;
 import com.github.steanky.proxima.path.Pathfinder;
-import com.github.steanky.vector.Vec3I2ObjectMap;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.instance.Instance;
@@ -10,20 +8,26 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public class InstanceSpawner implements Spawner {
-    public record InstanceSettings(@NotNull ThreadLocal<Vec3I2ObjectMap<Node>> nodeLocal,
-                                   @NotNull InstanceSpaceHandler spaceHandler) {
+    public record InstanceSettings(@NotNull InstanceSpaceHandler spaceHandler,
+                                   @NotNull PathScheduler pathScheduler) {
 
     }
 
     private final Pathfinder pathfinder;
+    private final NodeGraphPool graphPool;
+    private final Executor executor;
     private final Function<? super Instance, ? extends InstanceSettings> settingsFunction;
 
-    public InstanceSpawner(@NotNull Pathfinder pathfinder,
+    public InstanceSpawner(@NotNull Pathfinder pathfinder, @NotNull NodeGraphPool graphPool,
+            @NotNull Executor executor,
             @NotNull Function<? super Instance, ? extends InstanceSettings> settingsFunction) {
         this.pathfinder = Objects.requireNonNull(pathfinder, "pathfinder");
+        this.graphPool = Objects.requireNonNull(graphPool, "graphPool");
+        this.executor = Objects.requireNonNull(executor, "executor");
         this.settingsFunction = Objects.requireNonNull(settingsFunction, "settingsFunction");
     }
 
@@ -36,8 +40,9 @@ public class InstanceSpawner implements Spawner {
                     "Unable to spawn entity in instance " + instance.getUniqueId() + ", " + "missing InstanceSettings");
         }
 
-        Pathfinding pathfinding = factory.make(pathfinder, settings.nodeLocal, settings.spaceHandler, entityType);
+        Pathfinding pathfinding = factory.make(pathfinder, graphPool, executor, settings.spaceHandler, entityType);
         ProximaEntity entity = new ProximaEntity(entityType, UUID.randomUUID(), pathfinding);
+        entity.setPathScheduler(settings.pathScheduler);
         entity.setInstance(instance, pos);
 
         return entity;
@@ -0,0 +1,134 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.node.Node;
+import com.github.steanky.vector.Bounds3I;
+import com.github.steanky.vector.HashVec3I2ObjectMap;
+import com.github.steanky.vector.Vec3I2ObjectMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded pool of node graphs, shared by every instance. A path search leases a graph when it starts, and the
+ * {@link PooledPathOperation} running it returns the graph once it is cleaned up; returned graphs are cleared and kept
+ * for reuse, up to a fixed number. Graphs that are leased while the pool is empty are created on demand, and are
+ * discarded on return if the pool is already full, so the memory retained by the pool does not depend on the number of
+ * instances or pathfinder threads.
+ * <p>
+ * Graphs cover every position a Minecraft instance can contain.
+ * <p>
+ * This class is thread-safe.
+ */
+public class NodeGraphPool {
+    /**
+     * Bounds covering the largest possible world border and dimension height.
+     */
+    public static final Bounds3I GRAPH_BOUNDS =
+            Bounds3I.immutable(-30000000, -2032, -30000000, 60000000, 4064, 60000000);
+
+    private final int maxRetained;
+    private final Queue<Vec3I2ObjectMap<Node>> graphs;
+
+    private final AtomicInteger retained;
+    private final AtomicInteger leased;
+    private final AtomicInteger highWaterLeased;
+    private final AtomicLong createdCount;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maxRetained the maximum number of idle graphs to keep
+     */
+    public NodeGraphPool(int maxRetained) {
+        if (maxRetained < 0) {
+            throw new IllegalArgumentException("maxRetained must be non-negative");
+        }
+
+        this.maxRetained = maxRetained;
+        this.graphs = new ConcurrentLinkedQueue<>();
+
+        this.retained = new AtomicInteger();
+        this.leased = new AtomicInteger();
+        this.highWaterLeased = new AtomicInteger();
+        this.createdCount = new AtomicLong();
+    }
+
+    /**
+     * Leases an empty graph from this pool, creating one if none are idle.
+     *
+     * @return an empty graph
+     */
+    public @NotNull Vec3I2ObjectMap<Node> lease() {
+        int currentLeased = leased.incrementAndGet();
+        highWaterLeased.accumulateAndGet(currentLeased, Math::max);
+
+        Vec3I2ObjectMap<Node> graph = graphs.poll();
+        if (graph != null) {
+            retained.decrementAndGet();
+            return graph;
+        }
+
+        createdCount.incrementAndGet();
+        return new HashVec3I2ObjectMap<>(GRAPH_BOUNDS);
+    }
+
+    /**
+     * Returns a graph previously obtained from {@link NodeGraphPool#lease()}. The graph is cleared, and must not be
+     * used by the caller afterwards.
+     *
+     * @param graph the graph to return
+     */
+    public void release(@NotNull Vec3I2ObjectMap<Node> graph) {
+        Objects.requireNonNull(graph, "graph");
+        leased.decrementAndGet();
+
+        if (retained.incrementAndGet() > maxRetained) {
+            retained.decrementAndGet();
+            return;
+        }
+
+        graph.clear();
+        graphs.offer(graph);
+    }
+
+    /**
+     * Gets the number of idle graphs currently kept by this pool.
+     *
+     * @return the number of idle graphs
+     */
+    public int size() {
+        return retained.get();
+    }
+
+    /**
+     * Gets the number of graphs currently leased. Every lease is ended by exactly one release, so this only counts
+     * graphs used by searches that are still running.
+     *
+     * @return the number of leased graphs
+     */
+    public int leasedCount() {
+        return leased.get();
+    }
+
+    /**
+     * Gets the largest number of graphs that have been leased at the same time.
+     *
+     * @return the high-water mark of leased graphs
+     */
+    public int highWaterLeased() {
+        return highWaterLeased.get();
+    }
+
+    /**
+     * Gets the total number of graphs this pool has created.
+     *
+     * @return the number of created graphs
+     */
+    public long createdCount() {
+        return createdCount.get();
+    }
+}
@@ -0,0 +1,217 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Limits how many path searches the {@link ProximaEntity}s in a single instance may submit per tick, and how often
+ * they recalculate their paths.
+ * <p>
+ * Entities that want to search queue a request instead of submitting it directly. Every tick, the requests from the
+ * entities closest to a player are submitted first, up to the configured limit; the others are deferred to the next
+ * tick. Deferred requests gain priority the longer they wait, so distant entities are not starved. When the queue is
+ * full, the request from the entity furthest from any player is dropped.
+ * <p>
+ * Entities that are far from their target, or that no player can see, recalculate their paths less often.
+ * <p>
+ * This class is thread-safe.
+ */
+public class PathScheduler {
+    /**
+     * Settings for a {@link PathScheduler}.
+     *
+     * @param maxSubmissionsPerTick the maximum number of path searches submitted per tick
+     * @param maxQueueSize          the maximum number of queued requests
+     * @param nearDistance          entities closer than this to their target recalculate their paths normally
+     * @param farDistance           entities further than this from their target use the full far delay factor
+     * @param farDelayFactor        the factor applied to the recalculation delay of entities far from their target
+     * @param hiddenDelayFactor     the factor applied to the recalculation delay of entities no player can see
+     * @param maxRecalculationDelay the maximum recalculation delay, in milliseconds, after applying all factors
+     */
+    public record Settings(int maxSubmissionsPerTick,
+                           int maxQueueSize,
+                           double nearDistance,
+                           double farDistance,
+                           double farDelayFactor,
+                           double hiddenDelayFactor,
+                           long maxRecalculationDelay) {
+        public static final Settings DEFAULT = new Settings(20, 500, 16, 48, 4, 2, 10000);
+    }
+
+    private static final class Request {
+        private final ProximaEntity entity;
+        private int waitedTicks;
+        private double priority;
+
+        private Request(ProximaEntity entity) {
+            this.entity = entity;
+        }
+    }
+
+    private final Instance instance;
+    private final Settings settings;
+    private final PathSchedulerMetrics metrics;
+
+    private final Map<ProximaEntity, Request> requests;
+    private final List<Request> order;
+
+    public PathScheduler(@NotNull Instance instance, @NotNull Settings settings) {
+        this.instance = Objects.requireNonNull(instance, "instance");
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.metrics = new PathSchedulerMetrics();
+        this.requests = new IdentityHashMap<>();
+        this.order = new ArrayList<>();
+    }
+
+    /**
+     * Queues a path search for the given entity. The entity's {@link ProximaEntity#submitPath()} method will be
+     * called once the request is granted. Requesting a search for an entity which already has one queued does
+     * nothing.
+     *
+     * @param entity the entity requesting a path search
+     */
+    public synchronized void request(@NotNull ProximaEntity entity) {
+        if (requests.containsKey(entity)) {
+            return;
+        }
+
+        if (requests.size() >= settings.maxQueueSize && !dropFurthest(entity)) {
+            return;
+        }
+
+        requests.put(entity, new Request(entity));
+        metrics.setQueueDepth(requests.size());
+    }
+
+    /**
+     * Removes the queued request for the given entity, if any.
+     *
+     * @param entity the entity whose request should be removed
+     */
+    public synchronized void cancel(@NotNull ProximaEntity entity) {
+        if (requests.remove(entity) != null) {
+            metrics.setQueueDepth(requests.size());
+        }
+    }
+
+    /**
+     * Submits queued requests, up to the per-tick limit. Should be called once per instance tick.
+     */
+    public synchronized void tick() {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Collection<Player> players = instance.getPlayers();
+        for (Request request : requests.values()) {
+            request.priority = nearestPlayerDistanceSquared(request.entity, players) / (1 + request.waitedTicks);
+            order.add(request);
+        }
+
+        order.sort(Comparator.comparingDouble(request -> request.priority));
+
+        int submitted = Math.min(order.size(), settings.maxSubmissionsPerTick);
+        for (int i = 0; i < submitted; i++) {
+            ProximaEntity entity = order.get(i).entity;
+            requests.remove(entity);
+            entity.submitPath();
+        }
+
+        for (int i = submitted; i < order.size(); i++) {
+            order.get(i).waitedTicks++;
+        }
+
+        metrics.recordTick(submitted, order.size() - submitted, requests.size());
+        order.clear();
+    }
+
+    /**
+     * Computes the factor by which the given entity's path recalculation delay should be multiplied, based on its
+     * distance from its target and whether any player can see it.
+     *
+     * @param entity the entity
+     * @return the recalculation delay factor, at least 1
+     */
+    public double delayFactor(@NotNull ProximaEntity entity) {
+        double factor = 1;
+
+        Entity target = entity.getTargetEntity();
+        if (target != null) {
+            double distance = Math.sqrt(entity.getDistanceSquared(target));
+            if (distance >= settings.farDistance) {
+                factor = settings.farDelayFactor;
+            }
+            else if (distance > settings.nearDistance) {
+                double progress = (distance - settings.nearDistance) / (settings.farDistance - settings.nearDistance);
+                factor = 1 + (settings.farDelayFactor - 1) * progress;
+            }
+        }
+
+        if (entity.getViewers().isEmpty()) {
+            factor *= settings.hiddenDelayFactor;
+        }
+
+        return Math.max(1, factor);
+    }
+
+    /**
+     * Applies {@link PathScheduler#delayFactor(ProximaEntity)} to a recalculation delay, respecting the maximum
+     * delay. Delays already above the maximum are left unchanged.
+     *
+     * @param entity the entity
+     * @param delay  the recalculation delay computed by the entity's {@link Pathfinding}
+     * @return the adjusted delay
+     */
+    public long adjustDelay(@NotNull ProximaEntity entity, long delay) {
+        long adjusted = (long)(delay * delayFactor(entity));
+        return Math.max(delay, Math.min(adjusted, settings.maxRecalculationDelay));
+    }
+
+    public @NotNull PathSchedulerMetrics metrics() {
+        return metrics;
+    }
+
+    private boolean dropFurthest(ProximaEntity newEntity) {
+        Collection<Player> players = instance.getPlayers();
+        Request furthest = null;
+        double furthestDistance = nearestPlayerDistanceSquared(newEntity, players);
+
+        for (Request request : requests.values()) {
+            double distance = nearestPlayerDistanceSquared(request.entity, players);
+            if (distance > furthestDistance) {
+                furthestDistance = distance;
+                furthest = request;
+            }
+        }
+
+        if (furthest == null) {
+            //the new request is the furthest one
+            newEntity.pathRequestDropped();
+            metrics.recordDropped();
+            return false;
+        }
+
+        requests.remove(furthest.entity);
+        furthest.entity.pathRequestDropped();
+        metrics.recordDropped();
+        return true;
+    }
+
+    private static double nearestPlayerDistanceSquared(ProximaEntity entity, Collection<Player> players) {
+        Pos position = entity.getPosition();
+        double nearest = Double.MAX_VALUE;
+        for (Player player : players) {
+            double distance = player.getPosition().distanceSquared(position);
+            if (distance < nearest) {
+                nearest = distance;
+            }
+        }
+
+        return nearest;
+    }
+}
@@ -0,0 +1,56 @@
+package org.phantazm.proxima.bindings.minestom;
+
+/**
+ * Counters for a single {@link PathScheduler}. Values are written by whichever thread ticks the scheduler's instance
+ * and may be read from any thread.
+ */
+public final class PathSchedulerMetrics {
+    private volatile int queueDepth;
+    private volatile int maxQueueDepth;
+    private volatile long submittedCount;
+    private volatile long deferredCount;
+    private volatile long droppedCount;
+
+    void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+        if (queueDepth > maxQueueDepth) {
+            maxQueueDepth = queueDepth;
+        }
+    }
+
+    void recordTick(int submitted, int deferred, int queueDepth) {
+        submittedCount += submitted;
+        deferredCount += deferred;
+        setQueueDepth(queueDepth);
+    }
+
+    void recordDropped() {
+        droppedCount++;
+    }
+
+    public int queueDepth() {
+        return queueDepth;
+    }
+
+    public int maxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    public long submittedCount() {
+        return submittedCount;
+    }
+
+    /**
+     * Gets the number of times a queued request had to wait for a later tick. A request deferred over several ticks
+     * is counted once per tick.
+     *
+     * @return the number of deferrals
+     */
+    public long deferredCount() {
+        return deferredCount;
+    }
+
+    public long droppedCount() {
+        return droppedCount;
+    }
+}
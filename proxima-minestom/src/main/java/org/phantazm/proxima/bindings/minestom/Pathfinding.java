@@ -19,10 +19,12 @@ import com.github.steanky.vector.Vec3I2ObjectMap;
 import com.github.steanky.vector.Vec3IBiPredicate;
 import net.minestom.server.entity.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.phantazm.proxima.bindings.minestom.controller.Controller;
 import org.phantazm.proxima.bindings.minestom.controller.GroundController;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiPredicate;
 
@@ -30,13 +32,24 @@ public class Pathfinding {
     public static final double PATH_EPSILON = 1E-3;
 
     public interface Factory {
-        @NotNull Pathfinding make(@NotNull Pathfinder pathfinder,
-                @NotNull ThreadLocal<Vec3I2ObjectMap<Node>> nodeMapLocal, @NotNull InstanceSpaceHandler spaceHandler,
+        /**
+         * Creates the {@link Pathfinding} of a single entity.
+         *
+         * @param pathfinder   the pathfinder which runs searches
+         * @param graphPool    the pool that leases node graphs to searches
+         * @param executor     the {@link Executor} of the pathfinder's threads, for other work that should not run on
+         *                     the tick thread
+         * @param spaceHandler the space handler of the entity's instance
+         * @param entityType   the type of the entity
+         * @return the new pathfinding
+         */
+        @NotNull Pathfinding make(@NotNull Pathfinder pathfinder, @NotNull NodeGraphPool graphPool,
+                @NotNull Executor executor, @NotNull InstanceSpaceHandler spaceHandler,
                 @NotNull EntityType entityType);
     }
 
     protected final Pathfinder pathfinder;
-    protected final ThreadLocal<Vec3I2ObjectMap<Node>> nodeMapLocal;
+    protected final NodeGraphPool graphPool;
     protected final InstanceSpaceHandler spaceHandler;
     protected final EntityType entityType;
 
@@ -51,10 +64,10 @@ public class Pathfinding {
     protected PathSettings pathSettings;
     protected Controller controller;
 
-    public Pathfinding(@NotNull Pathfinder pathfinder, @NotNull ThreadLocal<Vec3I2ObjectMap<Node>> nodeMapLocal,
+    public Pathfinding(@NotNull Pathfinder pathfinder, @NotNull NodeGraphPool graphPool,
             @NotNull InstanceSpaceHandler spaceHandler, @NotNull EntityType entityType) {
         this.pathfinder = Objects.requireNonNull(pathfinder, "pathfinder");
-        this.nodeMapLocal = Objects.requireNonNull(nodeMapLocal, "nodeMapLocal");
+        this.graphPool = Objects.requireNonNull(graphPool, "graphPool");
         this.spaceHandler = Objects.requireNonNull(spaceHandler, "spaceHandler");
         this.entityType = Objects.requireNonNull(entityType, "entityType");
     }
@@ -84,6 +97,18 @@ public class Pathfinding {
         return (oldPosition, newPosition) -> oldPosition.distanceSquaredTo(newPosition) > 2;
     }
 
+    /**
+     * Gets the {@link FlowField} shared by all entities chasing the given target, if this pathfinding mode uses flow
+     * fields. Entities that are inside the returned field follow it instead of running their own search; the default
+     * implementation returns {@code null}, so every entity always navigates on its own.
+     *
+     * @param targetEntity the target entity
+     * @return the flow field leading to the target, or {@code null} if flow fields are not used
+     */
+    public @Nullable FlowField flowField(@NotNull Entity targetEntity) {
+        return null;
+    }
+
     public boolean isValidTarget(@NotNull Entity targetEntity) {
         boolean entityValid = !targetEntity.isRemoved() && targetEntity.getInstance() == spaceHandler.instance();
         if (entityValid && targetEntity instanceof Player player) {
@@ -123,7 +148,8 @@ public class Pathfinding {
 
             @Override
             public @NotNull Vec3I2ObjectMap<Node> graph() {
-                return nodeMapLocal.get();
+                //called once per search; the PooledPathOperation running it releases the graph when cleaned up
+                return graphPool.lease();
             }
 
             @Override
@@ -0,0 +1,97 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.Heuristic;
+import com.github.steanky.proxima.explorer.Explorer;
+import com.github.steanky.proxima.node.Node;
+import com.github.steanky.proxima.node.NodeProcessor;
+import com.github.steanky.proxima.path.BasicPathOperation;
+import com.github.steanky.proxima.path.PathSettings;
+import com.github.steanky.proxima.path.PathTarget;
+import com.github.steanky.vector.Vec3I2ObjectMap;
+import com.github.steanky.vector.Vec3IBiPredicate;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A {@link BasicPathOperation} that returns the node graph of each search to a {@link NodeGraphPool} once the search
+ * is cleaned up. The graph leased by the search's settings is kept by the operation itself, so the lease is owned by
+ * the operation rather than by the entity that submitted it or the thread that runs it. Cleanup happens whether the
+ * search completes, fails, or its result is never read because the navigator was cancelled, so every lease is released
+ * exactly once.
+ */
+public class PooledPathOperation extends BasicPathOperation {
+    private final NodeGraphPool graphPool;
+
+    private Vec3I2ObjectMap<Node> graph;
+
+    /**
+     * Creates a new operation.
+     *
+     * @param graphPool the pool that leased the graphs used by this operation
+     */
+    public PooledPathOperation(@NotNull NodeGraphPool graphPool) {
+        this.graphPool = Objects.requireNonNull(graphPool, "graphPool");
+    }
+
+    @Override
+    public void init(int startX, int startY, int startZ, @NotNull PathTarget destination,
+            @NotNull PathSettings settings) {
+        //an operation runs one search at a time, so a graph still held here belongs to a search never cleaned up
+        releaseGraph();
+        super.init(startX, startY, startZ, destination, new LeaseTrackingSettings(settings));
+    }
+
+    @Override
+    public void cleanup() {
+        try {
+            super.cleanup();
+        }
+        finally {
+            releaseGraph();
+        }
+    }
+
+    private void releaseGraph() {
+        Vec3I2ObjectMap<Node> graph = this.graph;
+        if (graph != null) {
+            this.graph = null;
+            graphPool.release(graph);
+        }
+    }
+
+    private final class LeaseTrackingSettings implements PathSettings {
+        private final PathSettings settings;
+
+        private LeaseTrackingSettings(PathSettings settings) {
+            this.settings = settings;
+        }
+
+        @Override
+        public @NotNull Vec3IBiPredicate successPredicate() {
+            return settings.successPredicate();
+        }
+
+        @Override
+        public @NotNull Explorer explorer() {
+            return settings.explorer();
+        }
+
+        @Override
+        public @NotNull Heuristic heuristic() {
+            return settings.heuristic();
+        }
+
+        @Override
+        public @NotNull Vec3I2ObjectMap<Node> graph() {
+            Vec3I2ObjectMap<Node> graph = settings.graph();
+            PooledPathOperation.this.graph = graph;
+            return graph;
+        }
+
+        @Override
+        public @NotNull NodeProcessor nodeProcessor() {
+            return settings.nodeProcessor();
+        }
+    }
+}
@@ -52,6 +52,12 @@ public class ProximaEntity extends LivingEntity {
 
     private int removalAnimationDelay = 1000;
 
+    private boolean followingField;
+
+    private PathScheduler pathScheduler;
+    private boolean pathRequested;
+    private boolean retryPath;
+
     public ProximaEntity(@NotNull EntityType entityType, @NotNull UUID uuid, @NotNull Pathfinding pathfinding) {
         super(entityType, uuid);
         this.pathfinding = Objects.requireNonNull(pathfinding, "pathfinding");
@@ -66,6 +72,21 @@ public class ProximaEntity extends LivingEntity {
         this.removalAnimationDelay = delay;
     }
 
+    /**
+     * Sets the {@link PathScheduler} this entity queues its path searches with. If {@code null}, searches are
+     * submitted directly.
+     *
+     * @param pathScheduler the scheduler to use
+     */
+    public void setPathScheduler(@Nullable PathScheduler pathScheduler) {
+        if (pathRequested) {
+            this.pathScheduler.cancel(this);
+            pathRequested = false;
+        }
+
+        this.pathScheduler = pathScheduler;
+    }
+
     private void cancelPath() {
         this.destination = null;
         pathfinding.getNavigator().cancel();
@@ -84,6 +105,15 @@ public class ProximaEntity extends LivingEntity {
         lastX = 0;
         lastY = 0;
         lastZ = 0;
+
+        followingField = false;
+
+        if (pathRequested) {
+            pathScheduler.cancel(this);
+            pathRequested = false;
+        }
+
+        retryPath = false;
     }
 
     public void setDestination(@Nullable PathTarget destination) {
@@ -113,7 +143,11 @@ public class ProximaEntity extends LivingEntity {
             return;
         }
 
-        this.destination = PathTarget.resolving(() -> {
+        this.destination = resolveDestination(targetEntity);
+    }
+
+    private PathTarget resolveDestination(Entity targetEntity) {
+        return PathTarget.resolving(() -> {
             if (!pathfinding.isValidTarget(targetEntity)) {
                 return null;
             }
@@ -195,16 +229,27 @@ public class ProximaEntity extends LivingEntity {
             lookAt(targetEntity);
         }
 
+        if (targetEntity != null && followFlowField(time)) {
+            return;
+        }
+
         if (navigator.navigationComplete()) {
             currentPath = navigator.getResult();
             if (!initPath(currentPath)) {
                 currentPath = null;
             }
         }
-        else if (destination != null && pathfinding.canPathfind(this) &&
-                (time - lastPathfind > recalculationDelay && destination.hasChanged())) {
-            navigator.navigate(position.x(), position.y(), position.z(), destination);
-            this.lastPathfind = time;
+        else if (destination != null && !pathRequested && pathfinding.canPathfind(this) &&
+                (time - lastPathfind > recalculationDelay && (retryPath || destination.hasChanged()))) {
+            if (pathScheduler == null) {
+                navigator.navigate(position.x(), position.y(), position.z(), destination);
+                this.lastPathfind = time;
+            }
+            else {
+                pathRequested = true;
+                retryPath = false;
+                pathScheduler.request(this);
+            }
         }
 
         if (currentPath != null && current != null && moveAlongPath(time)) {
@@ -212,6 +257,84 @@ public class ProximaEntity extends LivingEntity {
         }
     }
 
+    /**
+     * Moves this entity along the {@link FlowField} leading to its current target entity, if there is one and this
+     * entity is inside it. When this entity leaves the field, a new search towards the target is started.
+     *
+     * @param time the current time
+     * @return true if this entity followed a flow field this tick, false if it should navigate on its own
+     */
+    protected boolean followFlowField(long time) {
+        FlowField field = pathfinding.flowField(targetEntity);
+        if (field == null) {
+            return false;
+        }
+
+        field.update(targetEntity.getPosition(), time);
+
+        Node node = field.nodeAt(getPosition());
+        if (node == null) {
+            if (followingField) {
+                //we've left the field, so resume searching on our own
+                followingField = false;
+                current = null;
+                destination = resolveDestination(targetEntity);
+            }
+
+            return false;
+        }
+
+        if (!followingField) {
+            pathfinding.getNavigator().cancel();
+            currentPath = null;
+            followingField = true;
+        }
+
+        Node parent = node.parent;
+        if (parent == null) {
+            //we're standing on the target node
+            return true;
+        }
+
+        if (current != node) {
+            current = node;
+            target = parent;
+        }
+
+        if (moveAlongPath(time)) {
+            cancelPath();
+        }
+
+        return true;
+    }
+
+    /**
+     * Submits the path search this entity requested from its {@link PathScheduler}. Called by the scheduler once the
+     * request is granted.
+     */
+    void submitPath() {
+        pathRequested = false;
+        if (destination == null || !canNavigate() || !pathfinding.canPathfind(this)) {
+            //we can't search right now, but the destination change was already consumed
+            retryPath = destination != null;
+            return;
+        }
+
+        pathfinding.getNavigator().navigate(position.x(), position.y(), position.z(), destination);
+        this.lastPathfind = System.currentTimeMillis();
+    }
+
+    /**
+     * Called by this entity's {@link PathScheduler} when its queued request was dropped.
+     */
+    void pathRequestDropped() {
+        pathRequested = false;
+        retryPath = true;
+
+        //wait for our usual recalculation delay before asking again
+        this.lastPathfind = System.currentTimeMillis();
+    }
+
     protected void aiTick(long time) {
         for (GoalGroup group : goalGroups) {
             group.tick(time);
@@ -220,6 +343,9 @@ public class ProximaEntity extends LivingEntity {
 
     protected boolean initPath(@NotNull PathResult pathResult) {
         recalculationDelay = pathfinding.recalculationDelay(pathResult);
+        if (pathScheduler != null) {
+            recalculationDelay = pathScheduler.adjustDelay(this, recalculationDelay);
+        }
 
         Node head = pathResult.head();
         if (head == null) {
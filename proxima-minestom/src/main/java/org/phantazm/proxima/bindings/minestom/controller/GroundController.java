@@ -1,7 +1,6 @@
 package org.phantazm.proxima.bindings.minestom.controller;
 
 import com.github.steanky.proxima.node.Node;
-import com.github.steanky.vector.Vec3D;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.attribute.Attribute;
 import net.minestom.server.collision.CollisionUtils;
@@ -11,9 +10,7 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.LivingEntity;
-import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Chunk;
-import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.utils.position.PositionUtils;
 import org.jetbrains.annotations.NotNull;
@@ -21,14 +18,10 @@ import org.jetbrains.annotations.Nullable;
 import org.phantazm.commons.MathUtils;
 
 import java.util.Objects;
-import java.util.function.Predicate;
 
 public class GroundController implements Controller {
-    private static final double ENTITY_COLLISION_FACTOR = 10;
-
     private final LivingEntity entity;
     private final double step;
-    private final TrackerPredicate trackerPredicate;
 
     private boolean jumping;
     private double jumpTargetHeight;
@@ -50,72 +43,6 @@ public class GroundController implements Controller {
     public GroundController(@NotNull LivingEntity entity, float step) {
         this.entity = Objects.requireNonNull(entity, "entity");
         this.step = step;
-        this.trackerPredicate = new TrackerPredicate();
-    }
-
-    private class TrackerPredicate implements Predicate<LivingEntity> {
-        private Point entityPos;
-        private double vX;
-        private double vZ;
-
-        private int count;
-        private Vec3D sum;
-        private int iterations;
-
-        private TrackerPredicate() {
-        }
-
-        private void set(Point entityPos, double vX, double vZ) {
-            this.entityPos = entityPos;
-            this.vX = vX;
-            this.vZ = vZ;
-
-            this.count = 0;
-            this.sum = null;
-            this.iterations = 0;
-        }
-
-        @Override
-        public boolean test(LivingEntity candidate) {
-            if (candidate != entity && !(candidate instanceof Player) &&
-                    candidate.getBoundingBox().intersectEntity(candidate.getPosition(), entity)) {
-                count++;
-                iterations++;
-
-                Pos pos = candidate.getPosition();
-                if (sum == null) {
-                    sum = Vec3D.mutable(pos.x(), 0, pos.z());
-                }
-                else {
-                    sum.add(pos.x(), 0, pos.z());
-                }
-
-                double dx = pos.x() - entityPos.x();
-                double dz = pos.z() - entityPos.z();
-
-                double length = Math.sqrt(dx * dx + dz * dz);
-                double scaleFactor = 1D / Math.max(0.3, length);
-
-                Vec oldVelocity = entity.getVelocity();
-
-                if (length > 0.001) {
-                    candidate.setVelocity(new Vec(dx * scaleFactor, oldVelocity.y(), dz * scaleFactor));
-                }
-                else {
-                    double pZ = -vX;
-                    if (iterations % 2 == 0) {
-                        candidate.setVelocity(new Vec(vZ * scaleFactor * ENTITY_COLLISION_FACTOR, oldVelocity.y(),
-                                pZ * scaleFactor * ENTITY_COLLISION_FACTOR));
-                    }
-                    else {
-                        candidate.setVelocity(new Vec(-vZ * scaleFactor * ENTITY_COLLISION_FACTOR, oldVelocity.y(),
-                                -pZ * scaleFactor * ENTITY_COLLISION_FACTOR));
-                    }
-                }
-            }
-
-            return iterations >= 5;
-        }
     }
 
     @Override
@@ -143,21 +70,7 @@ public class GroundController implements Controller {
         assert instance != null;
 
         if (ticks++ % 4 == 0) { //only do entity-entity collision every 4 ticks
-            this.trackerPredicate.set(entityPos, vX, vZ);
-            instance.getEntityTracker().nearbyEntitiesUntil(entityPos, entity.getBoundingBox().width(),
-                    EntityTracker.Target.LIVING_ENTITIES, trackerPredicate);
-
-            if (trackerPredicate.count > 0) {
-                Vec3D average = trackerPredicate.sum;
-
-                //average is now the vector from the average overlapping entity position to the current entity
-                average.div(trackerPredicate.count).sub(entityPos.x(), 0, entityPos.z());
-
-                if (average.lengthSquared() < entity.getEntityType().width() * entity.getEntityType().width()) {
-                    entity.setVelocity(new Vec(-average.x() * MinecraftServer.TICK_PER_SECOND, entity.getVelocity().y(),
-                            -average.z() * MinecraftServer.TICK_PER_SECOND));
-                }
-            }
+            separate(instance, entityPos, vX, vZ);
         }
 
         //make sure speedX and speedZ cannot extend past the target
@@ -220,6 +133,40 @@ public class GroundController implements Controller {
         }
     }
 
+    private void separate(Instance instance, Pos entityPos, double vX, double vZ) {
+        SeparationGrid grid = SeparationGrid.of(instance);
+        int index = grid.indexOf(entity);
+        if (index == -1) {
+            return;
+        }
+
+        int count = grid.overlapCount(index);
+        if (count == 0) {
+            return;
+        }
+
+        //the vector from the current entity to the average overlapping entity position
+        double averageX = grid.overlapSumX(index) / count - entityPos.x();
+        double averageZ = grid.overlapSumZ(index) / count - entityPos.z();
+
+        double lengthSquared = averageX * averageX + averageZ * averageZ;
+        double width = entity.getEntityType().width();
+        if (lengthSquared >= width * width) {
+            return;
+        }
+
+        if (lengthSquared < Vec.EPSILON) {
+            //we're right on top of the others, so step aside perpendicular to our movement
+            //entities pick opposite sides based on their id, so that they don't move together
+            double sign = (entity.getEntityId() & 1) == 0 ? 1 : -1;
+            averageX = vZ * sign;
+            averageZ = -vX * sign;
+        }
+
+        entity.setVelocity(new Vec(-averageX * MinecraftServer.TICK_PER_SECOND, entity.getVelocity().y(),
+                -averageZ * MinecraftServer.TICK_PER_SECOND));
+    }
+
     private void stepOrJump(double nodeDiff, double speedX, double speedZ, Instance instance, Vec deltaMove, Pos pos) {
         if (nodeDiff > step) {
             entity.setVelocity(
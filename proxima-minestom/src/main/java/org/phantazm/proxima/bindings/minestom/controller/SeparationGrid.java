@@ -0,0 +1,257 @@
+package org.phantazm.proxima.bindings.minestom.controller;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.tag.Tag;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A uniform grid of the non-player living entities in an instance, shared by every {@link GroundController} in it.
+ * The grid is rebuilt at most once per tick, on the first query of that tick. The same pass finds, for every entity,
+ * the entities overlapping it, so controllers only read their precomputed separation instead of searching the entity
+ * tracker themselves. Queries do not allocate.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SeparationGrid {
+    private static final Tag<SeparationGrid> GRID_TAG = Tag.Transient("separation_grid");
+
+    private static final double CELL_SIZE = 2;
+    private static final int MAX_NEIGHBORS = 5;
+
+    private final Instance instance;
+
+    private final Reference2IntMap<Entity> indices;
+    private final Long2IntMap cellHeads;
+
+    private long builtAge;
+    private int size;
+
+    private Entity[] entities;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private double[] halfWidth;
+    private double[] height;
+    private int[] next;
+
+    private int[] counts;
+    private double[] sumX;
+    private double[] sumZ;
+
+    private SeparationGrid(Instance instance) {
+        this.instance = instance;
+
+        this.indices = new Reference2IntOpenHashMap<>();
+        this.indices.defaultReturnValue(-1);
+        this.cellHeads = new Long2IntOpenHashMap();
+        this.cellHeads.defaultReturnValue(-1);
+
+        this.builtAge = -1;
+        allocate(16);
+    }
+
+    /**
+     * Gets the grid shared by all entities in the given instance, creating it if necessary.
+     *
+     * @param instance the instance
+     * @return the instance's grid
+     */
+    public static @NotNull SeparationGrid of(@NotNull Instance instance) {
+        Objects.requireNonNull(instance, "instance");
+
+        SeparationGrid grid = instance.getTag(GRID_TAG);
+        if (grid != null) {
+            return grid;
+        }
+
+        synchronized (instance) {
+            grid = instance.getTag(GRID_TAG);
+            if (grid == null) {
+                grid = new SeparationGrid(instance);
+                instance.setTag(GRID_TAG, grid);
+            }
+
+            return grid;
+        }
+    }
+
+    /**
+     * Gets the index of the given entity in this tick's grid, rebuilding the grid first if it is out of date.
+     *
+     * @param entity the entity
+     * @return the entity's index, or -1 if it is not part of the grid
+     */
+    public synchronized int indexOf(@NotNull Entity entity) {
+        long age = instance.getWorldAge();
+        if (age != builtAge) {
+            build();
+            builtAge = age;
+        }
+
+        return indices.getInt(entity);
+    }
+
+    /**
+     * Forces the grid to be rebuilt on the next query, even if it was already built this tick.
+     */
+    public synchronized void invalidate() {
+        builtAge = -1;
+    }
+
+    /**
+     * Gets the number of entities overlapping the entity with the given index, up to 5.
+     *
+     * @param index the entity's index
+     * @return the number of overlapping entities
+     */
+    public synchronized int overlapCount(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the sum of the x-coordinates of the entities overlapping the entity with the given index.
+     *
+     * @param index the entity's index
+     * @return the sum of x-coordinates
+     */
+    public synchronized double overlapSumX(int index) {
+        return sumX[index];
+    }
+
+    /**
+     * Gets the sum of the z-coordinates of the entities overlapping the entity with the given index.
+     *
+     * @param index the entity's index
+     * @return the sum of z-coordinates
+     */
+    public synchronized double overlapSumZ(int index) {
+        return sumZ[index];
+    }
+
+    private void build() {
+        indices.clear();
+        cellHeads.clear();
+        size = 0;
+
+        for (Entity entity : instance.getEntityTracker().entities(EntityTracker.Target.LIVING_ENTITIES)) {
+            if (entity instanceof Player || entity.isRemoved() || !(entity instanceof LivingEntity)) {
+                continue;
+            }
+
+            if (size == entities.length) {
+                allocate(size * 2);
+            }
+
+            int i = size++;
+            Pos position = entity.getPosition();
+            BoundingBox boundingBox = entity.getBoundingBox();
+
+            entities[i] = entity;
+            x[i] = position.x();
+            y[i] = position.y();
+            z[i] = position.z();
+            halfWidth[i] = boundingBox.width() / 2;
+            height[i] = boundingBox.height();
+
+            indices.put(entity, i);
+
+            long cell = cell(cellCoordinate(x[i]), cellCoordinate(z[i]));
+            next[i] = cellHeads.get(cell);
+            cellHeads.put(cell, i);
+        }
+
+        for (int i = 0; i < size; i++) {
+            findOverlaps(i);
+        }
+
+        //don't keep removed entities alive
+        Arrays.fill(entities, size, entities.length, null);
+    }
+
+    private void findOverlaps(int i) {
+        int count = 0;
+        double totalX = 0;
+        double totalZ = 0;
+
+        int cellX = cellCoordinate(x[i]);
+        int cellZ = cellCoordinate(z[i]);
+
+        search:
+        for (int cx = cellX - 1; cx <= cellX + 1; cx++) {
+            for (int cz = cellZ - 1; cz <= cellZ + 1; cz++) {
+                for (int j = cellHeads.get(cell(cx, cz)); j != -1; j = next[j]) {
+                    if (j == i || !overlaps(i, j)) {
+                        continue;
+                    }
+
+                    count++;
+                    totalX += x[j];
+                    totalZ += z[j];
+
+                    if (count >= MAX_NEIGHBORS) {
+                        break search;
+                    }
+                }
+            }
+        }
+
+        counts[i] = count;
+        sumX[i] = totalX;
+        sumZ[i] = totalZ;
+    }
+
+    private boolean overlaps(int i, int j) {
+        double reach = halfWidth[i] + halfWidth[j];
+        return Math.abs(x[i] - x[j]) < reach && Math.abs(z[i] - z[j]) < reach && y[i] < y[j] + height[j] &&
+                y[j] < y[i] + height[i];
+    }
+
+    private void allocate(int capacity) {
+        int oldSize = entities == null ? 0 : entities.length;
+        if (oldSize == 0) {
+            entities = new Entity[capacity];
+            x = new double[capacity];
+            y = new double[capacity];
+            z = new double[capacity];
+            halfWidth = new double[capacity];
+            height = new double[capacity];
+            next = new int[capacity];
+            counts = new int[capacity];
+            sumX = new double[capacity];
+            sumZ = new double[capacity];
+            return;
+        }
+
+        entities = Arrays.copyOf(entities, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        halfWidth = Arrays.copyOf(halfWidth, capacity);
+        height = Arrays.copyOf(height, capacity);
+        next = Arrays.copyOf(next, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+        sumX = Arrays.copyOf(sumX, capacity);
+        sumZ = Arrays.copyOf(sumZ, capacity);
+    }
+
+    private static int cellCoordinate(double coordinate) {
+        return (int)Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long cell(int cellX, int cellZ) {
+        return ((long)cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,178 @@
+package org.phantazm.proxima.bindings.minestom;
+
+import com.github.steanky.proxima.node.Node;
+import com.github.steanky.proxima.solid.Solid;
+import com.github.steanky.proxima.space.Space;
+import net.minestom.server.coordinate.Vec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FlowFieldTest {
+    private static final int RADIUS = 8;
+    private static final long REFRESH_INTERVAL = 1000L;
+
+    private Queue<Runnable> tasks;
+    private Space space;
+
+    @BeforeEach
+    public void setup() {
+        tasks = new ArrayDeque<>();
+
+        //a flat floor at y = 0, with a wall along x = 3 from z = -1 to z = 1
+        space = mock(Space.class);
+        when(space.solidAt(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int x = invocation.getArgument(0);
+            int y = invocation.getArgument(1);
+            int z = invocation.getArgument(2);
+
+            if (y < 0 || (x == 3 && z >= -1 && z <= 1 && y < 3)) {
+                return Solid.FULL;
+            }
+
+            return Solid.EMPTY;
+        });
+    }
+
+    private FlowField field(Executor executor) {
+        return new FlowField(space, 2, 1, 4, RADIUS, REFRESH_INTERVAL, executor);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static Node target(Node node) {
+        while (node.parent != null) {
+            node = node.parent;
+        }
+
+        return node;
+    }
+
+    @Test
+    public void testFieldIsBuiltOnExecutor() {
+        FlowField field = field(tasks::add);
+
+        field.update(new Vec(0, 0, 0), 0);
+        assertEquals(1, tasks.size());
+        assertNull(field.nodeAt(new Vec(2, 0, 0)));
+
+        runTasks();
+
+        Node node = field.nodeAt(new Vec(2, 0, 0));
+        assertNotNull(node);
+        Node target = target(node);
+        assertEquals(0, target.x);
+        assertEquals(0, target.y);
+        assertEquals(0, target.z);
+    }
+
+    @Test
+    public void testOneBuildAtATime() {
+        FlowField field = field(tasks::add);
+
+        field.update(new Vec(0, 0, 0), 0);
+        field.update(new Vec(1, 0, 0), 1);
+        assertEquals(1, tasks.size());
+
+        runTasks();
+
+        //the target moved while the first build ran, so the next update starts another
+        field.update(new Vec(1, 0, 0), 2);
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void testPreviousFieldIsUsedUntilRebuildFinishes() {
+        FlowField field = field(tasks::add);
+        field.update(new Vec(0, 0, 0), 0);
+        runTasks();
+
+        field.update(new Vec(0, 0, 5), 1);
+        assertEquals(0, target(field.nodeAt(new Vec(2, 0, 0))).z);
+
+        runTasks();
+        assertEquals(5, target(field.nodeAt(new Vec(2, 0, 0))).z);
+    }
+
+    @Test
+    public void testUnchangedTargetIsNotRebuiltBeforeRefreshInterval() {
+        FlowField field = field(tasks::add);
+        field.update(new Vec(0, 0, 0), 0);
+        runTasks();
+
+        field.update(new Vec(0.5, 0, 0.5), REFRESH_INTERVAL - 1);
+        assertTrue(tasks.isEmpty());
+
+        field.update(new Vec(0.5, 0, 0.5), REFRESH_INTERVAL);
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void testFieldIsBoundedByRadius() {
+        FlowField field = field(Runnable::run);
+        field.update(new Vec(0, 0, 0), 0);
+
+        assertNotNull(field.nodeAt(new Vec(-RADIUS, 0, 0)));
+        assertNull(field.nodeAt(new Vec(-RADIUS - 1, 0, 0)));
+    }
+
+    @Test
+    public void testPathGoesAroundWall() {
+        FlowField field = field(Runnable::run);
+        field.update(new Vec(0, 0, 0), 0);
+
+        Node node = field.nodeAt(new Vec(5, 0, 0));
+        assertNotNull(node);
+
+        int steps = 0;
+        while (node.parent != null) {
+            assertFalse(node.x == 3 && node.z >= -1 && node.z <= 1, "path crosses the wall");
+            node = node.parent;
+            steps++;
+        }
+
+        //5 steps if the wall weren't there
+        assertTrue(steps > 5);
+    }
+
+    @Test
+    public void testTargetInMidAirIsIgnored() {
+        FlowField field = field(tasks::add);
+
+        field.update(new Vec(0, 20, 0), 0);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void testRejectedBuildIsRetried() {
+        boolean[] reject = new boolean[] {true};
+        FlowField field = field(task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException();
+            }
+
+            tasks.add(task);
+        });
+
+        field.update(new Vec(0, 0, 0), 0);
+        assertTrue(tasks.isEmpty());
+
+        reject[0] = false;
+        field.update(new Vec(0, 0, 0), 1);
+        assertEquals(1, tasks.size());
+    }
+}
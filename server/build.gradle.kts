@@ -1,8 +1,12 @@
 import org.phantazm.gradle.task.CopyLibs
 import org.phantazm.gradle.task.SetupServer
 
+// https://youtrack.jetbrains.com/issue/KTIJ-19369/False-positive-can-t-be-called-in-this-context-by-implicit-recei
+@Suppress("DSL_SCOPE_VIOLATION")
 plugins {
     id("phantazm.minestom-library-conventions")
+
+    alias(libs.plugins.jmh)
 }
 
 repositories {
@@ -27,6 +31,10 @@ dependencies {
     runtimeOnly(libs.sqlite)
 }
 
+jmh {
+    profilers.add("gc")
+}
+
 tasks.getByName<CopyLibs>("copyLibs") {
     libraryDirectory = File("run/server-1/libs")
 }
@@ -0,0 +1,66 @@
+package org.phantazm.server.player;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@link BasicLoginValidator} takes to load its ban and whitelist files at startup, for files of
+ * {@code entries} lines each. Every tenth ban line is followed by a pardon, so the journal replay path is exercised too.
+ * A construction is a single shot, since that is what a server start does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LoginValidatorLoadBenchmark {
+    @Param({"100000"})
+    public int entries;
+
+    private Path directory;
+    private Path whitelist;
+    private Path bans;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("login-validator");
+        whitelist = directory.resolve("whitelist.txt");
+        bans = directory.resolve("bans.txt");
+
+        try (BufferedWriter whitelistWriter = Files.newBufferedWriter(whitelist, StandardCharsets.UTF_8);
+             BufferedWriter banWriter = Files.newBufferedWriter(bans, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < entries; i++) {
+                whitelistWriter.write(UUID.randomUUID().toString());
+                whitelistWriter.newLine();
+
+                UUID banned = UUID.randomUUID();
+                banWriter.write(banned + ":<red>You have been banned for <bold>cheating</bold>.");
+                banWriter.newLine();
+                if (i % 10 == 0) {
+                    banWriter.write("-" + banned);
+                    banWriter.newLine();
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(whitelist);
+        Files.deleteIfExists(bans);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public LoginValidator load() {
+        return new BasicLoginValidator(true, whitelist, bans);
+    }
+}
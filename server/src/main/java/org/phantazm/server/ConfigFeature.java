@@ -11,10 +11,12 @@ import org.phantazm.server.config.loader.LobbiesConfigProcessor;
 import org.phantazm.server.config.loader.PathfinderConfigProcessor;
 import org.phantazm.server.config.loader.ServerConfigProcessor;
 import org.phantazm.server.config.loader.ShutdownConfigProcessor;
+import org.phantazm.server.config.loader.ZombiesConfigProcessor;
 import org.phantazm.server.config.lobby.LobbiesConfig;
 import org.phantazm.server.config.server.PathfinderConfig;
 import org.phantazm.server.config.server.ServerConfig;
 import org.phantazm.server.config.server.ShutdownConfig;
+import org.phantazm.server.config.server.ZombiesConfig;
 
 import java.nio.file.Path;
 
@@ -41,6 +43,11 @@ public final class ConfigFeature {
      */
     public static final Path SHUTDOWN_CONFIG_PATH = Path.of("./shutdown-config.toml");
 
+    /**
+     * The location of the Zombies configuration file.
+     */
+    public static final Path ZOMBIES_CONFIG_PATH = Path.of("./zombies-config.toml");
+
     /**
      * The {@link ConfigHandler.ConfigKey} instance used to refer to the primary {@link ServerConfig} loader.
      */
@@ -64,6 +71,12 @@ public final class ConfigFeature {
     public static final ConfigHandler.ConfigKey<ShutdownConfig> SHUTDOWN_CONFIG_KEY =
             new ConfigHandler.ConfigKey<>(ShutdownConfig.class, "pathfinder_config");
 
+    /**
+     * The {@link ConfigHandler.ConfigKey} instance used to refer to the primary {@link ZombiesConfig} loader.
+     */
+    public static final ConfigHandler.ConfigKey<ZombiesConfig> ZOMBIES_CONFIG_KEY =
+            new ConfigHandler.ConfigKey<>(ZombiesConfig.class, "zombies_config");
+
     private static ConfigHandler handler;
 
     private ConfigFeature() {
@@ -92,6 +105,10 @@ public final class ConfigFeature {
         handler.registerLoader(SHUTDOWN_CONFIG_KEY,
                 new SyncFileConfigLoader<>(new ShutdownConfigProcessor(), ShutdownConfig.DEFAULT, SHUTDOWN_CONFIG_PATH,
                         codec));
+
+        handler.registerLoader(ZOMBIES_CONFIG_KEY,
+                new SyncFileConfigLoader<>(new ZombiesConfigProcessor(), ZombiesConfig.DEFAULT, ZOMBIES_CONFIG_PATH,
+                        codec));
     }
 
     /**
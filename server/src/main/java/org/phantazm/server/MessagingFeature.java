@@ -5,8 +5,6 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
 import net.minestom.server.event.player.PlayerPluginMessageEvent;
-import net.minestom.server.utils.binary.BinaryReader;
-import net.minestom.server.utils.binary.BinaryWriter;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.Namespaces;
 import org.phantazm.messaging.MessageChannels;
@@ -15,8 +13,6 @@ import org.phantazm.messaging.packet.PacketHandler;
 import org.phantazm.messaging.serialization.PacketSerializer;
 import org.phantazm.messaging.serialization.PacketSerializers;
 import org.phantazm.server.config.server.AuthType;
-import org.phantazm.server.packet.BinaryDataReader;
-import org.phantazm.server.packet.BinaryDataWriter;
 
 import java.util.Map;
 
@@ -30,9 +26,7 @@ public final class MessagingFeature {
     }
 
     static void initialize(@NotNull EventNode<Event> global, @NotNull AuthType authType) {
-        PacketSerializer clientToServer =
-                PacketSerializers.clientToServerSerializer(() -> new BinaryDataWriter(new BinaryWriter()),
-                        data -> new BinaryDataReader(new BinaryReader(data)));
+        PacketSerializer clientToServer = PacketSerializers.clientToServerSerializer();
         Key clientToServerIdentifier = Key.key(Namespaces.PHANTAZM, MessageChannels.CLIENT_TO_SERVER);
         Map<String, PacketHandler<Player>> packetHandlers =
                 Map.of(MessageChannels.CLIENT_TO_SERVER, new PacketHandler<>(clientToServer) {
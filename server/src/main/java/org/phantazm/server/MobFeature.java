@@ -26,6 +26,7 @@ import org.phantazm.core.config.processor.MinestomConfigProcessors;
 import org.phantazm.mob.MobModel;
 import org.phantazm.mob.config.MobModelConfigProcessor;
 import org.phantazm.mob.goal.*;
+import org.phantazm.mob.meta.MetaCompiler;
 import org.phantazm.mob.skill.*;
 import org.phantazm.mob.target.*;
 import org.phantazm.mob.validator.AlwaysValid;
@@ -56,6 +57,7 @@ public final class MobFeature {
     private static ConfigProcessor<MobModel> MODEL_PROCESSOR;
     private static Map<Key, MobModel> models;
     private static Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap;
+    private static MetaCompiler metaCompiler;
 
     private MobFeature() {
         throw new UnsupportedOperationException();
@@ -112,6 +114,7 @@ public final class MobFeature {
                 ConfigProcessor.enumProcessor(Entity.Pose.class));
 
         MobFeature.processorMap = Map.copyOf(processorMap);
+        MobFeature.metaCompiler = new MetaCompiler(processorMap);
 
         loadModels(mobPath, codec);
     }
@@ -227,4 +230,13 @@ public final class MobFeature {
     public static @NotNull Map<BooleanObjectPair<String>, ConfigProcessor<?>> getProcessorMap() {
         return FeatureUtils.check(processorMap);
     }
+
+    /**
+     * Gets the {@link MetaCompiler} shared by all mob spawners.
+     *
+     * @return the shared {@link MetaCompiler}
+     */
+    public static @NotNull MetaCompiler getMetaCompiler() {
+        return FeatureUtils.check(metaCompiler);
+    }
 }
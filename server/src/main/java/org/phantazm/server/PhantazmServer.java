@@ -36,6 +36,7 @@ import org.phantazm.server.config.server.PathfinderConfig;
 import org.phantazm.server.config.server.ServerConfig;
 import org.phantazm.server.config.server.ServerInfoConfig;
 import org.phantazm.server.config.server.ShutdownConfig;
+import org.phantazm.server.config.server.ZombiesConfig;
 import org.phantazm.server.player.BasicLoginValidator;
 import org.phantazm.server.player.LoginValidator;
 import org.phantazm.zombies.equipment.EquipmentData;
@@ -83,6 +84,7 @@ public final class PhantazmServer {
         LobbiesConfig lobbiesConfig;
         PathfinderConfig pathfinderConfig;
         ShutdownConfig shutdownConfig;
+        ZombiesConfig zombiesConfig;
         try {
             LOGGER.info("Loading server configuration data.");
             ConfigFeature.initialize();
@@ -130,6 +132,7 @@ public final class PhantazmServer {
             lobbiesConfig = handler.loadDataNow(ConfigFeature.LOBBIES_CONFIG_KEY);
             pathfinderConfig = handler.loadDataNow(ConfigFeature.PATHFINDER_CONFIG_KEY);
             shutdownConfig = handler.loadDataNow(ConfigFeature.SHUTDOWN_CONFIG_KEY);
+            zombiesConfig = handler.loadDataNow(ConfigFeature.ZOMBIES_CONFIG_KEY);
             LOGGER.info("Server configuration loaded successfully.");
         }
         catch (ConfigProcessException e) {
@@ -144,7 +147,8 @@ public final class PhantazmServer {
         EventNode<Event> node = MinecraftServer.getGlobalEventHandler();
         try {
             LOGGER.info("Initializing features.");
-            initializeFeatures(node, serverConfig, shutdownConfig, pathfinderConfig, lobbiesConfig, loginValidator);
+            initializeFeatures(node, serverConfig, shutdownConfig, pathfinderConfig, lobbiesConfig, zombiesConfig,
+                    loginValidator);
             LOGGER.info("Features initialized successfully.");
         }
         catch (Exception exception) {
@@ -190,7 +194,7 @@ public final class PhantazmServer {
 
     private static void initializeFeatures(EventNode<Event> global, ServerConfig serverConfig,
             ShutdownConfig shutdownConfig, PathfinderConfig pathfinderConfig, LobbiesConfig lobbiesConfig,
-            LoginValidator loginValidator) throws Exception {
+            ZombiesConfig zombiesConfig, LoginValidator loginValidator) throws Exception {
         RouterStore routerStore = new BasicRouterStore();
         BlockHandlerFeature.initialize(MinecraftServer.getBlockManager());
 
@@ -234,14 +238,15 @@ public final class PhantazmServer {
                 mappingProcessorSource.processorFor(Token.ofClass(EquipmentData.class)));
 
         CommandManager commandManager = MinecraftServer.getCommandManager();
-        ZombiesFeature.initialize(global, contextManager, MobFeature.getProcessorMap(), ProximaFeature.getSpawner(),
+        ZombiesFeature.initialize(global, contextManager, MobFeature.getMetaCompiler(), ProximaFeature.getSpawner(),
                 keyParser, ProximaFeature.instanceSettingsFunction(), viewProvider, commandManager,
                 new CompositeFallback(List.of(LobbyFeature.getFallback(),
                         new KickFallback(Component.text("Failed to send you to lobby", NamedTextColor.RED)))),
-                PartyFeature.getPartyHolder().uuidToGuild(), routerStore);
+                PartyFeature.getPartyHolder().uuidToGuild(), routerStore, zombiesConfig);
 
         ServerCommandFeature.initialize(commandManager, loginValidator, serverConfig.serverInfoConfig().whitelist(),
-                mappingProcessorSource, codec, routerStore, shutdownConfig);
+                mappingProcessorSource, codec, routerStore, shutdownConfig, ProximaFeature::getPathSchedulerMetrics,
+                ProximaFeature.getGraphPool(), ZombiesFeature.getStatsWriter().metrics());
         ValidationFeature.initialize(global, loginValidator, ServerCommandFeature.permissionHandler());
 
         routerStore.putRouter(RouterKeys.ZOMBIES_SCENE_ROUTER, ZombiesFeature.zombiesSceneRouter());
@@ -2,7 +2,6 @@ package org.phantazm.server;
 
 import com.github.steanky.element.core.context.ContextManager;
 import com.github.steanky.proxima.path.BasicAsyncPathfinder;
-import com.github.steanky.proxima.path.BasicPathOperation;
 import com.github.steanky.proxima.path.Pathfinder;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventNode;
@@ -11,14 +10,16 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.proxima.bindings.minestom.*;
 import org.phantazm.server.config.server.PathfinderConfig;
 
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public final class ProximaFeature {
     private static Pathfinder pathfinder;
-    private static Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> settingsFunction;
+    private static InstanceSettingsFunction settingsFunction;
     private static Spawner spawner;
+    private static NodeGraphPool graphPool;
 
     private ProximaFeature() {
         throw new UnsupportedOperationException();
@@ -39,13 +40,21 @@ public final class ProximaFeature {
         ForkJoinPool fjp = new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, asyncMode,
                 corePoolSize, maximumPoolSize, minimumRunnable, forkJoinPool -> true, keepAliveTime, keepAliveTimeUnit);
 
-        pathfinder = new BasicAsyncPathfinder(fjp, BasicPathOperation::new, 1000000);
-        settingsFunction = new InstanceSettingsFunction(globalNode);
-        spawner = new InstanceSpawner(pathfinder, settingsFunction);
+        PathScheduler.Settings schedulerSettings =
+                new PathScheduler.Settings(pathfinderConfig.maxPathSubmissionsPerTick(),
+                        pathfinderConfig.maxPathQueueSize(), pathfinderConfig.lodNearDistance(),
+                        pathfinderConfig.lodFarDistance(), pathfinderConfig.lodFarDelayFactor(),
+                        pathfinderConfig.lodHiddenDelayFactor(), pathfinderConfig.maxRecalculationDelay());
+
+        graphPool = new NodeGraphPool(pathfinderConfig.maxRetainedNodeGraphs());
+        pathfinder = new BasicAsyncPathfinder(fjp, () -> new PooledPathOperation(graphPool), 1000000);
+        settingsFunction = new InstanceSettingsFunction(globalNode, schedulerSettings);
+        spawner = new InstanceSpawner(pathfinder, graphPool, fjp, settingsFunction);
     }
 
     private static void registerElementClasses(@NotNull ContextManager contextManager) {
         contextManager.registerElementClass(GroundPathfindingFactory.class);
+        contextManager.registerElementClass(FlowFieldPathfindingFactory.class);
     }
 
     public static @NotNull Pathfinder getPathfinder() {
@@ -56,7 +65,22 @@ public final class ProximaFeature {
         return FeatureUtils.check(settingsFunction);
     }
 
+    /**
+     * Gets the metrics of the path scheduler of the given instance, if entities have already been spawned in it.
+     *
+     * @param instance the instance
+     * @return the path scheduler metrics of the instance, or an empty optional if it has no path scheduler
+     */
+    public static @NotNull Optional<PathSchedulerMetrics> getPathSchedulerMetrics(@NotNull Instance instance) {
+        return FeatureUtils.check(settingsFunction).getExistingSettings(instance)
+                .map(settings -> settings.pathScheduler().metrics());
+    }
+
     public static @NotNull Spawner getSpawner() {
         return FeatureUtils.check(spawner);
     }
+
+    public static @NotNull NodeGraphPool getGraphPool() {
+        return FeatureUtils.check(graphPool);
+    }
 }
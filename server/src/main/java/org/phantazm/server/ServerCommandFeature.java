@@ -4,15 +4,22 @@ import com.github.steanky.ethylene.core.ConfigCodec;
 import com.github.steanky.ethylene.mapper.MappingProcessorSource;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.CommandManager;
+import net.minestom.server.instance.Instance;
 import net.minestom.server.permission.Permission;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.game.scene.RouterStore;
 import org.phantazm.core.player.IdentitySource;
+import org.phantazm.proxima.bindings.minestom.NodeGraphPool;
+import org.phantazm.proxima.bindings.minestom.PathSchedulerMetrics;
 import org.phantazm.server.command.server.*;
 import org.phantazm.server.config.server.ShutdownConfig;
 import org.phantazm.server.permission.FilePermissionHandler;
 import org.phantazm.server.permission.PermissionHandler;
 import org.phantazm.server.player.LoginValidator;
+import org.phantazm.stats.zombies.ZombiesStatsWriterMetrics;
+
+import java.util.Optional;
+import java.util.function.Function;
 
 public final class ServerCommandFeature {
     public static final Permission ALL_PERMISSIONS = new Permission("*");
@@ -25,7 +32,9 @@ public final class ServerCommandFeature {
     static void initialize(@NotNull CommandManager commandManager, @NotNull LoginValidator loginValidator,
             boolean whitelist, @NotNull MappingProcessorSource mappingProcessorSource,
             @NotNull ConfigCodec permissionsCodec, @NotNull RouterStore routerStore,
-            @NotNull ShutdownConfig shutdownConfig) {
+            @NotNull ShutdownConfig shutdownConfig,
+            @NotNull Function<? super Instance, Optional<PathSchedulerMetrics>> pathSchedulerMetrics,
+            @NotNull NodeGraphPool graphPool, @NotNull ZombiesStatsWriterMetrics statsWriterMetrics) {
         ServerCommandFeature.permissionHandler =
                 new FilePermissionHandler(mappingProcessorSource, permissionsCodec, PhantazmServer.PERMISSIONS_FILE);
 
@@ -36,7 +45,7 @@ public final class ServerCommandFeature {
         commandManager.register(new PermissionCommand(permissionHandler, IdentitySource.MOJANG));
         commandManager.register(
                 new OrderlyShutdownCommand(routerStore, shutdownConfig, MinecraftServer.getGlobalEventHandler()));
-        commandManager.register(new DebugCommand());
+        commandManager.register(new DebugCommand(pathSchedulerMetrics, graphPool, statsWriterMetrics));
 
         commandManager.getConsoleSender().addPermission(ALL_PERMISSIONS);
     }
@@ -4,10 +4,8 @@ import com.github.steanky.element.core.context.ContextManager;
 import com.github.steanky.element.core.key.KeyParser;
 import com.github.steanky.ethylene.codec.yaml.YamlCodec;
 import com.github.steanky.ethylene.core.ConfigCodec;
-import com.github.steanky.ethylene.core.processor.ConfigProcessor;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import it.unimi.dsi.fastutil.booleans.BooleanObjectPair;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.key.Keyed;
 import net.minestom.server.MinecraftServer;
@@ -39,8 +37,10 @@ import org.phantazm.core.item.StaticUpdatingItem;
 import org.phantazm.core.particle.ParticleWrapper;
 import org.phantazm.core.particle.data.*;
 import org.phantazm.core.player.PlayerViewProvider;
+import org.phantazm.mob.meta.MetaCompiler;
 import org.phantazm.proxima.bindings.minestom.InstanceSpawner;
 import org.phantazm.proxima.bindings.minestom.Spawner;
+import org.phantazm.server.config.server.ZombiesConfig;
 import org.phantazm.stats.zombies.*;
 import org.phantazm.zombies.Attributes;
 import org.phantazm.zombies.command.ZombiesCommand;
@@ -79,9 +79,11 @@ import org.phantazm.zombies.powerup.predicate.TimedDeactivationPredicate;
 import org.phantazm.zombies.powerup.action.BossBarTimerAction;
 import org.phantazm.zombies.powerup.visual.HologramVisual;
 import org.phantazm.zombies.powerup.visual.ItemVisual;
+import org.phantazm.zombies.scene.PlayerSceneIndex;
 import org.phantazm.zombies.scene.ZombiesScene;
 import org.phantazm.zombies.scene.ZombiesSceneProvider;
 import org.phantazm.zombies.scene.ZombiesSceneRouter;
+import org.phantazm.zombies.scene.ZombiesSceneTicker;
 import org.phantazm.zombies.sidebar.SidebarUpdater;
 import org.phantazm.zombies.sidebar.lineupdater.*;
 import org.phantazm.zombies.sidebar.lineupdater.condition.StateConditionCreator;
@@ -92,6 +94,7 @@ import org.phantazm.zombies.sidebar.lineupdater.creator.ZombieKillsUpdaterCreato
 import org.phantazm.zombies.sidebar.section.CollectionSidebarSection;
 import org.phantazm.zombies.sidebar.section.ZombiesPlayerSection;
 import org.phantazm.zombies.sidebar.section.ZombiesPlayersSection;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -100,7 +103,10 @@ import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 public final class ZombiesFeature {
@@ -115,23 +121,26 @@ public final class ZombiesFeature {
     private static MobSpawnerSource mobSpawnerSource;
     private static ZombiesSceneRouter sceneRouter;
     private static ExecutorService databaseExecutor;
+    private static ScheduledExecutorService statsWriterExecutor;
+    private static ExecutorService sceneCreationExecutor;
+    private static ForkJoinPool sceneTickPool;
     private static HikariDataSource dataSource;
+    private static ZombiesStatsWriter statsWriter;
     private static ZombiesDatabase database;
 
     static void initialize(@NotNull EventNode<Event> globalEventNode, @NotNull ContextManager contextManager,
-            @NotNull Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap, @NotNull Spawner spawner,
-            @NotNull KeyParser keyParser,
+            @NotNull MetaCompiler metaCompiler, @NotNull Spawner spawner, @NotNull KeyParser keyParser,
             @NotNull Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> instanceSpaceFunction,
             @NotNull PlayerViewProvider viewProvider, @NotNull CommandManager commandManager,
             @NotNull SceneFallback sceneFallback, @NotNull Map<? super UUID, ? extends Party> parties,
-            @NotNull RouterStore routerStore) throws IOException {
+            @NotNull RouterStore routerStore, @NotNull ZombiesConfig zombiesConfig) throws IOException {
         Attributes.registerAll();
         registerElementClasses(contextManager);
 
         ConfigCodec codec = new YamlCodec();
         ZombiesFeature.maps = loadFeature("map", new FileSystemMapLoader(MAPS_FOLDER, codec));
         ZombiesFeature.powerups = loadFeature("powerup", new FileSystemPowerupLoader(POWERUPS_FOLDER, codec));
-        ZombiesFeature.mobSpawnerSource = new BasicMobSpawnerSource(processorMap, spawner, keyParser);
+        ZombiesFeature.mobSpawnerSource = new BasicMobSpawnerSource(metaCompiler, spawner, keyParser);
 
         InstanceLoader instanceLoader =
                 new AnvilFileSystemInstanceLoader(MinecraftServer.getInstanceManager(), INSTANCES_FOLDER,
@@ -145,6 +154,7 @@ public final class ZombiesFeature {
         }
 
         Map<Key, ZombiesSceneProvider> providers = new HashMap<>(maps.size());
+        PlayerSceneIndex playerIndex = new PlayerSceneIndex();
         TeamManager teamManager = MinecraftServer.getTeamManager();
 
         // https://bugs.mojang.com/browse/MC-87984
@@ -158,10 +168,37 @@ public final class ZombiesFeature {
         HikariConfig config = new HikariConfig("./zombies.hikari.properties");
         dataSource = new HikariDataSource(config);
         ZombiesSQLFetcher sqlFetcher = new JooqZombiesSQLFetcher();
-        database = new SQLZombiesDatabase(databaseExecutor, dataSource, sqlFetcher);
+        statsWriterExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Phantazm-Stats-Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        statsWriter = new ZombiesStatsWriter(statsWriterExecutor, dataSource, sqlFetcher,
+                new ZombiesStatsWriter.Settings(zombiesConfig.statsBatchSize(), zombiesConfig.statsFlushInterval(),
+                        zombiesConfig.maxPendingStats(), zombiesConfig.maxStatsRetries(),
+                        zombiesConfig.statsRetryDelay()));
+        database = new SQLZombiesDatabase(databaseExecutor, dataSource, sqlFetcher, statsWriter,
+                zombiesConfig.bestTimeCacheSize());
+
+        int sceneCreationThreads = zombiesConfig.sceneCreationThreads();
+        if (sceneCreationThreads > 0) {
+            AtomicInteger threadCount = new AtomicInteger();
+            sceneCreationExecutor = Executors.newFixedThreadPool(sceneCreationThreads, runnable -> {
+                Thread thread = new Thread(runnable, "Phantazm-Scene-Creation-" + threadCount.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        SpawnBudget spawnBudget = new SpawnBudget(zombiesConfig.maxWaveSpawnsPerTick(),
+                TimeUnit.MILLISECONDS.toNanos(zombiesConfig.waveSpawnTimeBudget()));
+
+        //warm scenes can only be created in the background
+        int warmScenes = sceneCreationExecutor == null ? 0 : zombiesConfig.warmScenesPerMap();
         for (Map.Entry<Key, MapInfo> entry : maps.entrySet()) {
             ZombiesSceneProvider provider =
-                    new ZombiesSceneProvider(20, instanceSpaceFunction, entry.getValue(), instanceLoader, sceneFallback,
+                    new ZombiesSceneProvider(zombiesConfig.maximumScenesPerMap(), sceneCreationExecutor, warmScenes,
+                            instanceSpaceFunction, entry.getValue(), instanceLoader, sceneFallback,
                             globalEventNode, ZombiesFeature.mobSpawnerSource(), MobFeature.getModels(),
                             new BasicClientBlockHandlerSource(instance -> {
                                 DimensionType dimensionType = instance.getDimensionType();
@@ -172,11 +209,19 @@ public final class ZombiesFeature {
                             new BasicZombiesPlayerSource(EquipmentFeature::createEquipmentCreator,
                                     MobFeature.getModels()),
                             mapDependencyProvider -> contextManager.makeContext(entry.getValue().corpse())
-                                    .provide(mapDependencyProvider));
+                                    .provide(mapDependencyProvider), playerIndex, spawnBudget);
             providers.put(entry.getKey(), provider);
         }
 
-        ZombiesFeature.sceneRouter = new ZombiesSceneRouter(providers);
+        if (zombiesConfig.parallelSceneTicking()) {
+            sceneTickPool = new ForkJoinPool(Math.max(1, zombiesConfig.sceneTickThreads()));
+            LOGGER.warn("Ticking Zombies scenes in parallel on {} threads. This is experimental: scenes share global "
+                    + "state which is not known to be thread-safe", sceneTickPool.getParallelism());
+        }
+
+        ZombiesSceneTicker sceneTicker =
+                new ZombiesSceneTicker(sceneTickPool, TimeUnit.MILLISECONDS.toNanos(zombiesConfig.sceneTickBudget()));
+        ZombiesFeature.sceneRouter = new ZombiesSceneRouter(providers, sceneTicker, playerIndex);
 
         MinecraftServer.getSchedulerManager()
                 .scheduleTask(() -> sceneRouter.tick(System.currentTimeMillis()), TaskSchedule.immediate(),
@@ -373,7 +418,7 @@ public final class ZombiesFeature {
 
     public static @NotNull Optional<ZombiesPlayer> getZombiesPlayer(@NotNull UUID playerUUID) {
         return FeatureUtils.check(sceneRouter).getCurrentScene(playerUUID)
-                .map(scene -> scene.getZombiesPlayers().get(playerUUID));
+                .flatMap(scene -> scene.getZombiesPlayer(playerUUID));
     }
 
     public static @NotNull ZombiesSceneRouter zombiesSceneRouter() {
@@ -384,9 +429,33 @@ public final class ZombiesFeature {
         return FeatureUtils.check(database);
     }
 
+    public static @NotNull ZombiesStatsWriter getStatsWriter() {
+        return FeatureUtils.check(statsWriter);
+    }
+
     public static void end() {
-        if (dataSource != null) {
-            dataSource.close();
+        if (sceneCreationExecutor != null) {
+            sceneCreationExecutor.shutdownNow();
+        }
+
+        if (sceneTickPool != null) {
+            sceneTickPool.shutdown();
+        }
+
+        if (statsWriter != null) {
+            try {
+                LOGGER.info("Writing pending stats. Please allow for one minute before shutdown completes.");
+                if (!statsWriter.drain(1L, TimeUnit.MINUTES)) {
+                    LOGGER.warn("Not all pending stats were written.");
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (statsWriterExecutor != null) {
+            statsWriterExecutor.shutdownNow();
         }
 
         if (databaseExecutor != null) {
@@ -410,5 +479,9 @@ public final class ZombiesFeature {
                 Thread.currentThread().interrupt();
             }
         }
+
+        if (dataSource != null) {
+            dataSource.close();
+        }
     }
 }
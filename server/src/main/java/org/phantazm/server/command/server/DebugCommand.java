@@ -5,18 +5,31 @@ import net.minestom.server.command.builder.Command;
 import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.permission.Permission;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.proxima.bindings.minestom.NodeGraphPool;
+import org.phantazm.proxima.bindings.minestom.PathSchedulerMetrics;
+import org.phantazm.stats.zombies.ZombiesStatsWriterMetrics;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 
 public class DebugCommand extends Command {
     public static final Permission PERMISSION = new Permission("admin.debug");
     public static final Permission EVENT_PERMISSION = new Permission("admin.debug.event");
     public static final Permission INSTANCE_PERMISSION = new Permission("admin.debug.instance");
+    public static final Permission PATHFINDING_PERMISSION = new Permission("admin.debug.pathfinding");
+    public static final Permission STATS_PERMISSION = new Permission("admin.debug.stats");
 
-    public DebugCommand() {
+    public DebugCommand(@NotNull Function<? super Instance, Optional<PathSchedulerMetrics>> pathSchedulerMetrics,
+            @NotNull NodeGraphPool graphPool, @NotNull ZombiesStatsWriterMetrics statsWriterMetrics) {
         super("debug");
         setCondition((sender, commandString) -> sender.hasPermission(PERMISSION));
 
         addSubcommand(new DebugEvent());
         addSubcommand(new DebugInstance());
+        addSubcommand(new DebugPathfinding(pathSchedulerMetrics, graphPool));
+        addSubcommand(new DebugStats(statsWriterMetrics));
     }
 
     private static class DebugEvent extends Command {
@@ -42,4 +55,43 @@ public class DebugCommand extends Command {
             });
         }
     }
+
+    private static class DebugPathfinding extends Command {
+        private DebugPathfinding(Function<? super Instance, Optional<PathSchedulerMetrics>> pathSchedulerMetrics,
+                NodeGraphPool graphPool) {
+            super("pathfinding");
+            Objects.requireNonNull(pathSchedulerMetrics, "pathSchedulerMetrics");
+            Objects.requireNonNull(graphPool, "graphPool");
+
+            setCondition((sender, commandString) -> sender.hasPermission(PATHFINDING_PERMISSION));
+            addConditionalSyntax(getCondition(), (sender, context) -> {
+                sender.sendMessage("node graphs: " + graphPool.leasedCount() + " leased (max " +
+                        graphPool.highWaterLeased() + "), " + graphPool.size() + " idle, " +
+                        graphPool.createdCount() + " created");
+
+                for (Instance instance : MinecraftServer.getInstanceManager().getInstances()) {
+                    pathSchedulerMetrics.apply(instance).ifPresent(metrics -> sender.sendMessage(
+                            instance.getUniqueId() + ": " + metrics.queueDepth() + " queued (max " +
+                                    metrics.maxQueueDepth() + "), " + metrics.submittedCount() + " submitted, " +
+                                    metrics.deferredCount() + " deferred, " + metrics.droppedCount() + " dropped"));
+                }
+            });
+        }
+    }
+
+    private static class DebugStats extends Command {
+        private DebugStats(ZombiesStatsWriterMetrics metrics) {
+            super("stats");
+            Objects.requireNonNull(metrics, "metrics");
+
+            setCondition((sender, commandString) -> sender.hasPermission(STATS_PERMISSION));
+            addConditionalSyntax(getCondition(), (sender, context) -> {
+                sender.sendMessage("zombies stats: " + metrics.pendingCount() + " pending (max " +
+                        metrics.maxPendingCount() + "), " + metrics.submittedCount() + " submitted, " +
+                        metrics.coalescedCount() + " coalesced, " + metrics.rejectedCount() + " rejected");
+                sender.sendMessage(metrics.writtenCount() + " written in " + metrics.batchCount() + " batches, " +
+                        metrics.failedBatchCount() + " failed writes, " + metrics.droppedCount() + " dropped");
+            });
+        }
+    }
 }
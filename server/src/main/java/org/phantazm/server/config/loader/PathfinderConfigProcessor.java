@@ -22,9 +22,18 @@ public class PathfinderConfigProcessor implements ConfigProcessor<PathfinderConf
         long keepAliveTime = element.getNumberOrThrow("keepAliveTime").longValue();
         TimeUnit keepAliveTimeUnit =
                 TIME_UNIT_PROCESSOR.dataFromElement(element.getElementOrThrow("keepAliveTimeUnit"));
+        int maxPathSubmissionsPerTick = element.getNumberOrThrow("maxPathSubmissionsPerTick").intValue();
+        int maxPathQueueSize = element.getNumberOrThrow("maxPathQueueSize").intValue();
+        double lodNearDistance = element.getNumberOrThrow("lodNearDistance").doubleValue();
+        double lodFarDistance = element.getNumberOrThrow("lodFarDistance").doubleValue();
+        double lodFarDelayFactor = element.getNumberOrThrow("lodFarDelayFactor").doubleValue();
+        double lodHiddenDelayFactor = element.getNumberOrThrow("lodHiddenDelayFactor").doubleValue();
+        long maxRecalculationDelay = element.getNumberOrThrow("maxRecalculationDelay").longValue();
+        int maxRetainedNodeGraphs = element.getNumberOrThrow("maxRetainedNodeGraphs").intValue();
 
         return new PathfinderConfig(threads, asyncMode, corePoolSize, maximumPoolSize, minimumRunnable, keepAliveTime,
-                keepAliveTimeUnit);
+                keepAliveTimeUnit, maxPathSubmissionsPerTick, maxPathQueueSize, lodNearDistance, lodFarDistance,
+                lodFarDelayFactor, lodHiddenDelayFactor, maxRecalculationDelay, maxRetainedNodeGraphs);
     }
 
     @Override
@@ -33,6 +42,12 @@ public class PathfinderConfigProcessor implements ConfigProcessor<PathfinderConf
                 "corePoolSize", pathfinderConfig.corePoolSize(), "maximumPoolSize", pathfinderConfig.maximumPoolSize(),
                 "minimumRunnable", pathfinderConfig.minimumRunnable(), "keepAliveTime",
                 pathfinderConfig.keepAliveTime(), "keepAliveTimeUnit",
-                TIME_UNIT_PROCESSOR.elementFromData(pathfinderConfig.keepAliveTimeUnit()));
+                TIME_UNIT_PROCESSOR.elementFromData(pathfinderConfig.keepAliveTimeUnit()), "maxPathSubmissionsPerTick",
+                pathfinderConfig.maxPathSubmissionsPerTick(), "maxPathQueueSize", pathfinderConfig.maxPathQueueSize(),
+                "lodNearDistance", pathfinderConfig.lodNearDistance(), "lodFarDistance",
+                pathfinderConfig.lodFarDistance(), "lodFarDelayFactor", pathfinderConfig.lodFarDelayFactor(),
+                "lodHiddenDelayFactor", pathfinderConfig.lodHiddenDelayFactor(), "maxRecalculationDelay",
+                pathfinderConfig.maxRecalculationDelay(), "maxRetainedNodeGraphs",
+                pathfinderConfig.maxRetainedNodeGraphs());
     }
 }
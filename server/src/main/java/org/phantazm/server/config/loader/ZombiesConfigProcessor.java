@@ -0,0 +1,84 @@
+package org.phantazm.server.config.loader;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.server.config.server.ZombiesConfig;
+
+public class ZombiesConfigProcessor implements ConfigProcessor<ZombiesConfig> {
+    @Override
+    public ZombiesConfig dataFromElement(@NotNull ConfigElement element) {
+        int maximumScenesPerMap =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.maximumScenesPerMap(), "maximumScenesPerMap")
+                        .intValue();
+
+        int warmScenesPerMap =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.warmScenesPerMap(), "warmScenesPerMap").intValue();
+
+        int sceneCreationThreads =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.sceneCreationThreads(), "sceneCreationThreads")
+                        .intValue();
+
+        boolean parallelSceneTicking =
+                element.getBooleanOrDefault(ZombiesConfig.DEFAULT.parallelSceneTicking(), "parallelSceneTicking");
+
+        int sceneTickThreads =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.sceneTickThreads(), "sceneTickThreads").intValue();
+
+        long sceneTickBudget =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.sceneTickBudget(), "sceneTickBudget").longValue();
+
+        int maxWaveSpawnsPerTick =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.maxWaveSpawnsPerTick(), "maxWaveSpawnsPerTick")
+                        .intValue();
+
+        long waveSpawnTimeBudget =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.waveSpawnTimeBudget(), "waveSpawnTimeBudget")
+                        .longValue();
+
+        int statsBatchSize =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.statsBatchSize(), "statsBatchSize").intValue();
+
+        long statsFlushInterval =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.statsFlushInterval(), "statsFlushInterval")
+                        .longValue();
+
+        int maxPendingStats =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.maxPendingStats(), "maxPendingStats").intValue();
+
+        int maxStatsRetries =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.maxStatsRetries(), "maxStatsRetries").intValue();
+
+        long statsRetryDelay =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.statsRetryDelay(), "statsRetryDelay").longValue();
+
+        int bestTimeCacheSize =
+                element.getNumberOrDefault(ZombiesConfig.DEFAULT.bestTimeCacheSize(), "bestTimeCacheSize").intValue();
+
+        return new ZombiesConfig(maximumScenesPerMap, warmScenesPerMap, sceneCreationThreads, parallelSceneTicking,
+                sceneTickThreads, sceneTickBudget, maxWaveSpawnsPerTick, waveSpawnTimeBudget, statsBatchSize,
+                statsFlushInterval, maxPendingStats, maxStatsRetries, statsRetryDelay, bestTimeCacheSize);
+    }
+
+    @Override
+    public @NotNull ConfigElement elementFromData(ZombiesConfig zombiesConfig) {
+        ConfigNode configNode = ConfigNode.of();
+        configNode.putNumber("maximumScenesPerMap", zombiesConfig.maximumScenesPerMap());
+        configNode.putNumber("warmScenesPerMap", zombiesConfig.warmScenesPerMap());
+        configNode.putNumber("sceneCreationThreads", zombiesConfig.sceneCreationThreads());
+        configNode.putBoolean("parallelSceneTicking", zombiesConfig.parallelSceneTicking());
+        configNode.putNumber("sceneTickThreads", zombiesConfig.sceneTickThreads());
+        configNode.putNumber("sceneTickBudget", zombiesConfig.sceneTickBudget());
+        configNode.putNumber("maxWaveSpawnsPerTick", zombiesConfig.maxWaveSpawnsPerTick());
+        configNode.putNumber("waveSpawnTimeBudget", zombiesConfig.waveSpawnTimeBudget());
+        configNode.putNumber("statsBatchSize", zombiesConfig.statsBatchSize());
+        configNode.putNumber("statsFlushInterval", zombiesConfig.statsFlushInterval());
+        configNode.putNumber("maxPendingStats", zombiesConfig.maxPendingStats());
+        configNode.putNumber("maxStatsRetries", zombiesConfig.maxStatsRetries());
+        configNode.putNumber("statsRetryDelay", zombiesConfig.statsRetryDelay());
+        configNode.putNumber("bestTimeCacheSize", zombiesConfig.bestTimeCacheSize());
+
+        return configNode;
+    }
+}
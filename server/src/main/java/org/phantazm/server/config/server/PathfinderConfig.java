@@ -11,7 +11,15 @@ public record PathfinderConfig(int threads,
                                int maximumPoolSize,
                                int minimumRunnable,
                                long keepAliveTime,
-                               TimeUnit keepAliveTimeUnit) {
+                               TimeUnit keepAliveTimeUnit,
+                               int maxPathSubmissionsPerTick,
+                               int maxPathQueueSize,
+                               double lodNearDistance,
+                               double lodFarDistance,
+                               double lodFarDelayFactor,
+                               double lodHiddenDelayFactor,
+                               long maxRecalculationDelay,
+                               int maxRetainedNodeGraphs) {
     /**
      * The default PathfinderConfig.
      */
@@ -19,6 +27,7 @@ public record PathfinderConfig(int threads,
 
     static {
         int threads = Runtime.getRuntime().availableProcessors();
-        DEFAULT = new PathfinderConfig(threads, false, threads, threads, threads, 2, TimeUnit.MINUTES);
+        DEFAULT = new PathfinderConfig(threads, false, threads, threads, threads, 2, TimeUnit.MINUTES, 20, 500, 16, 48,
+                4, 2, 10000, threads);
     }
 }
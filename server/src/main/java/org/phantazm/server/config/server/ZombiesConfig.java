@@ -0,0 +1,46 @@
+package org.phantazm.server.config.server;
+
+/**
+ * Config for Zombies scene management.
+ *
+ * @param maximumScenesPerMap  the maximum number of scenes (including idle, pre-built scenes) each map may have
+ * @param warmScenesPerMap     the number of idle scenes to keep ready for each map, so that joining players do not
+ *                             need to wait for a new scene to be built
+ * @param sceneCreationThreads the number of background threads used to build new scenes
+ * @param parallelSceneTicking whether scenes should be ticked in parallel rather than one after another; experimental
+ *                             and off by default, since scenes still share global state that is not known to be
+ *                             thread-safe
+ * @param sceneTickThreads     the number of threads used to tick scenes when ticking in parallel
+ * @param sceneTickBudget      the time in milliseconds a single scene may take to tick before a warning is logged, or
+ *                             0 to disable the warning
+ * @param maxWaveSpawnsPerTick the maximum number of wave mobs a round may spawn per tick, or 0 for no limit
+ * @param waveSpawnTimeBudget  the time in milliseconds a round may spend spawning wave mobs per tick, or 0 for no
+ *                             limit
+ * @param statsBatchSize       the number of pending stats writes that triggers a flush, and the maximum number of
+ *                             writes in one batch
+ * @param statsFlushInterval   the time in milliseconds between periodic flushes of pending stats writes
+ * @param maxPendingStats      the maximum number of pending stats writes; further writes wait for a flush
+ * @param maxStatsRetries      the number of times a failed stats write is retried before it is dropped
+ * @param statsRetryDelay      the time in milliseconds before a failed stats write is first retried
+ * @param bestTimeCacheSize    the number of best times kept in memory for each map's leaderboard
+ */
+public record ZombiesConfig(int maximumScenesPerMap,
+                            int warmScenesPerMap,
+                            int sceneCreationThreads,
+                            boolean parallelSceneTicking,
+                            int sceneTickThreads,
+                            long sceneTickBudget,
+                            int maxWaveSpawnsPerTick,
+                            long waveSpawnTimeBudget,
+                            int statsBatchSize,
+                            long statsFlushInterval,
+                            int maxPendingStats,
+                            int maxStatsRetries,
+                            long statsRetryDelay,
+                            int bestTimeCacheSize) {
+    /**
+     * The default ZombiesConfig instance.
+     */
+    public static final ZombiesConfig DEFAULT = new ZombiesConfig(20, 1, 2, false,
+            Runtime.getRuntime().availableProcessors(), 50L, 10, 5L, 50, 5000L, 1000, 5, 1000L, 100);
+}
@@ -8,29 +8,57 @@ import org.phantazm.commons.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.*;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
+/**
+ * A {@link LoginValidator} that keeps bans and the whitelist in memory, and records every change by appending a single
+ * line to the ban or whitelist file. Appends happen in order on a background thread and are flushed immediately, so
+ * changes survive a crash without the caller waiting on disk IO.
+ * <p>
+ * Each file is a journal: a line holding a UUID (optionally followed by {@code :} and a MiniMessage ban reason, for
+ * bans) adds that entry, and a line holding {@code -} followed by a UUID removes it. Files written by earlier versions
+ * contain only additions and load as-is. Once a journal holds more than {@link BasicLoginValidator#COMPACTION_THRESHOLD}
+ * lines and more than twice as many lines as live entries, it is rewritten from the in-memory state. Journals are also
+ * compacted on {@link BasicLoginValidator#flush()}.
+ * <p>
+ * Ban reasons are kept as MiniMessage strings and only deserialized the first time they are needed.
+ */
 public class BasicLoginValidator implements LoginValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(BasicLoginValidator.class);
     private static final BooleanObjectPair<Component> SUCCESS = BooleanObjectPair.of(true, Component.empty());
 
+    /**
+     * The minimum number of lines a journal must contain before it is compacted automatically.
+     */
+    public static final int COMPACTION_THRESHOLD = 1024;
+
+    private static final String REMOVE_PREFIX = "-";
+
     private final boolean isWhitelist;
-    private final Path whitelistPath;
-    private final Path banPath;
     private final Set<UUID> whitelist;
-    private final Map<UUID, Component> banned;
+    private final Map<UUID, BanEntry> banned;
+
+    private final ExecutorService journalExecutor;
+    private final Journal whitelistJournal;
+    private final Journal banJournal;
 
-    private volatile boolean bansDirty;
-    private volatile boolean whitelistDirty;
+    private final Object journalLock = new Object();
 
     public BasicLoginValidator(boolean isWhitelist, @NotNull Path whitelist, @NotNull Path bans) {
         this.isWhitelist = isWhitelist;
-        this.whitelistPath = Objects.requireNonNull(whitelist, "whitelist");
-        this.banPath = Objects.requireNonNull(bans, "bans");
+        Objects.requireNonNull(whitelist, "whitelist");
+        Objects.requireNonNull(bans, "bans");
 
         try {
             FileUtils.createFileIfNotExists(whitelist);
@@ -40,72 +68,121 @@ public class BasicLoginValidator implements LoginValidator {
             LOGGER.warn("Error creating ban or whitelist file.");
         }
 
-        this.whitelist = loadWhitelist(whitelist);
-        this.banned = loadBans(bans);
-    }
+        this.whitelist = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.banned = new ConcurrentHashMap<>();
 
-    private static Set<UUID> loadWhitelist(@NotNull Path path) {
-        List<String> lines;
-        try {
-            lines = Files.readAllLines(path).stream().filter(string -> !string.isEmpty()).toList();
-        }
-        catch (IOException e) {
-            LOGGER.warn("Exception reading whitelist file", e);
-            return Collections.newSetFromMap(new ConcurrentHashMap<>());
-        }
+        long start = System.nanoTime();
+        int whitelistLines = loadWhitelist(whitelist, this.whitelist);
+        int banLines = loadBans(bans, this.banned);
+        LOGGER.info("Loaded {} whitelist entries and {} bans in {} ms", this.whitelist.size(), this.banned.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
 
-        Set<UUID> uuids = Collections.newSetFromMap(new ConcurrentHashMap<>());
-        for (String line : lines) {
-            try {
-                uuids.add(UUID.fromString(line));
-            }
-            catch (IllegalArgumentException e) {
-                LOGGER.warn("Malformed UUID {} in whitelist file", line);
-            }
-        }
+        this.journalExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Phantazm-Login-Journal");
+            thread.setDaemon(true);
+            return thread;
+        });
 
-        return uuids;
+        this.whitelistJournal = new Journal(whitelist, "whitelist", whitelistLines, this.whitelist::size,
+                () -> this.whitelist.stream().map(UUID::toString).toList());
+        this.banJournal = new Journal(bans, "ban", banLines, this.banned::size,
+                () -> this.banned.entrySet().stream()
+                        .map(entry -> entry.getKey().toString() + ":" + entry.getValue().serializedReason).toList());
+
+        //files left over from a previous run may need compaction already
+        journalExecutor.execute(whitelistJournal::compactIfNeeded);
+        journalExecutor.execute(banJournal::compactIfNeeded);
     }
 
-    private static Map<UUID, Component> loadBans(@NotNull Path path) {
-        List<String> lines;
-        try {
-            lines = Files.readAllLines(path).stream().filter(string -> !string.isEmpty()).toList();
+    private static int loadWhitelist(Path path, Set<UUID> uuids) {
+        int lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                lineCount++;
+                boolean remove = line.startsWith(REMOVE_PREFIX);
+                String uuidString = remove ? line.substring(REMOVE_PREFIX.length()) : line;
+
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(uuidString);
+                }
+                catch (IllegalArgumentException e) {
+                    LOGGER.warn("Malformed UUID {} in whitelist file", uuidString);
+                    continue;
+                }
+
+                if (remove) {
+                    uuids.remove(uuid);
+                }
+                else {
+                    uuids.add(uuid);
+                }
+            }
         }
         catch (IOException e) {
             LOGGER.warn("Exception reading whitelist file", e);
-            return new ConcurrentHashMap<>();
         }
 
-        Map<UUID, Component> bans = new ConcurrentHashMap<>();
-        for (String line : lines) {
-            String[] split = line.split(":", 2);
-            if (split.length != 2) {
-                LOGGER.warn("Invalid ban entry {}", line);
-                continue;
-            }
+        return lineCount;
+    }
 
-            UUID uuid;
-            try {
-                uuid = UUID.fromString(split[0]);
-            }
-            catch (IllegalArgumentException e) {
-                LOGGER.warn("Malformed UUID {} in ban file", split[0]);
-                continue;
-            }
+    private static int loadBans(Path path, Map<UUID, BanEntry> bans) {
+        int lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                lineCount++;
+                if (line.startsWith(REMOVE_PREFIX)) {
+                    String uuidString = line.substring(REMOVE_PREFIX.length());
+                    try {
+                        bans.remove(UUID.fromString(uuidString));
+                    }
+                    catch (IllegalArgumentException e) {
+                        LOGGER.warn("Malformed UUID {} in ban file", uuidString);
+                    }
+
+                    continue;
+                }
+
+                int separator = line.indexOf(':');
+                if (separator == -1) {
+                    LOGGER.warn("Invalid ban entry {}", line);
+                    continue;
+                }
+
+                UUID uuid;
+                try {
+                    uuid = UUID.fromString(line.substring(0, separator));
+                }
+                catch (IllegalArgumentException e) {
+                    LOGGER.warn("Malformed UUID {} in ban file", line.substring(0, separator));
+                    continue;
+                }
 
-            Component reason = MiniMessage.miniMessage().deserialize(split[1]);
-            bans.put(uuid, reason);
+                bans.put(uuid, new BanEntry(line.substring(separator + 1), null));
+            }
+        }
+        catch (IOException e) {
+            LOGGER.warn("Exception reading ban file", e);
         }
 
-        return bans;
+        return lineCount;
     }
 
     @Override
     public @NotNull BooleanObjectPair<Component> validateLogin(@NotNull UUID uuid) {
-        Component bannedReason = banned.get(uuid);
-        if (bannedReason != null) {
-            return BooleanObjectPair.of(false, bannedReason);
+        BanEntry ban = banned.get(uuid);
+        if (ban != null) {
+            return BooleanObjectPair.of(false, ban.reason());
         }
 
         if (isWhitelist && !whitelist.contains(uuid)) {
@@ -119,8 +196,12 @@ public class BasicLoginValidator implements LoginValidator {
     public void ban(@NotNull UUID uuid, @NotNull Component reason) {
         Objects.requireNonNull(uuid, "uuid");
         Objects.requireNonNull(reason, "reason");
-        this.banned.put(uuid, reason);
-        bansDirty = true;
+
+        String serializedReason = MiniMessage.miniMessage().serialize(reason);
+        synchronized (journalLock) {
+            banned.put(uuid, new BanEntry(serializedReason, reason));
+            banJournal.append(uuid + ":" + serializedReason);
+        }
     }
 
     @Override
@@ -132,16 +213,20 @@ public class BasicLoginValidator implements LoginValidator {
     @Override
     public void pardon(@NotNull UUID uuid) {
         Objects.requireNonNull(uuid, "uuid");
-        if (this.banned.remove(uuid) != null) {
-            bansDirty = true;
+        synchronized (journalLock) {
+            if (banned.remove(uuid) != null) {
+                banJournal.append(REMOVE_PREFIX + uuid);
+            }
         }
     }
 
     @Override
     public void addWhitelist(@NotNull UUID uuid) {
         Objects.requireNonNull(uuid, "uuid");
-        if (this.whitelist.add(uuid)) {
-            whitelistDirty = true;
+        synchronized (journalLock) {
+            if (whitelist.add(uuid)) {
+                whitelistJournal.append(uuid.toString());
+            }
         }
     }
 
@@ -154,38 +239,144 @@ public class BasicLoginValidator implements LoginValidator {
     @Override
     public void removeWhitelist(@NotNull UUID uuid) {
         Objects.requireNonNull(uuid, "uuid");
-        if (this.whitelist.remove(uuid)) {
-            whitelistDirty = true;
+        synchronized (journalLock) {
+            if (whitelist.remove(uuid)) {
+                whitelistJournal.append(REMOVE_PREFIX + uuid);
+            }
         }
     }
 
     @Override
     public void flush() {
-        if (whitelistDirty) {
-            List<String> text = whitelist.stream().map(UUID::toString).toList();
+        Future<?> compaction;
+        try {
+            compaction = journalExecutor.submit(() -> {
+                whitelistJournal.compact();
+                banJournal.compact();
+            });
+        }
+        catch (RejectedExecutionException e) {
+            return;
+        }
+
+        try {
+            compaction.get(1L, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Error compacting ban and whitelist files", e);
+        }
+    }
 
+    private static final class BanEntry {
+        private final String serializedReason;
+        private volatile Component reason;
+
+        private BanEntry(String serializedReason, Component reason) {
+            this.serializedReason = serializedReason;
+            this.reason = reason;
+        }
+
+        private Component reason() {
+            Component reason = this.reason;
+            if (reason == null) {
+                //racing threads may both deserialize, which is harmless
+                reason = MiniMessage.miniMessage().deserialize(serializedReason);
+                this.reason = reason;
+            }
+
+            return reason;
+        }
+    }
+
+    /**
+     * An append-only file of records. All methods except {@link Journal#append(String)} run on the journal executor.
+     */
+    private final class Journal {
+        private final Path path;
+        private final String name;
+        private final IntSupplier liveEntries;
+        private final Supplier<List<String>> snapshot;
+
+        private BufferedWriter writer;
+        private int lineCount;
+
+        private Journal(Path path, String name, int lineCount, IntSupplier liveEntries,
+                Supplier<List<String>> snapshot) {
+            this.path = path;
+            this.name = name;
+            this.lineCount = lineCount;
+            this.liveEntries = liveEntries;
+            this.snapshot = snapshot;
+        }
+
+        private void append(String record) {
             try {
-                Files.write(whitelistPath, text);
+                journalExecutor.execute(() -> write(record));
+            }
+            catch (RejectedExecutionException e) {
+                LOGGER.warn("Could not record {} change {}", name, record);
+            }
+        }
+
+        private void write(String record) {
+            try {
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                            StandardOpenOption.APPEND);
+                }
+
+                writer.write(record);
+                writer.newLine();
+                writer.flush();
+                lineCount++;
             }
             catch (IOException e) {
-                LOGGER.warn("Error writing to whitelist file", e);
+                LOGGER.warn("Error writing to {} file", name, e);
+                closeWriter();
+                return;
+            }
+
+            compactIfNeeded();
+        }
+
+        private void compactIfNeeded() {
+            if (lineCount > COMPACTION_THRESHOLD && lineCount > 2 * liveEntries.getAsInt()) {
+                compact();
             }
+        }
 
-            whitelistDirty = false;
+        private void compact() {
+            closeWriter();
+
+            //changes made while the snapshot is taken are also queued behind us, and re-applying them is harmless
+            List<String> lines = snapshot.get();
+            try {
+                Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+                Files.write(temporary, lines, StandardCharsets.UTF_8);
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                lineCount = lines.size();
+            }
+            catch (IOException e) {
+                LOGGER.warn("Error compacting {} file", name, e);
+            }
         }
 
-        if (bansDirty) {
-            List<String> text = banned.entrySet().stream().map(entry -> entry.getKey().toString() + ":" +
-                    MiniMessage.miniMessage().serialize(entry.getValue())).toList();
+        private void closeWriter() {
+            if (writer == null) {
+                return;
+            }
 
             try {
-                Files.write(banPath, text);
+                writer.close();
             }
             catch (IOException e) {
-                LOGGER.warn("Error writing to bans file", e);
+                LOGGER.warn("Error closing {} file", name, e);
             }
 
-            bansDirty = false;
+            writer = null;
         }
     }
 }
@@ -0,0 +1,218 @@
+package org.phantazm.server.player;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BasicLoginValidatorTest {
+    private static final long TIMEOUT_MILLIS = 5000L;
+
+    @TempDir
+    private Path directory;
+
+    private Path whitelist;
+    private Path bans;
+
+    @BeforeEach
+    public void setup() {
+        whitelist = directory.resolve("whitelist.txt");
+        bans = directory.resolve("bans.txt");
+    }
+
+    private BasicLoginValidator validator() {
+        return new BasicLoginValidator(true, whitelist, bans);
+    }
+
+    private static List<String> lines(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isEmpty()) {
+                lines.add(line);
+            }
+        }
+
+        return lines;
+    }
+
+    //journal writes happen in the background
+    private static void awaitLines(Path path, List<String> expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<String> lines;
+        while (!(lines = lines(path)).equals(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                assertEquals(expected, lines, "Unexpected contents of " + path.getFileName());
+            }
+
+            Thread.sleep(10L);
+        }
+    }
+
+    @Test
+    public void testLegacyAdditionsOnlyFilesLoad() throws IOException {
+        UUID whitelisted = UUID.randomUUID();
+        UUID banned = UUID.randomUUID();
+        Files.write(whitelist, List.of(whitelisted.toString()), StandardCharsets.UTF_8);
+        Files.write(bans, List.of(banned + ":<red>cheating"), StandardCharsets.UTF_8);
+
+        BasicLoginValidator validator = validator();
+
+        assertTrue(validator.isWhitelisted(whitelisted));
+        assertTrue(validator.validateLogin(whitelisted).firstBoolean());
+        assertTrue(validator.isBanned(banned));
+        assertEquals(MiniMessage.miniMessage().deserialize("<red>cheating"), validator.validateLogin(banned).second());
+        assertFalse(validator.validateLogin(UUID.randomUUID()).firstBoolean());
+    }
+
+    @Test
+    public void testMixedJournalIsReplayedInOrder() throws IOException {
+        UUID removed = UUID.randomUUID();
+        UUID readded = UUID.randomUUID();
+        UUID pardoned = UUID.randomUUID();
+        UUID banned = UUID.randomUUID();
+        Files.write(whitelist, List.of(removed.toString(), readded.toString(), "-" + removed, "-" + readded,
+                readded.toString()), StandardCharsets.UTF_8);
+        Files.write(bans, List.of(pardoned + ":first", banned + ":first", "-" + pardoned, banned + ":second"),
+                StandardCharsets.UTF_8);
+
+        BasicLoginValidator validator = validator();
+
+        assertFalse(validator.isWhitelisted(removed));
+        assertTrue(validator.isWhitelisted(readded));
+        assertFalse(validator.isBanned(pardoned));
+        assertEquals(MiniMessage.miniMessage().deserialize("second"), validator.validateLogin(banned).second());
+    }
+
+    @Test
+    public void testMalformedLinesAreSkipped() throws IOException {
+        UUID whitelisted = UUID.randomUUID();
+        Files.write(whitelist, List.of("not a uuid", "-also not a uuid", whitelisted.toString()),
+                StandardCharsets.UTF_8);
+        Files.write(bans, List.of("no separator", "bad:reason"), StandardCharsets.UTF_8);
+
+        BasicLoginValidator validator = validator();
+
+        assertTrue(validator.isWhitelisted(whitelisted));
+        assertFalse(validator.validateLogin(UUID.randomUUID()).firstBoolean());
+    }
+
+    @Test
+    public void testChangesAreJournaledAndReloaded() throws Exception {
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UUID banned = UUID.randomUUID();
+
+        BasicLoginValidator validator = validator();
+        validator.addWhitelist(kept);
+        validator.addWhitelist(removed);
+        validator.removeWhitelist(removed);
+        validator.ban(banned, Component.text("griefing"));
+
+        awaitLines(whitelist, List.of(kept.toString(), removed.toString(), "-" + removed));
+        awaitLines(bans, List.of(banned + ":griefing"));
+
+        BasicLoginValidator reloaded = validator();
+        assertTrue(reloaded.isWhitelisted(kept));
+        assertFalse(reloaded.isWhitelisted(removed));
+        assertEquals(MiniMessage.miniMessage().deserialize("griefing"), reloaded.validateLogin(banned).second());
+    }
+
+    @Test
+    public void testRedundantChangesAreNotJournaled() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        BasicLoginValidator validator = validator();
+        validator.removeWhitelist(uuid);
+        validator.pardon(uuid);
+        validator.addWhitelist(uuid);
+        validator.addWhitelist(uuid);
+
+        awaitLines(whitelist, List.of(uuid.toString()));
+        assertTrue(lines(bans).isEmpty());
+    }
+
+    @Test
+    public void testJournalIsCompactedPastThreshold() throws Exception {
+        Path temporary = whitelist.resolveSibling(whitelist.getFileName() + ".tmp");
+
+        BasicLoginValidator validator = validator();
+
+        //each iteration adds two lines without adding a live entry
+        for (int i = 0; i < BasicLoginValidator.COMPACTION_THRESHOLD / 2; i++) {
+            UUID uuid = UUID.randomUUID();
+            validator.addWhitelist(uuid);
+            validator.removeWhitelist(uuid);
+        }
+
+        //the line that crosses the threshold
+        UUID kept = UUID.randomUUID();
+        validator.addWhitelist(kept);
+
+        awaitLines(whitelist, List.of(kept.toString()));
+        assertFalse(Files.exists(temporary));
+
+        //the compacted file must still be appended to
+        UUID added = UUID.randomUUID();
+        validator.addWhitelist(added);
+        awaitLines(whitelist, List.of(kept.toString(), added.toString()));
+    }
+
+    @Test
+    public void testOversizedJournalIsCompactedOnLoad() throws Exception {
+        UUID kept = UUID.randomUUID();
+        Path temporary = bans.resolveSibling(bans.getFileName() + ".tmp");
+
+        List<String> journal = new ArrayList<>();
+        journal.add(kept + ":reason");
+        for (int i = 0; i < BasicLoginValidator.COMPACTION_THRESHOLD; i++) {
+            UUID uuid = UUID.randomUUID();
+            journal.add(uuid + ":reason");
+            journal.add("-" + uuid);
+        }
+
+        Files.write(bans, journal, StandardCharsets.UTF_8);
+
+        //left behind by a compaction that did not finish
+        Files.write(temporary, List.of("stale"), StandardCharsets.UTF_8);
+
+        BasicLoginValidator validator = validator();
+
+        awaitLines(bans, List.of(kept + ":reason"));
+        assertFalse(Files.exists(temporary));
+        assertTrue(validator.isBanned(kept));
+    }
+
+    @Test
+    public void testSmallJournalIsNotCompacted() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        BasicLoginValidator validator = validator();
+        validator.addWhitelist(uuid);
+        validator.removeWhitelist(uuid);
+
+        awaitLines(whitelist, List.of(uuid.toString(), "-" + uuid));
+    }
+
+    @Test
+    public void testFlushCompactsJournal() throws Exception {
+        UUID uuid = UUID.randomUUID();
+
+        BasicLoginValidator validator = validator();
+        validator.addWhitelist(uuid);
+        validator.removeWhitelist(uuid);
+        validator.flush();
+
+        assertTrue(lines(whitelist).isEmpty());
+    }
+}
@@ -6,4 +6,6 @@ dependencies {
     api(libs.adventure.key)
     api(libs.jooq)
     api(libs.hikariCP)
+
+    testImplementation(libs.sqlite)
 }
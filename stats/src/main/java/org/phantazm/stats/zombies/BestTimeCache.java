@@ -0,0 +1,234 @@
+package org.phantazm.stats.zombies;
+
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the top best times of each map in memory. A map's best times are loaded from the database the first time they
+ * are requested, using a query limited to the capacity of the cache; afterwards, best times written through the stats
+ * pipeline are applied to the cached list in place, so reading the leaderboard never needs another database round
+ * trip.
+ * <p>
+ * Best times are ordered by time, then by player UUID string, which matches the order used by
+ * {@link ZombiesSQLFetcher#getBestTimes(java.sql.Connection, Key, BestTime, int)}.
+ * <p>
+ * This class is thread-safe.
+ */
+public class BestTimeCache {
+    /**
+     * The order of best times on a leaderboard.
+     */
+    public static final Comparator<BestTime> ORDER =
+            Comparator.comparingLong(BestTime::time).thenComparing(bestTime -> bestTime.uuid().toString());
+
+    /**
+     * Loads the top best times of a map from the database.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Loads at most {@code limit} best times for the given map, in {@link BestTimeCache#ORDER}.
+         *
+         * @param mapKey the map's key
+         * @param limit  the maximum number of best times to load
+         * @return a future of the best times
+         */
+        @NotNull CompletableFuture<List<BestTime>> load(@NotNull Key mapKey, int limit);
+    }
+
+    private final int capacity;
+    private final Loader loader;
+    private final Map<Key, Board> boards;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity the maximum number of best times kept for each map
+     * @param loader   the loader used to fetch a map's best times
+     */
+    public BestTimeCache(int capacity, @NotNull Loader loader) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.capacity = capacity;
+        this.loader = Objects.requireNonNull(loader, "loader");
+        this.boards = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the top best times of the given map, loading them if they are not cached yet.
+     *
+     * @param mapKey the map's key
+     * @return a future of an unmodifiable list of at most {@link BestTimeCache#capacity()} best times
+     */
+    public @NotNull CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey) {
+        Objects.requireNonNull(mapKey, "mapKey");
+        return boards.computeIfAbsent(mapKey, Board::new).get();
+    }
+
+    /**
+     * Records a best time that has been written to the database. The time only replaces the player's cached time if
+     * it is better. Maps whose best times have not been requested yet are not affected.
+     *
+     * @param uuid   the player's UUID
+     * @param mapKey the map's key
+     * @param time   the new best time
+     */
+    public void update(@NotNull UUID uuid, @NotNull Key mapKey, long time) {
+        Objects.requireNonNull(uuid, "uuid");
+        Objects.requireNonNull(mapKey, "mapKey");
+
+        Board board = boards.get(mapKey);
+        if (board != null) {
+            board.update(uuid, time);
+        }
+    }
+
+    /**
+     * Adds a listener called with the map's new best times whenever they change. The listener may be called from any
+     * thread.
+     *
+     * @param mapKey   the map's key
+     * @param listener the listener
+     */
+    public void addListener(@NotNull Key mapKey, @NotNull Consumer<? super List<BestTime>> listener) {
+        Objects.requireNonNull(listener, "listener");
+        boards.computeIfAbsent(mapKey, Board::new).listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@link BestTimeCache#addListener(Key, Consumer)}.
+     *
+     * @param mapKey   the map's key
+     * @param listener the listener
+     */
+    public void removeListener(@NotNull Key mapKey, @NotNull Consumer<? super List<BestTime>> listener) {
+        Board board = boards.get(mapKey);
+        if (board != null) {
+            board.listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Gets the maximum number of best times kept for each map.
+     *
+     * @return the capacity of this cache
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    private final class Board {
+        private final Key mapKey;
+        private final List<Consumer<? super List<BestTime>>> listeners;
+
+        //before the board is loaded, this holds updates to apply on top of the loaded times
+        private final List<BestTime> times;
+
+        private List<BestTime> snapshot;
+        private CompletableFuture<List<BestTime>> loadFuture;
+
+        private Board(Key mapKey) {
+            this.mapKey = mapKey;
+            this.listeners = new CopyOnWriteArrayList<>();
+            this.times = new ArrayList<>(capacity + 1);
+        }
+
+        private synchronized CompletableFuture<List<BestTime>> get() {
+            if (snapshot != null) {
+                return CompletableFuture.completedFuture(snapshot);
+            }
+
+            if (loadFuture == null) {
+                CompletableFuture<List<BestTime>> future = loader.load(mapKey, capacity).thenApply(this::loaded);
+                loadFuture = future;
+                future.whenComplete((ignored, throwable) -> {
+                    if (throwable != null) {
+                        loadFailed(future);
+                    }
+                });
+            }
+
+            return loadFuture;
+        }
+
+        private synchronized void loadFailed(CompletableFuture<List<BestTime>> future) {
+            //allow the next request to try again
+            if (loadFuture == future) {
+                loadFuture = null;
+            }
+        }
+
+        private List<BestTime> loaded(List<BestTime> loadedTimes) {
+            List<BestTime> newSnapshot;
+            synchronized (this) {
+                for (BestTime bestTime : loadedTimes) {
+                    insert(bestTime.uuid(), bestTime.time());
+                }
+
+                snapshot = newSnapshot = List.copyOf(times);
+                loadFuture = null;
+            }
+
+            notifyListeners(newSnapshot);
+            return newSnapshot;
+        }
+
+        private void update(UUID uuid, long time) {
+            List<BestTime> newSnapshot;
+            synchronized (this) {
+                if (!insert(uuid, time) || snapshot == null) {
+                    return;
+                }
+
+                snapshot = newSnapshot = List.copyOf(times);
+            }
+
+            notifyListeners(newSnapshot);
+        }
+
+        private boolean insert(UUID uuid, long time) {
+            for (int i = 0; i < times.size(); i++) {
+                BestTime existing = times.get(i);
+                if (existing.uuid().equals(uuid)) {
+                    if (existing.time() <= time) {
+                        return false;
+                    }
+
+                    times.remove(i);
+                    break;
+                }
+            }
+
+            BestTime bestTime = new BestTime(uuid, time);
+            int index = Collections.binarySearch(times, bestTime, ORDER);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            if (index >= capacity) {
+                return false;
+            }
+
+            times.add(index, bestTime);
+            if (times.size() > capacity) {
+                times.remove(times.size() - 1);
+            }
+
+            return true;
+        }
+
+        private void notifyListeners(List<BestTime> newSnapshot) {
+            for (Consumer<? super List<BestTime>> listener : listeners) {
+                listener.accept(newSnapshot);
+            }
+        }
+    }
+}
@@ -2,12 +2,18 @@ package org.phantazm.stats.zombies;
 
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.exception.DataAccessException;
 import org.jooq.impl.SQLDataType;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,7 +24,56 @@ public class JooqZombiesSQLFetcher implements ZombiesSQLFetcher {
     @Override
     public void synchronizeZombiesPlayerMapStats(@NotNull Connection connection,
             @NotNull ZombiesPlayerMapStats mapStats) {
-        using(connection).insertInto(table("zombies_player_map_stats"), field("player_uuid"), field("map_key"),
+        synchronizeQuery(using(connection), mapStats).execute();
+    }
+
+    @Override
+    public void synchronizeZombiesPlayerMapStats(@NotNull Connection connection,
+            @NotNull Collection<? extends ZombiesPlayerMapStats> mapStats) throws SQLException {
+        if (mapStats.isEmpty()) {
+            return;
+        }
+
+        DSLContext context = using(connection);
+        List<Query> queries = new ArrayList<>(mapStats.size());
+        for (ZombiesPlayerMapStats stats : mapStats) {
+            queries.add(synchronizeQuery(context, stats));
+        }
+
+        try {
+            context.batch(queries).execute();
+        }
+        catch (DataAccessException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    @Override
+    public @NotNull List<BestTime> getBestTimes(@NotNull Connection connection, @NotNull Key mapKey,
+            @Nullable BestTime after, int limit) throws SQLException {
+        Condition condition = field("map_key").eq(mapKey.asString()).and(field("best_time").isNotNull());
+        if (after != null) {
+            //keyset pagination, so later pages don't need to skip over the earlier ones
+            condition = condition.and(row(field("best_time", SQLDataType.BIGINT), field("player_uuid", String.class)).gt(
+                    after.time(), after.uuid().toString()));
+        }
+
+        List<BestTime> bestTimes = new ArrayList<>(limit);
+        try (ResultSet resultSet = using(connection).select(field("player_uuid"), field("best_time"))
+                .from(table("zombies_player_map_stats")).where(condition)
+                .orderBy(field("best_time"), field("player_uuid")).limit(limit).fetchResultSet()) {
+            while (resultSet.next()) {
+                UUID uuid = UUID.fromString(resultSet.getString("player_uuid"));
+                long bestTime = resultSet.getLong("best_time");
+                bestTimes.add(new BestTime(uuid, bestTime));
+            }
+        }
+
+        return bestTimes;
+    }
+
+    private static Query synchronizeQuery(DSLContext context, ZombiesPlayerMapStats mapStats) {
+        return context.insertInto(table("zombies_player_map_stats"), field("player_uuid"), field("map_key"),
                         field("games_played"), field("wins"), field("best_time"), field("rounds_survived"), field("kills"),
                         field("coins_gained"), field("coins_spent"), field("knocks"), field("deaths"), field("revives"),
                         field("shots"), field("regular_hits"), field("headshot_hits"))
@@ -30,8 +85,8 @@ public class JooqZombiesSQLFetcher implements ZombiesSQLFetcher {
                 .set(field("games_played"), field("games_played", SQLDataType.INTEGER).plus(mapStats.getGamesPlayed()))
                 .set(field("wins"), field("wins", SQLDataType.INTEGER).plus(mapStats.getWins())).set(field("best_time"),
                         mapStats.getBestTime().isPresent() ? when(field("best_time").isNotNull(),
-                                least(field("best_time"), mapStats.getBestTime().get())).otherwise(
-                                inline(null, SQLDataType.INTEGER)) : field("best_time", SQLDataType.BIGINT))
+                                least(field("best_time", SQLDataType.BIGINT), mapStats.getBestTime().get())).otherwise(
+                                mapStats.getBestTime().get()) : field("best_time", SQLDataType.BIGINT))
                 .set(field("rounds_survived"),
                         field("rounds_survived", SQLDataType.INTEGER).plus(mapStats.getRoundsSurvived()))
                 .set(field("kills"), field("kills", SQLDataType.INTEGER).plus(mapStats.getRoundsSurvived()))
@@ -43,23 +98,6 @@ public class JooqZombiesSQLFetcher implements ZombiesSQLFetcher {
                 .set(field("shots"), field("shots", SQLDataType.INTEGER).plus(mapStats.getShots()))
                 .set(field("regular_hits"), field("regular_hits", SQLDataType.INTEGER).plus(mapStats.getRegularHits()))
                 .set(field("headshot_hits"),
-                        field("headshot_hits", SQLDataType.INTEGER).plus(mapStats.getHeadshotHits())).execute();
-    }
-
-    @Override
-    public @NotNull List<BestTime> getBestTimes(@NotNull Connection connection, @NotNull Key mapKey)
-            throws SQLException {
-        List<BestTime> bestTimes = new ArrayList<>();
-        try (ResultSet resultSet = using(connection).select(field("player_uuid"), field("best_time"))
-                .from(table("zombies_player_map_stats")).where(field("map_key").eq(mapKey.asString()))
-                .and(field("best_time").isNotNull()).orderBy(field("best_time")).fetchResultSet()) {
-            while (resultSet.next()) {
-                UUID uuid = UUID.fromString(resultSet.getString("player_uuid"));
-                long bestTime = resultSet.getLong("best_time");
-                bestTimes.add(new BestTime(uuid, bestTime));
-            }
-        }
-
-        return bestTimes;
+                        field("headshot_hits", SQLDataType.INTEGER).plus(mapStats.getHeadshotHits()));
     }
 }
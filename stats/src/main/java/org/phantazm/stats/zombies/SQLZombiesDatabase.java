@@ -2,6 +2,7 @@ package org.phantazm.stats.zombies;
 
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,6 +11,8 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
@@ -23,30 +26,43 @@ public class SQLZombiesDatabase implements ZombiesDatabase {
 
     private final ZombiesSQLFetcher sqlFetcher;
 
+    private final ZombiesStatsWriter statsWriter;
+
+    private final BestTimeCache bestTimeCache;
+
     public SQLZombiesDatabase(@NotNull Executor executor, @NotNull DataSource dataSource,
-            @NotNull ZombiesSQLFetcher sqlFetcher) {
+            @NotNull ZombiesSQLFetcher sqlFetcher, @NotNull ZombiesStatsWriter statsWriter, int bestTimeCacheSize) {
         this.executor = Objects.requireNonNull(executor, "executor");
         this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
         this.sqlFetcher = Objects.requireNonNull(sqlFetcher, "sqlFetcher");
+        this.statsWriter = Objects.requireNonNull(statsWriter, "statsWriter");
+        this.bestTimeCache =
+                new BestTimeCache(bestTimeCacheSize, (mapKey, limit) -> getBestTimes(mapKey, null, limit));
     }
 
     @Override
     public @NotNull CompletableFuture<Void> synchronizeZombiesPlayerMapStats(@NotNull ZombiesPlayerMapStats stats) {
-        return CompletableFuture.runAsync(() -> {
-            try (Connection connection = dataSource.getConnection()) {
-                sqlFetcher.synchronizeZombiesPlayerMapStats(connection, stats);
-            }
-            catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
-        }, executor).whenComplete(this::logException);
+        UUID uuid = stats.getPlayerUUID();
+        Key mapKey = stats.getMapKey();
+        Optional<Long> bestTime = stats.getBestTime();
+
+        //failures are logged by the writer
+        CompletableFuture<Void> future = statsWriter.submit(stats);
+        bestTime.ifPresent(time -> future.thenRun(() -> bestTimeCache.update(uuid, mapKey, time)));
+        return future;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey) {
+        return bestTimeCache.getBestTimes(mapKey);
     }
 
     @Override
-    public CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey) {
+    public @NotNull CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey, @Nullable BestTime after,
+            int limit) {
         return CompletableFuture.supplyAsync(() -> {
             try (Connection connection = dataSource.getConnection()) {
-                return sqlFetcher.getBestTimes(connection, mapKey);
+                return sqlFetcher.getBestTimes(connection, mapKey, after, limit);
             }
             catch (SQLException e) {
                 throw new RuntimeException(e);
@@ -54,6 +70,11 @@ public class SQLZombiesDatabase implements ZombiesDatabase {
         }, executor).whenComplete(this::logException);
     }
 
+    @Override
+    public @NotNull BestTimeCache getBestTimeCache() {
+        return bestTimeCache;
+    }
+
     private <T> void logException(T ignored, Throwable throwable) {
         if (throwable != null) {
             LOGGER.warn("Exception while querying database", throwable);
@@ -2,6 +2,7 @@ package org.phantazm.stats.zombies;
 
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -10,5 +11,23 @@ public interface ZombiesDatabase {
 
     @NotNull CompletableFuture<Void> synchronizeZombiesPlayerMapStats(@NotNull ZombiesPlayerMapStats stats);
 
-    CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey);
+    /**
+     * Gets the top best times of a map, as kept by {@link ZombiesDatabase#getBestTimeCache()}.
+     *
+     * @param mapKey the map's key
+     * @return a future of the top best times
+     */
+    @NotNull CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey);
+
+    /**
+     * Gets a page of the best times of a map directly from the database, bypassing the cache.
+     *
+     * @param mapKey the map's key
+     * @param after  the last best time of the previous page, or null to start from the best time of the map
+     * @param limit  the maximum number of best times to return
+     * @return a future of the best times
+     */
+    @NotNull CompletableFuture<List<BestTime>> getBestTimes(@NotNull Key mapKey, @Nullable BestTime after, int limit);
+
+    @NotNull BestTimeCache getBestTimeCache();
 }
@@ -2,15 +2,31 @@ package org.phantazm.stats.zombies;
 
 import net.kyori.adventure.key.Key;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 
 public interface ZombiesSQLFetcher {
 
     void synchronizeZombiesPlayerMapStats(@NotNull Connection connection, @NotNull ZombiesPlayerMapStats mapStats);
 
-    @NotNull List<BestTime> getBestTimes(@NotNull Connection connection, @NotNull Key mapKey) throws SQLException;
+    void synchronizeZombiesPlayerMapStats(@NotNull Connection connection,
+            @NotNull Collection<? extends ZombiesPlayerMapStats> mapStats) throws SQLException;
+
+    /**
+     * Gets a page of the best times of a map, ordered by time and then by player UUID string.
+     *
+     * @param connection the connection to use
+     * @param mapKey     the map's key
+     * @param after      the last best time of the previous page, or null to start from the best time of the map
+     * @param limit      the maximum number of best times to return
+     * @return the best times
+     * @throws SQLException if the query fails
+     */
+    @NotNull List<BestTime> getBestTimes(@NotNull Connection connection, @NotNull Key mapKey, @Nullable BestTime after,
+            int limit) throws SQLException;
 
 }
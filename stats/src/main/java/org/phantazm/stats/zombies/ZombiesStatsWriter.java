@@ -0,0 +1,512 @@
+package org.phantazm.stats.zombies;
+
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes {@link ZombiesPlayerMapStats} to the database in the background. Submitted stats are treated as deltas:
+ * deltas for the same player and map are merged while they wait, and pending deltas are written in JDBC batches once
+ * enough of them have accumulated or the flush interval elapses. Each batch is written in a single transaction. If a
+ * batch fails, its stats are written again one at a time, so that a single bad row does not hold back the rest. Stats
+ * that still fail are put back and retried after an increasing delay, merging with anything submitted for the same
+ * keys in the meantime, so no delta is applied twice.
+ * <p>
+ * The number of pending keys is bounded. Submitting never blocks: stats for a key that is already pending are merged
+ * into it, and stats for a new key while the writer is full are rejected immediately and counted in the metrics, with
+ * a flush requested to make room for later submissions.
+ * <p>
+ * All writes happen on the writer's executor. This class is thread-safe.
+ */
+public class ZombiesStatsWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZombiesStatsWriter.class);
+
+    private final ScheduledExecutorService executor;
+    private final DataSource dataSource;
+    private final ZombiesSQLFetcher sqlFetcher;
+    private final Settings settings;
+
+    private final ReentrantLock lock;
+    private final Map<StatsKey, Pending> pending;
+    private final ZombiesStatsWriterMetrics metrics;
+
+    private final ScheduledFuture<?> flushTask;
+
+    private boolean flushRequested;
+    private boolean closed;
+
+    /**
+     * Creates a new writer, and schedules its periodic flush on the given executor.
+     *
+     * @param executor   the executor to write on
+     * @param dataSource the source of database connections
+     * @param sqlFetcher the fetcher used to write stats
+     * @param settings   the writer settings
+     */
+    public ZombiesStatsWriter(@NotNull ScheduledExecutorService executor, @NotNull DataSource dataSource,
+            @NotNull ZombiesSQLFetcher sqlFetcher, @NotNull Settings settings) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+        this.sqlFetcher = Objects.requireNonNull(sqlFetcher, "sqlFetcher");
+        this.settings = Objects.requireNonNull(settings, "settings");
+
+        this.lock = new ReentrantLock();
+        this.pending = new LinkedHashMap<>();
+        this.metrics = new ZombiesStatsWriterMetrics();
+
+        this.flushTask = executor.scheduleWithFixedDelay(this::flushDue, settings.flushInterval,
+                settings.flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Submits stats to be added to the stored stats of their player and map. The given object is copied and may be
+     * reused by the caller.
+     *
+     * @param stats the stats to add
+     * @return a future that completes once the stats have been written, or completes exceptionally if they were
+     * rejected or could not be written
+     */
+    public @NotNull CompletableFuture<Void> submit(@NotNull ZombiesPlayerMapStats stats) {
+        Objects.requireNonNull(stats, "stats");
+        StatsKey key = new StatsKey(stats.getPlayerUUID(), stats.getMapKey());
+
+        lock.lock();
+        try {
+            if (closed) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Stats writer is closed"));
+            }
+
+            metrics.recordSubmitted();
+
+            Pending entry = pending.get(key);
+            if (entry != null) {
+                merge(entry.stats, stats);
+                metrics.recordCoalesced();
+                return entry.future;
+            }
+
+            if (pending.size() >= settings.maxPending) {
+                //never block the caller, which is usually a tick thread
+                requestFlush();
+                metrics.recordRejected();
+                LOGGER.warn("Rejected Zombies stats for {} on {}: too many pending writes", stats.getPlayerUUID(),
+                        stats.getMapKey());
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Too many pending stats writes"));
+            }
+
+            entry = new Pending(key, copy(stats));
+            pending.put(key, entry);
+            metrics.recordPending(pending.size());
+
+            if (pending.size() >= settings.batchSize) {
+                requestFlush();
+            }
+
+            return entry.future;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting new stats and writes all pending stats, retrying failed batches as usual until the timeout
+     * elapses. Stats that could not be written by then are logged and their futures completed exceptionally. This
+     * does not shut down the executor.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return true if every pending write succeeded, false otherwise
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean drain(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        lock.lock();
+        try {
+            closed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        flushTask.cancel(false);
+
+        try {
+            Future<?> drainTask = executor.submit(() -> {
+                drainPending(deadline);
+                return null;
+            });
+
+            try {
+                drainTask.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+            catch (ExecutionException e) {
+                LOGGER.warn("Exception while draining stats writer", e.getCause());
+            }
+            catch (TimeoutException e) {
+                drainTask.cancel(true);
+            }
+        }
+        catch (RejectedExecutionException e) {
+            LOGGER.warn("Stats writer executor was shut down before pending stats were written");
+        }
+
+        return failRemaining() == 0;
+    }
+
+    /**
+     * Gets the metrics of this writer.
+     *
+     * @return the metrics of this writer
+     */
+    public @NotNull ZombiesStatsWriterMetrics metrics() {
+        return metrics;
+    }
+
+    private void requestFlush() {
+        if (flushRequested) {
+            return;
+        }
+
+        try {
+            executor.execute(this::flushDue);
+            flushRequested = true;
+        }
+        catch (RejectedExecutionException ignored) {
+            //shutting down, drain will take care of it
+        }
+    }
+
+    private void flushDue() {
+        try {
+            while (true) {
+                List<Pending> batch = takeBatch(System.nanoTime());
+                if (batch.isEmpty()) {
+                    return;
+                }
+
+                write(batch);
+            }
+        }
+        catch (Throwable throwable) {
+            //don't let an unexpected exception cancel the periodic flush
+            LOGGER.warn("Exception while flushing stats writer", throwable);
+        }
+    }
+
+    private void drainPending(long deadline) throws InterruptedException {
+        while (true) {
+            flushDue();
+
+            long wait;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+
+                long nextRetry = Long.MAX_VALUE;
+                for (Pending entry : pending.values()) {
+                    nextRetry = Math.min(nextRetry, entry.retryAt);
+                }
+
+                wait = nextRetry - System.nanoTime();
+            }
+            finally {
+                lock.unlock();
+            }
+
+            if (System.nanoTime() + wait > deadline) {
+                return;
+            }
+
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+    }
+
+    private List<Pending> takeBatch(long now) {
+        lock.lock();
+        try {
+            flushRequested = false;
+
+            List<Pending> batch = new ArrayList<>(Math.min(pending.size(), settings.batchSize));
+            Iterator<Pending> iterator = pending.values().iterator();
+            while (iterator.hasNext() && batch.size() < settings.batchSize) {
+                Pending entry = iterator.next();
+                if (entry.retryAt - now <= 0) {
+                    batch.add(entry);
+                    iterator.remove();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                metrics.recordPending(pending.size());
+            }
+
+            return batch;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        Exception exception = tryWrite(batch);
+        if (exception == null) {
+            written(batch);
+            return;
+        }
+
+        metrics.recordFailedBatch();
+        if (batch.size() == 1) {
+            retry(batch, exception);
+            return;
+        }
+
+        //one bad row fails the whole transaction, so find it instead of retrying the rest along with it
+        LOGGER.warn("Failed to write a batch of {} Zombies stats, writing them one at a time", batch.size(),
+                exception);
+
+        List<Pending> failed = new ArrayList<>();
+        for (Pending entry : batch) {
+            List<Pending> single = List.of(entry);
+            Exception singleException = tryWrite(single);
+            if (singleException == null) {
+                written(single);
+                continue;
+            }
+
+            metrics.recordFailedBatch();
+            failed.add(entry);
+            exception = singleException;
+        }
+
+        if (!failed.isEmpty()) {
+            retry(failed, exception);
+        }
+    }
+
+    private Exception tryWrite(List<Pending> batch) {
+        List<ZombiesPlayerMapStats> stats = new ArrayList<>(batch.size());
+        for (Pending entry : batch) {
+            stats.add(entry.stats);
+        }
+
+        boolean committed = false;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try {
+                sqlFetcher.synchronizeZombiesPlayerMapStats(connection, stats);
+                connection.commit();
+                committed = true;
+            }
+            catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        catch (SQLException | RuntimeException e) {
+            if (!committed) {
+                return e;
+            }
+
+            LOGGER.warn("Exception while closing database connection", e);
+        }
+
+        return null;
+    }
+
+    private void written(List<Pending> batch) {
+        metrics.recordBatch(batch.size());
+        for (Pending entry : batch) {
+            entry.future.complete(null);
+        }
+    }
+
+    private void retry(List<Pending> batch, Exception exception) {
+        List<Pending> failed = new ArrayList<>();
+        long firstRetryDelay = Long.MAX_VALUE;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            for (Pending entry : batch) {
+                if (++entry.attempts > settings.maxRetries) {
+                    failed.add(entry);
+                    continue;
+                }
+
+                long delay = settings.retryDelay << Math.min(entry.attempts - 1, 10);
+                firstRetryDelay = Math.min(firstRetryDelay, delay);
+                entry.retryAt = now + TimeUnit.MILLISECONDS.toNanos(delay);
+
+                Pending newer = pending.get(entry.key);
+                if (newer != null) {
+                    //keep the failed entry, so its retry count and delay carry over
+                    merge(entry.stats, newer.stats);
+                    entry.future.whenComplete((ignored, throwable) -> {
+                        if (throwable == null) {
+                            newer.future.complete(null);
+                        }
+                        else {
+                            newer.future.completeExceptionally(throwable);
+                        }
+                    });
+                }
+
+                pending.put(entry.key, entry);
+            }
+
+            metrics.recordPending(pending.size());
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (firstRetryDelay != Long.MAX_VALUE) {
+            try {
+                executor.schedule(this::flushDue, firstRetryDelay, TimeUnit.MILLISECONDS);
+            }
+            catch (RejectedExecutionException ignored) {
+                //shutting down, drain will take care of it
+            }
+        }
+
+        if (failed.isEmpty()) {
+            LOGGER.warn("Failed to write {} Zombies stats, will retry", batch.size(), exception);
+            return;
+        }
+
+        metrics.recordDropped(failed.size());
+        for (Pending entry : failed) {
+            LOGGER.error("Giving up on writing Zombies stats for {} on {} after {} attempts",
+                    entry.stats.getPlayerUUID(), entry.stats.getMapKey(), entry.attempts, exception);
+            entry.future.completeExceptionally(exception);
+        }
+    }
+
+    private int failRemaining() {
+        List<Pending> remaining;
+        lock.lock();
+        try {
+            remaining = new ArrayList<>(pending.values());
+            pending.clear();
+            metrics.recordPending(0);
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (remaining.isEmpty()) {
+            return 0;
+        }
+
+        metrics.recordDropped(remaining.size());
+        LOGGER.error("{} Zombies stats could not be written before shutdown", remaining.size());
+
+        Exception exception = new CancellationException("Stats writer was drained before the stats were written");
+        for (Pending entry : remaining) {
+            entry.future.completeExceptionally(exception);
+        }
+
+        return remaining.size();
+    }
+
+    private static ZombiesPlayerMapStats copy(ZombiesPlayerMapStats stats) {
+        return new BasicZombiesPlayerMapStats(stats.getPlayerUUID(), stats.getMapKey(), stats.getGamesPlayed(),
+                stats.getWins(), stats.getBestTime().orElse(null), stats.getRoundsSurvived(), stats.getKills(),
+                stats.getKnocks(), stats.getCoinsGained(), stats.getCoinsSpent(), stats.getDeaths(),
+                stats.getRevives(), stats.getShots(), stats.getRegularHits(), stats.getHeadshotHits());
+    }
+
+    private static void merge(ZombiesPlayerMapStats target, ZombiesPlayerMapStats delta) {
+        target.setGamesPlayed(target.getGamesPlayed() + delta.getGamesPlayed());
+        target.setWins(target.getWins() + delta.getWins());
+        target.setRoundsSurvived(target.getRoundsSurvived() + delta.getRoundsSurvived());
+        target.setKills(target.getKills() + delta.getKills());
+        target.setCoinsGained(target.getCoinsGained() + delta.getCoinsGained());
+        target.setCoinsSpent(target.getCoinsSpent() + delta.getCoinsSpent());
+        target.setKnocks(target.getKnocks() + delta.getKnocks());
+        target.setDeaths(target.getDeaths() + delta.getDeaths());
+        target.setRevives(target.getRevives() + delta.getRevives());
+        target.setShots(target.getShots() + delta.getShots());
+        target.setRegularHits(target.getRegularHits() + delta.getRegularHits());
+        target.setHeadshotHits(target.getHeadshotHits() + delta.getHeadshotHits());
+
+        Optional<Long> deltaBestTime = delta.getBestTime();
+        if (deltaBestTime.isPresent()) {
+            Optional<Long> targetBestTime = target.getBestTime();
+            target.setBestTime(targetBestTime.isEmpty() ? deltaBestTime.get() :
+                    Math.min(targetBestTime.get(), deltaBestTime.get()));
+        }
+    }
+
+    /**
+     * Settings for a {@link ZombiesStatsWriter}.
+     *
+     * @param batchSize     the number of pending keys that triggers a flush, and the maximum size of one batch
+     * @param flushInterval the time in milliseconds between periodic flushes
+     * @param maxPending    the maximum number of pending keys
+     * @param maxRetries    the number of times a failed write is retried before its stats are dropped
+     * @param retryDelay    the time in milliseconds before the first retry of a failed write, doubled for each
+     *                      further retry
+     */
+    public record Settings(int batchSize, long flushInterval, int maxPending, int maxRetries, long retryDelay) {
+        /**
+         * The default settings.
+         */
+        public static final Settings DEFAULT = new Settings(50, 5000L, 1000, 5, 1000L);
+
+        public Settings {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+
+            if (flushInterval < 1) {
+                throw new IllegalArgumentException("flushInterval must be positive");
+            }
+
+            if (maxPending < 1) {
+                throw new IllegalArgumentException("maxPending must be positive");
+            }
+
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must be non-negative");
+            }
+
+            if (retryDelay < 0) {
+                throw new IllegalArgumentException("retryDelay must be non-negative");
+            }
+        }
+    }
+
+    private record StatsKey(UUID playerUUID, Key mapKey) {
+    }
+
+    private static class Pending {
+        private final StatsKey key;
+        private final ZombiesPlayerMapStats stats;
+        private final CompletableFuture<Void> future;
+
+        private int attempts;
+        private long retryAt;
+
+        private Pending(StatsKey key, ZombiesPlayerMapStats stats) {
+            this.key = key;
+            this.stats = stats;
+            this.future = new CompletableFuture<>();
+            this.retryAt = System.nanoTime();
+        }
+    }
+}
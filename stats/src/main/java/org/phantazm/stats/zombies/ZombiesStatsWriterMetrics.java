@@ -0,0 +1,85 @@
+package org.phantazm.stats.zombies;
+
+/**
+ * Queue and write measurements for a {@link ZombiesStatsWriter}. Values are written by the writer and may be read from
+ * any thread.
+ */
+public final class ZombiesStatsWriterMetrics {
+    private volatile int pendingCount;
+    private volatile int maxPendingCount;
+    private volatile long submittedCount;
+    private volatile long coalescedCount;
+    private volatile long rejectedCount;
+    private volatile long batchCount;
+    private volatile long writtenCount;
+    private volatile long failedBatchCount;
+    private volatile long droppedCount;
+
+    void recordPending(int pendingCount) {
+        this.pendingCount = pendingCount;
+        if (pendingCount > maxPendingCount) {
+            maxPendingCount = pendingCount;
+        }
+    }
+
+    void recordSubmitted() {
+        submittedCount++;
+    }
+
+    void recordCoalesced() {
+        coalescedCount++;
+    }
+
+    void recordRejected() {
+        rejectedCount++;
+    }
+
+    void recordBatch(int size) {
+        batchCount++;
+        writtenCount += size;
+    }
+
+    void recordFailedBatch() {
+        failedBatchCount++;
+    }
+
+    void recordDropped(int count) {
+        droppedCount += count;
+    }
+
+    public int pendingCount() {
+        return pendingCount;
+    }
+
+    public int maxPendingCount() {
+        return maxPendingCount;
+    }
+
+    public long submittedCount() {
+        return submittedCount;
+    }
+
+    public long coalescedCount() {
+        return coalescedCount;
+    }
+
+    public long rejectedCount() {
+        return rejectedCount;
+    }
+
+    public long batchCount() {
+        return batchCount;
+    }
+
+    public long writtenCount() {
+        return writtenCount;
+    }
+
+    public long failedBatchCount() {
+        return failedBatchCount;
+    }
+
+    public long droppedCount() {
+        return droppedCount;
+    }
+}
@@ -0,0 +1,107 @@
+package org.phantazm.stats.zombies;
+
+import net.kyori.adventure.key.Key;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestTimeCacheTest {
+    private static final Key MAP_KEY = Key.key("phantazm", "test_map");
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID THIRD = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID FOURTH = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    @Test
+    void loadsOnlyOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        BestTimeCache cache = new BestTimeCache(3, (mapKey, limit) -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(List.of(new BestTime(FIRST, 100)));
+        });
+
+        assertEquals(List.of(new BestTime(FIRST, 100)), cache.getBestTimes(MAP_KEY).join());
+        assertEquals(List.of(new BestTime(FIRST, 100)), cache.getBestTimes(MAP_KEY).join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void insertsNewTimeInOrder() {
+        BestTimeCache cache = loaded(new BestTime(FIRST, 100), new BestTime(SECOND, 300));
+
+        cache.update(THIRD, MAP_KEY, 200);
+
+        assertEquals(List.of(new BestTime(FIRST, 100), new BestTime(THIRD, 200), new BestTime(SECOND, 300)),
+                cache.getBestTimes(MAP_KEY).join());
+    }
+
+    @Test
+    void evictsWorstTimeWhenFull() {
+        BestTimeCache cache = loaded(new BestTime(FIRST, 100), new BestTime(SECOND, 200), new BestTime(THIRD, 300));
+
+        cache.update(FOURTH, MAP_KEY, 150);
+
+        assertEquals(List.of(new BestTime(FIRST, 100), new BestTime(FOURTH, 150), new BestTime(SECOND, 200)),
+                cache.getBestTimes(MAP_KEY).join());
+    }
+
+    @Test
+    void ignoresTimeWorseThanFullBoard() {
+        BestTimeCache cache = loaded(new BestTime(FIRST, 100), new BestTime(SECOND, 200), new BestTime(THIRD, 300));
+
+        cache.update(FOURTH, MAP_KEY, 400);
+
+        assertEquals(List.of(new BestTime(FIRST, 100), new BestTime(SECOND, 200), new BestTime(THIRD, 300)),
+                cache.getBestTimes(MAP_KEY).join());
+    }
+
+    @Test
+    void replacesPlayersTimeOnlyIfBetter() {
+        BestTimeCache cache = loaded(new BestTime(FIRST, 100), new BestTime(SECOND, 200));
+
+        cache.update(SECOND, MAP_KEY, 250);
+        assertEquals(List.of(new BestTime(FIRST, 100), new BestTime(SECOND, 200)),
+                cache.getBestTimes(MAP_KEY).join());
+
+        cache.update(SECOND, MAP_KEY, 50);
+        assertEquals(List.of(new BestTime(SECOND, 50), new BestTime(FIRST, 100)), cache.getBestTimes(MAP_KEY).join());
+    }
+
+    @Test
+    void appliesUpdatesReceivedWhileLoading() {
+        CompletableFuture<List<BestTime>> load = new CompletableFuture<>();
+        BestTimeCache cache = new BestTimeCache(3, (mapKey, limit) -> load);
+
+        CompletableFuture<List<BestTime>> bestTimes = cache.getBestTimes(MAP_KEY);
+        cache.update(FIRST, MAP_KEY, 50);
+        load.complete(List.of(new BestTime(FIRST, 100), new BestTime(SECOND, 200)));
+
+        assertEquals(List.of(new BestTime(FIRST, 50), new BestTime(SECOND, 200)), bestTimes.join());
+    }
+
+    @Test
+    void notifiesListeners() {
+        BestTimeCache cache = loaded(new BestTime(FIRST, 100));
+        List<List<BestTime>> notified = new ArrayList<>();
+        cache.addListener(MAP_KEY, notified::add);
+
+        cache.update(SECOND, MAP_KEY, 200);
+        cache.update(SECOND, MAP_KEY, 300);
+
+        assertEquals(List.of(List.of(new BestTime(FIRST, 100), new BestTime(SECOND, 200))), notified);
+    }
+
+    private static BestTimeCache loaded(BestTime... bestTimes) {
+        BestTimeCache cache =
+                new BestTimeCache(3, (mapKey, limit) -> CompletableFuture.completedFuture(List.of(bestTimes)));
+        cache.getBestTimes(MAP_KEY).join();
+        return cache;
+    }
+}
@@ -0,0 +1,247 @@
+package org.phantazm.stats.zombies;
+
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZombiesStatsWriterTest {
+    private static final Key MAP_KEY = Key.key("phantazm", "test_map");
+
+    private SQLiteDataSource dataSource;
+    private Connection keepAlive;
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:file:" + UUID.randomUUID() + "?mode=memory&cache=shared");
+
+        //the in-memory database is discarded once its last connection closes
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE zombies_player_map_stats
+                    (
+                        player_uuid     TEXT    not null,
+                        map_key         TEXT    not null,
+                        games_played    integer not null,
+                        wins            integer not null,
+                        best_time       integer,
+                        rounds_survived integer not null,
+                        kills           integer not null,
+                        coins_gained    integer not null,
+                        coins_spent     integer not null,
+                        knocks          integer not null,
+                        deaths          integer not null,
+                        revives         integer not null,
+                        shots           integer not null,
+                        regular_hits    integer not null,
+                        headshot_hits   integer not null,
+                        constraint zombies_player_map_stats_pk
+                            primary key (player_uuid, map_key)
+                    )""");
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        executor.shutdownNow();
+        keepAlive.close();
+    }
+
+    @Test
+    void coalescesStatsForSameKey() throws Exception {
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, new JooqZombiesSQLFetcher(),
+                new ZombiesStatsWriter.Settings(50, 60000L, 100, 0, 0L));
+        UUID player = UUID.randomUUID();
+
+        CompletableFuture<Void> first = writer.submit(stats(player, 1, 2, 100L));
+        CompletableFuture<Void> second = writer.submit(stats(player, 1, 3, 80L));
+
+        assertSame(first, second);
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+        first.get(5L, TimeUnit.SECONDS);
+
+        assertEquals(2, gamesPlayed(player));
+        assertEquals(5, kills(player));
+        assertEquals(80L, bestTime(player));
+        assertEquals(1, writer.metrics().coalescedCount());
+        assertEquals(1, writer.metrics().batchCount());
+        assertEquals(1, writer.metrics().writtenCount());
+    }
+
+    @Test
+    void flushesOnceBatchIsFull() throws Exception {
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, new JooqZombiesSQLFetcher(),
+                new ZombiesStatsWriter.Settings(2, 60000L, 100, 0, 0L));
+        UUID firstPlayer = UUID.randomUUID();
+        UUID secondPlayer = UUID.randomUUID();
+
+        CompletableFuture<Void> first = writer.submit(stats(firstPlayer, 1, 1, null));
+        CompletableFuture<Void> second = writer.submit(stats(secondPlayer, 1, 1, null));
+
+        CompletableFuture.allOf(first, second).get(5L, TimeUnit.SECONDS);
+
+        assertEquals(1, gamesPlayed(firstPlayer));
+        assertEquals(1, gamesPlayed(secondPlayer));
+        assertEquals(1, writer.metrics().batchCount());
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void retriesFailedBatchWithoutApplyingTwice() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ZombiesSQLFetcher failingOnce = new JooqZombiesSQLFetcher() {
+            @Override
+            public void synchronizeZombiesPlayerMapStats(@NotNull Connection connection,
+                    @NotNull Collection<? extends ZombiesPlayerMapStats> mapStats) throws SQLException {
+                super.synchronizeZombiesPlayerMapStats(connection, mapStats);
+                if (calls.getAndIncrement() == 0) {
+                    throw new SQLException("simulated failure");
+                }
+            }
+        };
+
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, failingOnce,
+                new ZombiesStatsWriter.Settings(1, 60000L, 100, 3, 10L));
+        UUID player = UUID.randomUUID();
+
+        writer.submit(stats(player, 1, 1, null)).get(5L, TimeUnit.SECONDS);
+
+        assertEquals(1, gamesPlayed(player));
+        assertEquals(1, writer.metrics().failedBatchCount());
+        assertEquals(0, writer.metrics().droppedCount());
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void dropsStatsAfterMaxRetries() throws Exception {
+        ZombiesSQLFetcher failing = new JooqZombiesSQLFetcher() {
+            @Override
+            public void synchronizeZombiesPlayerMapStats(@NotNull Connection connection,
+                    @NotNull Collection<? extends ZombiesPlayerMapStats> mapStats) throws SQLException {
+                throw new SQLException("simulated failure");
+            }
+        };
+
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, failing,
+                new ZombiesStatsWriter.Settings(1, 60000L, 100, 2, 1L));
+
+        CompletableFuture<Void> future = writer.submit(stats(UUID.randomUUID(), 1, 1, null));
+
+        assertThrows(ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+        assertEquals(3, writer.metrics().failedBatchCount());
+        assertEquals(1, writer.metrics().droppedCount());
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void writesRowsSeparatelyWhenBatchFails() throws Exception {
+        UUID badPlayer = UUID.randomUUID();
+        ZombiesSQLFetcher failingForPlayer = new JooqZombiesSQLFetcher() {
+            @Override
+            public void synchronizeZombiesPlayerMapStats(@NotNull Connection connection,
+                    @NotNull Collection<? extends ZombiesPlayerMapStats> mapStats) throws SQLException {
+                for (ZombiesPlayerMapStats stats : mapStats) {
+                    if (stats.getPlayerUUID().equals(badPlayer)) {
+                        throw new SQLException("simulated bad row");
+                    }
+                }
+
+                super.synchronizeZombiesPlayerMapStats(connection, mapStats);
+            }
+        };
+
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, failingForPlayer,
+                new ZombiesStatsWriter.Settings(3, 60000L, 100, 0, 0L));
+        UUID firstPlayer = UUID.randomUUID();
+        UUID secondPlayer = UUID.randomUUID();
+
+        CompletableFuture<Void> first = writer.submit(stats(firstPlayer, 1, 1, null));
+        CompletableFuture<Void> bad = writer.submit(stats(badPlayer, 1, 1, null));
+        CompletableFuture<Void> second = writer.submit(stats(secondPlayer, 1, 1, null));
+
+        CompletableFuture.allOf(first, second).get(5L, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> bad.get(5L, TimeUnit.SECONDS));
+
+        assertEquals(1, gamesPlayed(firstPlayer));
+        assertEquals(1, gamesPlayed(secondPlayer));
+        assertEquals(2, writer.metrics().writtenCount());
+        assertEquals(2, writer.metrics().failedBatchCount());
+        assertEquals(1, writer.metrics().droppedCount());
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsNewKeyWhenFullWithoutBlocking() throws Exception {
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, new JooqZombiesSQLFetcher(),
+                new ZombiesStatsWriter.Settings(50, 60000L, 1, 0, 0L));
+        UUID firstPlayer = UUID.randomUUID();
+
+        CompletableFuture<Void> first = writer.submit(stats(firstPlayer, 1, 1, null));
+        CompletableFuture<Void> rejected = writer.submit(stats(UUID.randomUUID(), 1, 1, null));
+        CompletableFuture<Void> merged = writer.submit(stats(firstPlayer, 1, 1, null));
+
+        assertTrue(rejected.isCompletedExceptionally());
+        assertSame(first, merged);
+        assertEquals(1, writer.metrics().rejectedCount());
+
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+        assertEquals(2, gamesPlayed(firstPlayer));
+    }
+
+    @Test
+    void rejectsStatsAfterDrain() throws Exception {
+        ZombiesStatsWriter writer = new ZombiesStatsWriter(executor, dataSource, new JooqZombiesSQLFetcher(),
+                ZombiesStatsWriter.Settings.DEFAULT);
+
+        assertTrue(writer.drain(5L, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> future = writer.submit(stats(UUID.randomUUID(), 1, 1, null));
+        assertThrows(ExecutionException.class, () -> future.get(5L, TimeUnit.SECONDS));
+    }
+
+    private static ZombiesPlayerMapStats stats(UUID player, int gamesPlayed, int kills, Long bestTime) {
+        ZombiesPlayerMapStats stats = BasicZombiesPlayerMapStats.createBasicStats(player, MAP_KEY);
+        stats.setGamesPlayed(gamesPlayed);
+        stats.setKills(kills);
+        stats.setBestTime(bestTime);
+        return stats;
+    }
+
+    private int gamesPlayed(UUID player) throws SQLException {
+        return (int)column(player, "games_played");
+    }
+
+    private int kills(UUID player) throws SQLException {
+        return (int)column(player, "kills");
+    }
+
+    private long bestTime(UUID player) throws SQLException {
+        return column(player, "best_time");
+    }
+
+    private long column(UUID player, String column) throws SQLException {
+        try (Statement statement = keepAlive.createStatement(); ResultSet resultSet = statement.executeQuery(
+                "SELECT " + column + " FROM zombies_player_map_stats WHERE player_uuid = '" + player + "'")) {
+            assertTrue(resultSet.next(), "missing row for " + player);
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.phantazm.velocity.listener;
 
-import com.google.common.io.ByteStreams;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.PluginMessageEvent;
 import com.velocitypowered.api.proxy.Player;
@@ -12,8 +11,6 @@ import org.phantazm.messaging.packet.c2p.MapDataVersionQueryPacket;
 import org.phantazm.messaging.packet.c2p.MapDataVersionResponsePacket;
 import org.phantazm.messaging.serialization.PacketSerializer;
 import org.phantazm.messaging.serialization.PacketSerializers;
-import org.phantazm.velocity.packet.ByteArrayInputDataReader;
-import org.phantazm.velocity.packet.ByteArrayOutputDataWriter;
 import org.phantazm.zombies.map.MapSettingsInfo;
 
 import java.util.Map;
@@ -29,11 +26,8 @@ public class ProxyMessagingHandler {
      * Creates a new {@link ProxyMessagingHandler}.
      * @param clientToProxyIdentifier The identifier for the channel between the client and the proxy
      */
-    @SuppressWarnings("UnstableApiUsage")
     public ProxyMessagingHandler(@NotNull ChannelIdentifier clientToProxyIdentifier) {
-        PacketSerializer clientToProxy = PacketSerializers.clientToProxySerializer(
-                () -> new ByteArrayOutputDataWriter(ByteStreams.newDataOutput()),
-                data -> new ByteArrayInputDataReader(ByteStreams.newDataInput(data)));
+        PacketSerializer clientToProxy = PacketSerializers.clientToProxySerializer();
         packetHandlers = Map.of(clientToProxyIdentifier, new PacketHandler<>(clientToProxy) {
             @Override
             protected void handlePacket(@NotNull Player player, @NotNull Packet packet) {
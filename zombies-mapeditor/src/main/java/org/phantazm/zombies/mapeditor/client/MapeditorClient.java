@@ -42,8 +42,6 @@ import org.phantazm.messaging.serialization.PacketSerializer;
 import org.phantazm.messaging.serialization.PacketSerializers;
 import org.phantazm.zombies.map.FileSystemMapLoader;
 import org.phantazm.zombies.map.MapSettingsInfo;
-import org.phantazm.zombies.mapeditor.client.packet.PacketByteBufDataReader;
-import org.phantazm.zombies.mapeditor.client.packet.PacketByteBufDataWriter;
 import org.phantazm.zombies.mapeditor.client.render.ObjectRenderer;
 import org.phantazm.zombies.mapeditor.client.ui.MainGui;
 import org.phantazm.zombies.mapeditor.client.ui.NewObjectGui;
@@ -88,9 +86,7 @@ public class MapeditorClient implements ClientModInitializer {
                 new KeyBinding(TranslationKeys.KEY_MAPEDITOR_CREATE, InputUtil.Type.KEYSYM, GLFW.GLFW_KEY_N,
                         TranslationKeys.CATEGORY_MAPEDITOR_ALL));
 
-        PacketSerializer clientToProxy = PacketSerializers.clientToProxySerializer(
-                () -> new PacketByteBufDataWriter(new PacketByteBuf(Unpooled.buffer())),
-                data -> new PacketByteBufDataReader(new PacketByteBuf(Unpooled.wrappedBuffer(data))));
+        PacketSerializer clientToProxy = PacketSerializers.clientToProxySerializer();
         Identifier clientToProxyIdentifier = Identifier.of(Namespaces.PHANTAZM, MessageChannels.CLIENT_TO_PROXY);
         if (clientToProxyIdentifier != null) {
             ClientPlayConnectionEvents.JOIN.register(((handler, sender, client) -> {
@@ -127,7 +123,7 @@ public class MapeditorClient implements ClientModInitializer {
             };
             ClientPlayNetworking.registerGlobalReceiver(clientToProxyIdentifier,
                     (client, handler, buf, responseSender) -> {
-                        clientToProxyHandler.handleData(responseSender, buf.getWrittenBytes());
+                        clientToProxyHandler.handleData(responseSender, buf.nioBuffer());
                     });
         }
 
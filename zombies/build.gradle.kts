@@ -1,6 +1,10 @@
+// https://youtrack.jetbrains.com/issue/KTIJ-19369/False-positive-can-t-be-called-in-this-context-by-implicit-recei
+@Suppress("DSL_SCOPE_VIOLATION")
 plugins {
     id("phantazm.minestom-library-conventions")
     id("com.github.steanky.element-autodoc") version "0.1.2"
+
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -8,6 +12,8 @@ dependencies {
     api(projects.phantazmMob)
     api(projects.phantazmStats)
     api(projects.phantazmZombiesMapdata)
+
+    jmh(libs.ethylene.yaml)
 }
 
 elementAutodoc {
@@ -17,6 +23,10 @@ elementAutodoc {
     maintainers.set(listOf("Steank"))
 }
 
+jmh {
+    profilers.add("gc")
+}
+
 tasks.named("elementAutodoc") {
     (this as SourceTask).source = java.sourceSets["main"].allJava
 }
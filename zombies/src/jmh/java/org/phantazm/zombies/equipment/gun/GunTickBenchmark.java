@@ -0,0 +1,178 @@
+package org.phantazm.zombies.equipment.gun;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.phantazm.zombies.equipment.gun.reload.ReloadTester;
+import org.phantazm.zombies.equipment.gun.reload.StateReloadTester;
+import org.phantazm.zombies.equipment.gun.shoot.ShootTester;
+import org.phantazm.zombies.equipment.gun.shoot.StateShootTester;
+import org.phantazm.zombies.equipment.gun.shoot.fire.Firer;
+import org.phantazm.zombies.equipment.gun.visual.ClipStackMapper;
+import org.phantazm.zombies.equipment.gun.visual.ReloadStackMapper;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures {@link Gun#tick(long)} throughput. Run with the {@code gc} profiler (enabled by default in this module's
+ * JMH configuration) to also see the allocation rate per operation.
+ * <p>
+ * The {@code builder*} benchmarks replay the tick logic {@link Gun} used before it switched to
+ * {@link MutableGunState}, rebuilding an immutable {@link GunState} through {@link GunState.Builder} on every
+ * modification. They exist so both implementations can be compared within one run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GunTickBenchmark {
+    private static final int SHOOT_INTERVAL = 10;
+
+    private GunLevel level;
+    private Gun gun;
+    private BuilderGun builderGun;
+    private long time;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        GunStats stats = new GunStats(new GunStats.Data(5, 40, 1_000_000, 10, 3, 1));
+        ReloadTester reloadTester = new StateReloadTester(stats);
+        ShootTester shootTester = new StateShootTester(stats, reloadTester, Optional::empty);
+
+        Firer firer = new Firer() {
+            @Override
+            public void fire(@NotNull Gun gun, @NotNull GunState state, @NotNull Pos start,
+                    @NotNull Collection<UUID> previousHits) {
+            }
+
+            @Override
+            public void tick(@NotNull GunState state, long time) {
+            }
+        };
+
+        Key key = Key.key("phantazm", "benchmark_gun");
+        GunLevel.Data data = new GunLevel.Data(key, "stats", "shoot_tester", "reload_tester", "firer", List.of(),
+                List.of(), List.of(), List.of(), List.of(), List.of(), ItemStack.of(Material.WOODEN_HOE), Set.of());
+        level = new GunLevel(data, stats, shootTester, reloadTester, firer, List.of(), List.of(), List.of(),
+                List.of(), List.of(),
+                List.of(new ClipStackMapper(reloadTester), new ReloadStackMapper(stats, reloadTester)));
+
+        gun = new Gun(key, Optional::empty, new GunModel(key, Map.of(key, level)));
+        builderGun = new BuilderGun(level);
+        time = 0;
+    }
+
+    @Benchmark
+    public Gun idleTick() {
+        gun.tick(time++);
+        return gun;
+    }
+
+    @Benchmark
+    public Gun shootingTick() {
+        if (time++ % SHOOT_INTERVAL == 0) {
+            gun.shoot();
+        }
+
+        gun.tick(time);
+        return gun;
+    }
+
+    @Benchmark
+    public BuilderGun builderIdleTick() {
+        builderGun.tick();
+        time++;
+        return builderGun;
+    }
+
+    @Benchmark
+    public BuilderGun builderShootingTick() {
+        if (time++ % SHOOT_INTERVAL == 0) {
+            builderGun.shoot();
+        }
+
+        builderGun.tick();
+        return builderGun;
+    }
+
+    /**
+     * Replica of the original builder-based state handling in {@link Gun}, minus effects and events.
+     */
+    public static final class BuilderGun {
+        private final GunLevel level;
+        private GunState state;
+        private boolean reloadComplete = false;
+
+        private BuilderGun(GunLevel level) {
+            this.level = level;
+
+            GunStats stats = level.stats();
+            this.state = new GunState(stats.shootSpeed(), stats.shotInterval(), stats.reloadSpeed(),
+                    stats.maxAmmo(), stats.maxClip(), false, 0);
+        }
+
+        private void modify(Consumer<GunState.Builder> consumer) {
+            GunState.Builder builder = state.toBuilder();
+            consumer.accept(builder);
+            state = builder.build();
+        }
+
+        private void shoot() {
+            if (level.shootTester().shouldShoot(state)) {
+                modify(builder -> {
+                    builder.setQueuedShots(level.stats().shots() - 1);
+                    builder.setTicksSinceLastShot(0L);
+                });
+                fire();
+            }
+        }
+
+        private void fire() {
+            modify(builder -> {
+                builder.setTicksSinceLastFire(0L);
+                builder.setAmmo(builder.getAmmo() - 1);
+                builder.setClip(builder.getClip() - 1);
+            });
+
+            if (state.clip() == 0 && state.ammo() > 0 && level.reloadTester().shouldReload(state)) {
+                modify(builder -> builder.setTicksSinceLastReload(0L));
+                reloadComplete = false;
+            }
+        }
+
+        private void tick() {
+            modify(builder -> {
+                if (level.shootTester().isShooting(state)) {
+                    builder.setTicksSinceLastShot(builder.getTicksSinceLastShot() + 1);
+                }
+                if (level.shootTester().isFiring(state)) {
+                    builder.setTicksSinceLastFire(builder.getTicksSinceLastFire() + 1);
+                }
+                if (level.reloadTester().isReloading(state)) {
+                    builder.setTicksSinceLastReload(builder.getTicksSinceLastReload() + 1);
+                }
+                else if (!reloadComplete) {
+                    builder.setClip(Math.min(level.stats().maxClip(), state.ammo()));
+                    reloadComplete = true;
+                }
+            });
+
+            if (state.queuedShots() > 0) {
+                if (level.shootTester().canFire(state)) {
+                    fire();
+                    modify(builder -> builder.setQueuedShots(state.queuedShots() - 1));
+                }
+                else if (!level.shootTester().isFiring(state)) {
+                    modify(builder -> builder.setQueuedShots(0));
+                }
+            }
+        }
+    }
+}
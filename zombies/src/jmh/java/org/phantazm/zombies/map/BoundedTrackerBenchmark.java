@@ -0,0 +1,143 @@
+package org.phantazm.zombies.map;
+
+import com.github.steanky.ethylene.codec.yaml.YamlCodec;
+import com.github.steanky.vector.Bounds3I;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import org.openjdk.jmh.annotations.*;
+import org.phantazm.core.VecUtils;
+import org.phantazm.core.tracker.BoundedBase;
+import org.phantazm.core.tracker.BoundedTracker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the {@link BoundedTracker.Index} implementations on the windows and rooms of a real map.
+ * <p>
+ * Maps are read from the folder given by the {@code mapsFolder} parameter. If it is left empty, the
+ * {@code phantazm.benchmark.maps} system property is used instead, falling back to {@code ./zombies/maps} relative to
+ * the working directory (the same layout the server uses). The {@code map} parameter selects a map by its directory
+ * name; if it is left empty, the first map found is used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoundedTrackerBenchmark {
+    private static final int QUERY_COUNT = 4096;
+    private static final int QUERY_MASK = QUERY_COUNT - 1;
+
+    @Param({""})
+    public String mapsFolder;
+
+    @Param({""})
+    public String map;
+
+    @Param({"CHUNK", "CELL"})
+    public BoundedTracker.Index index;
+
+    private BoundedTracker<BoundedBase> windows;
+    private BoundedTracker<BoundedBase> rooms;
+
+    private int[] blockQueries;
+    private Point[] pointQueries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Path mapsFolder = Path.of(this.mapsFolder.isEmpty() ?
+                System.getProperty("phantazm.benchmark.maps", "./zombies/maps") : this.mapsFolder).toAbsolutePath();
+        if (!Files.isDirectory(mapsFolder)) {
+            throw new IllegalStateException("Maps folder " + mapsFolder + " does not exist; set the mapsFolder " +
+                    "parameter or the phantazm.benchmark.maps system property");
+        }
+
+        FileSystemMapLoader loader = new FileSystemMapLoader(mapsFolder, new YamlCodec());
+
+        String mapName = map;
+        if (mapName.isEmpty()) {
+            try (Stream<Path> stream = Files.list(mapsFolder)) {
+                mapName = stream.filter(Files::isDirectory).map(path -> path.getFileName().toString()).sorted()
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException("No maps found in " + mapsFolder));
+            }
+        }
+
+        MapInfo mapInfo = loader.load(mapName);
+        Point origin = VecUtils.toPoint(mapInfo.settings().origin());
+
+        List<BoundedBase> windowItems = new ArrayList<>(mapInfo.windows().size());
+        for (WindowInfo window : mapInfo.windows()) {
+            windowItems.add(new BoundedBase(origin, window.frameRegion()));
+        }
+
+        List<BoundedBase> roomItems = new ArrayList<>(mapInfo.rooms().size());
+        List<Bounds3I> allRegions = new ArrayList<>();
+        for (RoomInfo room : mapInfo.rooms()) {
+            roomItems.add(new BoundedBase(origin, room.regions()));
+        }
+
+        for (BoundedBase room : roomItems) {
+            allRegions.addAll(room.bounds());
+        }
+
+        for (BoundedBase window : windowItems) {
+            allRegions.addAll(window.bounds());
+        }
+
+        if (allRegions.isEmpty()) {
+            throw new IllegalStateException("Map " + mapName + " has no rooms or windows");
+        }
+
+        windows = BoundedTracker.tracker(windowItems, index);
+        rooms = BoundedTracker.tracker(roomItems, index);
+
+        Bounds3I enclosing = Bounds3I.enclosingImmutable(allRegions.toArray(Bounds3I[]::new));
+
+        //half of the queries land inside a window or room, the other half anywhere within the map's bounding box
+        Random random = new Random(0);
+        blockQueries = new int[QUERY_COUNT * 3];
+        pointQueries = new Point[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            Bounds3I source = (i & 1) == 0 ? allRegions.get(random.nextInt(allRegions.size())) : enclosing;
+
+            int x = source.originX() + random.nextInt(Math.max(1, source.lengthX()));
+            int y = source.originY() + random.nextInt(Math.max(1, source.lengthY()));
+            int z = source.originZ() + random.nextInt(Math.max(1, source.lengthZ()));
+
+            blockQueries[i * 3] = x;
+            blockQueries[i * 3 + 1] = y;
+            blockQueries[i * 3 + 2] = z;
+            pointQueries[i] = new Vec(x + random.nextDouble(), y, z + random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public Optional<BoundedBase> windowAtPoint() {
+        int i = (cursor++ & QUERY_MASK) * 3;
+        return windows.atPoint(blockQueries[i], blockQueries[i + 1], blockQueries[i + 2]);
+    }
+
+    @Benchmark
+    public Optional<BoundedBase> roomAtPoint() {
+        int i = (cursor++ & QUERY_MASK) * 3;
+        return rooms.atPoint(blockQueries[i], blockQueries[i + 1], blockQueries[i + 2]);
+    }
+
+    @Benchmark
+    public Optional<BoundedBase> windowClosestInRange() {
+        return windows.closestInRangeToBounds(pointQueries[cursor++ & QUERY_MASK], 0.6, 1.95, 3);
+    }
+
+    @Benchmark
+    public Optional<BoundedBase> roomClosestInRange() {
+        return rooms.closestInRangeToBounds(pointQueries[cursor++ & QUERY_MASK], 10);
+    }
+}
@@ -0,0 +1,120 @@
+package org.phantazm.zombies.map;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.collision.Shape;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.phantazm.proxima.bindings.minestom.InstanceSpace;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures uncached solid lookups on an {@link InstanceSpace} while another thread keeps changing blocks, the way
+ * pathfinder threads contend with the tick thread. {@code snapshot} reads through the space's section snapshots;
+ * {@code locked} reproduces the previous behavior of locking the chunk for every block read. The locked variant only
+ * reads blocks and does not build solids, so it overestimates the throughput of the old lookup.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstanceSpaceBenchmark {
+    private static final int SIZE = 16;
+    private static final int HEIGHT = 16;
+    private static final int BASE_Y = 40;
+
+    private static final Block[] PATTERN =
+            new Block[] {Block.STONE, Block.AIR, Block.OAK_SLAB, Block.AIR, Block.OAK_FENCE, Block.AIR};
+
+    private Instance instance;
+    private Chunk chunk;
+    private InstanceSpace space;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+
+        private int next() {
+            return index++ & (SIZE * SIZE * HEIGHT - 1);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MinecraftServer.init();
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        chunk = instance.loadChunk(0, 0).join();
+
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int z = 0; z < SIZE; z++) {
+                    chunk.setBlock(x, BASE_Y + y, z, PATTERN[(x + y + z) % PATTERN.length]);
+                }
+            }
+        }
+
+        space = new InstanceSpace(instance);
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(3)
+    public void snapshotRead(Cursor cursor, Blackhole blackhole) {
+        int i = cursor.next();
+        blackhole.consume(space.loadSolid(i & 15, BASE_Y + (i >> 8), (i >> 4) & 15));
+    }
+
+    @Benchmark
+    @Group("snapshot")
+    @GroupThreads(1)
+    public void snapshotWrite(Cursor cursor) {
+        int i = cursor.next();
+        int x = i & 15;
+        int y = BASE_Y + (i >> 8);
+        int z = (i >> 4) & 15;
+
+        Block block = PATTERN[(x + y + z + (i >> 12)) % PATTERN.length];
+        setBlock(x, y, z, block);
+        space.updateShape(x, y, z, block.registry().collisionShape());
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public void lockedRead(Cursor cursor, Blackhole blackhole) {
+        int i = cursor.next();
+        blackhole.consume(lockedShape(i & 15, BASE_Y + (i >> 8), (i >> 4) & 15));
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public void lockedWrite(Cursor cursor) {
+        int i = cursor.next();
+        int x = i & 15;
+        int y = BASE_Y + (i >> 8);
+        int z = (i >> 4) & 15;
+
+        setBlock(x, y, z, PATTERN[(x + y + z + (i >> 12)) % PATTERN.length]);
+    }
+
+    private Shape lockedShape(int x, int y, int z) {
+        synchronized (chunk) {
+            Block block = chunk.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+            Block below = chunk.getBlock(x, y - 1, z, Block.Getter.Condition.TYPE);
+            return block.registry().collisionShape().isEmpty() ? below.registry().collisionShape() :
+                    block.registry().collisionShape();
+        }
+    }
+
+    private void setBlock(int x, int y, int z, Block block) {
+        synchronized (chunk) {
+            chunk.setBlock(x, y, z, block);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.phantazm.zombies.mob;
+
+import com.github.steanky.ethylene.core.ConfigElement;
+import com.github.steanky.ethylene.core.collection.ConfigNode;
+import com.github.steanky.ethylene.core.collection.LinkedConfigNode;
+import com.github.steanky.ethylene.core.processor.ConfigProcessException;
+import com.github.steanky.ethylene.core.processor.ConfigProcessor;
+import it.unimi.dsi.fastutil.booleans.BooleanObjectPair;
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.metadata.EntityMeta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.phantazm.commons.ConfigProcessors;
+import org.phantazm.mob.meta.MetaApplier;
+import org.phantazm.mob.meta.MetaCompiler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-mob cost of applying a mob's meta configuration in {@link BasicMobSpawner#spawn}. Run with the
+ * {@code gc} profiler (enabled by default in this module's JMH configuration) to also see the allocation rate per
+ * operation.
+ * <p>
+ * {@code reflective} replays the setter lookup {@link BasicMobSpawner} did on every spawn before meta configuration
+ * was compiled by {@link MetaCompiler}; {@code compiled} applies a precompiled {@link MetaApplier}, which is all a
+ * spawn does now.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MobMetaBenchmark {
+    private Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap;
+    private ConfigNode metaNode;
+    private EntityMeta meta;
+    private MetaApplier applier;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MinecraftServer.init();
+
+        processorMap = new HashMap<>();
+        processorMap.put(BooleanObjectPair.of(false, boolean.class.getName()), ConfigProcessor.BOOLEAN);
+        processorMap.put(BooleanObjectPair.of(false, int.class.getName()), ConfigProcessor.INTEGER);
+        processorMap.put(BooleanObjectPair.of(true, Component.class.getName()),
+                ConfigProcessors.component().optionalProcessor());
+
+        metaNode = new LinkedConfigNode(5);
+        metaNode.putBoolean("baby", true);
+        metaNode.putBoolean("silent", true);
+        metaNode.putBoolean("customNameVisible", true);
+        metaNode.putString("customName", "<red>Benchmark <bold>Zombie");
+        metaNode.putNumber("airTicks", 300);
+
+        meta = new LivingEntity(EntityType.ZOMBIE).getEntityMeta();
+        applier = new MetaCompiler(processorMap).compile(meta.getClass(), metaNode);
+    }
+
+    @Benchmark
+    public EntityMeta compiled() {
+        applier.apply(meta);
+        return meta;
+    }
+
+    @Benchmark
+    public EntityMeta reflective() {
+        for (Method method : meta.getClass().getMethods()) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.getReturnType() != void.class) {
+                continue;
+            }
+
+            Parameter[] parameters = method.getParameters();
+            if (parameters.length != 1) {
+                continue;
+            }
+
+            String methodName = method.getName();
+            if (!methodName.startsWith("set") || methodName.length() < 4) {
+                continue;
+            }
+            String key = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+
+            ConfigElement element = metaNode.getElement(key);
+            if (element == null) {
+                continue;
+            }
+
+            Parameter parameter = parameters[0];
+            NotNull notNull = parameter.getAnnotation(NotNull.class);
+            Nullable nullable = parameter.getAnnotation(Nullable.class);
+            Class<?> type = parameter.getType();
+            boolean optional = !type.isPrimitive() && (nullable != null || notNull == null);
+
+            ConfigProcessor<?> processor = processorMap.get(BooleanObjectPair.of(optional, type.getName()));
+            if (processor == null) {
+                continue;
+            }
+
+            Object data;
+            try {
+                data = processor.dataFromElement(element);
+            }
+            catch (ConfigProcessException e) {
+                continue;
+            }
+            if (data instanceof Optional<?> dataOptional) {
+                data = dataOptional.orElse(null);
+            }
+            try {
+                method.invoke(meta, data);
+            }
+            catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return meta;
+    }
+}
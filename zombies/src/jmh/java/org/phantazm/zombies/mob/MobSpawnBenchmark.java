@@ -0,0 +1,182 @@
+package org.phantazm.zombies.mob;
+
+import com.github.steanky.element.core.context.ContextManager;
+import com.github.steanky.element.core.key.BasicKeyParser;
+import com.github.steanky.element.core.key.KeyParser;
+import com.github.steanky.ethylene.codec.yaml.YamlCodec;
+import com.github.steanky.ethylene.core.bridge.Configuration;
+import com.github.steanky.proxima.path.Pathfinder;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Instance;
+import org.openjdk.jmh.annotations.*;
+import org.phantazm.commons.Namespaces;
+import org.phantazm.core.config.processor.ItemStackConfigProcessors;
+import org.phantazm.mob.MobModel;
+import org.phantazm.mob.MobStore;
+import org.phantazm.mob.PhantazmMob;
+import org.phantazm.mob.config.MobModelConfigProcessor;
+import org.phantazm.mob.goal.*;
+import org.phantazm.mob.meta.MetaCompiler;
+import org.phantazm.mob.skill.*;
+import org.phantazm.mob.target.*;
+import org.phantazm.mob.validator.AlwaysValid;
+import org.phantazm.mob.validator.AndValidator;
+import org.phantazm.mob.validator.NotSelfValidator;
+import org.phantazm.mob.validator.OrValidator;
+import org.phantazm.proxima.bindings.minestom.GroundPathfindingFactory;
+import org.phantazm.proxima.bindings.minestom.InstanceSpaceHandler;
+import org.phantazm.proxima.bindings.minestom.NodeGraphPool;
+import org.phantazm.proxima.bindings.minestom.ProximaEntity;
+import org.phantazm.proxima.bindings.minestom.Spawner;
+import org.phantazm.zombies.mob.goal.BreakNearbyWindowGoal;
+import org.phantazm.zombies.mob.validator.MobValidator;
+import org.phantazm.zombies.mob.validator.ZombiesPlayerValidator;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cost of spawning a single mob through {@link BasicMobSpawner#spawn}. Run with the {@code gc} profiler
+ * (enabled by default in this module's JMH configuration) to also see the allocation rate per spawn.
+ * <p>
+ * {@code spawn} reuses one spawner, so every spawn after the first uses the model's cached skill and goal template.
+ * {@code spawnWithoutTemplate} uses a new spawner for each mob, which builds the whole skill and goal graph from
+ * config the way every spawn did before templates were cached.
+ * <p>
+ * Mob files are read from the folder given by the {@code phantazm.benchmark.mobs} system property, which defaults to
+ * {@code ./mobs} (the same layout the server uses). The {@code mob} parameter selects a file by name, without its
+ * extension; if it is left empty, the first mob found is used. Spawned entities are not added to an instance and no
+ * pathfinding takes place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MobSpawnBenchmark {
+    @Param({""})
+    public String mob;
+
+    private KeyParser keyParser;
+    private MetaCompiler metaCompiler;
+    private Spawner spawner;
+    private Instance instance;
+    private MobModel model;
+
+    private MobStore mobStore;
+    private BasicMobSpawner mobSpawner;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        MinecraftServer.init();
+
+        keyParser = new BasicKeyParser(Namespaces.PHANTAZM);
+        ContextManager contextManager =
+                ContextManager.builder(Namespaces.PHANTAZM).withKeyParserFunction(ignored -> keyParser).build();
+        registerElementClasses(contextManager);
+
+        Path mobsFolder = Path.of(System.getProperty("phantazm.benchmark.mobs", "./mobs"));
+        YamlCodec codec = new YamlCodec();
+        String ending = "." + codec.getPreferredExtension();
+
+        Path mobPath;
+        try (Stream<Path> stream = Files.list(mobsFolder)) {
+            mobPath = stream.filter(path -> path.getFileName().toString().endsWith(ending))
+                    .filter(path -> mob.isEmpty() || path.getFileName().toString().equals(mob + ending)).sorted()
+                    .findFirst().orElseThrow(() -> new IllegalStateException("No mob found in " + mobsFolder));
+        }
+
+        model = Configuration.read(mobPath, codec,
+                new MobModelConfigProcessor(contextManager, ItemStackConfigProcessors.snbt()));
+
+        //the spawned entities never pathfind, so the pathfinder and space handler are never used
+        Pathfinder pathfinder = unused(Pathfinder.class);
+        InstanceSpaceHandler spaceHandler = unused(InstanceSpaceHandler.class);
+        spawner = (instance, pos, entityType, factory) -> new ProximaEntity(entityType, UUID.randomUUID(),
+                factory.make(pathfinder, new NodeGraphPool(0), Runnable::run, spaceHandler, entityType));
+
+        metaCompiler = new MetaCompiler(Map.of());
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        mobStore = new MobStore();
+        mobSpawner = newSpawner();
+    }
+
+    @Benchmark
+    public PhantazmMob spawn() {
+        return remove(mobSpawner.spawn(instance, Pos.ZERO, model));
+    }
+
+    @Benchmark
+    public PhantazmMob spawnWithoutTemplate() {
+        return remove(newSpawner().spawn(instance, Pos.ZERO, model));
+    }
+
+    private BasicMobSpawner newSpawner() {
+        return new BasicMobSpawner(metaCompiler, spawner, keyParser, new Random(0), () -> null, mobStore);
+    }
+
+    private PhantazmMob remove(PhantazmMob mob) {
+        mob.entity().remove();
+        return mob;
+    }
+
+    private static <T> T unused(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    private static void registerElementClasses(ContextManager contextManager) {
+        contextManager.registerElementClass(GroundPathfindingFactory.class);
+
+        contextManager.registerElementClass(CollectionGoalApplier.class);
+        contextManager.registerElementClass(FollowEntityGoal.class);
+        contextManager.registerElementClass(ChargeAtEntityGoal.class);
+        contextManager.registerElementClass(UseSkillGoal.class);
+        contextManager.registerElementClass(MeleeAttackGoal.class);
+        contextManager.registerElementClass(PlayStepSoundGoal.class);
+        contextManager.registerElementClass(BreakNearbyWindowGoal.class);
+
+        contextManager.registerElementClass(BleedEntitiesSkill.class);
+        contextManager.registerElementClass(DamageEntitySkill.class);
+        contextManager.registerElementClass(KnockbackEntitySkill.class);
+        contextManager.registerElementClass(PlaySoundSkill.class);
+        contextManager.registerElementClass(AttributeModifyingSkill.class);
+        contextManager.registerElementClass(SendMessageSkill.class);
+        contextManager.registerElementClass(JumpTowardsTargetSkill.class);
+        contextManager.registerElementClass(SpawnParticleSkill.class);
+        contextManager.registerElementClass(RadialDamageEntitySkill.class);
+        contextManager.registerElementClass(TimerSkill.class);
+        contextManager.registerElementClass(RandomSkill.class);
+        contextManager.registerElementClass(RandomTimerSkill.class);
+        contextManager.registerElementClass(GroupSkill.class);
+        contextManager.registerElementClass(TemporalSkill.class);
+
+        contextManager.registerElementClass(SelfSelector.class);
+        contextManager.registerElementClass(NearestPlayerSelector.class);
+        contextManager.registerElementClass(NearestPlayersSelector.class);
+        contextManager.registerElementClass(LastHitEntitySelector.class);
+        contextManager.registerElementClass(AllPlayersSelector.class);
+        contextManager.registerElementClass(NearestEntitiesSelector.class);
+
+        contextManager.registerElementClass(AlwaysValid.class);
+        contextManager.registerElementClass(AndValidator.class);
+        contextManager.registerElementClass(OrValidator.class);
+        contextManager.registerElementClass(NotSelfValidator.class);
+        contextManager.registerElementClass(ZombiesPlayerValidator.class);
+        contextManager.registerElementClass(MobValidator.class);
+    }
+}
@@ -0,0 +1,94 @@
+package org.phantazm.zombies.mob;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.LivingEntity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.phantazm.proxima.bindings.minestom.controller.SeparationGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one tick of mob-mob separation for a dense pack of zombies in a single room. {@code tracker} reproduces the
+ * previous approach, where every mob searched the entity tracker for overlapping entities; {@code grid} rebuilds the
+ * shared {@link SeparationGrid} and reads every mob's separation from it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeparationBenchmark {
+    @Param({"100", "200"})
+    public int mobCount;
+
+    @Param({"12"})
+    public int roomSize;
+
+    private Instance instance;
+    private List<LivingEntity> mobs;
+    private SeparationGrid grid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MinecraftServer.init();
+        instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.loadChunk(0, 0).join();
+
+        Random random = new Random(0);
+        mobs = new ArrayList<>(mobCount);
+        for (int i = 0; i < mobCount; i++) {
+            LivingEntity mob = new LivingEntity(EntityType.ZOMBIE);
+            mob.setInstance(instance, new Pos(random.nextDouble() * roomSize, 40, random.nextDouble() * roomSize))
+                    .join();
+            mobs.add(mob);
+        }
+
+        grid = SeparationGrid.of(instance);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (LivingEntity mob : mobs) {
+            mob.remove();
+        }
+    }
+
+    @Benchmark
+    public void tracker(Blackhole blackhole) {
+        EntityTracker tracker = instance.getEntityTracker();
+        for (LivingEntity mob : mobs) {
+            int[] count = new int[1];
+            tracker.nearbyEntitiesUntil(mob.getPosition(), mob.getBoundingBox().width(),
+                    EntityTracker.Target.LIVING_ENTITIES, candidate -> {
+                        if (candidate != mob && !(candidate instanceof Player) &&
+                                candidate.getBoundingBox().intersectEntity(candidate.getPosition(), mob)) {
+                            count[0]++;
+                        }
+
+                        return count[0] >= 5;
+                    });
+
+            blackhole.consume(count[0]);
+        }
+    }
+
+    @Benchmark
+    public void grid(Blackhole blackhole) {
+        grid.invalidate();
+        for (LivingEntity mob : mobs) {
+            int index = grid.indexOf(mob);
+            blackhole.consume(grid.overlapCount(index));
+            blackhole.consume(grid.overlapSumX(index));
+        }
+    }
+}
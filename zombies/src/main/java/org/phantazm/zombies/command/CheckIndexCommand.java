@@ -0,0 +1,35 @@
+package org.phantazm.zombies.command;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.permission.Permission;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class CheckIndexCommand extends Command {
+    public static final Permission PERMISSION = new Permission("zombies.debug.checkindex");
+
+    public CheckIndexCommand(@NotNull Supplier<? extends List<String>> inconsistencySupplier) {
+        super("checkindex");
+        Objects.requireNonNull(inconsistencySupplier, "inconsistencySupplier");
+
+        setCondition((sender, commandString) -> sender.hasPermission(PERMISSION));
+        addConditionalSyntax(getCondition(), (sender, context) -> {
+            List<String> inconsistencies = inconsistencySupplier.get();
+            if (inconsistencies.isEmpty()) {
+                sender.sendMessage(Component.text("The player index is consistent.", NamedTextColor.GREEN));
+                return;
+            }
+
+            sender.sendMessage(
+                    Component.text("Found " + inconsistencies.size() + " inconsistencies:", NamedTextColor.RED));
+            for (String inconsistency : inconsistencies) {
+                sender.sendMessage(Component.text(inconsistency, NamedTextColor.RED));
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package org.phantazm.zombies.command;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.permission.Permission;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.inventory.InventorySlotSync;
+import org.phantazm.zombies.scene.SceneTickMetrics;
+import org.phantazm.zombies.scene.TabListScoreMetrics;
+import org.phantazm.zombies.scene.ZombiesScene;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class TickStatsCommand extends Command {
+    public static final Permission PERMISSION = new Permission("zombies.debug.tickstats");
+
+    public TickStatsCommand(@NotNull Supplier<? extends Collection<ZombiesScene>> sceneSupplier) {
+        super("tickstats");
+        Objects.requireNonNull(sceneSupplier, "sceneSupplier");
+
+        setCondition((sender, commandString) -> sender.hasPermission(PERMISSION));
+        addConditionalSyntax(getCondition(), (sender, context) -> {
+            sender.sendMessage(Component.text(
+                    String.format("inventory slots: %d sent, %d skipped as unchanged",
+                            InventorySlotSync.totalSentCount(), InventorySlotSync.totalAvoidedCount())));
+
+            Collection<ZombiesScene> scenes = sceneSupplier.get();
+            if (scenes.isEmpty()) {
+                sender.sendMessage(Component.text("There are no active scenes.", NamedTextColor.YELLOW));
+                return;
+            }
+
+            for (ZombiesScene scene : scenes) {
+                SceneTickMetrics metrics = scene.getTickMetrics();
+                sender.sendMessage(Component.text(
+                        String.format("%s (%s): last %.2f ms, avg %.2f ms, max %.2f ms, %d/%d ticks over budget",
+                                scene.getUUID(), scene.getMapSettingsInfo().id().asString(),
+                                metrics.lastTickNanos() / 1E6, metrics.averageTickNanos() / 1E6,
+                                metrics.maxTickNanos() / 1E6, metrics.overBudgetCount(), metrics.tickCount())));
+
+                TabListScoreMetrics tabListMetrics = scene.getTabListScoreMetrics();
+                sender.sendMessage(Component.text(
+                        String.format("  tab list scores: %d packets in %d flushes, %d full refreshes",
+                                tabListMetrics.packetCount(), tabListMetrics.flushCount(),
+                                tabListMetrics.refreshCount())));
+            }
+        });
+    }
+}
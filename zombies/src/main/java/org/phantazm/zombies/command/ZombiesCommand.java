@@ -38,5 +38,7 @@ public class ZombiesCommand extends Command {
         addSubcommand(new AmmoRefillCommand(router::getCurrentScene));
         addSubcommand(new FlagToggleCommand(router::getCurrentScene, keyParser));
         addSubcommand(new ZombiesRejoinCommand(router, viewProvider, joinHelper));
+        addSubcommand(new TickStatsCommand(router::getScenes));
+        addSubcommand(new CheckIndexCommand(router::checkPlayerIndex));
     }
 }
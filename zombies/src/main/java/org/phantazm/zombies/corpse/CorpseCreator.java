@@ -18,7 +18,7 @@ import org.phantazm.commons.Activable;
 import org.phantazm.core.ComponentUtils;
 import org.phantazm.core.entity.fakeplayer.MinimalFakePlayer;
 import org.phantazm.core.hologram.Hologram;
-import org.phantazm.core.hologram.InstanceHologram;
+import org.phantazm.core.hologram.PacketHologram;
 import org.phantazm.core.time.TickFormatter;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.player.state.revive.ReviveHandler;
@@ -54,7 +54,7 @@ public class CorpseCreator {
         MinimalFakePlayer corpseEntity =
                 new MinimalFakePlayer(MinecraftServer.getSchedulerManager(), corpseUsername, skin);
 
-        Hologram hologram = new InstanceHologram(deathLocation.add(0, data.hologramHeightOffset, 0), data.hologramGap);
+        Hologram hologram = new PacketHologram(deathLocation.add(0, data.hologramHeightOffset, 0), data.hologramGap);
 
         hologram.setInstance(instance);
         corpseEntity.setInstance(instance, deathLocation.add(0, data.corpseHeightOffset, 0));
@@ -180,13 +180,12 @@ public class CorpseCreator {
 
             List<CorpseLine> newLines = reviveHandler.isReviving() ? revivingLines : idleLines;
             if (newLines != currentLines) {
-                hologram.clear();
-                hologram.addAll(newLines.stream().map(line -> line.update(this, time)).toList());
+                hologram.setLines(newLines.stream().map(line -> line.update(this, time)).toList());
                 this.currentLines = newLines;
                 return;
             }
 
-            for (int i = 0; i < CorpseCreator.this.idleLines.size(); i++) {
+            for (int i = 0; i < currentLines.size(); i++) {
                 Component newLine = currentLines.get(i).update(this, time);
                 Component oldLine = hologram.get(i);
 
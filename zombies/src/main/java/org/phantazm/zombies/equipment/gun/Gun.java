@@ -15,7 +15,6 @@ import org.phantazm.zombies.equipment.gun.visual.GunStackMapper;
 import org.phantazm.zombies.event.GunLoseAmmoEvent;
 
 import java.util.*;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -30,9 +29,12 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
     private final Set<GunLevel> tickingLevels;
     private Key levelKey;
     private GunLevel level;
-    private GunState state;
+    private final MutableGunState state;
     private boolean reloadComplete = false;
 
+    private GunLevel drawnLevel;
+    private GunState drawnState;
+
     /**
      * Creates a new gun.
      *
@@ -50,19 +52,18 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
         tickingLevels.add(level);
 
         GunStats stats = level.stats();
-        this.state = new GunState(stats.shootSpeed(), stats.shotInterval(), stats.reloadSpeed(), stats.maxAmmo(),
-                stats.maxClip(), false, 0);
+        this.state = new MutableGunState(
+                new GunState(stats.shootSpeed(), stats.shotInterval(), stats.reloadSpeed(), stats.maxAmmo(),
+                        stats.maxClip(), false, 0));
     }
 
     /**
      * Shoots the gun. A gun may fire multiple times in one shot.
      */
     public void shoot() {
-        if (level.shootTester().shouldShoot(state)) {
-            modifyState(state -> {
-                state.setQueuedShots(level.stats().shots() - 1);
-                state.setTicksSinceLastShot(0L);
-            });
+        if (level.shootTester().shouldShoot(state.snapshot())) {
+            state.setQueuedShots(level.stats().shots() - 1);
+            state.setTicksSinceLastShot(0L);
             fire();
         }
     }
@@ -84,29 +85,30 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
             ammoLoss = 1;
         }
 
-        modifyState(builder -> {
-            builder.setTicksSinceLastFire(0L);
-            builder.setAmmo(builder.getAmmo() - ammoLoss);
-            builder.setClip(builder.getClip() - ammoLoss);
-        });
+        state.setTicksSinceLastFire(0L);
+        state.setAmmo(state.ammo() - ammoLoss);
+        state.setClip(state.clip() - ammoLoss);
 
         if (state.clip() == 0) {
             if (state.ammo() > 0) {
                 reload();
             }
             else {
+                GunState snapshot = state.snapshot();
                 for (GunEffect effect : level.noAmmoEffects()) {
-                    effect.apply(state);
+                    effect.apply(snapshot);
                 }
             }
         }
 
         entitySupplier.get().ifPresent(entity -> {
             Pos start = entity.getPosition().add(0, entity.getEyeHeight(), 0);
-            level.firer().fire(this, state, start, new HashSet<>());
+            level.firer().fire(this, state.snapshot(), start, new HashSet<>());
         });
+
+        GunState snapshot = state.snapshot();
         for (GunEffect effect : level.shootEffects()) {
-            effect.apply(state);
+            effect.apply(snapshot);
         }
     }
 
@@ -114,11 +116,13 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
      * Reloads the gun.
      */
     public void reload() {
-        if (level.reloadTester().shouldReload(state)) {
-            modifyState(builder -> builder.setTicksSinceLastReload(0L));
+        if (level.reloadTester().shouldReload(state.snapshot())) {
+            state.setTicksSinceLastReload(0L);
             reloadComplete = false;
+
+            GunState snapshot = state.snapshot();
             for (GunEffect reloadEffect : level.reloadEffects()) {
-                reloadEffect.apply(state);
+                reloadEffect.apply(snapshot);
             }
         }
     }
@@ -127,16 +131,14 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
      * Refills the gun's ammo and clip.
      */
     public void refill() {
-        modifyState(builder -> {
-            builder.setAmmo(level.stats().maxAmmo());
-            builder.setClip(level.stats().maxClip());
-            builder.setTicksSinceLastReload(level.stats().reloadSpeed());
-        });
+        state.setAmmo(level.stats().maxAmmo());
+        state.setClip(level.stats().maxClip());
+        state.setTicksSinceLastReload(level.stats().reloadSpeed());
     }
 
     @Override
     public void setSelected(boolean selected) {
-        modifyState(builder -> builder.setMainEquipment(selected));
+        state.setMainEquipment(selected);
     }
 
     @Override
@@ -150,25 +152,24 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
     }
 
     /**
-     * Gets the current {@link GunState} of the {@link Gun}
+     * Gets the current {@link GunState} of the {@link Gun}. The returned state is an immutable snapshot; it will not
+     * reflect later changes to the gun.
      *
      * @return The current {@link GunState} of the {@link Gun}
      */
     public @NotNull GunState getState() {
-        return state;
-    }
-
-    private void modifyState(@NotNull Consumer<GunState.Builder> consumer) {
-        GunState.Builder builder = state.toBuilder();
-        consumer.accept(builder);
-        state = builder.build();
+        return state.snapshot();
     }
 
     @Override
     protected @NotNull ItemStack computeStack() {
+        GunState snapshot = state.snapshot();
+        drawnLevel = level;
+        drawnState = snapshot;
+
         ItemStack stack = level.data().stack();
         for (GunStackMapper mapper : level.gunStackMappers()) {
-            stack = mapper.map(state, stack);
+            stack = mapper.map(snapshot, stack);
         }
 
         return stack;
@@ -176,50 +177,72 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
 
     @Override
     public void tick(long time) {
-        modifyState(builder -> {
-            if (level.shootTester().isShooting(state)) {
-                builder.setTicksSinceLastShot(builder.getTicksSinceLastShot() + 1);
-            }
-            if (level.shootTester().isFiring(state)) {
-                builder.setTicksSinceLastFire(builder.getTicksSinceLastFire() + 1);
-            }
-            if (level.reloadTester().isReloading(state)) {
-                builder.setTicksSinceLastReload(builder.getTicksSinceLastReload() + 1);
-            }
-            else if (!reloadComplete) {
-                builder.setClip(Math.min(level.stats().maxClip(), getState().ammo()));
-                reloadComplete = true;
-            }
-        });
+        GunState previous = state.snapshot();
+        if (level.shootTester().isShooting(previous)) {
+            state.setTicksSinceLastShot(state.ticksSinceLastShot() + 1);
+        }
+        if (level.shootTester().isFiring(previous)) {
+            state.setTicksSinceLastFire(state.ticksSinceLastFire() + 1);
+        }
+        if (level.reloadTester().isReloading(previous)) {
+            state.setTicksSinceLastReload(state.ticksSinceLastReload() + 1);
+        }
+        else if (!reloadComplete) {
+            state.setClip(Math.min(level.stats().maxClip(), previous.ammo()));
+            reloadComplete = true;
+        }
 
         if (state.queuedShots() > 0) {
-            if (level.shootTester().canFire(state)) {
+            GunState current = state.snapshot();
+            if (level.shootTester().canFire(current)) {
                 fire();
-                modifyState(builder -> builder.setQueuedShots(state.queuedShots() - 1));
+                state.setQueuedShots(state.queuedShots() - 1);
             }
-            else if (!level.shootTester().isFiring(state)) {
-                modifyState(builder -> builder.setQueuedShots(0));
+            else if (!level.shootTester().isFiring(current)) {
+                state.setQueuedShots(0);
             }
 
         }
 
+        GunState current = state.snapshot();
         for (GunLevel tickingLevel : tickingLevels) {
-            tickingLevel.firer().tick(state, time);
+            tickingLevel.firer().tick(current, time);
             for (GunEffect effect : tickingLevel.shootEffects()) {
-                effect.tick(state, time);
+                effect.tick(current, time);
             }
             for (GunEffect effect : tickingLevel.reloadEffects()) {
-                effect.tick(state, time);
+                effect.tick(current, time);
             }
             for (GunEffect effect : tickingLevel.noAmmoEffects()) {
-                effect.tick(state, time);
+                effect.tick(current, time);
             }
         }
         for (GunEffect effect : level.tickEffects()) {
-            effect.apply(state);
+            effect.apply(current);
         }
 
-        setDirty();
+        if (shouldRemap()) {
+            setDirty();
+        }
+    }
+
+    private boolean shouldRemap() {
+        if (drawnState == null || drawnLevel != level) {
+            return true;
+        }
+
+        GunState current = state.snapshot();
+        if (drawnState == current) {
+            return false;
+        }
+
+        for (GunStackMapper mapper : level.gunStackMappers()) {
+            if (mapper.shouldRemap(drawnState, current)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     @Override
@@ -252,15 +275,15 @@ public class Gun extends CachedInventoryObject implements Equipment, Upgradable
         level = newLevel;
         tickingLevels.add(newLevel);
 
-        modifyState(builder -> {
-            builder.setAmmo(newLevel.stats().maxAmmo());
-            builder.setClip(newLevel.stats().maxClip());
-            builder.setTicksSinceLastReload(newLevel.stats().reloadSpeed());
-            builder.setTicksSinceLastShot(newLevel.stats().shootSpeed());
-            builder.setTicksSinceLastFire(newLevel.stats().shotInterval());
-        });
+        state.setAmmo(newLevel.stats().maxAmmo());
+        state.setClip(newLevel.stats().maxClip());
+        state.setTicksSinceLastReload(newLevel.stats().reloadSpeed());
+        state.setTicksSinceLastShot(newLevel.stats().shootSpeed());
+        state.setTicksSinceLastFire(newLevel.stats().shotInterval());
+
+        GunState snapshot = state.snapshot();
         for (GunEffect effect : level.activateEffects()) {
-            effect.apply(state);
+            effect.apply(snapshot);
         }
     }
 
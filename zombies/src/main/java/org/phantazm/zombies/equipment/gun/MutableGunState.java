@@ -0,0 +1,202 @@
+package org.phantazm.zombies.equipment.gun;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable, in-place representation of a gun's state, used by {@link Gun} on its hot path. Immutable {@link GunState}
+ * snapshots are created lazily by {@link #snapshot()} and cached until the next modification that actually changes a
+ * value, so a gun that is idle does not allocate any state objects while ticking.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class MutableGunState {
+    private long ticksSinceLastShot;
+    private long ticksSinceLastFire;
+    private long ticksSinceLastReload;
+    private int ammo;
+    private int clip;
+    private boolean isMainEquipment;
+    private int queuedShots;
+
+    private GunState snapshot;
+
+    /**
+     * Creates a new instance of this class, initialized with the values of the given {@link GunState}.
+     *
+     * @param initial the initial state
+     */
+    public MutableGunState(@NotNull GunState initial) {
+        this.ticksSinceLastShot = initial.ticksSinceLastShot();
+        this.ticksSinceLastFire = initial.ticksSinceLastFire();
+        this.ticksSinceLastReload = initial.ticksSinceLastReload();
+        this.ammo = initial.ammo();
+        this.clip = initial.clip();
+        this.isMainEquipment = initial.isMainEquipment();
+        this.queuedShots = initial.queuedShots();
+        this.snapshot = initial;
+    }
+
+    /**
+     * Gets an immutable {@link GunState} representing the current values of this state. Successive calls without an
+     * intervening change return the same instance.
+     *
+     * @return an immutable snapshot of this state
+     */
+    public @NotNull GunState snapshot() {
+        GunState snapshot = this.snapshot;
+        if (snapshot == null) {
+            snapshot = new GunState(ticksSinceLastShot, ticksSinceLastFire, ticksSinceLastReload, ammo, clip,
+                    isMainEquipment, queuedShots);
+            this.snapshot = snapshot;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of ticks since the last shot began.
+     *
+     * @return the number of ticks since the last shot began
+     */
+    public long ticksSinceLastShot() {
+        return ticksSinceLastShot;
+    }
+
+    /**
+     * Sets the number of ticks since the last shot began.
+     *
+     * @param ticksSinceLastShot the number of ticks since the last shot began
+     */
+    public void setTicksSinceLastShot(long ticksSinceLastShot) {
+        if (this.ticksSinceLastShot != ticksSinceLastShot) {
+            this.ticksSinceLastShot = ticksSinceLastShot;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Gets the number of ticks since the gun's last fire.
+     *
+     * @return the number of ticks since the gun's last fire
+     */
+    public long ticksSinceLastFire() {
+        return ticksSinceLastFire;
+    }
+
+    /**
+     * Sets the number of ticks since the gun's last fire.
+     *
+     * @param ticksSinceLastFire the number of ticks since the gun's last fire
+     */
+    public void setTicksSinceLastFire(long ticksSinceLastFire) {
+        if (this.ticksSinceLastFire != ticksSinceLastFire) {
+            this.ticksSinceLastFire = ticksSinceLastFire;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Gets the number of ticks since the gun's last reload.
+     *
+     * @return the number of ticks since the gun's last reload
+     */
+    public long ticksSinceLastReload() {
+        return ticksSinceLastReload;
+    }
+
+    /**
+     * Sets the number of ticks since the gun's last reload.
+     *
+     * @param ticksSinceLastReload the number of ticks since the gun's last reload
+     */
+    public void setTicksSinceLastReload(long ticksSinceLastReload) {
+        if (this.ticksSinceLastReload != ticksSinceLastReload) {
+            this.ticksSinceLastReload = ticksSinceLastReload;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Gets the amount of ammo left in the gun.
+     *
+     * @return the amount of ammo left in the gun
+     */
+    public int ammo() {
+        return ammo;
+    }
+
+    /**
+     * Sets the amount of ammo left in the gun.
+     *
+     * @param ammo the amount of ammo left in the gun
+     */
+    public void setAmmo(int ammo) {
+        if (this.ammo != ammo) {
+            this.ammo = ammo;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Gets the amount of ammo in the gun's clip.
+     *
+     * @return the amount of ammo in the gun's clip
+     */
+    public int clip() {
+        return clip;
+    }
+
+    /**
+     * Sets the amount of ammo in the gun's clip.
+     *
+     * @param clip the amount of ammo in the gun's clip
+     */
+    public void setClip(int clip) {
+        if (this.clip != clip) {
+            this.clip = clip;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Gets whether the gun is the main equipment.
+     *
+     * @return whether the gun is the main equipment
+     */
+    public boolean isMainEquipment() {
+        return isMainEquipment;
+    }
+
+    /**
+     * Sets whether the gun is the main equipment.
+     *
+     * @param isMainEquipment whether the gun is the main equipment
+     */
+    public void setMainEquipment(boolean isMainEquipment) {
+        if (this.isMainEquipment != isMainEquipment) {
+            this.isMainEquipment = isMainEquipment;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Gets the number of shots queued to be fired.
+     *
+     * @return the number of shots queued to be fired
+     */
+    public int queuedShots() {
+        return queuedShots;
+    }
+
+    /**
+     * Sets the number of shots queued to be fired.
+     *
+     * @param queuedShots the number of shots queued to be fired
+     */
+    public void setQueuedShots(int queuedShots) {
+        if (this.queuedShots != queuedShots) {
+            this.queuedShots = queuedShots;
+            snapshot = null;
+        }
+    }
+}
@@ -36,6 +36,16 @@ public class ClipStackMapper implements GunStackMapper {
         return intermediate;
     }
 
+    @Override
+    public boolean shouldRemap(@NotNull GunState previous, @NotNull GunState current) {
+        boolean wasReloading = reloadTester.isReloading(previous);
+        if (wasReloading != reloadTester.isReloading(current)) {
+            return true;
+        }
+
+        return !wasReloading && Math.max(1, previous.clip()) != Math.max(1, current.clip());
+    }
+
     /**
      * Data for a {@link ClipStackMapper}.
      *
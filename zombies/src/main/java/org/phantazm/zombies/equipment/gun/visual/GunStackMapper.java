@@ -19,4 +19,17 @@ public interface GunStackMapper {
      */
     @NotNull ItemStack map(@NotNull GunState state, @NotNull ItemStack intermediate);
 
+    /**
+     * Determines whether this mapper could produce a different {@link ItemStack} for {@code current} than it did for
+     * {@code previous}. Implementations should only consider the parts of the {@link GunState} they actually read.
+     * The default implementation conservatively compares the entire state.
+     *
+     * @param previous The state the gun's {@link ItemStack} was last computed with
+     * @param current  The gun's current state
+     * @return Whether the gun's {@link ItemStack} needs to be recomputed
+     */
+    default boolean shouldRemap(@NotNull GunState previous, @NotNull GunState current) {
+        return !previous.equals(current);
+    }
+
 }
@@ -45,6 +45,16 @@ public class ReloadStackMapper implements GunStackMapper {
         return intermediate;
     }
 
+    @Override
+    public boolean shouldRemap(@NotNull GunState previous, @NotNull GunState current) {
+        boolean wasReloading = reloadTester.isReloading(previous);
+        if (wasReloading != reloadTester.isReloading(current)) {
+            return true;
+        }
+
+        return wasReloading && previous.ticksSinceLastReload() != current.ticksSinceLastReload();
+    }
+
     /**
      * Data for a {@link ReloadStackMapper}.
      *
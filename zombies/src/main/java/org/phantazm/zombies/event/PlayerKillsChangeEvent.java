@@ -0,0 +1,28 @@
+package org.phantazm.zombies.event;
+
+import net.minestom.server.event.Event;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Called when a player's kill count changes.
+ */
+public class PlayerKillsChangeEvent implements Event {
+    private final UUID uuid;
+    private final int kills;
+
+    public PlayerKillsChangeEvent(@NotNull UUID uuid, int kills) {
+        this.uuid = Objects.requireNonNull(uuid, "uuid");
+        this.kills = kills;
+    }
+
+    public @NotNull UUID getUUID() {
+        return uuid;
+    }
+
+    public int getKills() {
+        return kills;
+    }
+}
@@ -1,25 +1,45 @@
 package org.phantazm.zombies.kill;
 
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventNode;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.stats.zombies.ZombiesPlayerMapStats;
+import org.phantazm.zombies.event.PlayerKillsChangeEvent;
 
 import java.util.Objects;
+import java.util.UUID;
 
 public class BasicPlayerKills implements PlayerKills {
 
     private final ZombiesPlayerMapStats stats;
 
+    private final UUID uuid;
+
+    private final EventNode<Event> eventNode;
+
     private int kills = 0;
 
-    public BasicPlayerKills(@NotNull ZombiesPlayerMapStats stats) {
+    /**
+     * Creates a new instance of this class which calls a {@link PlayerKillsChangeEvent} on the given node whenever the
+     * kill count changes.
+     *
+     * @param stats     the stats to record kills in
+     * @param uuid      the UUID of the player
+     * @param eventNode the node to call events on
+     */
+    public BasicPlayerKills(@NotNull ZombiesPlayerMapStats stats, @NotNull UUID uuid,
+            @NotNull EventNode<Event> eventNode) {
         this.stats = Objects.requireNonNull(stats, "stats");
+        this.uuid = Objects.requireNonNull(uuid, "uuid");
+        this.eventNode = Objects.requireNonNull(eventNode, "eventNode");
     }
 
     @Override
     public void onKill(@NotNull PhantazmMob mob) {
         ++kills;
         stats.setKills(stats.getKills() + 1);
+        eventNode.call(new PlayerKillsChangeEvent(uuid, kills));
     }
 
     @Override
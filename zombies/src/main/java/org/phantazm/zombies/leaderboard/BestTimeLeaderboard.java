@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 public class BestTimeLeaderboard {
 
@@ -38,8 +39,13 @@ public class BestTimeLeaderboard {
 
     private final Collection<Future<?>> nameFutures = new ArrayList<>();
 
+    private final Consumer<List<BestTime>> bestTimesListener = this::updateBestTimes;
+
     private Future<?> bestTimesFuture = null;
 
+    //incremented whenever the rows are rebuilt, so late display names cannot overwrite newer rows
+    private long generation = 0;
+
     public BestTimeLeaderboard(@NotNull ZombiesDatabase database, @NotNull Hologram hologram,
             @NotNull Component mapName, @NotNull Key mapKey, @NotNull TickFormatter tickFormatter,
             @NotNull PlayerViewProvider viewProvider, int maxLength) {
@@ -58,25 +64,45 @@ public class BestTimeLeaderboard {
             hologram.add(Component.text((i + 1) + ". - Loading..."));
         }
 
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+
+        //the cache keeps the leaderboard up to date as new best times are written
+        database.getBestTimeCache().addListener(mapKey, bestTimesListener);
         bestTimesFuture = database.getBestTimes(mapKey).whenComplete(((bestTimes, throwable) -> {
             if (throwable != null) {
                 LOGGER.warn("Failed to fetch best times", throwable);
                 return;
             }
 
-            updateBestTimes(bestTimes);
+            //the listener already applied these times if the cache had to load them
+            synchronized (this) {
+                if (generation == startGeneration) {
+                    updateBestTimes(bestTimes);
+                }
+            }
         }));
     }
 
-    public void updateBestTimes(@NotNull List<BestTime> bestTimes) {
-        while (hologram.size() != bestTimes.size() + 1) {
+    public synchronized void updateBestTimes(@NotNull List<BestTime> bestTimes) {
+        cancelNameFutures();
+        long currentGeneration = ++generation;
+
+        int length = Math.min(bestTimes.size(), maxLength);
+        while (hologram.size() > length + 1) {
             hologram.remove(hologram.size() - 1);
         }
+        while (hologram.size() < length + 1) {
+            hologram.add(Component.empty());
+        }
 
-        for (int i = 0; i < bestTimes.size(); ++i) {
+        for (int i = 0; i < length; ++i) {
             BestTime time = bestTimes.get(i);
             Component timeComponent = Component.text(tickFormatter.format(time.time()));
-            hologram.set(i, Component.textOfChildren(Component.text((i + 1) + ". - Loading... - "), timeComponent));
+            hologram.set(i + 1,
+                    Component.textOfChildren(Component.text((i + 1) + ". - Loading... - "), timeComponent));
 
             int finalI = i;
             CompletableFuture<?> future =
@@ -86,7 +112,7 @@ public class BestTimeLeaderboard {
                             return;
                         }
 
-                        hologram.set(finalI,
+                        setName(currentGeneration, finalI + 1,
                                 Component.textOfChildren(Component.text((finalI + 1) + ". - "), displayName,
                                         Component.text(" - "), timeComponent));
                     });
@@ -94,11 +120,24 @@ public class BestTimeLeaderboard {
         }
     }
 
-    public void end() {
+    public synchronized void end() {
+        database.getBestTimeCache().removeListener(mapKey, bestTimesListener);
+        ++generation;
+
         if (bestTimesFuture != null) {
             bestTimesFuture.cancel(true);
         }
 
+        cancelNameFutures();
+    }
+
+    private synchronized void setName(long nameGeneration, int index, Component line) {
+        if (nameGeneration == generation) {
+            hologram.set(index, line);
+        }
+    }
+
+    private void cancelNameFutures() {
         for (Future<?> future : nameFutures) {
             future.cancel(true);
         }
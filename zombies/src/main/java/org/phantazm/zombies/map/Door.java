@@ -11,9 +11,10 @@ import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
+import org.phantazm.core.BlockBatch;
 import org.phantazm.core.VecUtils;
 import org.phantazm.core.hologram.Hologram;
-import org.phantazm.core.hologram.InstanceHologram;
+import org.phantazm.core.hologram.PacketHologram;
 import org.phantazm.core.tracker.BoundedBase;
 import org.phantazm.zombies.map.action.Action;
 import org.phantazm.zombies.map.objects.MapObjects;
@@ -104,13 +105,30 @@ public class Door extends BoundedBase {
     private void initHolograms(List<HologramInfo> hologramInfo) {
         for (HologramInfo info : hologramInfo) {
             Vec3D offset = info.position();
-            Hologram hologram = new InstanceHologram(center.add(VecUtils.toPoint(offset)), 0.1);
+            Hologram hologram = new PacketHologram(center.add(VecUtils.toPoint(offset)), 0.1);
             hologram.addAll(info.text());
-            hologram.setInstance(instance);
             holograms.add(hologram);
         }
     }
 
+    private void placeHolograms() {
+        for (Hologram hologram : holograms) {
+            hologram.setInstance(instance);
+        }
+    }
+
+    /**
+     * Places this door's holograms in its instance. The door may be constructed off of the tick thread, before its
+     * instance is registered, so this is deferred until the map is activated. Must be called once, on the tick thread.
+     */
+    public void initialize() {
+        synchronized (sync) {
+            if (!isOpen) {
+                placeHolograms();
+            }
+        }
+    }
+
     /**
      * Determines if this door is currently open or not.
      *
@@ -120,12 +138,12 @@ public class Door extends BoundedBase {
         return isOpen;
     }
 
-    private void removeBlocksAndHolograms() {
+    private void removeBlocksAndHolograms(BlockBatch batch) {
         for (Bounds3I region : regions) {
             region.forEach((x, y, z) -> {
                 Block oldBlock = instance.getBlock(x, y, z);
                 blockMappings.put(x, y, z, oldBlock);
-                instance.setBlock(x, y, z, fillBlock);
+                batch.setBlock(x, y, z, fillBlock);
             });
         }
 
@@ -152,7 +170,10 @@ public class Door extends BoundedBase {
             this.lastInteractor = interactor;
             isOpen = true;
 
-            removeBlocksAndHolograms();
+            //our blocks are gone before the open actions run, as they would be without batching
+            BlockBatch batch = new BlockBatch(instance);
+            removeBlocksAndHolograms(batch);
+            batch.apply();
 
             instance.playSound(doorInfo.openSound(), center.x(), center.y(), center.z());
 
@@ -160,6 +181,7 @@ public class Door extends BoundedBase {
                 action.perform(this);
             }
 
+            //doors opened as a consequence of this one share a batch, so all of their blocks change at once
             for (Key key : doorInfo.opensTo()) {
                 Room room = mapObjects.get().roomMap().get(key);
                 if (room != null) {
@@ -186,7 +208,7 @@ public class Door extends BoundedBase {
                         if (allOpen) {
                             synchronized (otherDoor.sync) {
                                 otherDoor.isOpen = false;
-                                otherDoor.removeBlocksAndHolograms();
+                                otherDoor.removeBlocksAndHolograms(batch);
                             }
                         }
                     }
@@ -196,6 +218,7 @@ public class Door extends BoundedBase {
                 }
             }
 
+            batch.apply();
             return true;
         }
     }
@@ -238,9 +261,12 @@ public class Door extends BoundedBase {
 
             this.lastInteractor = interactor;
             isOpen = false;
-            blockMappings.forEach((x, y, z, block) -> instance.setBlock(x, y, z, block));
+            BlockBatch batch = new BlockBatch(instance);
+            blockMappings.forEach(batch::setBlock);
+            batch.apply();
 
             initHolograms(doorInfo.holograms());
+            placeHolograms();
             blockMappings.clear();
 
             for (Action<Door> closeAction : closeActions) {
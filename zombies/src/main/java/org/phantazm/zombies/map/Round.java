@@ -6,11 +6,15 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.phantazm.commons.Tickable;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.zombies.map.action.Action;
+import org.phantazm.zombies.spawn.SpawnBatch;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.phantazm.zombies.spawn.SpawnDistributor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
@@ -24,7 +28,9 @@ public class Round implements Tickable {
     private final SpawnDistributor spawnDistributor;
     private final List<Spawnpoint> spawnpoints;
     private final List<PhantazmMob> spawnedMobs;
-    
+    private final SpawnBudget spawnBudget;
+    private final Deque<PendingWave> pendingWaves;
+
     private boolean isActive;
     private long waveStartTime;
     private Wave currentWave;
@@ -34,11 +40,12 @@ public class Round implements Tickable {
     /**
      * Constructs a new instance of this class.
      *
-     * @param roundInfo the backing data object
+     * @param roundInfo   the backing data object
+     * @param spawnBudget limits how many wave mobs may be spawned each tick
      */
     public Round(@NotNull RoundInfo roundInfo, @NotNull List<Wave> waves, @NotNull List<Action<Round>> startActions,
             @NotNull List<Action<Round>> endActions, @NotNull SpawnDistributor spawnDistributor,
-            @NotNull List<Spawnpoint> spawnpoints) {
+            @NotNull List<Spawnpoint> spawnpoints, @NotNull SpawnBudget spawnBudget) {
         List<WaveInfo> waveInfo = roundInfo.waves();
         if (waveInfo.isEmpty()) {
             LOGGER.warn("Round {} has no waves", roundInfo);
@@ -52,6 +59,8 @@ public class Round implements Tickable {
 
         this.spawnedMobs = new ArrayList<>();
         this.spawnpoints = Objects.requireNonNull(spawnpoints, "spawnpoints");
+        this.spawnBudget = Objects.requireNonNull(spawnBudget, "spawnBudget");
+        this.pendingWaves = new ArrayDeque<>(this.waves.size());
     }
 
     public @NotNull RoundInfo getRoundInfo() {
@@ -123,31 +132,53 @@ public class Round implements Tickable {
         totalMobCount = 0;
 
         spawnedMobs.clear();
+        pendingWaves.clear();
     }
 
     public @NotNull List<PhantazmMob> spawnMobs(@NotNull List<SpawnInfo> spawnInfo) {
-        return spawnMobs(spawnInfo, spawnDistributor, false);
-    }
-
-    private @NotNull List<PhantazmMob> spawnMobs(@NotNull List<SpawnInfo> spawnInfo,
-            @NotNull SpawnDistributor spawnDistributor, boolean isWave) {
         if (!isActive) {
             throw new IllegalStateException("Round must be active to spawn mobs");
         }
 
         List<PhantazmMob> spawns = spawnDistributor.distributeSpawns(spawnpoints, spawnInfo);
         spawnedMobs.addAll(spawns);
+        totalMobCount += spawns.size();
+        return spawns;
+    }
 
-        if (isWave) {
-            //adjust for mobs that may have failed to spawn
-            //only reached when calling internally
-            totalMobCount -= currentWave.mobCount() - spawns.size();
-        }
-        else {
-            totalMobCount += spawns.size();
-        }
+    private void queueWave(Wave wave) {
+        SpawnBatch batch = spawnDistributor.prepareSpawns(spawnpoints, wave.getWaveInfo().spawns());
 
-        return spawns;
+        //adjust for mobs of unknown type, which will never spawn
+        totalMobCount -= wave.mobCount() - batch.size();
+        pendingWaves.addLast(new PendingWave(wave, batch, new ArrayList<>(batch.size())));
+    }
+
+    private void spawnPendingMobs() {
+        long startTime = System.nanoTime();
+        int spawned = 0;
+
+        PendingWave pendingWave;
+        while ((pendingWave = pendingWaves.peekFirst()) != null && spawnBudget.canSpawn(spawned, startTime)) {
+            if (pendingWave.batch.hasNext()) {
+                PhantazmMob mob = pendingWave.batch.spawnNext();
+                spawned++;
+
+                if (mob == null) {
+                    //adjust for mobs that failed to spawn
+                    totalMobCount--;
+                }
+                else {
+                    spawnedMobs.add(mob);
+                    pendingWave.mobs.add(mob);
+                }
+            }
+
+            if (!pendingWave.batch.hasNext()) {
+                pendingWaves.pollFirst();
+                pendingWave.wave.onSpawn(pendingWave.mobs);
+            }
+        }
     }
 
     @Override
@@ -160,16 +191,18 @@ public class Round implements Tickable {
 
             long timeSinceLastWave = (time - waveStartTime) / MinecraftServer.TICK_MS;
             if (waveIndex < waves.size() && timeSinceLastWave > currentWave.getWaveInfo().delayTicks()) {
-                List<PhantazmMob> mobs = spawnMobs(currentWave.getWaveInfo().spawns(), spawnDistributor, true);
-                currentWave.onSpawn(mobs);
+                queueWave(currentWave);
 
                 waveStartTime = time;
-                if (++waveIndex >= waves.size()) {
-                    return;
+                if (++waveIndex < waves.size()) {
+                    currentWave = waves.get(waveIndex);
                 }
-
-                currentWave = waves.get(waveIndex);
             }
+
+            spawnPendingMobs();
         }
     }
+
+    private record PendingWave(Wave wave, SpawnBatch batch, List<PhantazmMob> mobs) {
+    }
 }
@@ -27,7 +27,7 @@ public class Spawnpoint {
     private static final Logger LOGGER = LoggerFactory.getLogger(Spawnpoint.class);
 
     private final SpawnpointInfo spawnInfo;
-    private final Function<? super Key, ? extends SpawnruleInfo> spawnrules;
+    private final SpawnruleInfo spawnrule;
     private final Instance instance;
     private final Pos spawnPoint;
     private final MobSpawner mobSpawner;
@@ -51,7 +51,7 @@ public class Spawnpoint {
         Vec3I spawnPosition = spawnInfo.position();
         this.spawnPoint =
                 Pos.fromPoint(mapOrigin.add(spawnPosition.x() + 0.5, spawnPosition.y(), spawnPosition.z() + 0.5));
-        this.spawnrules = Objects.requireNonNull(spawnruleFunction, "spawnrules");
+        Objects.requireNonNull(spawnruleFunction, "spawnruleFunction");
         this.instance = Objects.requireNonNull(instance, "instance");
         this.mobSpawner = Objects.requireNonNull(mobSpawner, "mobSpawner");
 
@@ -96,6 +96,12 @@ public class Spawnpoint {
         }
 
         this.linkedRoom = linkedRoom;
+
+        Key spawnruleKey = spawnInfo.spawnRule();
+        this.spawnrule = spawnruleFunction.apply(spawnruleKey);
+        if (spawnrule == null) {
+            LOGGER.warn("Unrecognized spawnrule " + spawnruleKey + " at " + spawnPoint + "; mobs not allowed to spawn");
+        }
     }
 
     public @NotNull Point spawnPoint() {
@@ -109,6 +115,34 @@ public class Spawnpoint {
      * @return true if this spawnpoint can spawn at least one kind of mob; false otherwise
      */
     public boolean canSpawnAny(@NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
+        double nearestDistanceSquared = Double.POSITIVE_INFINITY;
+        for (ZombiesPlayer player : zombiesPlayers) {
+            if (!player.canTriggerSLA()) {
+                continue;
+            }
+
+            Optional<Player> playerOptional = player.getPlayer();
+            if (playerOptional.isPresent()) {
+                double distanceSquared = playerOptional.get().getPosition().distanceSquared(spawnPoint);
+                if (distanceSquared < nearestDistanceSquared) {
+                    nearestDistanceSquared = distanceSquared;
+                }
+            }
+        }
+
+        return canSpawnAny(nearestDistanceSquared);
+    }
+
+    /**
+     * Check if this spawnpoint is capable of spawning any mobs, given the squared distance to the nearest player who
+     * can trigger the SLA. This is useful when checking many spawnpoints at once, as player positions only need to be
+     * looked up once.
+     *
+     * @param nearestDistanceSquared the squared distance from this spawnpoint to the nearest player who can trigger
+     *                               the SLA, or {@link Double#POSITIVE_INFINITY} if there is no such player
+     * @return true if this spawnpoint can spawn at least one kind of mob; false otherwise
+     */
+    public boolean canSpawnAny(double nearestDistanceSquared) {
         if (linkedWindow != null) {
             Optional<Room> linkedRoom = linkedWindow.getLinkedRoom();
             if (linkedRoom.isEmpty()) {
@@ -127,30 +161,7 @@ public class Spawnpoint {
             return false;
         }
 
-        Key spawnruleKey = spawnInfo.spawnRule();
-        SpawnruleInfo spawnrule = spawnrules.apply(spawnruleKey);
-        if (spawnrule == null) {
-            LOGGER.warn("Unrecognized spawnrule " + spawnruleKey + " at " + spawnPoint + "; mob not allowed to spawn");
-            return false;
-        }
-
-        double slaSquared = spawnrule.slaSquared();
-        boolean inRange = false;
-        for (ZombiesPlayer player : zombiesPlayers) {
-            if (!player.canTriggerSLA()) {
-                continue;
-            }
-
-            Optional<Player> playerOptional = player.getPlayer();
-            if (playerOptional.isPresent()) {
-                if (playerOptional.get().getPosition().distanceSquared(spawnPoint) < slaSquared) {
-                    inRange = true;
-                    break;
-                }
-            }
-        }
-
-        return inRange;
+        return spawnrule != null && nearestDistanceSquared < spawnrule.slaSquared();
     }
 
     /**
@@ -163,12 +174,20 @@ public class Spawnpoint {
      */
     public boolean canSpawn(@NotNull MobModel model, @NotNull Key spawnType,
             @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers) {
-        if (!canSpawnAny(zombiesPlayers)) {
-            return false;
-        }
+        return canSpawnAny(zombiesPlayers) && allowsModel(model, spawnType);
+    }
 
-        SpawnruleInfo spawnrule = spawnrules.apply(spawnInfo.spawnRule());
-        if (!spawnrule.spawnType().equals(spawnType)) {
+    /**
+     * Determines if this spawnpoint's spawnrule allows a {@link MobModel} to spawn. Unlike
+     * {@link Spawnpoint#canSpawn(MobModel, Key, Collection)}, this does not check if the spawnpoint can currently
+     * spawn any mobs at all.
+     *
+     * @param model     the model to spawn
+     * @param spawnType the spawntype, which must match the spawnrule's spawn type
+     * @return true if the spawnrule allows the mob, false otherwise
+     */
+    public boolean allowsModel(@NotNull MobModel model, @NotNull Key spawnType) {
+        if (spawnrule == null || !spawnrule.spawnType().equals(spawnType)) {
             return false;
         }
 
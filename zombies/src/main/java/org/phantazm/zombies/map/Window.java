@@ -5,6 +5,7 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.BlockBatch;
 import org.phantazm.core.ClientBlockHandler;
 import org.phantazm.core.tracker.BoundedBase;
 import org.phantazm.core.tracker.BoundedTracker;
@@ -13,6 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Represents a window in-game. May be repaired or broken. Broken window blocks are replaced by air on the server-side,
@@ -25,7 +27,7 @@ public class Window extends BoundedBase {
 
     private final Instance instance;
     private final WindowInfo windowInfo;
-    private final ClientBlockHandler clientBlockHandler;
+    private final Supplier<? extends ClientBlockHandler> clientBlockHandler;
     private final Point worldMin;
     private final int volume;
     private final ArrayList<Block> repairBlocks;
@@ -45,10 +47,11 @@ public class Window extends BoundedBase {
      *
      * @param instance           the instance in which the window is present
      * @param windowInfo         the data defining the configurable parameters of this window
-     * @param clientBlockHandler the {@link ClientBlockHandler} used to set client-only barrier blocks
+     * @param clientBlockHandler supplies the {@link ClientBlockHandler} used to set client-only barrier blocks; it is
+     *                           only called once the window is broken or repaired, after the instance is registered
      */
     public Window(@NotNull Point mapOrigin, @NotNull Instance instance, @NotNull WindowInfo windowInfo,
-            @NotNull ClientBlockHandler clientBlockHandler, @NotNull List<Action<Window>> repairActions,
+            @NotNull Supplier<? extends ClientBlockHandler> clientBlockHandler, @NotNull List<Action<Window>> repairActions,
             @NotNull List<Action<Window>> breakActions, @NotNull BoundedTracker<Room> roomTracker) {
         super(mapOrigin, windowInfo.frameRegion());
 
@@ -133,12 +136,17 @@ public class Window extends BoundedBase {
                 //play the break sound
                 instance.playSound(newIndex == 0 ? windowInfo.breakAllSound() : windowInfo.breakSound(), center);
 
+                BlockBatch batch = new BlockBatch(instance);
+                List<Point> breakLocations = new ArrayList<>(index - newIndex);
                 for (int i = index - 1; i >= newIndex; i--) {
                     Point breakLocation = indexToCoordinate(i);
-                    instance.setBlock(breakLocation, Block.AIR);
-                    clientBlockHandler.setClientBlock(Block.BARRIER, breakLocation);
+                    batch.setBlock(breakLocation, Block.AIR);
+                    breakLocations.add(breakLocation);
                 }
 
+                batch.apply();
+                clientBlockHandler.get().setClientBlocks(Block.BARRIER, breakLocations);
+
                 for (Action<Window> breakAction : breakActions) {
                     breakAction.perform(this);
                 }
@@ -147,12 +155,18 @@ public class Window extends BoundedBase {
                 //play the repair sound
                 instance.playSound(newIndex == volume ? windowInfo.repairAllSound() : windowInfo.repairSound(), center);
 
+                BlockBatch batch = new BlockBatch(instance);
+                List<Point> repairLocations = new ArrayList<>(newIndex - index);
                 for (int i = index; i < newIndex; i++) {
                     Point repairLocation = indexToCoordinate(i);
-                    instance.setBlock(repairLocation, repairBlocks.get(i));
-                    clientBlockHandler.removeClientBlock(repairLocation);
+                    batch.setBlock(repairLocation, repairBlocks.get(i));
+                    repairLocations.add(repairLocation);
                 }
 
+                //remove the barriers first, so the batch doesn't send them again
+                clientBlockHandler.get().removeClientBlocks(repairLocations);
+                batch.apply();
+
                 for (Action<Window> repairAction : repairActions) {
                     repairAction.perform(this);
                 }
@@ -48,6 +48,7 @@ import org.phantazm.zombies.mob.MobSpawnerSource;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.powerup.PowerupHandler;
 import org.phantazm.zombies.spawn.BasicSpawnDistributor;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.phantazm.zombies.spawn.SpawnDistributor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,16 +67,19 @@ public class BasicMapObjectsSource implements MapObjects.Source {
     private final Map<Key, MobModel> mobModels;
     private final ClientBlockHandlerSource clientBlockHandlerSource;
     private final KeyParser keyParser;
+    private final SpawnBudget spawnBudget;
 
     public BasicMapObjectsSource(@NotNull MapInfo mapInfo, @NotNull ContextManager contextManager,
             @NotNull MobSpawnerSource mobSpawnerSource, @NotNull Map<Key, MobModel> mobModels,
-            @NotNull ClientBlockHandlerSource clientBlockHandlerSource, @NotNull KeyParser keyParser) {
+            @NotNull ClientBlockHandlerSource clientBlockHandlerSource, @NotNull KeyParser keyParser,
+            @NotNull SpawnBudget spawnBudget) {
         this.mapInfo = Objects.requireNonNull(mapInfo, "mapInfo");
         this.contextManager = Objects.requireNonNull(contextManager, "contextManager");
         this.mobSpawnerSource = Objects.requireNonNull(mobSpawnerSource, "mobSpawnerSource");
         this.mobModels = Objects.requireNonNull(mobModels, "mobModels");
         this.clientBlockHandlerSource = Objects.requireNonNull(clientBlockHandlerSource, "clientBlockHandlerSource");
         this.keyParser = Objects.requireNonNull(keyParser, "keyParser");
+        this.spawnBudget = Objects.requireNonNull(spawnBudget, "spawnBudget");
     }
 
     @Override
@@ -86,7 +90,8 @@ public class BasicMapObjectsSource implements MapObjects.Source {
             @NotNull Wrapper<WindowHandler> windowHandler, @NotNull Wrapper<EventNode<Event>> eventNode,
             @NotNull SongPlayer songPlayer, @NotNull TickTaskScheduler tickTaskScheduler, @NotNull Team corpseTeam) {
         Random random = new Random();
-        ClientBlockHandler clientBlockHandler = clientBlockHandlerSource.forInstance(instance);
+        //the instance is registered when the scene is activated, so the handler is only looked up when first used
+        Supplier<ClientBlockHandler> clientBlockHandler = () -> clientBlockHandlerSource.forInstance(instance);
         SpawnDistributor spawnDistributor =
                 new BasicSpawnDistributor(mobModels::get, random, playerMap.values(), mobNoPushTeam);
 
@@ -120,11 +125,11 @@ public class BasicMapObjectsSource implements MapObjects.Source {
         BoundedTracker<Door> doorTracker = BoundedTracker.tracker(doors);
 
         List<Room> rooms = buildRooms(origin, mapInfo.rooms(), provider);
-        BoundedTracker<Room> roomTracker = BoundedTracker.tracker(rooms);
+        BoundedTracker<Room> roomTracker = BoundedTracker.tracker(rooms, BoundedTracker.Index.CELL);
 
         List<Window> windows =
                 buildWindows(origin, mapInfo.windows(), provider, instance, clientBlockHandler, roomTracker);
-        BoundedTracker<Window> windowTracker = BoundedTracker.tracker(windows);
+        BoundedTracker<Window> windowTracker = BoundedTracker.tracker(windows, BoundedTracker.Index.CELL);
 
         List<Spawnpoint> spawnpoints =
                 buildSpawnpoints(origin, mapInfo.spawnpoints(), spawnruleInfoMap, instance, mobSpawner, windowTracker,
@@ -164,7 +169,7 @@ public class BasicMapObjectsSource implements MapObjects.Source {
     }
 
     private List<Window> buildWindows(Point mapOrigin, List<WindowInfo> windowInfoList,
-            DependencyProvider dependencyProvider, Instance instance, ClientBlockHandler clientBlockHandler,
+            DependencyProvider dependencyProvider, Instance instance, Supplier<ClientBlockHandler> clientBlockHandler,
             BoundedTracker<Room> roomTracker) {
 
         List<Window> windows = new ArrayList<>(windowInfoList.size());
@@ -255,7 +260,8 @@ public class BasicMapObjectsSource implements MapObjects.Source {
                 waves.add(new Wave(wave, spawnActions));
             }
 
-            rounds.add(new Round(roundInfo, waves, startActions, endActions, spawnDistributor, spawnpoints));
+            rounds.add(new Round(roundInfo, waves, startActions, endActions, spawnDistributor, spawnpoints,
+                    spawnBudget));
         }
 
         return rounds;
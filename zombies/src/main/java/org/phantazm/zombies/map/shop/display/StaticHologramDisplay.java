@@ -7,7 +7,7 @@ import net.minestom.server.coordinate.Vec;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.VecUtils;
 import org.phantazm.core.hologram.Hologram;
-import org.phantazm.core.hologram.InstanceHologram;
+import org.phantazm.core.hologram.PacketHologram;
 import org.phantazm.zombies.map.HologramInfo;
 import org.phantazm.zombies.map.shop.Shop;
 
@@ -19,7 +19,7 @@ public class StaticHologramDisplay extends HologramDisplayBase {
 
     @FactoryMethod
     public StaticHologramDisplay(@NotNull Data data) {
-        super(new InstanceHologram(Vec.ZERO, 0, Hologram.Alignment.LOWER));
+        super(new PacketHologram(Vec.ZERO, 0, Hologram.Alignment.LOWER));
         this.data = Objects.requireNonNull(data, "data");
     }
 
@@ -12,7 +12,7 @@ import org.phantazm.core.VecUtils;
 import org.phantazm.core.equipment.Equipment;
 import org.phantazm.core.equipment.Upgradable;
 import org.phantazm.core.equipment.UpgradePath;
-import org.phantazm.core.hologram.ViewableHologram;
+import org.phantazm.core.hologram.PacketHologram;
 import org.phantazm.zombies.coin.Transaction;
 import org.phantazm.zombies.map.shop.Shop;
 import org.phantazm.zombies.map.shop.display.HologramDisplayBase;
@@ -50,7 +50,7 @@ public class EquipmentUpgradeCostDisplayCreator implements PlayerDisplayCreator
         private long lastUpdate;
 
         private Display(@NotNull Data data, @NotNull ZombiesPlayer zombiesPlayer, @NotNull UpgradePath upgradePath) {
-            super(new ViewableHologram(Vec.ZERO, 0, player -> player.getUuid().equals(zombiesPlayer.getUUID())));
+            super(new PacketHologram(Vec.ZERO, 0, player -> player.getUuid().equals(zombiesPlayer.getUUID())));
             this.data = Objects.requireNonNull(data, "data");
             this.zombiesPlayer = Objects.requireNonNull(zombiesPlayer, "zombiesPlayer");
             this.upgradePath = Objects.requireNonNull(upgradePath, "upgradePath");
@@ -8,7 +8,7 @@ import net.minestom.server.coordinate.Vec;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.VecUtils;
 import org.phantazm.core.hologram.Hologram;
-import org.phantazm.core.hologram.ViewableHologram;
+import org.phantazm.core.hologram.PacketHologram;
 import org.phantazm.zombies.map.HologramInfo;
 import org.phantazm.zombies.map.shop.Shop;
 import org.phantazm.zombies.map.shop.display.HologramDisplayBase;
@@ -34,7 +34,7 @@ public class PlayerHologramDisplayCreator implements PlayerDisplayCreator {
         private final Data data;
 
         private Display(Data data, ZombiesPlayer zombiesPlayer) {
-            super(new ViewableHologram(Vec.ZERO, 0, Hologram.Alignment.LOWER,
+            super(new PacketHologram(Vec.ZERO, 0, Hologram.Alignment.LOWER,
                     player -> player.getUuid().equals(zombiesPlayer.getUUID())));
 
             this.data = data;
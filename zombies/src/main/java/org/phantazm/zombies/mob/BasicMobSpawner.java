@@ -9,13 +9,9 @@ import com.github.steanky.element.core.dependency.DependencyProvider;
 import com.github.steanky.element.core.dependency.ModuleDependencyProvider;
 import com.github.steanky.element.core.key.KeyParser;
 import com.github.steanky.element.core.path.ElementPath;
-import com.github.steanky.ethylene.core.ConfigElement;
 import com.github.steanky.ethylene.core.collection.ConfigEntry;
 import com.github.steanky.ethylene.core.collection.ConfigNode;
 import com.github.steanky.ethylene.core.collection.LinkedConfigNode;
-import com.github.steanky.ethylene.core.processor.ConfigProcessException;
-import com.github.steanky.ethylene.core.processor.ConfigProcessor;
-import it.unimi.dsi.fastutil.booleans.BooleanObjectPair;
 import it.unimi.dsi.fastutil.objects.Object2FloatArrayMap;
 import net.kyori.adventure.key.Key;
 import net.minestom.server.attribute.Attribute;
@@ -26,13 +22,13 @@ import net.minestom.server.instance.Instance;
 import net.minestom.server.item.ItemStack;
 import org.intellij.lang.annotations.Subst;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.phantazm.core.ElementUtils;
 import org.phantazm.mob.BasicPhantazmMob;
 import org.phantazm.mob.MobModel;
 import org.phantazm.mob.MobStore;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.mob.goal.GoalApplier;
+import org.phantazm.mob.meta.MetaCompiler;
 import org.phantazm.mob.skill.Skill;
 import org.phantazm.mob.spawner.MobSpawner;
 import org.phantazm.proxima.bindings.minestom.ProximaEntity;
@@ -41,11 +37,8 @@ import org.phantazm.zombies.map.objects.MapObjects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.lang.reflect.Parameter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -61,27 +54,30 @@ public class BasicMobSpawner implements MobSpawner {
     private static final ElementPath GOAL_APPLIERS_PATH = ElementPath.of("goalAppliers");
     private static final ElementPath TRIGGERS_PATH = ElementPath.of("triggers");
 
-    private final Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap;
+    private final MetaCompiler metaCompiler;
     private final Spawner proximaSpawner;
     private final KeyParser keyParser;
     private final MobStore mobStore;
     private final DependencyProvider mobDependencyProvider;
+    private final Map<MobModel, MobTemplate> templates;
 
     /**
      * Creates a new {@link BasicMobSpawner}.
      *
+     * @param metaCompiler   The {@link MetaCompiler} used to apply each model's meta configuration
      * @param proximaSpawner The {@link Spawner} to spawn backing {@link ProximaEntity}s
      */
-    public BasicMobSpawner(@NotNull Map<BooleanObjectPair<String>, ConfigProcessor<?>> processorMap,
-            @NotNull Spawner proximaSpawner, @NotNull KeyParser keyParser, @NotNull Random random,
-            @NotNull Supplier<? extends MapObjects> mapObjects, @NotNull MobStore mobStore) {
-        this.processorMap = Map.copyOf(processorMap);
+    public BasicMobSpawner(@NotNull MetaCompiler metaCompiler, @NotNull Spawner proximaSpawner,
+            @NotNull KeyParser keyParser, @NotNull Random random, @NotNull Supplier<? extends MapObjects> mapObjects,
+            @NotNull MobStore mobStore) {
+        this.metaCompiler = Objects.requireNonNull(metaCompiler, "metaCompiler");
         this.proximaSpawner = Objects.requireNonNull(proximaSpawner, "neuralSpawner");
         this.keyParser = Objects.requireNonNull(keyParser, "keyParser");
         this.mobStore = Objects.requireNonNull(mobStore, "mobStore");
 
         this.mobDependencyProvider =
                 new ModuleDependencyProvider(keyParser, new Module(this, mobStore, random, mapObjects));
+        this.templates = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -93,12 +89,10 @@ public class BasicMobSpawner implements MobSpawner {
         setAttributes(proximaEntity, model);
         setHealth(proximaEntity);
 
-        ElementContext context = model.getContext();
-        Map<Key, Collection<Skill>> triggers = createTriggers(context);
-        Collection<GoalApplier> goalAppliers = createGoalAppliers(context);
+        MobTemplate template = templates.computeIfAbsent(model, this::createTemplate);
 
-        PhantazmMob mob = new BasicPhantazmMob(model, proximaEntity, triggers);
-        for (GoalApplier applier : goalAppliers) {
+        PhantazmMob mob = new BasicPhantazmMob(model, proximaEntity, template.triggers);
+        for (GoalApplier applier : template.goalAppliers) {
             applier.apply(mob);
         }
 
@@ -120,57 +114,7 @@ public class BasicMobSpawner implements MobSpawner {
 
     private void setEntityMeta(@NotNull ProximaEntity neuralEntity, @NotNull MobModel model) {
         EntityMeta meta = neuralEntity.getEntityMeta();
-        ConfigNode metaNode = model.getMetaNode();
-        for (Method method : meta.getClass().getMethods()) {
-            if (!Modifier.isPublic(method.getModifiers()) || method.getReturnType() != void.class) {
-                continue;
-            }
-
-            Parameter[] parameters = method.getParameters();
-            if (parameters.length != 1) {
-                continue;
-            }
-
-            String methodName = method.getName();
-            if (!methodName.startsWith("set") || methodName.length() < 4) {
-                continue;
-            }
-            String key = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
-
-            ConfigElement element = metaNode.getElement(key);
-            if (element == null) {
-                continue;
-            }
-
-            Parameter parameter = parameters[0];
-            NotNull notNull = parameter.getAnnotation(NotNull.class);
-            Nullable nullable = parameter.getAnnotation(Nullable.class);
-            Class<?> type = parameter.getType();
-            boolean optional = !type.isPrimitive() && (nullable != null || notNull == null);
-
-            ConfigProcessor<?> processor = processorMap.get(BooleanObjectPair.of(optional, type.getName()));
-            if (processor == null) {
-                continue;
-            }
-
-            Object data;
-            try {
-                data = processor.dataFromElement(element);
-            }
-            catch (ConfigProcessException e) {
-                LOGGER.warn("Failed to process meta config for meta key '{}'", key, e);
-                continue;
-            }
-            if (data instanceof Optional<?> dataOptional) {
-                data = dataOptional.orElse(null);
-            }
-            try {
-                method.invoke(meta, data);
-            }
-            catch (IllegalAccessException | InvocationTargetException e) {
-                LOGGER.warn("Failed to set meta value for meta key '{}' and method name '{}'", key, methodName, e);
-            }
-        }
+        metaCompiler.applierFor(model, meta.getClass()).apply(meta);
     }
 
     private void setEquipment(@NotNull ProximaEntity neuralEntity, @NotNull MobModel model) {
@@ -192,6 +136,11 @@ public class BasicMobSpawner implements MobSpawner {
         entity.setHealth(entity.getAttributeValue(Attribute.MAX_HEALTH));
     }
 
+    private MobTemplate createTemplate(MobModel model) {
+        ElementContext context = model.getContext();
+        return new MobTemplate(createTriggers(context), createGoalAppliers(context));
+    }
+
     private Map<Key, Collection<Skill>> createTriggers(ElementContext context) {
         ConfigNode node = context.root().getNodeOrDefault(LinkedConfigNode::new, "triggers");
         Map<Key, Collection<Skill>> skills = new HashMap<>(node.size());
@@ -223,6 +172,15 @@ public class BasicMobSpawner implements MobSpawner {
         return context.provideCollection(GOAL_APPLIERS_PATH, mobDependencyProvider, GOAL_HANDLER);
     }
 
+    /**
+     * The skills and goal appliers built from a {@link MobModel}'s config. Skills and goal appliers keep any per-mob
+     * state on the mob itself (goal appliers create new goals for each mob they are applied to), so a template is
+     * built once per model and shared by every mob this spawner spawns from it.
+     */
+    private record MobTemplate(@NotNull Map<Key, Collection<Skill>> triggers,
+                               @NotNull Collection<GoalApplier> goalAppliers) {
+    }
+
     @Depend
     @Memoize
     public static class Module implements DependencyModule {
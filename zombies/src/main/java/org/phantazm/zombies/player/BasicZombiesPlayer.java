@@ -3,11 +3,13 @@ package org.phantazm.zombies.player;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
 import net.minestom.server.entity.Player;
+import net.minestom.server.inventory.PlayerInventory;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.CancellableState;
 import org.phantazm.commons.TickTaskScheduler;
 import org.phantazm.core.inventory.InventoryObject;
 import org.phantazm.core.inventory.InventoryProfile;
+import org.phantazm.core.inventory.InventorySlotSync;
 import org.phantazm.zombies.Attributes;
 import org.phantazm.zombies.map.Flaggable;
 import org.phantazm.zombies.player.state.ZombiesPlayerStateKeys;
@@ -21,6 +23,7 @@ public class BasicZombiesPlayer implements ZombiesPlayer, ForwardingAudience {
     private final ZombiesPlayerModule module;
     private final Map<UUID, CancellableState> stateMap;
     private final TickTaskScheduler taskScheduler;
+    private final InventorySlotSync slotSync;
 
     public BasicZombiesPlayer(@NotNull ZombiesScene scene, @NotNull ZombiesPlayerModule module,
             @NotNull Map<UUID, CancellableState> stateMap, @NotNull TickTaskScheduler taskScheduler) {
@@ -28,6 +31,7 @@ public class BasicZombiesPlayer implements ZombiesPlayer, ForwardingAudience {
         this.module = Objects.requireNonNull(module, "module");
         this.stateMap = Objects.requireNonNull(stateMap, "stateMap");
         this.taskScheduler = Objects.requireNonNull(taskScheduler, "taskScheduler");
+        this.slotSync = new InventorySlotSync(PlayerInventory.INVENTORY_SIZE);
     }
 
     @Override
@@ -104,11 +108,13 @@ public class BasicZombiesPlayer implements ZombiesPlayer, ForwardingAudience {
                     inventoryObject.tick(time);
 
                     if (inventoryObject.shouldRedraw()) {
-                        player.getInventory().setItemStack(slot, inventoryObject.getItemStack());
+                        slotSync.stage(slot, inventoryObject.getItemStack());
                     }
                 }
             }
         });
+
+        slotSync.flush(player);
     }
 
     @Override
@@ -93,7 +93,7 @@ public class BasicZombiesPlayerSource implements ZombiesPlayer.Source {
                 BasicZombiesPlayerMapStats.createBasicStats(playerView.getUUID(), mapSettingsInfo.id());
 
         PlayerCoins coins = new BasicPlayerCoins(playerView, stats, new BasicTransactionComponentCreator(), 0);
-        PlayerKills kills = new BasicPlayerKills(stats);
+        PlayerKills kills = new BasicPlayerKills(stats, playerView.getUUID(), eventNode);
 
         InventoryProfile livingProfile = new BasicInventoryProfile(45);
 
@@ -13,7 +13,7 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.hologram.Hologram;
-import org.phantazm.core.hologram.InstanceHologram;
+import org.phantazm.core.hologram.PacketHologram;
 
 import java.util.List;
 import java.util.Objects;
@@ -83,8 +83,7 @@ public class HologramVisual implements Supplier<PowerupVisual> {
                 long elapsed = (time - start) / MinecraftServer.TICK_MS;
                 if (elapsed > data.timeUntilBlink && !data.blinkFrames.isEmpty()) {
                     Frame currentFrame = data.blinkFrames.get(0);
-                    hologram.clear();
-                    hologram.addAll(currentFrame.components());
+                    hologram.setLines(currentFrame.components());
 
                     this.blinking = true;
                     this.currentFrame = currentFrame;
@@ -102,8 +101,7 @@ public class HologramVisual implements Supplier<PowerupVisual> {
                 this.currentFrame = currentFrame = data.blinkFrames.get(nextFrameIndex);
                 this.lastFrameTime = time;
 
-                hologram.clear();
-                hologram.addAll(currentFrame.components());
+                hologram.setLines(currentFrame.components());
             }
         }
 
@@ -114,7 +112,7 @@ public class HologramVisual implements Supplier<PowerupVisual> {
                 hologram.clear();
             }
 
-            this.hologram = new InstanceHologram(new Vec(x, y + data.heightOffset, z), 0, Hologram.Alignment.CENTERED);
+            this.hologram = new PacketHologram(new Vec(x, y + data.heightOffset, z), 0, Hologram.Alignment.CENTERED);
             this.hologram.addAll(data.lines);
             this.hologram.setInstance(instance);
             this.start = System.currentTimeMillis();
@@ -12,6 +12,7 @@ import org.phantazm.zombies.stage.Stage;
 import org.phantazm.zombies.stage.StageTransition;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 
 public class LeaveHandler {
@@ -19,10 +20,14 @@ public class LeaveHandler {
 
     private final Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers;
 
+    private final Consumer<? super UUID> removalListener;
+
     public LeaveHandler(@NotNull StageTransition stageTransition,
-            @NotNull Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers) {
+            @NotNull Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers,
+            @NotNull Consumer<? super UUID> removalListener) {
         this.stageTransition = Objects.requireNonNull(stageTransition, "stageTransition");
         this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
+        this.removalListener = Objects.requireNonNull(removalListener, "removalListener");
     }
 
     /**
@@ -63,6 +68,7 @@ public class LeaveHandler {
 
                 if (stage == null || !stage.hasPermanentPlayers()) {
                     zombiesPlayers.remove(pair.left());
+                    removalListener.accept(pair.left());
                     zombiesPlayer.end();
                 }
             }
@@ -0,0 +1,143 @@
+package org.phantazm.zombies.scene;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps player UUIDs to the {@link ZombiesScene}s that have a {@link org.phantazm.zombies.player.ZombiesPlayer} for
+ * them. A player is usually part of a single scene, but players who quit a game with permanent players stay in it (so
+ * they can rejoin) while joining another.
+ * <p>
+ * Updates happen when players join or leave a scene and when a scene is cleaned up after shutting down. Updates and
+ * lookups may happen on any thread; lookups do not lock or allocate.
+ */
+public final class PlayerSceneIndex {
+    private static final ZombiesScene[] EMPTY_SCENE_ARRAY = new ZombiesScene[0];
+
+    private final Map<UUID, ZombiesScene[]> scenes = new ConcurrentHashMap<>();
+
+    /**
+     * Records that the given player is now part of the scene.
+     *
+     * @param uuid  the player's UUID
+     * @param scene the scene
+     */
+    public void add(@NotNull UUID uuid, @NotNull ZombiesScene scene) {
+        Objects.requireNonNull(scene, "scene");
+        scenes.compute(uuid, (ignored, old) -> {
+            if (old == null) {
+                return new ZombiesScene[] {scene};
+            }
+
+            for (ZombiesScene oldScene : old) {
+                if (oldScene == scene) {
+                    return old;
+                }
+            }
+
+            ZombiesScene[] updated = Arrays.copyOf(old, old.length + 1);
+            updated[old.length] = scene;
+            return updated;
+        });
+    }
+
+    /**
+     * Records that the given player is no longer part of the scene.
+     *
+     * @param uuid  the player's UUID
+     * @param scene the scene
+     */
+    public void remove(@NotNull UUID uuid, @NotNull ZombiesScene scene) {
+        scenes.computeIfPresent(uuid, (ignored, old) -> {
+            int index = -1;
+            for (int i = 0; i < old.length; i++) {
+                if (old[i] == scene) {
+                    index = i;
+                    break;
+                }
+            }
+
+            if (index == -1) {
+                return old;
+            }
+
+            if (old.length == 1) {
+                return null;
+            }
+
+            ZombiesScene[] updated = new ZombiesScene[old.length - 1];
+            System.arraycopy(old, 0, updated, 0, index);
+            System.arraycopy(old, index + 1, updated, index, old.length - index - 1);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes every player of the given scene from this index. Used when a scene is cleaned up.
+     *
+     * @param scene the scene
+     */
+    public void removeScene(@NotNull ZombiesScene scene) {
+        for (UUID uuid : scene.getZombiesPlayers().keySet()) {
+            remove(uuid, scene);
+        }
+    }
+
+    /**
+     * Gets the scenes the player is part of. The returned array must not be modified.
+     *
+     * @param uuid the player's UUID
+     * @return the scenes the player is part of, possibly empty
+     */
+    @NotNull ZombiesScene[] scenesFor(@NotNull UUID uuid) {
+        return scenes.getOrDefault(uuid, EMPTY_SCENE_ARRAY);
+    }
+
+    /**
+     * Compares this index with the actual members of the given scenes, and describes every difference found. Intended
+     * for debugging.
+     *
+     * @param activeScenes all scenes that currently exist
+     * @return a list of human-readable inconsistencies, empty if the index is consistent
+     */
+    public @NotNull List<String> findInconsistencies(@NotNull Collection<ZombiesScene> activeScenes) {
+        List<String> problems = new ArrayList<>();
+        Set<ZombiesScene> sceneSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        sceneSet.addAll(activeScenes);
+
+        for (ZombiesScene scene : activeScenes) {
+            for (UUID uuid : scene.getZombiesPlayers().keySet()) {
+                if (!contains(scenesFor(uuid), scene)) {
+                    problems.add("Player " + uuid + " is in scene " + scene.getUUID() + " but is not indexed");
+                }
+            }
+        }
+
+        for (Map.Entry<UUID, ZombiesScene[]> entry : scenes.entrySet()) {
+            for (ZombiesScene scene : entry.getValue()) {
+                if (!sceneSet.contains(scene)) {
+                    problems.add("Player " + entry.getKey() + " is indexed to scene " + scene.getUUID() +
+                            ", which no longer exists");
+                }
+                else if (!scene.getZombiesPlayers().containsKey(entry.getKey())) {
+                    problems.add("Player " + entry.getKey() + " is indexed to scene " + scene.getUUID() +
+                            " but is not in it");
+                }
+            }
+        }
+
+        return problems;
+    }
+
+    private static boolean contains(ZombiesScene[] scenes, ZombiesScene scene) {
+        for (ZombiesScene element : scenes) {
+            if (element == scene) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
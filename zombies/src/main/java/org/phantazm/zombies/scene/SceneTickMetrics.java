@@ -0,0 +1,58 @@
+package org.phantazm.zombies.scene;
+
+/**
+ * Tick-time measurements for a single {@link ZombiesScene}, recorded by {@link ZombiesSceneTicker}. Values are written
+ * by whichever thread ticked the scene and may be read from any thread.
+ */
+public final class SceneTickMetrics {
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile long totalTickNanos;
+    private volatile long tickCount;
+    private volatile long overBudgetCount;
+    private volatile long lastWarningTime;
+
+    void record(long tickNanos, boolean overBudget) {
+        lastTickNanos = tickNanos;
+        if (tickNanos > maxTickNanos) {
+            maxTickNanos = tickNanos;
+        }
+
+        totalTickNanos += tickNanos;
+        tickCount++;
+
+        if (overBudget) {
+            overBudgetCount++;
+        }
+    }
+
+    boolean shouldWarn(long now, long warningInterval) {
+        if (lastWarningTime != 0 && now - lastWarningTime < warningInterval) {
+            return false;
+        }
+
+        lastWarningTime = now;
+        return true;
+    }
+
+    public long lastTickNanos() {
+        return lastTickNanos;
+    }
+
+    public long maxTickNanos() {
+        return maxTickNanos;
+    }
+
+    public long averageTickNanos() {
+        long tickCount = this.tickCount;
+        return tickCount == 0 ? 0 : totalTickNanos / tickCount;
+    }
+
+    public long tickCount() {
+        return tickCount;
+    }
+
+    public long overBudgetCount() {
+        return overBudgetCount;
+    }
+}
@@ -0,0 +1,47 @@
+package org.phantazm.zombies.scene;
+
+/**
+ * Counts the tab-list score packets sent for a single {@link ZombiesScene}, recorded by {@link TabListScoreUpdater}.
+ * Values are written by whichever thread ticked the scene and may be read from any thread.
+ */
+public final class TabListScoreMetrics {
+    private volatile long packetCount;
+    private volatile long flushCount;
+    private volatile long refreshCount;
+
+    void recordFlush(int packets) {
+        packetCount += packets;
+        flushCount++;
+    }
+
+    void recordRefresh() {
+        refreshCount++;
+    }
+
+    /**
+     * Gets the total number of score packets sent.
+     *
+     * @return the number of score packets sent
+     */
+    public long packetCount() {
+        return packetCount;
+    }
+
+    /**
+     * Gets the number of flushes that sent at least one packet.
+     *
+     * @return the number of non-empty flushes
+     */
+    public long flushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Gets the number of times a tab list had every score sent again, because its viewers changed.
+     *
+     * @return the number of full refreshes
+     */
+    public long refreshCount() {
+        return refreshCount;
+    }
+}
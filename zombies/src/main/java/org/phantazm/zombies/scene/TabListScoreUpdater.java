@@ -0,0 +1,127 @@
+package org.phantazm.zombies.scene;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.scoreboard.TabList;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.zombies.event.PlayerKillsChangeEvent;
+import org.phantazm.zombies.player.ZombiesPlayer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the kill scores shown in each player's tab list up to date. Scores are only sent when they change: kill count
+ * changes mark a player's score dirty (see {@link PlayerKillsChangeEvent}), and {@link TabListScoreUpdater#flush()}
+ * sends all dirty scores once per tick, as one batch of packets per viewer. A tab list whose viewers changed, such as
+ * after a player state change re-adds its owner, is sent every score again, as is every tab list when a player comes
+ * online.
+ */
+public class TabListScoreUpdater {
+    private final Map<UUID, ? extends ZombiesPlayer> zombiesPlayers;
+    private final Set<UUID> dirty;
+    private final Set<UUID> online;
+    private final Map<UUID, Set<Player>> knownViewers;
+    private final TabListScoreMetrics metrics;
+
+    public TabListScoreUpdater(@NotNull Map<UUID, ? extends ZombiesPlayer> zombiesPlayers) {
+        this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
+        this.dirty = ConcurrentHashMap.newKeySet();
+        this.online = new HashSet<>();
+        this.knownViewers = new HashMap<>();
+        this.metrics = new TabListScoreMetrics();
+    }
+
+    /**
+     * Marks a player's score as changed, so that it is sent on the next flush. May be called from any thread.
+     *
+     * @param uuid the UUID of the player whose score changed
+     */
+    public void markDirty(@NotNull UUID uuid) {
+        dirty.add(Objects.requireNonNull(uuid, "uuid"));
+    }
+
+    /**
+     * Sends every score that changed since the last flush. Must be called from the thread ticking the scene.
+     */
+    public void flush() {
+        Set<UUID> changed = new HashSet<>();
+        Iterator<UUID> dirtyIterator = dirty.iterator();
+        while (dirtyIterator.hasNext()) {
+            changed.add(dirtyIterator.next());
+            dirtyIterator.remove();
+        }
+
+        for (ZombiesPlayer zombiesPlayer : zombiesPlayers.values()) {
+            UUID uuid = zombiesPlayer.getUUID();
+            if (zombiesPlayer.getPlayer().isPresent()) {
+                if (online.add(uuid)) {
+                    changed.add(uuid);
+                }
+            }
+            else {
+                online.remove(uuid);
+            }
+        }
+
+        int packetCount = 0;
+        for (ZombiesPlayer owner : zombiesPlayers.values()) {
+            TabList tabList = owner.module().getTabList();
+            Set<Player> viewers = tabList.getViewers();
+            if (viewers.isEmpty()) {
+                knownViewers.remove(owner.getUUID());
+                continue;
+            }
+
+            boolean refresh = !viewers.equals(knownViewers.get(owner.getUUID()));
+            if (!refresh && changed.isEmpty()) {
+                continue;
+            }
+
+            List<SendablePacket> packets = new ArrayList<>(refresh ? zombiesPlayers.size() : changed.size());
+            if (refresh) {
+                knownViewers.put(owner.getUUID(), Set.copyOf(viewers));
+                metrics.recordRefresh();
+
+                for (ZombiesPlayer scored : zombiesPlayers.values()) {
+                    addScorePacket(tabList, scored, packets);
+                }
+            }
+            else {
+                for (UUID uuid : changed) {
+                    ZombiesPlayer scored = zombiesPlayers.get(uuid);
+                    if (scored != null) {
+                        addScorePacket(tabList, scored, packets);
+                    }
+                }
+            }
+
+            if (packets.isEmpty()) {
+                continue;
+            }
+
+            for (Player viewer : viewers) {
+                viewer.sendPackets(packets);
+                packetCount += packets.size();
+            }
+        }
+
+        if (packetCount > 0) {
+            metrics.recordFlush(packetCount);
+        }
+    }
+
+    /**
+     * Gets the metrics of this updater.
+     *
+     * @return the metrics of this updater
+     */
+    public @NotNull TabListScoreMetrics metrics() {
+        return metrics;
+    }
+
+    private static void addScorePacket(TabList tabList, ZombiesPlayer scored, List<SendablePacket> packets) {
+        scored.getPlayer().ifPresent(player -> packets.add(
+                tabList.getScoreUpdatePacket(player.getUsername(), scored.module().getKills().getKills())));
+    }
+}
@@ -38,15 +38,20 @@ public class ZombiesJoinHelper {
     private void joinInternal(@NotNull Player joiner, @NotNull Collection<PlayerView> playerViews,
             @NotNull Function<ZombiesJoinRequest, ZombiesRouteRequest> routeRequestCreator) {
         ZombiesJoinRequest joinRequest = () -> playerViews;
-        RouteResult<ZombiesScene> result = router.findScene(routeRequestCreator.apply(joinRequest));
-
-        if (result.message().isPresent()) {
-            joiner.sendMessage(result.message().get());
-        }
-        else if (result.scene().isPresent()) {
-            ZombiesScene scene = result.scene().get();
-            transferHelper.transfer(scene, joinRequest, playerViews, viewProvider.fromPlayer(joiner));
-        }
+        router.findSceneAsync(routeRequestCreator.apply(joinRequest)).thenAccept(result -> {
+            //the scene may have been created in the background, in which case the joiner could have left meanwhile
+            if (!joiner.isOnline()) {
+                return;
+            }
+
+            if (result.message().isPresent()) {
+                joiner.sendMessage(result.message().get());
+            }
+            else if (result.scene().isPresent()) {
+                ZombiesScene scene = result.scene().get();
+                transferHelper.transfer(scene, joinRequest, playerViews, viewProvider.fromPlayer(joiner));
+            }
+        });
     }
 
 }
@@ -50,6 +50,9 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
     private final TickTaskScheduler taskScheduler;
     private final ZombiesDatabase database;
     private final EventNode<Event> sceneNode;
+    private final PlayerSceneIndex playerIndex;
+    private final SceneTickMetrics tickMetrics = new SceneTickMetrics();
+    private final TabListScoreMetrics tabListScoreMetrics;
 
     private boolean joinable = true;
 
@@ -58,7 +61,8 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
             @NotNull StageTransition stageTransition, @NotNull LeaveHandler leaveHandler,
             @NotNull Function<? super PlayerView, ? extends ZombiesPlayer> playerCreator,
             @NotNull TickTaskScheduler taskScheduler, @NotNull ZombiesDatabase database,
-            @NotNull EventNode<Event> sceneNode) {
+            @NotNull EventNode<Event> sceneNode, @NotNull PlayerSceneIndex playerIndex,
+            @NotNull TabListScoreMetrics tabListScoreMetrics) {
         super(uuid, instance, fallback);
         this.map = Objects.requireNonNull(map, "map");
         this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
@@ -69,16 +73,30 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
         this.taskScheduler = Objects.requireNonNull(taskScheduler, "taskScheduler");
         this.database = Objects.requireNonNull(database, "database");
         this.sceneNode = Objects.requireNonNull(sceneNode, "sceneNode");
+        this.playerIndex = Objects.requireNonNull(playerIndex, "playerIndex");
+        this.tabListScoreMetrics = Objects.requireNonNull(tabListScoreMetrics, "tabListScoreMetrics");
     }
 
     public @NotNull EventNode<Event> getSceneNode() {
         return sceneNode;
     }
 
+    public @NotNull SceneTickMetrics getTickMetrics() {
+        return tickMetrics;
+    }
+
+    public @NotNull TabListScoreMetrics getTabListScoreMetrics() {
+        return tabListScoreMetrics;
+    }
+
     public @NotNull Map<UUID, ZombiesPlayer> getZombiesPlayers() {
         return Map.copyOf(zombiesPlayers);
     }
 
+    public @NotNull Optional<ZombiesPlayer> getZombiesPlayer(@NotNull UUID uuid) {
+        return Optional.ofNullable(zombiesPlayers.get(uuid));
+    }
+
     public @NotNull MapSettingsInfo getMapSettingsInfo() {
         return mapSettingsInfo;
     }
@@ -173,6 +191,7 @@ public class ZombiesScene extends InstanceScene<ZombiesJoinRequest> {
                         zombiesPlayer.start();
                         zombiesPlayer.setState(ZombiesPlayerStateKeys.ALIVE, NoContext.INSTANCE);
                         zombiesPlayers.put(view.getUUID(), zombiesPlayer);
+                        playerIndex.add(view.getUUID(), this);
                     });
                 });
             }
@@ -21,8 +21,9 @@ import net.minestom.server.event.player.*;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.scoreboard.Team;
 import org.jetbrains.annotations.NotNull;
-import org.phantazm.commons.BasicTickTaskScheduler;
+import org.jetbrains.annotations.Nullable;
 import org.phantazm.commons.TickTaskScheduler;
+import org.phantazm.commons.TimerWheelTickTaskScheduler;
 import org.phantazm.core.ClientBlockHandlerSource;
 import org.phantazm.core.VecUtils;
 import org.phantazm.core.game.scene.SceneProviderAbstract;
@@ -44,6 +45,7 @@ import org.phantazm.proxima.bindings.minestom.InstanceSpawner;
 import org.phantazm.zombies.Attributes;
 import org.phantazm.zombies.corpse.CorpseCreator;
 import org.phantazm.zombies.event.EntityDamageByGunEvent;
+import org.phantazm.zombies.event.PlayerKillsChangeEvent;
 import org.phantazm.zombies.listener.*;
 import org.phantazm.zombies.map.*;
 import org.phantazm.zombies.map.handler.*;
@@ -56,12 +58,15 @@ import org.phantazm.zombies.powerup.BasicPowerupHandlerSource;
 import org.phantazm.zombies.powerup.PowerupHandler;
 import org.phantazm.zombies.powerup.PowerupInfo;
 import org.phantazm.zombies.sidebar.ElementSidebarUpdaterCreator;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 import org.phantazm.zombies.sidebar.SidebarModule;
 import org.phantazm.zombies.sidebar.SidebarUpdater;
+import org.phantazm.zombies.spawn.SpawnBudget;
 import org.phantazm.zombies.stage.*;
 import org.phantazm.stats.zombies.ZombiesDatabase;
 
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +81,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
     private final Team mobNoPushTeam;
     private final Team corpseTeam;
     private final ZombiesDatabase database;
+    private final PlayerSceneIndex playerIndex;
 
     private final MapObjects.Source mapObjectSource;
     private final ZombiesPlayer.Source zombiesPlayerSource;
@@ -86,15 +92,16 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
 
     private final CorpseCreator.Source corpseCreatorSource;
 
-    public ZombiesSceneProvider(int maximumScenes,
+    public ZombiesSceneProvider(int maximumScenes, @Nullable Executor creationExecutor, int warmSceneCount,
             @NotNull Function<? super Instance, ? extends InstanceSpawner.InstanceSettings> instanceSpaceFunction,
             @NotNull MapInfo mapInfo, @NotNull InstanceLoader instanceLoader, @NotNull SceneFallback sceneFallback,
             @NotNull EventNode<Event> rootNode, @NotNull MobSpawnerSource mobSpawnerSource,
             @NotNull Map<Key, MobModel> mobModels, @NotNull ClientBlockHandlerSource clientBlockHandlerSource,
             @NotNull ContextManager contextManager, @NotNull KeyParser keyParser, @NotNull Team mobNoPushTeam,
             @NotNull Team corpseTeam, @NotNull ZombiesDatabase database, @NotNull Map<Key, PowerupInfo> powerups,
-            @NotNull ZombiesPlayer.Source zombiesPlayerSource, @NotNull CorpseCreator.Source corpseCreatorSource) {
-        super(maximumScenes);
+            @NotNull ZombiesPlayer.Source zombiesPlayerSource, @NotNull CorpseCreator.Source corpseCreatorSource,
+            @NotNull PlayerSceneIndex playerIndex, @NotNull SpawnBudget spawnBudget) {
+        super(maximumScenes, creationExecutor, warmSceneCount);
         this.instanceSpaceFunction = Objects.requireNonNull(instanceSpaceFunction, "instanceSpaceFunction");
         this.mapInfo = Objects.requireNonNull(mapInfo, "mapInfo");
         this.instanceLoader = Objects.requireNonNull(instanceLoader, "instanceLoader");
@@ -103,6 +110,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         this.contextManager = Objects.requireNonNull(contextManager, "contextManager");
         this.keyParser = Objects.requireNonNull(keyParser, "keyParser");
         this.database = Objects.requireNonNull(database, "database");
+        this.playerIndex = Objects.requireNonNull(playerIndex, "playerIndex");
         Objects.requireNonNull(powerups, "powerups");
 
         MapSettingsInfo settingsInfo = mapInfo.settings();
@@ -110,7 +118,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         this.corpseTeam = Objects.requireNonNull(corpseTeam, "corpseTeam");
 
         this.mapObjectSource = new BasicMapObjectsSource(mapInfo, contextManager, mobSpawnerSource, mobModels,
-                clientBlockHandlerSource, keyParser);
+                clientBlockHandlerSource, keyParser, spawnBudget);
         this.zombiesPlayerSource = Objects.requireNonNull(zombiesPlayerSource, "zombiesPlayerSource");
         this.powerupHandlerSource =
                 new BasicPowerupHandlerSource(powerups, contextManager, settingsInfo.powerupPickupRadius());
@@ -157,6 +165,39 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
 
     @Override
     protected @NotNull ZombiesScene createScene(@NotNull ZombiesJoinRequest request) {
+        return buildScene();
+    }
+
+    @Override
+    protected @NotNull ZombiesScene createWarmScene() {
+        return buildScene();
+    }
+
+    @Override
+    protected void activateScene(@NotNull ZombiesScene scene) {
+        //buildScene may run on a creation thread, so everything touching server-wide state is deferred until here
+        Instance instance = scene.getInstance();
+        instanceLoader.registerInstance(instance);
+
+        MapObjects mapObjects = scene.getMap().mapObjects();
+        BoundedTracker<Window> windowTracker = mapObjects.windowTracker();
+        InstanceSpawner.InstanceSettings instanceSettings = instanceSpaceFunction.apply(instance);
+        instanceSettings.spaceHandler().space().setOverrideFunction((x, y, z) -> {
+            if (windowTracker.atPoint(x, y, z).isPresent()) {
+                return Solid.EMPTY;
+            }
+
+            return null;
+        });
+
+        for (Door door : mapObjects.doorTracker().items()) {
+            door.initialize();
+        }
+
+        rootNode.addChild(scene.getSceneNode());
+    }
+
+    private ZombiesScene buildScene() {
         Wrapper<RoundHandler> roundHandlerWrapper = Wrapper.ofNull();
         Wrapper<PowerupHandler> powerupHandlerWrapper = Wrapper.ofNull();
         Wrapper<WindowHandler> windowHandlerWrapper = Wrapper.ofNull();
@@ -167,7 +208,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         MapSettingsInfo settings = mapInfo.settings();
         Pos spawnPos = VecUtils.toPos(settings.origin().add(settings.spawn()));
 
-        Instance instance = instanceLoader.loadInstance(settings.instancePath());
+        Instance instance = instanceLoader.copyInstance(settings.instancePath());
 
         instance.setTime(settings.worldTime());
         instance.setTimeRate(0);
@@ -176,7 +217,8 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         Map<UUID, ZombiesPlayer> zombiesPlayers = new LinkedHashMap<>(settings.maxPlayers());
 
         MobStore mobStore = new MobStore();
-        TickTaskScheduler tickTaskScheduler = new BasicTickTaskScheduler();
+        TickTaskScheduler tickTaskScheduler = new TimerWheelTickTaskScheduler();
+        TabListScoreUpdater tabListScoreUpdater = new TabListScoreUpdater(zombiesPlayers);
 
         SongPlayer songPlayer = new BasicSongPlayer();
         MapObjects mapObjects =
@@ -204,18 +246,19 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
 
         SidebarModule sidebarModule =
                 new SidebarModule(zombiesPlayers, zombiesPlayers.values(), roundHandler, ticksSinceStart,
-                        settings.maxPlayers());
+                        settings.maxPlayers(), new SidebarLineCache());
         StageTransition stageTransition =
                 createStageTransition(instance, mapObjects.module().random(), zombiesPlayers.values(), spawnPos,
-                        roundHandler, ticksSinceStart, sidebarModule, shopHandler);
+                        roundHandler, ticksSinceStart, sidebarModule, shopHandler, tabListScoreUpdater);
 
-        LeaveHandler leaveHandler = new LeaveHandler(stageTransition, zombiesPlayers);
+        LeaveHandler leaveHandler = new LeaveHandler(stageTransition, zombiesPlayers,
+                uuid -> playerIndex.remove(uuid, sceneWrapper.get()));
 
 
         EventNode<Event> childNode =
                 createEventNode(instance, zombiesPlayers, mapObjects, roundHandler, shopHandler, windowHandler,
                         doorHandler, mapObjects.roomTracker(), mapObjects.windowTracker(), powerupHandler, mobStore,
-                        leaveHandler);
+                        leaveHandler, tabListScoreUpdater);
         eventNodeWrapper.set(childNode);
 
         CorpseCreator corpseCreator = createCorpseCreator(mapObjects.mapDependencyProvider());
@@ -233,25 +276,16 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         };
 
         ZombiesScene scene = new ZombiesScene(UUID.randomUUID(), map, zombiesPlayers, instance, sceneFallback, settings,
-                stageTransition, leaveHandler, playerCreator, tickTaskScheduler, database, childNode);
+                stageTransition, leaveHandler, playerCreator, tickTaskScheduler, database, childNode, playerIndex,
+                tabListScoreUpdater.metrics());
         sceneWrapper.set(scene);
-        rootNode.addChild(childNode);
-
-        InstanceSpawner.InstanceSettings instanceSettings = instanceSpaceFunction.apply(instance);
-        instanceSettings.spaceHandler().space().setOverrideFunction((x, y, z) -> {
-            if (windowHandler.tracker().atPoint(x, y, z).isPresent()) {
-                return Solid.EMPTY;
-            }
-
-            return null;
-        });
-
         return scene;
     }
 
     @Override
     protected void cleanupScene(@NotNull ZombiesScene scene) {
         rootNode.removeChild(scene.getSceneNode());
+        playerIndex.removeScene(scene);
     }
 
     private CorpseCreator createCorpseCreator(DependencyProvider mapDependencyProvider) {
@@ -289,7 +323,8 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
             @NotNull RoundHandler roundHandler, @NotNull ShopHandler shopHandler, @NotNull WindowHandler windowHandler,
             @NotNull DoorHandler doorHandler, @NotNull BoundedTracker<Room> roomTracker,
             @NotNull BoundedTracker<Window> windowTracker, @NotNull PowerupHandler powerupHandler,
-            @NotNull MobStore mobStore, @NotNull LeaveHandler leaveHandler) {
+            @NotNull MobStore mobStore, @NotNull LeaveHandler leaveHandler,
+            @NotNull TabListScoreUpdater tabListScoreUpdater) {
         EventNode<Event> node = EventNode.all("phantazm_zombies_instance_{" + instance.getUniqueId() + "}");
         MapSettingsInfo settings = mapInfo.settings();
 
@@ -309,6 +344,7 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         node.addListener(PlayerChangeHeldSlotEvent.class, new PlayerItemSelectListener(instance, zombiesPlayers));
         node.addListener(ItemDropEvent.class, new PlayerDropItemListener(instance, zombiesPlayers));
         node.addListener(PlayerDisconnectEvent.class, new PlayerQuitListener(instance, zombiesPlayers, leaveHandler));
+        node.addListener(PlayerKillsChangeEvent.class, event -> tabListScoreUpdater.markDirty(event.getUUID()));
 
         //various forms of clicking
         PlayerRightClickListener rightClickListener = new PlayerRightClickListener();
@@ -343,7 +379,8 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
     private @NotNull StageTransition createStageTransition(@NotNull Instance instance, @NotNull Random random,
             @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers, @NotNull Pos spawnPos,
             @NotNull RoundHandler roundHandler, @NotNull Wrapper<Long> ticksSinceStart,
-            @NotNull SidebarModule sidebarModule, @NotNull ShopHandler shopHandler) {
+            @NotNull SidebarModule sidebarModule, @NotNull ShopHandler shopHandler,
+            @NotNull TabListScoreUpdater tabListScoreUpdater) {
         Stage idle = new IdleStage(zombiesPlayers, newSidebarUpdaterCreator(sidebarModule, ElementPath.of("idle")));
 
         LongList alertTicks = LongList.of(400L, 200L, 100L, 80L, 60L, 40L, 20L);
@@ -356,9 +393,9 @@ public class ZombiesSceneProvider extends SceneProviderAbstract<ZombiesScene, Zo
         Stage inGame = new InGameStage(instance, zombiesPlayers, settings, spawnPos, roundHandler, ticksSinceStart,
                 settings.defaultEquipment(), settings.equipmentGroups().keySet(),
                 newSidebarUpdaterCreator(sidebarModule, ElementPath.of("inGame")), shopHandler,
-                new AnalogTickFormatter(new AnalogTickFormatter.Data(false)));
+                new AnalogTickFormatter(new AnalogTickFormatter.Data(false)), tabListScoreUpdater);
         Stage end = new EndStage(instance, zombiesPlayers, 200L,
-                newSidebarUpdaterCreator(sidebarModule, ElementPath.of("end")));
+                newSidebarUpdaterCreator(sidebarModule, ElementPath.of("end")), tabListScoreUpdater);
         return new StageTransition(idle, countdown, inGame, end);
     }
 
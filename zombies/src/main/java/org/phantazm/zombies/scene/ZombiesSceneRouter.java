@@ -5,31 +5,36 @@ import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.game.scene.RouteResult;
 import org.phantazm.core.game.scene.SceneProvider;
+import org.phantazm.core.game.scene.SceneProviderAbstract;
 import org.phantazm.core.game.scene.SceneRouter;
 import org.phantazm.zombies.player.ZombiesPlayer;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class ZombiesSceneRouter implements SceneRouter<ZombiesScene, ZombiesRouteRequest> {
-    private final Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders;
+    private final Map<Key, ? extends SceneProviderAbstract<ZombiesScene, ZombiesJoinRequest>> sceneProviders;
+    private final ZombiesSceneTicker sceneTicker;
+    private final PlayerSceneIndex playerIndex;
 
     private boolean shutdown = false;
     private boolean joinable = true;
 
     public ZombiesSceneRouter(
-            @NotNull Map<Key, ? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> sceneProviders) {
+            @NotNull Map<Key, ? extends SceneProviderAbstract<ZombiesScene, ZombiesJoinRequest>> sceneProviders,
+            @NotNull ZombiesSceneTicker sceneTicker, @NotNull PlayerSceneIndex playerIndex) {
         this.sceneProviders = Objects.requireNonNull(sceneProviders, "sceneProviders");
+        this.sceneTicker = Objects.requireNonNull(sceneTicker, "sceneTicker");
+        this.playerIndex = Objects.requireNonNull(playerIndex, "playerIndex");
     }
 
     @Override
     public @NotNull Optional<ZombiesScene> getCurrentScene(@NotNull UUID uuid) {
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            for (ZombiesScene scene : sceneProvider.getScenes()) {
-                ZombiesPlayer player = scene.getZombiesPlayers().get(uuid);
+        for (ZombiesScene scene : playerIndex.scenesFor(uuid)) {
+            Optional<ZombiesPlayer> player = scene.getZombiesPlayer(uuid);
 
-                if (player != null && !player.hasQuit()) {
-                    return Optional.of(scene);
-                }
+            if (player.isPresent() && !player.get().hasQuit()) {
+                return Optional.of(scene);
             }
         }
 
@@ -38,23 +43,26 @@ public class ZombiesSceneRouter implements SceneRouter<ZombiesScene, ZombiesRout
 
     @Override
     public @NotNull Collection<ZombiesScene> getScenesContainingPlayer(@NotNull UUID playerUUID) {
-        Collection<ZombiesScene> scenes = new ArrayList<>();
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            for (ZombiesScene scene : sceneProvider.getScenes()) {
-                if (scene.getZombiesPlayers().containsKey(playerUUID)) {
-                    scenes.add(scene);
-                }
-            }
-        }
+        return List.of(playerIndex.scenesFor(playerUUID));
+    }
 
-        return scenes;
+    /**
+     * Compares the player index used by {@link #getCurrentScene(UUID)} and {@link #getScenesContainingPlayer(UUID)}
+     * with the actual members of every scene.
+     *
+     * @return a list of human-readable inconsistencies, empty if there are none
+     */
+    public @NotNull List<String> checkPlayerIndex() {
+        return playerIndex.findInconsistencies(getScenes());
     }
 
     @Override
     public void tick(long time) {
-        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
-            sceneProvider.tick(time);
+        for (SceneProviderAbstract<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
+            sceneProvider.prepareTick(time);
         }
+
+        sceneTicker.tick(sceneProviders.values(), time);
     }
 
     @Override
@@ -73,6 +81,24 @@ public class ZombiesSceneRouter implements SceneRouter<ZombiesScene, ZombiesRout
         return rejoinGame(routeRequest);
     }
 
+    @Override
+    public @NotNull CompletableFuture<RouteResult<ZombiesScene>> findSceneAsync(
+            @NotNull ZombiesRouteRequest routeRequest) {
+        if (isShutdown() || !isJoinable() || routeRequest.targetMap() == null) {
+            return CompletableFuture.completedFuture(findScene(routeRequest));
+        }
+
+        SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider = sceneProviders.get(routeRequest.targetMap());
+        if (sceneProvider == null) {
+            return CompletableFuture.completedFuture(
+                    RouteResult.failure(Component.text("No games exist with key " + routeRequest.targetMap() + ".")));
+        }
+
+        return sceneProvider.provideSceneAsync(routeRequest.joinRequest()).thenApply(
+                scene -> scene.map(RouteResult::success)
+                        .orElseGet(() -> RouteResult.failure(Component.text("No games are joinable."))));
+    }
+
     private RouteResult<ZombiesScene> joinGame(ZombiesRouteRequest routeRequest) {
         SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider = sceneProviders.get(routeRequest.targetMap());
         if (sceneProvider == null) {
@@ -84,9 +110,11 @@ public class ZombiesSceneRouter implements SceneRouter<ZombiesScene, ZombiesRout
     }
 
     private RouteResult<ZombiesScene> rejoinGame(ZombiesRouteRequest routeRequest) {
-        for (ZombiesScene scene : getScenes()) {
-            if (scene.getUUID().equals(routeRequest.targetGame())) {
-                return RouteResult.success(scene);
+        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
+            for (ZombiesScene scene : sceneProvider.getScenes()) {
+                if (scene.getUUID().equals(routeRequest.targetGame())) {
+                    return RouteResult.success(scene);
+                }
             }
         }
 
@@ -118,9 +146,20 @@ public class ZombiesSceneRouter implements SceneRouter<ZombiesScene, ZombiesRout
         return true;
     }
 
+    /**
+     * Gets every scene of every provider, copied into a new collection. Code which runs every tick should iterate the
+     * providers' own scene views instead.
+     *
+     * @return a new collection containing every scene
+     */
     @Override
     public @NotNull Collection<ZombiesScene> getScenes() {
-        Collection<ZombiesScene> scenes = new ArrayList<>();
+        int size = 0;
+        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
+            size += sceneProvider.getScenes().size();
+        }
+
+        Collection<ZombiesScene> scenes = new ArrayList<>(size);
         for (SceneProvider<ZombiesScene, ZombiesJoinRequest> sceneProvider : sceneProviders.values()) {
             scenes.addAll(sceneProvider.getScenes());
         }
@@ -0,0 +1,135 @@
+package org.phantazm.zombies.scene;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.core.game.scene.SceneProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticks every {@link ZombiesScene} of a set of providers, either sequentially on the calling thread or in parallel on
+ * a {@link ForkJoinPool}. In parallel mode, {@link #tick(Collection, long)} does not return until every scene has
+ * finished ticking.
+ * <p>
+ * Parallel mode is experimental and off by default. Each scene has its own instance, mob store and task scheduler,
+ * but scenes are not fully isolated. While ticking they still use global state that has not been shown to be
+ * thread-safe:
+ * <ul>
+ *     <li>the global {@link net.minestom.server.event.EventDispatcher} and {@link net.minestom.server.MinecraftServer}
+ *     managers</li>
+ *     <li>static stats and metrics</li>
+ *     <li>element contexts shared by every scene of a map</li>
+ * </ul>
+ * Parallel mode should therefore only be enabled for testing until each of these is confined to the scene or
+ * documented as thread-safe. Shutting down sends players to other scenes through the fallback, so finished scenes are
+ * always shut down on the calling thread before any scene is ticked.
+ * <p>
+ * The time each scene takes to tick is recorded in its {@link SceneTickMetrics}. A warning is logged if a scene takes
+ * longer than the configured budget, at most once every few seconds per scene.
+ */
+public class ZombiesSceneTicker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZombiesSceneTicker.class);
+
+    private static final long WARNING_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    private final ForkJoinPool pool;
+    private final long tickBudget;
+
+    private final List<ZombiesScene> sceneBuffer = new ArrayList<>();
+    private final List<ForkJoinTask<?>> taskBuffer = new ArrayList<>();
+
+    /**
+     * Creates a new ticker.
+     *
+     * @param pool       the pool used to tick scenes in parallel (see the class documentation for why this is unsafe),
+     *                   or {@code null} to tick them sequentially
+     * @param tickBudget the maximum time a single scene should take to tick, in nanoseconds, or 0 to disable warnings
+     */
+    public ZombiesSceneTicker(@Nullable ForkJoinPool pool, long tickBudget) {
+        this.pool = pool;
+        this.tickBudget = tickBudget;
+    }
+
+    /**
+     * Creates a new ticker which ticks scenes sequentially and does not log slow scenes.
+     */
+    public ZombiesSceneTicker() {
+        this(null, 0);
+    }
+
+    /**
+     * Ticks the scenes of all given providers. Must be called from the tick thread.
+     *
+     * @param providers the providers whose scenes should be ticked
+     * @param time      the current time
+     */
+    public void tick(@NotNull Collection<? extends SceneProvider<ZombiesScene, ZombiesJoinRequest>> providers,
+            long time) {
+        for (SceneProvider<ZombiesScene, ZombiesJoinRequest> provider : providers) {
+            for (ZombiesScene scene : provider.getScenes()) {
+                if (scene.isShutdown()) {
+                    continue;
+                }
+
+                if (scene.isComplete()) {
+                    scene.shutdown();
+                    continue;
+                }
+
+                sceneBuffer.add(scene);
+            }
+        }
+
+        try {
+            if (pool == null || sceneBuffer.size() < 2) {
+                for (ZombiesScene scene : sceneBuffer) {
+                    tickScene(scene, time);
+                }
+
+                return;
+            }
+
+            for (ZombiesScene scene : sceneBuffer) {
+                taskBuffer.add(pool.submit(() -> tickScene(scene, time)));
+            }
+
+            for (ForkJoinTask<?> task : taskBuffer) {
+                task.join();
+            }
+        }
+        finally {
+            sceneBuffer.clear();
+            taskBuffer.clear();
+        }
+    }
+
+    private void tickScene(ZombiesScene scene, long time) {
+        long start = System.nanoTime();
+        try {
+            scene.tick(time);
+        }
+        catch (Exception e) {
+            LOGGER.warn("Exception when ticking scene {}", scene.getUUID(), e);
+        }
+
+        long end = System.nanoTime();
+        long elapsed = end - start;
+        boolean overBudget = tickBudget > 0 && elapsed > tickBudget;
+
+        SceneTickMetrics metrics = scene.getTickMetrics();
+        metrics.record(elapsed, overBudget);
+
+        if (overBudget && metrics.shouldWarn(end, WARNING_INTERVAL)) {
+            LOGGER.warn("Scene {} on map {} took {} ms to tick (budget {} ms, {} ticks over budget so far)",
+                    scene.getUUID(), scene.getMapSettingsInfo().id(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    TimeUnit.NANOSECONDS.toMillis(tickBudget), metrics.overBudgetCount());
+        }
+    }
+}
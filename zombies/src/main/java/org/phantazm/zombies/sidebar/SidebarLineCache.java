@@ -0,0 +1,120 @@
+package org.phantazm.zombies.sidebar;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.NotNull;
+import org.phantazm.core.ComponentUtils;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Scene-wide cache shared by the sidebars of every player in a scene.
+ * <p>
+ * {@link SidebarLineCache#shared(Object, long, Supplier)} computes a line at most once per tick, no matter how many
+ * sidebars display it. {@link SidebarLineCache#format(String, Object...)} and
+ * {@link SidebarLineCache#deserialize(String)} memoize MiniMessage parsing on the final string, so a line that reads
+ * the same on consecutive ticks, or on several sidebars, is only parsed once and yields the same {@link Component}
+ * instance.
+ * <p>
+ * This class is not thread-safe; it must only be used from the scene's tick thread.
+ */
+public class SidebarLineCache {
+    /**
+     * The default number of parsed lines to retain.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<String, Component> parsedLines;
+    private final Map<Object, SharedLine> sharedLines;
+
+    /**
+     * Creates a new cache retaining up to {@link SidebarLineCache#DEFAULT_CAPACITY} parsed lines.
+     */
+    public SidebarLineCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity the number of parsed lines to retain; the least recently used line is evicted first
+     */
+    public SidebarLineCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.parsedLines = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.sharedLines = new HashMap<>();
+    }
+
+    /**
+     * Formats the given arguments using {@link ComponentUtils#tryFormatString(String, Object...)} and deserializes the
+     * result as MiniMessage.
+     *
+     * @param formatString the format string
+     * @param args         the format arguments
+     * @return the formatted line, which is the same instance for equal formatted strings as long as it stays cached
+     */
+    public @NotNull Component format(@NotNull String formatString, Object... args) {
+        return deserialize(ComponentUtils.tryFormatString(formatString, args));
+    }
+
+    /**
+     * Deserializes the given MiniMessage string, reusing the result of an earlier call with the same string.
+     *
+     * @param message the MiniMessage string
+     * @return the deserialized line
+     */
+    public @NotNull Component deserialize(@NotNull String message) {
+        Objects.requireNonNull(message, "message");
+
+        Component line = parsedLines.get(message);
+        if (line == null) {
+            line = MiniMessage.miniMessage().deserialize(message);
+            parsedLines.put(message, line);
+        }
+
+        return line;
+    }
+
+    /**
+     * Gets the line identified by {@code key} for the given tick, computing it if it was not already computed for this
+     * tick. Keys should be value-based, such as the data record of a line updater, so that every sidebar configured
+     * with the same line shares its computation.
+     *
+     * @param key  the key identifying the line
+     * @param time the tick time
+     * @param line computes the line; called at most once per key and tick
+     * @return the line
+     */
+    public @NotNull Component shared(@NotNull Object key, long time, @NotNull Supplier<? extends Component> line) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(line, "line");
+
+        SharedLine sharedLine = sharedLines.get(key);
+        if (sharedLine == null) {
+            sharedLine = new SharedLine();
+            sharedLines.put(key, sharedLine);
+        }
+        else if (sharedLine.time == time && sharedLine.line != null) {
+            return sharedLine.line;
+        }
+
+        Component computed = Objects.requireNonNull(line.get(), "computed line");
+        sharedLine.time = time;
+        sharedLine.line = computed;
+        return computed;
+    }
+
+    private static final class SharedLine {
+        private long time;
+        private Component line;
+    }
+}
@@ -28,14 +28,17 @@ public class SidebarModule implements DependencyModule {
 
     private final int maxPlayers;
 
+    private final SidebarLineCache lineCache;
+
     public SidebarModule(@NotNull Map<? super UUID, ? extends ZombiesPlayer> playerMap,
             @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers, @NotNull RoundHandler roundHandler,
-            @NotNull Wrapper<Long> ticksSinceStart, int maxPlayers) {
+            @NotNull Wrapper<Long> ticksSinceStart, int maxPlayers, @NotNull SidebarLineCache lineCache) {
         this.playerMap = Objects.requireNonNull(playerMap, "playerMap");
         this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
         this.roundHandler = Objects.requireNonNull(roundHandler, "roundHandler");
         this.ticksSinceStart = Objects.requireNonNull(ticksSinceStart, "ticksSinceStart");
         this.maxPlayers = maxPlayers;
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     public @NotNull Map<? super UUID, ? extends ZombiesPlayer> getZombiesPlayerMap() {
@@ -58,4 +61,8 @@ public class SidebarModule implements DependencyModule {
         return maxPlayers;
     }
 
+    public @NotNull SidebarLineCache getLineCache() {
+        return lineCache;
+    }
+
 }
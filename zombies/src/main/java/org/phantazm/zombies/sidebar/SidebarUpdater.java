@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.commons.Activable;
 import org.phantazm.zombies.sidebar.section.SidebarSection;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -19,6 +20,7 @@ public class SidebarUpdater implements Activable {
     private final Sidebar sidebar;
     private final List<SidebarSection> sections;
     private final int[] sizes;
+    private final Component[] sentLines;
     private int totalSize = 0;
 
     @FactoryMethod
@@ -26,6 +28,7 @@ public class SidebarUpdater implements Activable {
         this.sidebar = Objects.requireNonNull(sidebar, "sidebar");
         this.sections = List.copyOf(sections);
         this.sizes = new int[sections.size()];
+        this.sentLines = new Component[MAX_SIDEBAR_ROWS];
     }
 
     @Override
@@ -43,6 +46,7 @@ public class SidebarUpdater implements Activable {
         int clampedSize = Math.min(totalSize, MAX_SIDEBAR_ROWS);
         for (int i = 0; i < clampedSize; i++) {
             sidebar.createLine(new Sidebar.ScoreboardLine(lineId(i), Component.empty(), clampedSize - i - 1));
+            sentLines[i] = Component.empty();
         }
     }
 
@@ -58,11 +62,14 @@ public class SidebarUpdater implements Activable {
                     return;
                 }
 
-                int finalIndex = index;
-                line.ifPresent(newLine -> {
-                    String lineId = lineId(finalIndex);
-                    sidebar.updateLineContent(lineId, newLine);
-                });
+                //line updaters may report a line as changed when it renders the same, so only send actual changes
+                if (line.isPresent()) {
+                    Component newLine = line.get();
+                    if (!newLine.equals(sentLines[index])) {
+                        sentLines[index] = newLine;
+                        sidebar.updateLineContent(lineId(index), newLine);
+                    }
+                }
 
                 ++index;
             }
@@ -74,6 +81,8 @@ public class SidebarUpdater implements Activable {
         for (Sidebar.ScoreboardLine line : sidebar.getLines()) {
             sidebar.removeLine(line.getId());
         }
+
+        Arrays.fill(sentLines, null);
     }
 
     private void refreshSections() {
@@ -101,11 +110,13 @@ public class SidebarUpdater implements Activable {
                 }
                 for (int i = oldClampedSize; i < newClampedSize; ++i) {
                     sidebar.createLine(new Sidebar.ScoreboardLine(lineId(i), Component.empty(), newClampedSize - i));
+                    sentLines[i] = Component.empty();
                 }
             }
             else if (oldClampedSize > newClampedSize) {
                 for (int i = oldClampedSize - 1; i >= newClampedSize; i--) {
                     sidebar.removeLine(lineId(i));
+                    sentLines[i] = null;
                 }
             }
 
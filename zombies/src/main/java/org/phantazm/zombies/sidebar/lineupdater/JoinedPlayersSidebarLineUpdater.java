@@ -5,9 +5,9 @@ import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.player.ZombiesPlayer;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 
 import java.util.*;
 
@@ -20,35 +20,32 @@ public class JoinedPlayersSidebarLineUpdater implements SidebarLineUpdater {
 
     private final int maxPlayers;
 
-    private int currentPlayers = -1;
+    private final SidebarLineCache lineCache;
+
+    private Component lastLine;
 
     @FactoryMethod
     public JoinedPlayersSidebarLineUpdater(@NotNull Data data,
-            @NotNull Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers, int maxPlayers) {
+            @NotNull Map<? super UUID, ? extends ZombiesPlayer> zombiesPlayers, int maxPlayers,
+            @NotNull SidebarLineCache lineCache) {
         this.data = data;
         this.zombiesPlayers = zombiesPlayers.values();
         this.maxPlayers = maxPlayers;
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     @Override
     public void invalidateCache() {
-        currentPlayers = -1;
+        lastLine = null;
     }
 
     @Override
     public @NotNull Optional<Component> tick(long time) {
-        if (currentPlayers == -1 || currentPlayers != zombiesPlayers.size()) {
-            currentPlayers = zombiesPlayers.size();
-
-            String formatted;
-            try {
-                formatted = String.format(data.formatString, currentPlayers, maxPlayers);
-            }
-            catch (IllegalFormatException ignored) {
-                formatted = data.formatString;
-            }
-
-            return Optional.of(MiniMessage.miniMessage().deserialize(formatted));
+        Component line = lineCache.shared(data, time,
+                () -> lineCache.format(data.formatString, zombiesPlayers.size(), maxPlayers));
+        if (line != lastLine) {
+            lastLine = line;
+            return Optional.of(line);
         }
 
         return Optional.empty();
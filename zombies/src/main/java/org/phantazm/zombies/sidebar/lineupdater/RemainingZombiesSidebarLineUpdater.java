@@ -4,10 +4,10 @@ import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.map.Round;
 import org.phantazm.zombies.map.handler.RoundHandler;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -17,26 +17,30 @@ import java.util.function.Supplier;
 public class RemainingZombiesSidebarLineUpdater implements SidebarLineUpdater {
     private final Data data;
     private final Supplier<Optional<Round>> roundSupplier;
-    private int lastRemainingZombies = -1;
+    private final SidebarLineCache lineCache;
+    private Component lastLine;
 
     @FactoryMethod
-    public RemainingZombiesSidebarLineUpdater(@NotNull Data data, @NotNull RoundHandler roundHandler) {
+    public RemainingZombiesSidebarLineUpdater(@NotNull Data data, @NotNull RoundHandler roundHandler,
+            @NotNull SidebarLineCache lineCache) {
         this.data = Objects.requireNonNull(data, "data");
         this.roundSupplier = Objects.requireNonNull(roundHandler::currentRound, "roundSupplier");
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     @Override
     public void invalidateCache() {
-        lastRemainingZombies = -1;
+        lastLine = null;
     }
 
     @Override
     public @NotNull Optional<Component> tick(long time) {
         return roundSupplier.get().map((Round round) -> {
-            int totalMobCount = round.getTotalMobCount();
-            if ((lastRemainingZombies == -1 || lastRemainingZombies != totalMobCount)) {
-                lastRemainingZombies = totalMobCount;
-                return MiniMessage.miniMessage().deserialize(String.format(data.formatString, lastRemainingZombies));
+            Component line =
+                    lineCache.shared(data, time, () -> lineCache.format(data.formatString, round.getTotalMobCount()));
+            if (line != lastLine) {
+                lastLine = line;
+                return line;
             }
 
             return null;
@@ -4,9 +4,9 @@ import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.map.handler.RoundHandler;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -18,26 +18,35 @@ public class RoundSidebarLineUpdater implements SidebarLineUpdater {
 
     private final RoundHandler roundHandler;
 
-    private int lastRoundIndex = -1;
+    private final SidebarLineCache lineCache;
+
+    private Component lastLine;
 
     @FactoryMethod
-    public RoundSidebarLineUpdater(@NotNull Data data, @NotNull RoundHandler roundHandler) {
+    public RoundSidebarLineUpdater(@NotNull Data data, @NotNull RoundHandler roundHandler,
+            @NotNull SidebarLineCache lineCache) {
         this.data = Objects.requireNonNull(data, "data");
         this.roundHandler = Objects.requireNonNull(roundHandler, "roundHandler");
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     @Override
     public void invalidateCache() {
-        lastRoundIndex = -1;
+        lastLine = null;
     }
 
     @Override
     public @NotNull Optional<Component> tick(long time) {
         int newIndex = roundHandler.currentRoundIndex();
-        if ((lastRoundIndex == -1 || lastRoundIndex != newIndex) && newIndex != -1) {
-            lastRoundIndex = newIndex;
-            return Optional.of(MiniMessage.miniMessage().deserialize(
-                    String.format(data.formatString, Math.min(lastRoundIndex + 1, roundHandler.roundCount()))));
+        if (newIndex == -1) {
+            return Optional.empty();
+        }
+
+        Component line = lineCache.shared(data, time,
+                () -> lineCache.format(data.formatString, Math.min(newIndex + 1, roundHandler.roundCount())));
+        if (line != lastLine) {
+            lastLine = line;
+            return Optional.of(line);
         }
 
         return Optional.empty();
@@ -4,8 +4,8 @@ import com.github.steanky.element.core.annotation.*;
 import com.github.steanky.toolkit.collection.Wrapper;
 import net.kyori.adventure.text.Component;
 import org.jetbrains.annotations.NotNull;
-import org.phantazm.core.ComponentUtils;
 import org.phantazm.core.time.TickFormatter;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -16,28 +16,31 @@ public class TicksLineUpdater implements SidebarLineUpdater {
     private final Data data;
     private final Wrapper<Long> ticksWrapper;
     private final TickFormatter tickFormatter;
-    private long lastTicks = -1;
+    private final SidebarLineCache lineCache;
+    private Component lastLine;
 
     @FactoryMethod
     public TicksLineUpdater(@NotNull Data data, @NotNull Wrapper<Long> ticksWrapper,
-            @NotNull @Child("tick_formatter") TickFormatter tickFormatter) {
+            @NotNull @Child("tick_formatter") TickFormatter tickFormatter, @NotNull SidebarLineCache lineCache) {
         this.data = Objects.requireNonNull(data, "data");
         this.ticksWrapper = Objects.requireNonNull(ticksWrapper, "ticksWrapper");
         this.tickFormatter = Objects.requireNonNull(tickFormatter, "tickFormatter");
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     @Override
     public void invalidateCache() {
-        lastTicks = -1;
+        lastLine = null;
     }
 
     @Override
     public @NotNull Optional<Component> tick(long time) {
-        if (lastTicks == -1 || lastTicks != ticksWrapper.get()) {
-            lastTicks = ticksWrapper.get();
-
-
-            return Optional.of(ComponentUtils.tryFormat(data.formatString, tickFormatter.format(ticksWrapper.get())));
+        //the formatted time usually stays the same for many ticks, in which case the cached line is returned
+        Component line = lineCache.shared(data, time,
+                () -> lineCache.format(data.formatString, tickFormatter.format(ticksWrapper.get())));
+        if (line != lastLine) {
+            lastLine = line;
+            return Optional.of(line);
         }
 
         return Optional.empty();
@@ -5,12 +5,12 @@ import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.core.player.PlayerView;
 import org.phantazm.zombies.coin.PlayerCoins;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.player.ZombiesPlayerModule;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 import org.phantazm.zombies.sidebar.lineupdater.SidebarLineUpdater;
 
 import java.util.Objects;
@@ -21,20 +21,23 @@ import java.util.concurrent.CompletableFuture;
 @Cache(false)
 public class CoinsUpdaterCreator implements PlayerUpdaterCreator {
     private final Data data;
+    private final SidebarLineCache lineCache;
 
     @FactoryMethod
-    public CoinsUpdaterCreator(@NotNull Data data) {
+    public CoinsUpdaterCreator(@NotNull Data data, @NotNull SidebarLineCache lineCache) {
         this.data = Objects.requireNonNull(data, "data");
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     @Override
     public @NotNull SidebarLineUpdater forPlayer(@NotNull ZombiesPlayer zombiesPlayer) {
         ZombiesPlayerModule module = zombiesPlayer.module();
-        return new Updater(data, module.getPlayerView(), module.getCoins());
+        return new Updater(data, lineCache, module.getPlayerView(), module.getCoins());
     }
 
     private static class Updater implements SidebarLineUpdater {
         private final Data data;
+        private final SidebarLineCache lineCache;
         private final PlayerView playerView;
         private final PlayerCoins coins;
 
@@ -42,8 +45,10 @@ public class CoinsUpdaterCreator implements PlayerUpdaterCreator {
         private int lastCoins;
         private boolean cacheInvalidated;
 
-        private Updater(@NotNull Data data, @NotNull PlayerView playerView, @NotNull PlayerCoins coins) {
+        private Updater(@NotNull Data data, @NotNull SidebarLineCache lineCache, @NotNull PlayerView playerView,
+                @NotNull PlayerCoins coins) {
             this.data = Objects.requireNonNull(data, "data");
+            this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
             this.playerView = Objects.requireNonNull(playerView, "playerView");
             this.coins = Objects.requireNonNull(coins, "coins");
             this.cacheInvalidated = true;
@@ -75,8 +80,7 @@ public class CoinsUpdaterCreator implements PlayerUpdaterCreator {
                 lastCoins = newCoins;
                 cacheInvalidated = false;
 
-                return Optional.of(
-                        MiniMessage.miniMessage().deserialize(String.format(data.formatString, playerName, newCoins)));
+                return Optional.of(lineCache.format(data.formatString, playerName, newCoins));
             }
 
             return Optional.empty();
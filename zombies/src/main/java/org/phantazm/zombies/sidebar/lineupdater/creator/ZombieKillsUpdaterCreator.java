@@ -5,10 +5,10 @@ import com.github.steanky.element.core.annotation.DataObject;
 import com.github.steanky.element.core.annotation.FactoryMethod;
 import com.github.steanky.element.core.annotation.Model;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.kill.PlayerKills;
 import org.phantazm.zombies.player.ZombiesPlayer;
+import org.phantazm.zombies.sidebar.SidebarLineCache;
 import org.phantazm.zombies.sidebar.lineupdater.SidebarLineUpdater;
 
 import java.util.Objects;
@@ -18,25 +18,29 @@ import java.util.Optional;
 @Cache(false)
 public class ZombieKillsUpdaterCreator implements PlayerUpdaterCreator {
     private final Data data;
+    private final SidebarLineCache lineCache;
 
     @FactoryMethod
-    public ZombieKillsUpdaterCreator(@NotNull Data data) {
+    public ZombieKillsUpdaterCreator(@NotNull Data data, @NotNull SidebarLineCache lineCache) {
         this.data = Objects.requireNonNull(data, "data");
+        this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
     }
 
     @Override
     public @NotNull SidebarLineUpdater forPlayer(@NotNull ZombiesPlayer zombiesPlayer) {
-        return new Updater(data, zombiesPlayer.module().getKills());
+        return new Updater(data, lineCache, zombiesPlayer.module().getKills());
     }
 
     private static class Updater implements SidebarLineUpdater {
         private final Data data;
+        private final SidebarLineCache lineCache;
         private final PlayerKills playerKills;
 
         private int killCount = -1;
 
-        public Updater(@NotNull Data data, @NotNull PlayerKills playerKills) {
+        public Updater(@NotNull Data data, @NotNull SidebarLineCache lineCache, @NotNull PlayerKills playerKills) {
             this.data = Objects.requireNonNull(data, "data");
+            this.lineCache = Objects.requireNonNull(lineCache, "lineCache");
             this.playerKills = Objects.requireNonNull(playerKills, "playerKills");
         }
 
@@ -49,7 +53,7 @@ public class ZombieKillsUpdaterCreator implements PlayerUpdaterCreator {
         public @NotNull Optional<Component> tick(long time) {
             if (killCount == -1 || killCount != playerKills.getKills()) {
                 killCount = playerKills.getKills();
-                return Optional.of(MiniMessage.miniMessage().deserialize(String.format(data.formatString, killCount)));
+                return Optional.of(lineCache.format(data.formatString, killCount));
             }
 
             return Optional.empty();
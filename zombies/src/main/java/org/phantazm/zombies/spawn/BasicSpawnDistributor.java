@@ -1,7 +1,9 @@
 package org.phantazm.zombies.spawn;
 
 import it.unimi.dsi.fastutil.Pair;
+import it.unimi.dsi.fastutil.ints.IntArrays;
 import net.kyori.adventure.key.Key;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Player;
 import net.minestom.server.scoreboard.Team;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +22,23 @@ import java.util.function.Function;
 public class BasicSpawnDistributor implements SpawnDistributor {
     private static final Logger LOGGER = LoggerFactory.getLogger(BasicSpawnDistributor.class);
 
+    private static final SpawnBatch EMPTY_BATCH = new SpawnBatch() {
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return false;
+        }
+
+        @Override
+        public @Nullable PhantazmMob spawnNext() {
+            throw new NoSuchElementException();
+        }
+    };
+
     private final Function<? super Key, ? extends MobModel> modelFunction;
     private final Random random;
 
@@ -37,13 +56,16 @@ public class BasicSpawnDistributor implements SpawnDistributor {
     }
 
     @Override
-    public @NotNull List<PhantazmMob> distributeSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
+    public @NotNull SpawnBatch prepareSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
             @NotNull Collection<? extends SpawnInfo> spawns) {
         if (spawnpoints.isEmpty()) {
-            return new ArrayList<>(0);
+            return EMPTY_BATCH;
         }
 
-        List<Pair<MobModel, Key>> spawnList = new ArrayList<>(spawns.size());
+        Spawnpoint[] sortedSpawnpoints = sortCandidates(spawnpoints);
+
+        Map<Pair<MobModel, Key>, BitSet> allowedSpawnpoints = new HashMap<>();
+        List<SpawnEntry> spawnList = new ArrayList<>(spawns.size());
         for (SpawnInfo spawnInfo : spawns) {
             Key id = spawnInfo.id();
             MobModel model = modelFunction.apply(id);
@@ -52,78 +74,142 @@ public class BasicSpawnDistributor implements SpawnDistributor {
                 continue;
             }
 
+            Key spawnType = spawnInfo.spawnType();
+            BitSet allowed = allowedSpawnpoints.computeIfAbsent(Pair.of(model, spawnType), ignored -> {
+                BitSet bitSet = new BitSet(sortedSpawnpoints.length);
+                for (int i = 0; i < sortedSpawnpoints.length; i++) {
+                    if (sortedSpawnpoints[i].allowsModel(model, spawnType)) {
+                        bitSet.set(i);
+                    }
+                }
+
+                return bitSet;
+            });
+
             for (int i = 0; i < spawnInfo.amount(); i++) {
-                spawnList.add(Pair.of(model, spawnInfo.spawnType()));
+                spawnList.add(new SpawnEntry(model, spawnType, allowed));
             }
         }
 
         if (spawnList.isEmpty()) {
             LOGGER.warn("Received empty spawn list");
-            return List.of();
+            return EMPTY_BATCH;
         }
 
-        List<Spawnpoint> sortedSpawnpoints = new ArrayList<>(spawnpoints.size());
+        Collections.shuffle(spawnList, random);
+        return new Batch(spawnList, sortedSpawnpoints);
+    }
+
+    /**
+     * Finds the spawnpoints which can currently spawn mobs, sorted by their distance to the closest player. Player
+     * positions are looked up once, and each spawnpoint's distances are computed once rather than once per comparison.
+     */
+    private Spawnpoint[] sortCandidates(List<? extends Spawnpoint> spawnpoints) {
+        List<Point> playerPositions = new ArrayList<>(zombiesPlayers.size());
+        List<Point> slaPositions = new ArrayList<>(zombiesPlayers.size());
+        for (ZombiesPlayer zombiesPlayer : zombiesPlayers) {
+            Optional<Player> playerOptional = zombiesPlayer.getPlayer();
+            if (playerOptional.isPresent()) {
+                Point position = playerOptional.get().getPosition();
+                playerPositions.add(position);
+
+                if (zombiesPlayer.canTriggerSLA()) {
+                    slaPositions.add(position);
+                }
+            }
+        }
+
+        Spawnpoint[] candidates = new Spawnpoint[spawnpoints.size()];
+        double[] closest = new double[candidates.length];
+        int candidateCount = 0;
         for (Spawnpoint spawnpoint : spawnpoints) {
-            if (spawnpoint.canSpawnAny(zombiesPlayers)) {
-                sortedSpawnpoints.add(spawnpoint);
+            Point point = spawnpoint.spawnPoint();
+            if (spawnpoint.canSpawnAny(closestDistanceSquared(point, slaPositions))) {
+                closest[candidateCount] = closestDistanceSquared(point, playerPositions);
+                candidates[candidateCount++] = spawnpoint;
             }
         }
 
-        sortedSpawnpoints.sort((first, second) -> {
-            double firstClosest = Double.POSITIVE_INFINITY;
-            double secondClosest = Double.POSITIVE_INFINITY;
-            for (ZombiesPlayer zombiesPlayer : zombiesPlayers) {
-                Optional<Player> playerOptional = zombiesPlayer.getPlayer();
-                if (playerOptional.isPresent()) {
-                    Player player = playerOptional.get();
+        int[] order = new int[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            order[i] = i;
+        }
 
-                    double firstDistance = player.getDistance(first.spawnPoint());
-                    double secondDistance = player.getDistance(second.spawnPoint());
+        IntArrays.quickSort(order, (first, second) -> Double.compare(closest[first], closest[second]));
 
-                    if (firstDistance < firstClosest) {
-                        firstClosest = firstDistance;
-                    }
+        Spawnpoint[] sortedSpawnpoints = new Spawnpoint[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            sortedSpawnpoints[i] = candidates[order[i]];
+        }
 
-                    if (secondDistance < secondClosest) {
-                        secondClosest = secondDistance;
-                    }
-                }
+        return sortedSpawnpoints;
+    }
+
+    private static double closestDistanceSquared(Point point, List<Point> positions) {
+        double closest = Double.POSITIVE_INFINITY;
+        for (Point position : positions) {
+            double distanceSquared = position.distanceSquared(point);
+            if (distanceSquared < closest) {
+                closest = distanceSquared;
             }
+        }
 
-            return Double.compare(firstClosest, secondClosest);
-        });
+        return closest;
+    }
 
-        Collections.shuffle(spawnList, random);
+    private record SpawnEntry(MobModel model, Key spawnType, BitSet allowedSpawnpoints) {
+    }
 
-        List<PhantazmMob> spawnedMobs = new ArrayList<>(spawnList.size());
-        int candidateIndex = 0;
-        for (int i = spawnList.size() - 1; i >= 0; i--) {
-            Pair<MobModel, Key> spawnEntry = spawnList.get(i);
-            MobModel model = spawnEntry.first();
-            Key spawnType = spawnEntry.second();
-
-            boolean spawned = false;
-            for (int j = 0; j < sortedSpawnpoints.size(); j++) {
-                Spawnpoint candidate = sortedSpawnpoints.get(candidateIndex++);
-                candidateIndex %= sortedSpawnpoints.size();
-
-                if (candidate.canSpawn(model, spawnType, zombiesPlayers)) {
-                    PhantazmMob mob = candidate.spawn(model);
-                    if (mobNoPushTeam != null) {
-                        mob.entity().setTeam(mobNoPushTeam);
-                    }
+    private final class Batch implements SpawnBatch {
+        private final List<SpawnEntry> spawnList;
+        private final Spawnpoint[] sortedSpawnpoints;
 
-                    spawnedMobs.add(mob);
-                    spawned = true;
-                    break;
-                }
+        private int spawnIndex;
+        private int candidateIndex;
+
+        private Batch(List<SpawnEntry> spawnList, Spawnpoint[] sortedSpawnpoints) {
+            this.spawnList = spawnList;
+            this.sortedSpawnpoints = sortedSpawnpoints;
+        }
+
+        @Override
+        public int size() {
+            return spawnList.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return spawnIndex < spawnList.size();
+        }
+
+        @Override
+        public @Nullable PhantazmMob spawnNext() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
 
-            if (!spawned) {
-                LOGGER.warn("Found no suitable spawnpoint for mob {} using spawn type {}", model.key(), spawnType);
+            SpawnEntry spawnEntry = spawnList.get(spawnIndex++);
+            BitSet allowed = spawnEntry.allowedSpawnpoints;
+
+            //continue from the last used spawnpoint so mobs are spread out across all of them
+            int index = allowed.nextSetBit(candidateIndex);
+            if (index < 0) {
+                index = allowed.nextSetBit(0);
             }
-        }
 
-        return spawnedMobs;
+            if (index < 0) {
+                LOGGER.warn("Found no suitable spawnpoint for mob {} using spawn type {}", spawnEntry.model.key(),
+                        spawnEntry.spawnType);
+                return null;
+            }
+
+            candidateIndex = index + 1;
+            PhantazmMob mob = sortedSpawnpoints[index].spawn(spawnEntry.model);
+            if (mobNoPushTeam != null) {
+                mob.entity().setTeam(mobNoPushTeam);
+            }
+
+            return mob;
+        }
     }
 }
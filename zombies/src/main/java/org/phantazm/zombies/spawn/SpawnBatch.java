@@ -0,0 +1,32 @@
+package org.phantazm.zombies.spawn;
+
+import org.jetbrains.annotations.Nullable;
+import org.phantazm.mob.PhantazmMob;
+
+/**
+ * A set of mobs which have been scheduled to spawn, but which have not necessarily been spawned yet. Mobs are spawned
+ * one at a time by calling {@link SpawnBatch#spawnNext()}, which allows spawning to be spread over several ticks.
+ */
+public interface SpawnBatch {
+    /**
+     * Gets the total number of mobs this batch will attempt to spawn. Mobs whose type is unknown are not included.
+     *
+     * @return the number of mobs this batch will attempt to spawn
+     */
+    int size();
+
+    /**
+     * Checks if this batch has mobs left to spawn.
+     *
+     * @return true if there are more mobs to spawn, false otherwise
+     */
+    boolean hasNext();
+
+    /**
+     * Attempts to spawn the next mob in this batch.
+     *
+     * @return the spawned mob, or null if no suitable spawnpoint could be found for it
+     * @throws java.util.NoSuchElementException if there are no more mobs to spawn
+     */
+    @Nullable PhantazmMob spawnNext();
+}
@@ -0,0 +1,33 @@
+package org.phantazm.zombies.spawn;
+
+/**
+ * Limits the number of wave mobs that may be spawned in a single tick.
+ *
+ * @param maxSpawnsPerTick the maximum number of mobs to spawn per tick, or 0 for no limit
+ * @param maxNanosPerTick  the maximum time in nanoseconds to spend spawning mobs per tick, or 0 for no limit
+ */
+public record SpawnBudget(int maxSpawnsPerTick, long maxNanosPerTick) {
+    /**
+     * A budget which does not limit spawning; entire waves will spawn in a single tick.
+     */
+    public static final SpawnBudget UNLIMITED = new SpawnBudget(0, 0L);
+
+    /**
+     * Checks if another mob may be spawned this tick. At least one mob may always be spawned per tick.
+     *
+     * @param spawned   the number of mobs spawned so far this tick
+     * @param startTime the value of {@link System#nanoTime()} when spawning started this tick
+     * @return true if another mob may be spawned, false otherwise
+     */
+    public boolean canSpawn(int spawned, long startTime) {
+        if (spawned == 0) {
+            return true;
+        }
+
+        if (maxSpawnsPerTick > 0 && spawned >= maxSpawnsPerTick) {
+            return false;
+        }
+
+        return maxNanosPerTick <= 0 || System.nanoTime() - startTime < maxNanosPerTick;
+    }
+}
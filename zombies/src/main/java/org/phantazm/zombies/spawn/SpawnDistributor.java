@@ -5,11 +5,33 @@ import org.phantazm.mob.PhantazmMob;
 import org.phantazm.zombies.map.SpawnInfo;
 import org.phantazm.zombies.map.Spawnpoint;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-@FunctionalInterface
 public interface SpawnDistributor {
-    @NotNull List<PhantazmMob> distributeSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
+    /**
+     * Prepares the given spawns without spawning any mobs. The returned {@link SpawnBatch} distributes the mobs
+     * round-robin over the spawnpoints that are valid at the time this method is called.
+     *
+     * @param spawnpoints the spawnpoints to spawn mobs at
+     * @param spawns      the mobs to spawn
+     * @return a new SpawnBatch
+     */
+    @NotNull SpawnBatch prepareSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
             @NotNull Collection<? extends SpawnInfo> spawns);
+
+    default @NotNull List<PhantazmMob> distributeSpawns(@NotNull List<? extends Spawnpoint> spawnpoints,
+            @NotNull Collection<? extends SpawnInfo> spawns) {
+        SpawnBatch batch = prepareSpawns(spawnpoints, spawns);
+        List<PhantazmMob> spawnedMobs = new ArrayList<>(batch.size());
+        while (batch.hasNext()) {
+            PhantazmMob mob = batch.spawnNext();
+            if (mob != null) {
+                spawnedMobs.add(mob);
+            }
+        }
+
+        return spawnedMobs;
+    }
 }
@@ -9,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.player.state.ZombiesPlayerStateKeys;
 import org.phantazm.zombies.player.state.context.DeadPlayerStateContext;
+import org.phantazm.zombies.scene.TabListScoreUpdater;
 import org.phantazm.zombies.sidebar.SidebarUpdater;
 
 import java.util.*;
@@ -26,18 +27,23 @@ public class EndStage implements Stage {
 
     private final Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator;
 
+    private final TabListScoreUpdater tabListScoreUpdater;
+
     public EndStage(@NotNull Instance instance, @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers,
             @NotNull Wrapper<Long> remainingTicks,
-            @NotNull Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator) {
+            @NotNull Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator,
+            @NotNull TabListScoreUpdater tabListScoreUpdater) {
         this.instance = Objects.requireNonNull(instance, "instance");
         this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
         this.remainingTicks = Objects.requireNonNull(remainingTicks, "remainingTicks");
         this.sidebarUpdaterCreator = Objects.requireNonNull(sidebarUpdaterCreator, "sidebarUpdaterCreator");
+        this.tabListScoreUpdater = Objects.requireNonNull(tabListScoreUpdater, "tabListScoreUpdater");
     }
 
     public EndStage(@NotNull Instance instance, @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers,
-            long endTicks, Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator) {
-        this(instance, zombiesPlayers, Wrapper.of(endTicks), sidebarUpdaterCreator);
+            long endTicks, Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator,
+            @NotNull TabListScoreUpdater tabListScoreUpdater) {
+        this(instance, zombiesPlayers, Wrapper.of(endTicks), sidebarUpdaterCreator, tabListScoreUpdater);
     }
 
     @Override
@@ -87,13 +93,9 @@ public class EndStage implements Stage {
                         unused -> sidebarUpdaterCreator.apply(zombiesPlayer));
                 sidebarUpdater.tick(time);
             }
-
-            zombiesPlayer.getPlayer().ifPresent(player -> {
-                for (ZombiesPlayer otherPlayer : zombiesPlayers) {
-                    otherPlayer.module().getTabList().updateScore(player, zombiesPlayer.module().getKills().getKills());
-                }
-            });
         }
+
+        tabListScoreUpdater.flush();
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.phantazm.zombies.map.handler.RoundHandler;
 import org.phantazm.zombies.map.handler.ShopHandler;
 import org.phantazm.zombies.player.ZombiesPlayer;
 import org.phantazm.zombies.player.ZombiesPlayerModule;
+import org.phantazm.zombies.scene.TabListScoreUpdater;
 import org.phantazm.zombies.sidebar.SidebarUpdater;
 import org.phantazm.stats.zombies.ZombiesPlayerMapStats;
 
@@ -39,6 +40,7 @@ public class InGameStage implements Stage {
     private final Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator;
     private final ShopHandler shopHandler;
     private final TickFormatter tickFormatter;
+    private final TabListScoreUpdater tabListScoreUpdater;
     private final MiniMessage miniMessage = MiniMessage.miniMessage();
 
     public InGameStage(@NotNull Instance instance, @NotNull Collection<? extends ZombiesPlayer> zombiesPlayers,
@@ -46,7 +48,8 @@ public class InGameStage implements Stage {
             @NotNull Wrapper<Long> ticksSinceStart, @NotNull Map<Key, List<Key>> defaultEquipment,
             @NotNull Set<Key> equipmentGroups,
             @NotNull Function<? super ZombiesPlayer, ? extends SidebarUpdater> sidebarUpdaterCreator,
-            @NotNull ShopHandler shopHandler, @NotNull TickFormatter endTimeTickFormatter) {
+            @NotNull ShopHandler shopHandler, @NotNull TickFormatter endTimeTickFormatter,
+            @NotNull TabListScoreUpdater tabListScoreUpdater) {
         this.instance = Objects.requireNonNull(instance, "instance");
         this.zombiesPlayers = Objects.requireNonNull(zombiesPlayers, "zombiesPlayers");
         this.settings = Objects.requireNonNull(settings, "settings");
@@ -58,6 +61,7 @@ public class InGameStage implements Stage {
         this.sidebarUpdaterCreator = Objects.requireNonNull(sidebarUpdaterCreator, "sidebarUpdaterCreator");
         this.shopHandler = Objects.requireNonNull(shopHandler, "shopHandler");
         this.tickFormatter = Objects.requireNonNull(endTimeTickFormatter, "tickFormatter");
+        this.tabListScoreUpdater = Objects.requireNonNull(tabListScoreUpdater, "tabListScoreUpdater");
     }
 
     @Override
@@ -142,13 +146,9 @@ public class InGameStage implements Stage {
                 });
                 sidebarUpdater.tick(time);
             }
-
-            zombiesPlayer.getPlayer().ifPresent(player -> {
-                for (ZombiesPlayer otherPlayer : zombiesPlayers) {
-                    otherPlayer.module().getTabList().updateScore(player, zombiesPlayer.module().getKills().getKills());
-                }
-            });
         }
+
+        tabListScoreUpdater.flush();
     }
 
     @Override
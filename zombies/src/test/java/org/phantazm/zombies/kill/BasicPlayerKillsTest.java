@@ -1,27 +1,35 @@
 package org.phantazm.zombies.kill;
 
 import net.kyori.adventure.key.Key;
+import net.minestom.server.event.Event;
+import net.minestom.server.event.EventNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.phantazm.commons.Namespaces;
 import org.phantazm.mob.PhantazmMob;
 import org.phantazm.stats.zombies.BasicZombiesPlayerMapStats;
 import org.phantazm.stats.zombies.ZombiesPlayerMapStats;
+import org.phantazm.zombies.event.PlayerKillsChangeEvent;
 
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 public class BasicPlayerKillsTest {
 
     private PlayerKills kills;
 
+    private ZombiesPlayerMapStats mapStats;
+
     @BeforeEach
+    @SuppressWarnings("unchecked")
     public void setup() {
-        ZombiesPlayerMapStats mapStats = BasicZombiesPlayerMapStats.createBasicStats(UUID.randomUUID(),
-                Key.key(Namespaces.PHANTAZM, "test_map"));
-        kills = new BasicPlayerKills(mapStats);
+        UUID uuid = UUID.randomUUID();
+        mapStats = BasicZombiesPlayerMapStats.createBasicStats(uuid, Key.key(Namespaces.PHANTAZM, "test_map"));
+        kills = new BasicPlayerKills(mapStats, uuid, mock(EventNode.class));
     }
 
     @Test
@@ -36,6 +44,23 @@ public class BasicPlayerKillsTest {
         kills.onKill(mob);
 
         assertEquals(1, kills.getKills());
+        assertEquals(1, mapStats.getKills());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testKillCallsChangeEvent() {
+        UUID uuid = UUID.randomUUID();
+        EventNode<Event> eventNode = mock(EventNode.class);
+        PlayerKills eventKills = new BasicPlayerKills(BasicZombiesPlayerMapStats.createBasicStats(uuid,
+                Key.key(Namespaces.PHANTAZM, "test_map")), uuid, eventNode);
+
+        eventKills.onKill(mock(PhantazmMob.class));
+
+        ArgumentCaptor<PlayerKillsChangeEvent> captor = ArgumentCaptor.forClass(PlayerKillsChangeEvent.class);
+        verify(eventNode).call(captor.capture());
+        assertEquals(uuid, captor.getValue().getUUID());
+        assertEquals(1, captor.getValue().getKills());
     }
 
 }
@@ -0,0 +1,127 @@
+package org.phantazm.zombies.map;
+
+import com.github.steanky.ethylene.core.collection.ConfigList;
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.phantazm.mob.PhantazmMob;
+import org.phantazm.zombies.map.action.Action;
+import org.phantazm.zombies.spawn.SpawnBatch;
+import org.phantazm.zombies.spawn.SpawnBudget;
+import org.phantazm.zombies.spawn.SpawnDistributor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class RoundTest {
+    private static final Key MOB = Key.key("phantazm:mob");
+
+    private static SpawnDistributor distributor(int failing) {
+        return (spawnpoints, spawns) -> {
+            int amount = 0;
+            for (SpawnInfo spawnInfo : spawns) {
+                amount += spawnInfo.amount();
+            }
+
+            int size = amount;
+            return new SpawnBatch() {
+                private int index;
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public @Nullable PhantazmMob spawnNext() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    return index++ < failing ? null : mock(PhantazmMob.class);
+                }
+            };
+        };
+    }
+
+    private static Round round(int mobs, SpawnDistributor distributor, SpawnBudget budget,
+            Action<List<PhantazmMob>> spawnAction) {
+        WaveInfo waveInfo = new WaveInfo(0, List.of(new SpawnInfo(MOB, MOB, mobs)), ConfigList.of());
+        RoundInfo roundInfo = new RoundInfo(1, ConfigList.of(), ConfigList.of(), List.of(waveInfo));
+        return new Round(roundInfo, List.of(new Wave(waveInfo, List.of(spawnAction))), List.of(), List.of(),
+                distributor, List.of(), budget);
+    }
+
+    @Test
+    public void testWaveSpawnsAcrossTicks() {
+        List<List<PhantazmMob>> waveSpawns = new ArrayList<>();
+        Round round = round(25, distributor(0), new SpawnBudget(10, 0L), waveSpawns::add);
+        round.startRound(0L);
+
+        round.tick(100L);
+        assertEquals(10, round.getSpawnedMobs().size());
+        assertTrue(waveSpawns.isEmpty());
+
+        round.tick(150L);
+        assertEquals(20, round.getSpawnedMobs().size());
+
+        round.tick(200L);
+        assertEquals(25, round.getSpawnedMobs().size());
+        assertEquals(25, round.getTotalMobCount());
+        assertEquals(1, waveSpawns.size());
+        assertEquals(25, waveSpawns.get(0).size());
+    }
+
+    @Test
+    public void testUnlimitedBudgetSpawnsWholeWave() {
+        Round round = round(25, distributor(0), SpawnBudget.UNLIMITED, mobs -> {});
+        round.startRound(0L);
+
+        round.tick(100L);
+        assertEquals(25, round.getSpawnedMobs().size());
+    }
+
+    @Test
+    public void testFailedSpawnsAdjustTotalMobCount() {
+        Round round = round(5, distributor(2), new SpawnBudget(1, 0L), mobs -> {});
+        round.startRound(0L);
+        assertEquals(5, round.getTotalMobCount());
+
+        for (int i = 0; i < 5; i++) {
+            round.tick(100L + i * 50L);
+        }
+
+        assertEquals(3, round.getTotalMobCount());
+        assertEquals(3, round.getSpawnedMobs().size());
+    }
+
+    @Test
+    public void testRoundEndsOnlyAfterQueuedMobsDie() {
+        Round round = round(2, distributor(0), new SpawnBudget(1, 0L), mobs -> {});
+        round.startRound(0L);
+
+        round.tick(100L);
+        for (PhantazmMob mob : round.getSpawnedMobs()) {
+            round.removeMob(mob);
+        }
+
+        round.tick(150L);
+        assertTrue(round.isActive());
+
+        for (PhantazmMob mob : round.getSpawnedMobs()) {
+            round.removeMob(mob);
+        }
+
+        round.tick(200L);
+        assertFalse(round.isActive());
+    }
+}
@@ -0,0 +1,65 @@
+package org.phantazm.zombies.scene;
+
+import org.junit.jupiter.api.Test;
+import org.phantazm.zombies.player.ZombiesPlayer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PlayerSceneIndexTest {
+    private static ZombiesScene scene(UUID... players) {
+        ZombiesScene scene = mock(ZombiesScene.class);
+        when(scene.getUUID()).thenReturn(UUID.randomUUID());
+
+        Map<UUID, ZombiesPlayer> zombiesPlayers = new HashMap<>();
+        for (UUID player : players) {
+            zombiesPlayers.put(player, mock(ZombiesPlayer.class));
+        }
+
+        when(scene.getZombiesPlayers()).thenReturn(zombiesPlayers);
+        return scene;
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        UUID player = UUID.randomUUID();
+        ZombiesScene first = scene(player);
+        ZombiesScene second = scene(player);
+
+        PlayerSceneIndex index = new PlayerSceneIndex();
+        index.add(player, first);
+        index.add(player, second);
+        index.add(player, first);
+        assertArrayEquals(new ZombiesScene[] {first, second}, index.scenesFor(player));
+
+        index.remove(player, first);
+        assertArrayEquals(new ZombiesScene[] {second}, index.scenesFor(player));
+
+        index.removeScene(second);
+        assertEquals(0, index.scenesFor(player).length);
+    }
+
+    @Test
+    public void testFindInconsistencies() {
+        UUID indexed = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        ZombiesScene scene = scene(indexed, missing);
+        ZombiesScene removed = scene(indexed);
+
+        PlayerSceneIndex index = new PlayerSceneIndex();
+        index.add(indexed, scene);
+        assertEquals(1, index.findInconsistencies(List.of(scene)).size());
+
+        index.add(missing, scene);
+        assertTrue(index.findInconsistencies(List.of(scene)).isEmpty());
+
+        index.add(indexed, removed);
+        assertEquals(1, index.findInconsistencies(List.of(scene)).size());
+    }
+}
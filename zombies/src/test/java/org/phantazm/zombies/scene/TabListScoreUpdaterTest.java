@@ -0,0 +1,125 @@
+package org.phantazm.zombies.scene;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.scoreboard.TabList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.phantazm.zombies.kill.PlayerKills;
+import org.phantazm.zombies.player.ZombiesPlayer;
+import org.phantazm.zombies.player.ZombiesPlayerModule;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TabListScoreUpdaterTest {
+    private Map<UUID, ZombiesPlayer> zombiesPlayers;
+    private Map<UUID, Optional<Player>> players;
+    private Set<Player> viewers;
+    private TabList tabList;
+
+    @BeforeEach
+    public void setup() {
+        zombiesPlayers = new LinkedHashMap<>();
+        players = new HashMap<>();
+        viewers = new HashSet<>();
+        tabList = mock(TabList.class);
+        when(tabList.getViewers()).thenAnswer(invocation -> Set.copyOf(viewers));
+    }
+
+    private ZombiesPlayer zombiesPlayer(String username, boolean online) {
+        UUID uuid = UUID.randomUUID();
+        Player player = mock(Player.class);
+        when(player.getUsername()).thenReturn(username);
+        players.put(uuid, online ? Optional.of(player) : Optional.empty());
+
+        PlayerKills kills = mock(PlayerKills.class);
+        ZombiesPlayerModule module = mock(ZombiesPlayerModule.class);
+        when(module.getTabList()).thenReturn(tabList);
+        when(module.getKills()).thenReturn(kills);
+
+        ZombiesPlayer zombiesPlayer = mock(ZombiesPlayer.class);
+        when(zombiesPlayer.getUUID()).thenReturn(uuid);
+        when(zombiesPlayer.module()).thenReturn(module);
+        when(zombiesPlayer.getPlayer()).thenAnswer(invocation -> players.get(uuid));
+        zombiesPlayers.put(uuid, zombiesPlayer);
+        return zombiesPlayer;
+    }
+
+    private static Player viewer() {
+        return mock(Player.class);
+    }
+
+    @Test
+    public void testDirtyMarksAreCoalesced() {
+        ZombiesPlayer first = zombiesPlayer("first", true);
+        zombiesPlayer("second", true);
+        Player viewer = viewer();
+        viewers.add(viewer);
+
+        TabListScoreUpdater updater = new TabListScoreUpdater(zombiesPlayers);
+        updater.flush();
+        long initialPackets = updater.metrics().packetCount();
+
+        updater.markDirty(first.getUUID());
+        updater.markDirty(first.getUUID());
+        updater.markDirty(first.getUUID());
+        updater.flush();
+
+        //one packet per tab list for the single dirty player, however often it was marked
+        assertEquals(initialPackets + zombiesPlayers.size(), updater.metrics().packetCount());
+
+        updater.flush();
+        assertEquals(initialPackets + zombiesPlayers.size(), updater.metrics().packetCount());
+        assertEquals(2, updater.metrics().flushCount());
+    }
+
+    @Test
+    public void testViewerChangeRefreshesEveryScore() {
+        zombiesPlayer("first", true);
+        zombiesPlayer("second", true);
+        viewers.add(viewer());
+
+        TabListScoreUpdater updater = new TabListScoreUpdater(zombiesPlayers);
+        updater.flush();
+        assertEquals(zombiesPlayers.size(), updater.metrics().refreshCount());
+
+        updater.flush();
+        assertEquals(zombiesPlayers.size(), updater.metrics().refreshCount());
+
+        Player newViewer = viewer();
+        viewers.add(newViewer);
+        updater.flush();
+
+        assertEquals(2L * zombiesPlayers.size(), updater.metrics().refreshCount());
+        verify(newViewer, times(zombiesPlayers.size())).sendPackets(
+                argThat((Collection<SendablePacket> packets) -> packets.size() == zombiesPlayers.size()));
+    }
+
+    @Test
+    public void testFirstFlushAfterPlayerComesOnlineSendsScore() {
+        zombiesPlayer("first", true);
+        ZombiesPlayer second = zombiesPlayer("second", false);
+        Player viewer = viewer();
+        viewers.add(viewer);
+
+        TabListScoreUpdater updater = new TabListScoreUpdater(zombiesPlayers);
+        updater.flush();
+        long initialPackets = updater.metrics().packetCount();
+
+        Player secondPlayer = mock(Player.class);
+        when(secondPlayer.getUsername()).thenReturn("second");
+        players.put(second.getUUID(), Optional.of(secondPlayer));
+        updater.flush();
+
+        //the player's score is sent without being marked dirty, once per tab list
+        assertEquals(initialPackets + zombiesPlayers.size(), updater.metrics().packetCount());
+        verify(tabList, times(zombiesPlayers.size())).getScoreUpdatePacket(eq("second"), anyInt());
+
+        updater.flush();
+        assertEquals(initialPackets + zombiesPlayers.size(), updater.metrics().packetCount());
+    }
+}
@@ -0,0 +1,82 @@
+package org.phantazm.zombies.scene;
+
+import org.junit.jupiter.api.Test;
+import org.phantazm.core.game.scene.SceneProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class ZombiesSceneTickerTest {
+    @SuppressWarnings("unchecked")
+    private static SceneProvider<ZombiesScene, ZombiesJoinRequest> provider(List<ZombiesScene> scenes) {
+        SceneProvider<ZombiesScene, ZombiesJoinRequest> provider = mock(SceneProvider.class);
+        when(provider.getScenes()).thenReturn(scenes);
+        return provider;
+    }
+
+    private static ZombiesScene scene(boolean complete) {
+        ZombiesScene scene = mock(ZombiesScene.class);
+        when(scene.getUUID()).thenReturn(UUID.randomUUID());
+        when(scene.getTickMetrics()).thenReturn(new SceneTickMetrics());
+        when(scene.isComplete()).thenReturn(complete);
+        return scene;
+    }
+
+    @Test
+    public void testParallelTickTicksEveryScene() {
+        List<ZombiesScene> scenes = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            scenes.add(scene(false));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ZombiesSceneTicker ticker = new ZombiesSceneTicker(pool, 0);
+            ticker.tick(List.of(provider(scenes.subList(0, 8)), provider(scenes.subList(8, 16))), 5L);
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        for (ZombiesScene scene : scenes) {
+            verify(scene).tick(5L);
+            assertEquals(1, scene.getTickMetrics().tickCount());
+        }
+    }
+
+    @Test
+    public void testCompleteScenesAreShutdownInsteadOfTicked() {
+        ZombiesScene complete = scene(true);
+        ZombiesScene running = scene(false);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ZombiesSceneTicker ticker = new ZombiesSceneTicker(pool, 0);
+            ticker.tick(List.of(provider(List.of(complete, running))), 0L);
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        verify(complete).shutdown();
+        verify(complete, never()).tick(anyLong());
+        verify(running).tick(0L);
+    }
+
+    @Test
+    public void testExceptionDoesNotStopOtherScenes() {
+        ZombiesScene failing = scene(false);
+        doThrow(new IllegalStateException()).when(failing).tick(anyLong());
+        ZombiesScene running = scene(false);
+
+        ZombiesSceneTicker ticker = new ZombiesSceneTicker();
+        ticker.tick(List.of(provider(List.of(failing, running))), 0L);
+
+        verify(running).tick(0L);
+    }
+}
@@ -0,0 +1,65 @@
+package org.phantazm.zombies.sidebar;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SidebarLineCacheTest {
+    @Test
+    void formatReusesLineForSameString() {
+        SidebarLineCache cache = new SidebarLineCache();
+
+        Component first = cache.format("Time: %s", "00:12");
+        Component second = cache.format("Time: %s", "00:12");
+
+        assertSame(first, second);
+        assertEquals(Component.text("Time: 00:12"), first);
+    }
+
+    @Test
+    void formatFallsBackToFormatString() {
+        SidebarLineCache cache = new SidebarLineCache();
+
+        assertEquals(Component.text("Players: %d/%d"), cache.format("Players: %d/%d", "not a number"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedLine() {
+        SidebarLineCache cache = new SidebarLineCache(2);
+
+        Component first = cache.deserialize("first");
+        Component second = cache.deserialize("second");
+        cache.deserialize("first");
+        cache.deserialize("third");
+
+        assertSame(first, cache.deserialize("first"));
+        assertNotSame(second, cache.deserialize("second"));
+    }
+
+    @Test
+    void sharedComputesOncePerTick() {
+        SidebarLineCache cache = new SidebarLineCache();
+        AtomicInteger computations = new AtomicInteger();
+
+        for (int i = 0; i < 8; i++) {
+            cache.shared("key", 0, () -> Component.text(computations.incrementAndGet()));
+        }
+
+        assertEquals(1, computations.get());
+
+        Component line = cache.shared("key", 50, () -> Component.text(computations.incrementAndGet()));
+        assertEquals(2, computations.get());
+        assertEquals(Component.text(2), line);
+    }
+
+    @Test
+    void sharedSeparatesKeys() {
+        SidebarLineCache cache = new SidebarLineCache();
+
+        assertEquals(Component.text("a"), cache.shared("a", 0, () -> Component.text("a")));
+        assertEquals(Component.text("b"), cache.shared("b", 0, () -> Component.text("b")));
+    }
+}
@@ -15,6 +15,9 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 public class SidebarUpdaterTest {
 
@@ -104,6 +107,23 @@ public class SidebarUpdaterTest {
         assertEquals(SidebarUpdater.MAX_SIDEBAR_ROWS, sidebar.getLines().size());
     }
 
+    @Test
+    public void testUnchangedLineNotResent() {
+        sidebar = spy(sidebar);
+        Component message = Component.text("Hello, World!");
+        SidebarLineUpdater lineUpdater = new ConstantSidebarLineUpdater(new ConstantSidebarLineUpdater.Data(message));
+        SidebarSection section = new CollectionSidebarSection(Collections.singleton(lineUpdater));
+        updater = new SidebarUpdater(sidebar, Collections.singleton(section));
+
+        updater.start();
+        updater.tick(0);
+        lineUpdater.invalidateCache();
+        updater.tick(1);
+
+        verify(sidebar, times(1)).updateLineContent(anyString(), any());
+        assertEquals(message, sidebar.getLines().iterator().next().getContent());
+    }
+
     @SuppressWarnings("ClassCanBeRecord")
     private static class MutableSidebarSection implements SidebarSection {
 
@@ -0,0 +1,79 @@
+package org.phantazm.zombies.spawn;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.coordinate.Vec;
+import org.junit.jupiter.api.Test;
+import org.phantazm.mob.MobModel;
+import org.phantazm.mob.PhantazmMob;
+import org.phantazm.zombies.map.SpawnInfo;
+import org.phantazm.zombies.map.Spawnpoint;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+
+public class BasicSpawnDistributorTest {
+    private static final Key MOB = Key.key("phantazm:mob");
+    private static final Key SPAWN_TYPE = Key.key("phantazm:normal");
+
+    private static Spawnpoint spawnpoint(boolean active, boolean allowsModel) {
+        Spawnpoint spawnpoint = mock(Spawnpoint.class);
+        when(spawnpoint.spawnPoint()).thenReturn(Vec.ZERO);
+        when(spawnpoint.canSpawnAny(anyDouble())).thenReturn(active);
+        when(spawnpoint.allowsModel(any(), any())).thenReturn(allowsModel);
+        when(spawnpoint.spawn(any())).thenAnswer(invocation -> mock(PhantazmMob.class));
+        return spawnpoint;
+    }
+
+    private static SpawnDistributor distributor(MobModel model) {
+        return new BasicSpawnDistributor(key -> key.equals(MOB) ? model : null, new Random(0), List.of(), null);
+    }
+
+    @Test
+    public void testSpawnsRoundRobin() {
+        MobModel model = mock(MobModel.class);
+        List<Spawnpoint> spawnpoints = List.of(spawnpoint(true, true), spawnpoint(true, true), spawnpoint(true, true));
+
+        List<PhantazmMob> mobs =
+                distributor(model).distributeSpawns(spawnpoints, List.of(new SpawnInfo(MOB, SPAWN_TYPE, 6)));
+
+        assertEquals(6, mobs.size());
+        for (Spawnpoint spawnpoint : spawnpoints) {
+            verify(spawnpoint, times(2)).spawn(model);
+        }
+    }
+
+    @Test
+    public void testSkipsInactiveAndDisallowedSpawnpoints() {
+        MobModel model = mock(MobModel.class);
+        Spawnpoint inactive = spawnpoint(false, true);
+        Spawnpoint disallowed = spawnpoint(true, false);
+        Spawnpoint allowed = spawnpoint(true, true);
+
+        List<PhantazmMob> mobs = distributor(model).distributeSpawns(List.of(inactive, disallowed, allowed),
+                List.of(new SpawnInfo(MOB, SPAWN_TYPE, 4)));
+
+        assertEquals(4, mobs.size());
+        verify(inactive, never()).spawn(any());
+        verify(disallowed, never()).spawn(any());
+        verify(allowed, times(4)).spawn(model);
+    }
+
+    @Test
+    public void testBatchReportsFailedSpawns() {
+        MobModel model = mock(MobModel.class);
+        when(model.key()).thenReturn(MOB);
+
+        SpawnBatch batch = distributor(model).prepareSpawns(List.of(spawnpoint(true, false)),
+                List.of(new SpawnInfo(MOB, SPAWN_TYPE, 2), new SpawnInfo(Key.key("phantazm:unknown"), SPAWN_TYPE, 3)));
+
+        assertEquals(2, batch.size());
+        assertNull(batch.spawnNext());
+        assertNull(batch.spawnNext());
+        assertFalse(batch.hasNext());
+    }
+}